@@ -0,0 +1,228 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.apps;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.flatfile.errorexport.ErrorReportWriter;
+import org.search.nibrs.importer.ReportListener;
+import org.search.nibrs.validate.common.NibrsValidationUtils;
+import org.search.nibrs.validation.SubmissionValidator;
+import org.search.nibrs.validation.submission.SubmissionHistory;
+
+/**
+ * Validates a batch of submission files concurrently, on a bounded pool of threads, writing an FBI-format error report for each file to an output
+ * directory, and a summary of the run.  Each file's errors are written as its reports are validated, so the memory used is bounded by the number of
+ * files validated at once rather than by the size of the batch.  The largest files are started first, so that the threads finish at about the same
+ * time, rather than some of them waiting on a large file that was started last.
+ * <br/>
+ * If there is a submission history, the batch is treated as a single submission.
+ */
+final class BatchValidator {
+
+	private static final Log log = LogFactory.getLog(BatchValidator.class);
+
+	private final SubmissionValidator submissionValidator;
+	private final SubmissionHistory submissionHistory;
+	private final ForkJoinPool forkJoinPool;
+	private final boolean orderedDelivery;
+	private final boolean schemaValidation;
+
+	/**
+	 * The outcome of validating one file of the batch.
+	 */
+	static final class FileResult {
+		private final File file;
+		private final File errorReportFile;
+		private int reportCount;
+		private int errorCount;
+		private long elapsedNanos;
+		private Exception failure;
+		FileResult(File file, File errorReportFile) {
+			this.file = file;
+			this.errorReportFile = errorReportFile;
+		}
+		File getFile() {
+			return file;
+		}
+		File getErrorReportFile() {
+			return errorReportFile;
+		}
+		int getReportCount() {
+			return reportCount;
+		}
+		int getErrorCount() {
+			return errorCount;
+		}
+		long getElapsedNanos() {
+			return elapsedNanos;
+		}
+		/**
+		 * @return the exception that stopped the file from being validated, or null if it was validated
+		 */
+		Exception getFailure() {
+			return failure;
+		}
+	}
+
+	/**
+	 * @param submissionValidator the validator to apply to the reports of all the files
+	 * @param submissionHistory the submission history, or null
+	 * @param forkJoinPool the pool on which to build flat file reports, or null to build them on the thread validating the file
+	 * @param orderedDelivery whether reports built on the fork join pool are validated in file order
+	 * @param schemaValidation whether XML submissions are also validated against the NIBRS IEPD schema
+	 */
+	BatchValidator(SubmissionValidator submissionValidator, SubmissionHistory submissionHistory, ForkJoinPool forkJoinPool, boolean orderedDelivery,
+			boolean schemaValidation) {
+		this.submissionValidator = submissionValidator;
+		this.submissionHistory = submissionHistory;
+		this.forkJoinPool = forkJoinPool;
+		this.orderedDelivery = orderedDelivery;
+		this.schemaValidation = schemaValidation;
+	}
+
+	/**
+	 * Validate the files, writing the error report for each to the output directory (with the name of the file and an "-errors.txt" suffix, so that
+	 * files that differ only in their extension get separate reports).
+	 * A file that cannot be validated is recorded as a failure in its result, rather than stopping the batch.
+	 * @param files the files
+	 * @param outputDirectory the directory to which the error reports are written, which is created if necessary
+	 * @param threads the number of files to validate at once
+	 * @return the results, in the order of the files
+	 */
+	List<FileResult> validate(List<File> files, File outputDirectory, int threads) throws IOException, InterruptedException {
+
+		if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+			throw new IOException("Cannot create output directory " + outputDirectory);
+		}
+
+		List<FileResult> ret = new ArrayList<>(files.size());
+		for (File file : files) {
+			ret.add(new FileResult(file, new File(outputDirectory, file.getName() + "-errors.txt")));
+		}
+
+		List<FileResult> largestFirst = new ArrayList<>(ret);
+		largestFirst.sort(Comparator.comparingLong((FileResult result) -> result.getFile().length()).reversed());
+
+		if (submissionHistory != null) {
+			submissionHistory.startSubmission();
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, files.size())));
+		try {
+			// the pool's queue is first in, first out, so the files are started in this order
+			List<Future<?>> futures = new ArrayList<>(largestFirst.size());
+			for (FileResult result : largestFirst) {
+				futures.add(executor.submit(() -> validate(result)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (ExecutionException ee) {
+			// validate(FileResult) records its failures in the result, so this can only be an Error
+			Throwable cause = ee.getCause();
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		} finally {
+			executor.shutdownNow();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+
+		return ret;
+
+	}
+
+	private void validate(FileResult result) {
+		long start = System.nanoTime();
+		AtomicInteger reportCount = new AtomicInteger();
+		try (ErrorReportWriter errorReportWriter = new ErrorReportWriter(new BufferedWriter(new FileWriter(result.getErrorReportFile())))) {
+			try {
+				List<NIBRSError> errorList = new ArrayList<>();
+				ReportListener validatorListener = NIBRSValidator.newValidatorListener(submissionValidator, errorList, submissionHistory, errorReportWriter);
+				NibrsValidationUtils.validateFile((report, el) -> {
+					reportCount.incrementAndGet();
+					validatorListener.newReport(report, el);
+				}, result.getFile(), forkJoinPool, orderedDelivery, schemaValidation);
+			} finally {
+				result.errorCount = errorReportWriter.getErrorCount();
+			}
+		} catch (Exception e) {
+			log.error("Unable to validate " + result.getFile(), e);
+			result.failure = e;
+		}
+		result.reportCount = reportCount.get();
+		result.elapsedNanos = System.nanoTime() - start;
+		log.info("Validated " + result.getFile() + ": " + result.getReportCount() + " report(s), " + result.getErrorCount() + " error(s)");
+	}
+
+	/**
+	 * Write a summary of the batch:  a tab-separated line for each file (its name, report and error counts, elapsed time and throughput), followed
+	 * by a line for the whole batch.
+	 * @param results the results of the files
+	 * @param elapsedNanos the elapsed time of the whole batch
+	 * @param writer the writer, which is flushed but not closed
+	 */
+	static void writeSummary(List<FileResult> results, long elapsedNanos, Writer writer) {
+		PrintWriter pw = new PrintWriter(writer);
+		pw.println("File\tReports\tErrors\tElapsed (s)\tReports/s");
+		int reportCount = 0;
+		int errorCount = 0;
+		int failureCount = 0;
+		for (FileResult result : results) {
+			pw.print(result.getFile().getName() + "\t" + result.getReportCount() + "\t" + result.getErrorCount() + "\t"
+					+ formatSeconds(result.getElapsedNanos()) + "\t" + formatThroughput(result.getReportCount(), result.getElapsedNanos()));
+			if (result.getFailure() != null) {
+				pw.print("\tFAILED: " + result.getFailure());
+				failureCount++;
+			}
+			pw.println();
+			reportCount += result.getReportCount();
+			errorCount += result.getErrorCount();
+		}
+		pw.println("Total (" + results.size() + " file(s), " + failureCount + " failed)\t" + reportCount + "\t" + errorCount + "\t"
+				+ formatSeconds(elapsedNanos) + "\t" + formatThroughput(reportCount, elapsedNanos));
+		pw.flush();
+	}
+
+	private static String formatSeconds(long nanos) {
+		return String.format("%.3f", nanos / 1e9);
+	}
+
+	private static String formatThroughput(int reportCount, long nanos) {
+		return nanos == 0 ? "" : String.format("%.1f", reportCount * 1e9 / nanos);
+	}
+
+}
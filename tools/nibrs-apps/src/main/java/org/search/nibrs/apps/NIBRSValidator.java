@@ -23,9 +23,13 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -38,11 +42,18 @@ import org.apache.commons.cli.ParseException;
 import org.apache.tika.exception.TikaException;
 import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.flatfile.errorexport.ErrorExporter;
+import org.search.nibrs.flatfile.errorexport.ErrorReportWriter;
 import org.search.nibrs.flatfile.importer.IncidentBuilder;
 import org.search.nibrs.importer.ReportListener;
 import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.validate.common.NibrsValidationUtils;
 import org.search.nibrs.validation.SubmissionValidator;
+import org.search.nibrs.validation.ValidatorProperties;
+import org.search.nibrs.validation.cache.ValidationResultCache;
+import org.search.nibrs.validation.submission.SubmissionHistory;
+import org.search.nibrs.validation.submission.SubmissionStatistics;
+import org.search.nibrs.validation.submission.SubmissionStructureValidator;
 import org.xml.sax.SAXException;
 
 /**
@@ -52,6 +63,9 @@ import org.xml.sax.SAXException;
  */
 public class NIBRSValidator {
 
+	private static final int DEFAULT_CACHE_ENTRIES = 100000;
+	private static final int DEFAULT_DISK_CACHE_ENTRIES = 1000000;
+
 	public static void main(String[] args) throws ParseException, IOException, ParserConfigurationException, TikaException, SAXException {
 
 		CommandLineParser parser = new DefaultParser();
@@ -68,48 +82,78 @@ public class NIBRSValidator {
 
 			final List<NIBRSError> errorList = new ArrayList<>();
 //			List<AbstractReport> incidentReports = new ArrayList<>();
-			SubmissionValidator submissionValidator = new SubmissionValidator();
-			ReportListener validatorlistener = new ReportListener() {
-				@Override
-				public void newReport(AbstractReport report, List<NIBRSError> el) {
-					errorList.addAll(el);
-					errorList.addAll(submissionValidator.validateReport(report));
+			ValidatorProperties validatorProperties = new ValidatorProperties();
+			SubmissionValidator submissionValidator = new SubmissionValidator(validatorProperties);
+			if (cl.hasOption("r") || cl.hasOption("d")) {
+				submissionValidator.setValidationResultCache(newValidationResultCache(cl, validatorProperties));
+			}
+			SubmissionHistory submissionHistory = null;
+			if (cl.hasOption("p")) {
+				submissionHistory = SubmissionHistory.open(Paths.get(cl.getOptionValue("p")));
+				submissionValidator.setSubmissionHistory(submissionHistory);
+			}
+			if (cl.hasOption("b")) {
+				validateBatch(cl, submissionValidator, submissionHistory);
+				if (submissionHistory != null) {
+					submissionHistory.close();
 				}
-			};
+				return;
+			}
+			// in statistics mode, only the reports and errors are counted
+			String statisticsFormat = cl.getOptionValue("c");
+			if (statisticsFormat != null && !"text".equals(statisticsFormat) && !"json".equals(statisticsFormat)) {
+				System.err.println("Unknown statistics format " + statisticsFormat + ", expected text or json.");
+				System.exit(1);
+			}
+			SubmissionStatistics statistics = statisticsFormat != null ? new SubmissionStatistics() : null;
+			// in incremental mode, each report's errors are written as soon as it has been validated
+			ErrorReportWriter errorReportWriter = cl.hasOption("i") && statistics == null ? new ErrorReportWriter(newOutputWriter(cl)) : null;
 
 			if (cl.hasOption("f")) {
 				String fileName = cl.getOptionValue("f");
 				File file = new File(fileName);
+				
+				int threads = Integer.parseInt(cl.getOptionValue("t", "1"));
+				boolean orderedDelivery = !cl.hasOption("u");
+				boolean schemaValidation = cl.hasOption("s");
+				ForkJoinPool forkJoinPool = threads > 1 ? new ForkJoinPool(threads) : null;
 
-				if (file.exists()) {
-					if (file.isFile()){
-						NibrsValidationUtils.validateFile(validatorlistener, file);
+				try {
+					if (file.exists()) {
+						if (file.isFile()){
+							startSubmission(submissionHistory);
+							NibrsValidationUtils.validateFile(newListener(submissionValidator, errorList, submissionHistory, errorReportWriter, statistics), file, forkJoinPool, orderedDelivery, schemaValidation);
+						}
+						else if (file.isDirectory()){
+							for (final File fileEntry : file.listFiles()) {
+						        if (fileEntry.isFile()) {
+						        	startSubmission(submissionHistory);
+						        	NibrsValidationUtils.validateFile(newListener(submissionValidator, errorList, submissionHistory, errorReportWriter, statistics), fileEntry, forkJoinPool, orderedDelivery, schemaValidation);
+						        } 
+						    }
+						}
+					} else {
+						System.err.println("File " + fileName + " does not exist.");
+						System.exit(1);
 					}
-					else if (file.isDirectory()){
-						for (final File fileEntry : file.listFiles()) {
-					        if (fileEntry.isFile()) {
-					        	NibrsValidationUtils.validateFile(validatorlistener, fileEntry);
-					        } 
-					    }
+				} finally {
+					if (forkJoinPool != null) {
+						forkJoinPool.shutdown();
 					}
-				} else {
-					System.err.println("File " + fileName + " does not exist.");
-					System.exit(1);
 				}
 			} else {
 				inputReader = new BufferedReader(new InputStreamReader(System.in));
 				IncidentBuilder incidentBuilder = new IncidentBuilder();
-				incidentBuilder.addIncidentListener(validatorlistener);
+				startSubmission(submissionHistory);
+				incidentBuilder.addIncidentListener(newListener(submissionValidator, errorList, submissionHistory, errorReportWriter, statistics));
 				incidentBuilder.buildIncidents(inputReader, readerLocationName);
 				inputReader.close();
 			}
 
-			if (cl.hasOption("o")) {
-				String fileName = cl.getOptionValue("o");
-				File file = new File(fileName);
-				outputWriter = new BufferedWriter(new FileWriter(file));
+			if (errorReportWriter != null) {
+				errorReportWriter.close();
 			} else {
-				outputWriter = new BufferedWriter(new OutputStreamWriter(System.out));
+				outputWriter = newOutputWriter(cl);
 			}
 
 			ErrorExporter errorExporter = ErrorExporter.getInstance();
@@ -134,7 +178,15 @@ public class NIBRSValidator {
 //					incidentReports.stream()
 //					.filter(item -> !erroredIncidentNumbers.contains(item.getIdentifier()))
 //					.collect( Collectors.toList());
-			errorExporter.createErrorReport(errorList, outputWriter);
+			if (statistics != null) {
+				if ("json".equals(statisticsFormat)) {
+					statistics.writeJson(outputWriter);
+				} else {
+					statistics.writeSummary(outputWriter);
+				}
+			} else if (outputWriter != null) {
+				errorExporter.createErrorReport(errorList, outputWriter);
+			}
 			
 //			System.out.println("The officerOtherJurisdictionORIs:");
 //			System.out.println("Count of the incident: " + reportsWithoutErrors.size());
@@ -171,17 +223,169 @@ public class NIBRSValidator {
 //					.collect(Collectors.toList());
 //			System.out.println("Arrest Dates:");
 //			arrestDates.forEach(System.out::println);
-			outputWriter.close();
+			if (outputWriter != null) {
+				outputWriter.close();
+			}
+
+			if (submissionHistory != null) {
+				submissionHistory.close();
+			}
 
 		}
 
 	}
 	
+	/**
+	 * Validate the files in the input directory as a batch, writing an error report for each file to the batch output directory, and a summary of
+	 * the batch to the output.
+	 */
+	private static void validateBatch(CommandLine cl, SubmissionValidator submissionValidator, SubmissionHistory submissionHistory) throws IOException {
+		
+		// each file's errors are always written as they are found, and statistics are not collected per file
+		if (cl.hasOption("c") || cl.hasOption("i")) {
+			System.err.println("Batch mode cannot be combined with the statistics or incremental options.");
+			System.exit(1);
+		}
+		File directory = cl.hasOption("f") ? new File(cl.getOptionValue("f")) : null;
+		if (directory == null || !directory.isDirectory()) {
+			System.err.println("Batch mode requires an input directory.");
+			System.exit(1);
+		}
+		List<File> files = new ArrayList<>();
+		for (File fileEntry : directory.listFiles()) {
+			if (fileEntry.isFile()) {
+				files.add(fileEntry);
+			}
+		}
+		files.sort(Comparator.comparing(File::getName));
+		
+		int buildThreads = Integer.parseInt(cl.getOptionValue("t", "1"));
+		int workers = Integer.parseInt(cl.getOptionValue("w", String.valueOf(Runtime.getRuntime().availableProcessors())));
+		ForkJoinPool forkJoinPool = buildThreads > 1 ? new ForkJoinPool(buildThreads) : null;
+		BatchValidator batchValidator = new BatchValidator(submissionValidator, submissionHistory, forkJoinPool, !cl.hasOption("u"), cl.hasOption("s"));
+		long start = System.nanoTime();
+		List<BatchValidator.FileResult> results;
+		try {
+			results = batchValidator.validate(files, new File(cl.getOptionValue("b")), workers);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while validating " + directory, ie);
+		} finally {
+			if (forkJoinPool != null) {
+				forkJoinPool.shutdown();
+			}
+		}
+		try (Writer outputWriter = newOutputWriter(cl)) {
+			BatchValidator.writeSummary(results, System.nanoTime() - start, outputWriter);
+		}
+		
+	}
+	
+	/**
+	 * Create a cache of validation results, held in memory, and also in the cache directory if one is specified.
+	 */
+	private static ValidationResultCache newValidationResultCache(CommandLine cl, ValidatorProperties validatorProperties) throws IOException {
+		int maximumEntries = Integer.parseInt(cl.getOptionValue("r", String.valueOf(DEFAULT_CACHE_ENTRIES)));
+		String ruleSetVersion = ValidationResultCache.getRuleSetVersion(validatorProperties, null);
+		if (!cl.hasOption("d")) {
+			return new ValidationResultCache(ruleSetVersion, maximumEntries);
+		}
+		if (ruleSetVersion == null) {
+			System.err.println("The validator build cannot be identified, so validation results are only cached in memory.");
+			return new ValidationResultCache(null, maximumEntries);
+		}
+		return new ValidationResultCache(ruleSetVersion, maximumEntries, Paths.get(cl.getOptionValue("d")), DEFAULT_DISK_CACHE_ENTRIES);
+	}
+
+	private static void startSubmission(SubmissionHistory submissionHistory) {
+		if (submissionHistory != null) {
+			submissionHistory.startSubmission();
+		}
+	}
+	
+	private static Writer newOutputWriter(CommandLine cl) throws IOException {
+		if (cl.hasOption("o")) {
+			String fileName = cl.getOptionValue("o");
+			File file = new File(fileName);
+			return new BufferedWriter(new FileWriter(file));
+		}
+		return new BufferedWriter(new OutputStreamWriter(System.out));
+	}
+	
+	private static ReportListener newListener(SubmissionValidator submissionValidator, List<NIBRSError> errorList, SubmissionHistory submissionHistory,
+			ErrorReportWriter errorReportWriter, SubmissionStatistics statistics) {
+		if (statistics != null) {
+			return newStatisticsListener(submissionValidator, statistics);
+		}
+		return newValidatorListener(submissionValidator, errorList, submissionHistory, errorReportWriter);
+	}
+	
+	/**
+	 * Create a listener that counts each report of a submission (file) as it is built, and the errors found in it, including those of the
+	 * submission-wide structure checks, without keeping the errors.
+	 */
+	private static ReportListener newStatisticsListener(SubmissionValidator submissionValidator, SubmissionStatistics statistics) {
+		SubmissionStructureValidator structureValidator = new SubmissionStructureValidator(statistics);
+		return new ReportListener() {
+			@Override
+			public void newReport(AbstractReport report, List<NIBRSError> el) {
+				submissionValidator.collectStatistics(report, statistics);
+				el.forEach(statistics::accept);
+				structureValidator.validate(report);
+			}
+		};
+	}
+	
+	/**
+	 * Create a listener that validates each report of a submission (file) as it is built, followed by the submission-wide structure checks,
+	 * and records each Group A incident that is accepted (has no errors) in the submission history, if there is one.  If there is an error
+	 * report writer, each report's errors are written to it (and removed from the error list) as soon as the report has been validated.
+	 */
+	static ReportListener newValidatorListener(SubmissionValidator submissionValidator, List<NIBRSError> errorList, SubmissionHistory submissionHistory,
+			ErrorReportWriter errorReportWriter) {
+		SubmissionStructureValidator structureValidator = new SubmissionStructureValidator(errorList::add);
+		return new ReportListener() {
+			@Override
+			public void newReport(AbstractReport report, List<NIBRSError> el) {
+				int errorCount = errorList.size();
+				errorList.addAll(el);
+				errorList.addAll(submissionValidator.validateReport(report));
+				structureValidator.validate(report);
+				if (submissionHistory != null && report instanceof GroupAIncidentReport
+						&& errorList.subList(errorCount, errorList.size()).stream().allMatch(NIBRSError::isWarning)) {
+					try {
+						submissionHistory.record((GroupAIncidentReport) report);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+				if (errorReportWriter != null) {
+					try {
+						errorReportWriter.write(errorList);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+					errorList.clear();
+				}
+			}
+		};
+	}
+
 	private static final Options buildOptions() {
 		Options options = new Options();
 		options.addOption("h", "help", false, "Print usage and options info");
 		options.addOption("f", "in", true, "Input submission file");
 		options.addOption("o", "out", true, "Output error file");
+		options.addOption("t", "threads", true, "Number of threads on which to build flat file reports (default 1)");
+		options.addOption("u", "unordered", false, "When building on multiple threads, validate reports as they are built rather than in file order");
+		options.addOption("s", "schema", false, "Also validate XML submissions against the NIBRS IEPD schema");
+		options.addOption("i", "incremental", false, "Write each report's errors as soon as it is validated, rather than all of them at the end");
+		options.addOption("b", "batch", true, "Validate the files in the input directory concurrently, writing an error file for each to the specified directory, and a summary to the output");
+		options.addOption("w", "workers", true, "Number of files validated at once in batch mode (default the number of processors)");
+		options.addOption("c", "statistics", true, "Only count the reports and errors, writing a summary in the specified format (text or json) instead of the error report");
+		options.addOption("p", "history", true, "Submission history file, checked for incidents already on file, and updated with accepted incidents");
+		options.addOption("r", "cache", true, "Number of reports whose validation results are cached in memory, so that repeated reports aren't validated again (default " + DEFAULT_CACHE_ENTRIES + ")");
+		options.addOption("d", "cache-dir", true, "Directory in which validation results are also cached, across runs (up to " + DEFAULT_DISK_CACHE_ENTRIES + " reports)");
 		return options;
 	}
 
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.apps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.search.nibrs.validation.SubmissionValidator;
+import org.search.nibrs.validation.ValidatorProperties;
+
+public class BatchValidatorTest {
+
+	private static final String INCIDENT =
+		"00881I022003    TN006000002-000895   20020102 10N                                      N\n" +
+		"00712I022003    TN006000002-000895   220CN  20  N            88        \n" +
+		"03073I022003    TN006000002-000895   713000000020                                                                                                                                                                                                                                                                  \n" +
+		"01414I022003    TN006000002-000895   001220                           I46  FWNR                                                              \n" +
+		"00465I022003    TN006000002-000895   0124  MW \n" +
+		"01106I022003    TN006000002-000895   0102-000895   20021230TM22001    24  MWNR                                \n";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private BatchValidator batchValidator;
+	private File outputDirectory;
+
+	@Before
+	public void init() throws IOException {
+		batchValidator = new BatchValidator(new SubmissionValidator(new ValidatorProperties()), null, null, true, false);
+		outputDirectory = new File(temporaryFolder.getRoot(), "errors");
+	}
+
+	@Test
+	public void testResultsInInputOrder() throws Exception {
+		// the largest file is validated first, but the results are in the order of the files
+		List<File> files = Arrays.asList(createSubmission("one.txt", 1), createSubmission("three.txt", 3), createSubmission("two.txt", 2));
+		List<BatchValidator.FileResult> results = batchValidator.validate(files, outputDirectory, 2);
+		assertEquals(3, results.size());
+		int[] reportCounts = { 1, 3, 2 };
+		for (int i = 0; i < files.size(); i++) {
+			BatchValidator.FileResult result = results.get(i);
+			assertEquals(files.get(i), result.getFile());
+			assertNull(result.getFailure());
+			assertEquals(reportCounts[i], result.getReportCount());
+			assertTrue(result.getElapsedNanos() > 0);
+		}
+	}
+
+	@Test
+	public void testFailureDoesNotStopBatch() throws Exception {
+		File missing = new File(temporaryFolder.getRoot(), "missing.txt");
+		List<File> files = Arrays.asList(createSubmission("first.txt", 2), missing, createSubmission("last.txt", 1));
+		List<BatchValidator.FileResult> results = batchValidator.validate(files, outputDirectory, 1);
+		assertNull(results.get(0).getFailure());
+		assertEquals(2, results.get(0).getReportCount());
+		assertNotNull(results.get(1).getFailure());
+		assertEquals(0, results.get(1).getReportCount());
+		assertNull(results.get(2).getFailure());
+		assertEquals(1, results.get(2).getReportCount());
+	}
+
+	@Test
+	public void testErrorReportPerFile() throws Exception {
+		// files that share a base name still get separate error reports
+		List<File> files = Arrays.asList(createSubmission("submission.txt", 1), createSubmission("submission.dat", 2));
+		List<BatchValidator.FileResult> results = batchValidator.validate(files, outputDirectory, 2);
+		File first = results.get(0).getErrorReportFile();
+		File second = results.get(1).getErrorReportFile();
+		assertEquals(new File(outputDirectory, "submission.txt-errors.txt"), first);
+		assertEquals(new File(outputDirectory, "submission.dat-errors.txt"), second);
+		for (BatchValidator.FileResult result : results) {
+			assertNull(result.getFailure());
+			assertTrue(result.getErrorReportFile().isFile());
+			assertFalse(Files.readAllLines(result.getErrorReportFile().toPath(), StandardCharsets.ISO_8859_1).isEmpty());
+		}
+	}
+
+	@Test
+	public void testWriteSummary() throws Exception {
+		File missing = new File(temporaryFolder.getRoot(), "missing.txt");
+		List<File> files = Arrays.asList(createSubmission("one.txt", 1), createSubmission("two.txt", 2), missing);
+		List<BatchValidator.FileResult> results = batchValidator.validate(files, outputDirectory, 2);
+		StringWriter writer = new StringWriter();
+		BatchValidator.writeSummary(results, 2000000000L, writer);
+		String[] lines = writer.toString().split("\\r?\\n");
+		assertEquals(5, lines.length);
+		assertEquals("File\tReports\tErrors\tElapsed (s)\tReports/s", lines[0]);
+		int errorCount = 0;
+		for (int i = 0; i < results.size(); i++) {
+			String[] fields = lines[i + 1].split("\t");
+			assertEquals(files.get(i).getName(), fields[0]);
+			assertEquals(String.valueOf(results.get(i).getReportCount()), fields[1]);
+			assertEquals(String.valueOf(results.get(i).getErrorCount()), fields[2]);
+			errorCount += results.get(i).getErrorCount();
+		}
+		assertTrue(lines[3].contains("\tFAILED: "));
+		String[] total = lines[4].split("\t");
+		assertEquals("Total (3 file(s), 1 failed)", total[0]);
+		assertEquals("3", total[1]);
+		assertEquals(String.valueOf(errorCount), total[2]);
+		assertEquals(String.format("%.3f", 2.0), total[3]);
+		assertEquals(String.format("%.1f", 1.5), total[4]);
+	}
+
+	private File createSubmission(String name, int incidentCount) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < incidentCount; i++) {
+			sb.append(INCIDENT.replace("02-000895", String.format("02-%06d", i + 1)));
+		}
+		File file = new File(temporaryFolder.getRoot(), name);
+		Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.ISO_8859_1));
+		return file;
+	}
+
+}
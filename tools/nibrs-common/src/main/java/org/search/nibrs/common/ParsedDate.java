@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.common;
+
+import java.time.LocalDate;
+
+/**
+ * A parsed date, held as its epoch day (see {@link LocalDate#toEpochDay()}).
+ *
+ */
+public final class ParsedDate extends ParsedPrimitive<LocalDate> {
+	
+	private long epochDay;
+	
+	public ParsedDate() {
+		super();
+	}
+	
+	public ParsedDate(LocalDate value) {
+		setValue(value);
+		setMissing(false);
+	}
+	
+	/**
+	 * Create a holder with the value and state of the specified ParsedObject.
+	 */
+	public static final ParsedDate of(ParsedObject<LocalDate> source) {
+		ParsedDate ret = new ParsedDate();
+		ret.copyFrom(source);
+		return ret;
+	}
+	
+	/**
+	 * Create an array of (missing) holders.
+	 * @param arrayLength length of the array
+	 * @return the array
+	 */
+	public static final ParsedDate[] newArray(int arrayLength) {
+		ParsedDate[] ret = new ParsedDate[arrayLength];
+		for (int i = 0; i < arrayLength; i++) {
+			ret[i] = new ParsedDate();
+		}
+		return ret;
+	}
+	
+	/**
+	 * Get the value as an epoch day; only meaningful if {@link #hasValue()}.
+	 */
+	public long getEpochDay() {
+		return epochDay;
+	}
+	public void setEpochDay(long epochDay) {
+		this.epochDay = epochDay;
+		setHasValue(true);
+	}
+	
+	/**
+	 * Set the value from its year, month, and day, without creating a LocalDate.
+	 */
+	public void setDate(int year, int month, int dayOfMonth) {
+		// days from 0000-03-01 (so that the leap day falls at the end of the year) to 1970-01-01, as in LocalDate.toEpochDay
+		long y = month <= 2 ? year - 1 : year;
+		long m = month <= 2 ? month + 9 : month - 3;
+		long era = Math.floorDiv(y, 400);
+		long yearOfEra = y - era * 400;
+		long dayOfYear = (153 * m + 2) / 5 + dayOfMonth - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		setEpochDay(era * 146097 + dayOfEra - 719468);
+	}
+	
+	@Override
+	public LocalDate getValue() {
+		return hasValue() ? LocalDate.ofEpochDay(epochDay) : null;
+	}
+	@Override
+	public void setValue(LocalDate value) {
+		this.epochDay = value == null ? 0 : value.toEpochDay();
+		setHasValue(value != null);
+	}
+	
+	@Override
+	protected long getValueBits() {
+		return epochDay;
+	}
+	
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.common;
+
+/**
+ * A parsed decimal value, held as a double.
+ *
+ */
+public final class ParsedDouble extends ParsedPrimitive<Double> {
+	
+	private double value;
+	
+	public ParsedDouble() {
+		super();
+	}
+	
+	public ParsedDouble(double value) {
+		setDouble(value);
+		setMissing(false);
+	}
+	
+	/**
+	 * Create a holder with the value and state of the specified ParsedObject.
+	 */
+	public static final ParsedDouble of(ParsedObject<Double> source) {
+		ParsedDouble ret = new ParsedDouble();
+		ret.copyFrom(source);
+		return ret;
+	}
+	
+	/**
+	 * Create an array of (missing) holders.
+	 * @param arrayLength length of the array
+	 * @return the array
+	 */
+	public static final ParsedDouble[] newArray(int arrayLength) {
+		ParsedDouble[] ret = new ParsedDouble[arrayLength];
+		for (int i = 0; i < arrayLength; i++) {
+			ret[i] = new ParsedDouble();
+		}
+		return ret;
+	}
+	
+	/**
+	 * Get the value; only meaningful if {@link #hasValue()}.
+	 */
+	public double getDouble() {
+		return value;
+	}
+	public void setDouble(double value) {
+		this.value = value;
+		setHasValue(true);
+	}
+	
+	@Override
+	public Double getValue() {
+		return hasValue() ? Double.valueOf(value) : null;
+	}
+	@Override
+	public void setValue(Double value) {
+		this.value = value == null ? 0 : value;
+		setHasValue(value != null);
+	}
+	
+	@Override
+	protected long getValueBits() {
+		return Double.doubleToLongBits(value);
+	}
+	
+}
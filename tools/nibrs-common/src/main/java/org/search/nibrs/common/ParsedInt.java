@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.common;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A parsed integer, held as an int.
+ *
+ */
+public final class ParsedInt extends ParsedPrimitive<Integer> {
+	
+	private int value;
+	
+	public ParsedInt() {
+		super();
+	}
+	
+	public ParsedInt(int value) {
+		setInt(value);
+		setMissing(false);
+	}
+	
+	/**
+	 * Create a holder with the value and state of the specified ParsedObject.
+	 */
+	public static final ParsedInt of(ParsedObject<Integer> source) {
+		ParsedInt ret = new ParsedInt();
+		ret.copyFrom(source);
+		return ret;
+	}
+	
+	/**
+	 * Create an array of (missing) holders.
+	 * @param arrayLength length of the array
+	 * @return the array
+	 */
+	public static final ParsedInt[] newArray(int arrayLength) {
+		ParsedInt[] ret = new ParsedInt[arrayLength];
+		for (int i = 0; i < arrayLength; i++) {
+			ret[i] = new ParsedInt();
+		}
+		return ret;
+	}
+	
+	/**
+	 * Get the value; only meaningful if {@link #hasValue()}.
+	 */
+	public int getInt() {
+		return value;
+	}
+	public void setInt(int value) {
+		this.value = value;
+		setHasValue(true);
+	}
+	
+	@Override
+	public Integer getValue() {
+		return hasValue() ? Integer.valueOf(value) : null;
+	}
+	@Override
+	public void setValue(Integer value) {
+		this.value = value == null ? 0 : value;
+		setHasValue(value != null);
+	}
+	
+	@Override
+	protected long getValueBits() {
+		return value;
+	}
+	
+	@Override
+	public String toString() {
+		return hasValue() ? StringUtils.leftPad(String.valueOf(value), 2, '0') : "null";
+	}
+	
+}
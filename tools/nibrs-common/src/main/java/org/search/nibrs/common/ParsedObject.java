@@ -69,6 +69,7 @@ public class ParsedObject<T> {
 	
 	@Override
 	public String toString() {
+		T value = getValue();
 		if (value == null){
 			return "null"; 
 		}
@@ -78,12 +79,16 @@ public class ParsedObject<T> {
 		return value.toString();
 	}
 
+	// the accessors are used rather than the fields, so that views of ParsedPrimitive holders compare in the same way
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + (invalid ? 1231 : 1237);
-		result = prime * result + (missing ? 1231 : 1237);
+		T value = getValue();
+		NIBRSError validationError = getValidationError();
+		result = prime * result + (isInvalid() ? 1231 : 1237);
+		result = prime * result + (isMissing() ? 1231 : 1237);
 		result = prime * result + ((value == null) ? 0 : value.hashCode());
 		result = prime * result + ((validationError == null) ? 0 : validationError.hashCode());
 		return result;
@@ -97,13 +102,15 @@ public class ParsedObject<T> {
 		if (obj instanceof ParsedObject && obj != null) {
 			
 			ParsedObject<?> compNumber = (ParsedObject<?>) obj;
+			T value = getValue();
+			NIBRSError validationError = getValidationError();
 			
 			if (value != null) {
-				ret = value.equals(compNumber.value);
+				ret = value.equals(compNumber.getValue());
 			} else {
-				ret = missing == compNumber.missing && invalid == compNumber.invalid;
+				ret = isMissing() == compNumber.isMissing() && isInvalid() == compNumber.isInvalid();
 				if (validationError != null) {
-					ret &= validationError.equals(compNumber.validationError);
+					ret &= validationError.equals(compNumber.getValidationError());
 				}
 			}
 			
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.common;
+
+import java.util.Objects;
+
+/**
+ * Base class for parsed values that are held as primitives rather than boxed objects.  Like {@link ParsedObject}, each value records whether it
+ * was missing or invalid in the original input, but that state (along with whether there is a value at all) is packed into a single flags byte,
+ * so a holder is about the size of a ParsedObject alone, without the boxed value it would reference.
+ * <br/>
+ * Code written against ParsedObject can use {@link #asParsedObject()}, which returns a ParsedObject view that reads and writes through to the holder.
+ *
+ * @param <T> the boxed type of the value
+ */
+public abstract class ParsedPrimitive<T> {
+	
+	private static final byte MISSING = 1;
+	private static final byte INVALID = 2;
+	private static final byte PRESENT = 4;
+	
+	private byte flags;
+	private NIBRSError validationError;
+	
+	/**
+	 * Create a holder with no value, which (as with ParsedObject) is missing.
+	 */
+	protected ParsedPrimitive() {
+		flags = MISSING;
+	}
+	
+	/**
+	 * Get the value, boxed.
+	 * @return the value, or null if there is none
+	 */
+	public abstract T getValue();
+	
+	/**
+	 * Set the value.
+	 * @param value the value, or null to clear it
+	 */
+	public abstract void setValue(T value);
+	
+	/**
+	 * Get the primitive value as bits that identify it, for equals() and hashCode(); only meaningful if {@link #hasValue()}.
+	 */
+	protected abstract long getValueBits();
+	
+	/**
+	 * Whether the holder has a value (that is, whether getValue() would return non-null).
+	 */
+	public boolean hasValue() {
+		return (flags & PRESENT) != 0;
+	}
+	
+	/**
+	 * Record whether the holder has a value; subclasses call this when the primitive value is set or cleared.
+	 */
+	protected void setHasValue(boolean present) {
+		setFlag(PRESENT, present);
+	}
+	
+	public boolean isMissing() {
+		return (flags & MISSING) != 0;
+	}
+	public void setMissing(boolean missing) {
+		setFlag(MISSING, missing);
+	}
+	
+	public boolean isInvalid() {
+		return (flags & INVALID) != 0;
+	}
+	public void setInvalid(boolean invalid) {
+		setFlag(INVALID, invalid);
+	}
+	
+	public NIBRSError getValidationError() {
+		return validationError;
+	}
+	public void setValidationError(NIBRSError validationError) {
+		this.validationError = validationError;
+	}
+	
+	private void setFlag(byte flag, boolean on) {
+		flags = (byte) (on ? flags | flag : flags & ~flag);
+	}
+	
+	/**
+	 * Copy the value and state of the specified ParsedObject into this holder.
+	 * @param source the object to copy; if null, the holder is reset to missing
+	 */
+	public void copyFrom(ParsedObject<T> source) {
+		if (source == null) {
+			setValue(null);
+			flags = MISSING;
+			validationError = null;
+		} else {
+			setValue(source.getValue());
+			setMissing(source.isMissing());
+			setInvalid(source.isInvalid());
+			validationError = source.getValidationError();
+		}
+	}
+	
+	/**
+	 * Get a ParsedObject view of this holder.  The view holds no state of its own:  reads and writes go straight to the holder.
+	 */
+	public ParsedObject<T> asParsedObject() {
+		return new View<>(this);
+	}
+	
+	/**
+	 * Get ParsedObject views of an array of holders, as {@link #asParsedObject()}.  Null elements remain null.
+	 */
+	public static final <T> ParsedObject<T>[] asParsedObjects(ParsedPrimitive<T>[] holders) {
+		@SuppressWarnings("unchecked")
+		ParsedObject<T>[] ret = (ParsedObject<T>[]) new ParsedObject<?>[holders.length];
+		for (int i = 0; i < holders.length; i++) {
+			ret[i] = holders[i] == null ? null : holders[i].asParsedObject();
+		}
+		return ret;
+	}
+	
+	@Override
+	public String toString() {
+		T value = getValue();
+		return value == null ? "null" : value.toString();
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (isInvalid() ? 1231 : 1237);
+		result = prime * result + (isMissing() ? 1231 : 1237);
+		result = prime * result + (hasValue() ? Long.hashCode(getValueBits()) : 0);
+		result = prime * result + Objects.hashCode(validationError);
+		return result;
+	}
+	
+	/**
+	 * Holders are equal on the same terms as ParsedObjects:  by value if this holder has one, or else by their missing/invalid state
+	 * (and error, if this holder has one).
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof ParsedPrimitive)) {
+			return false;
+		}
+		ParsedPrimitive<?> other = (ParsedPrimitive<?>) obj;
+		if (hasValue()) {
+			return other.getClass() == getClass() && other.hasValue() && other.getValueBits() == getValueBits();
+		}
+		boolean ret = isMissing() == other.isMissing() && isInvalid() == other.isInvalid();
+		if (validationError != null) {
+			ret &= validationError.equals(other.validationError);
+		}
+		return ret;
+	}
+	
+	private static final class View<T> extends ParsedObject<T> {
+		
+		private final ParsedPrimitive<T> holder;
+		
+		View(ParsedPrimitive<T> holder) {
+			this.holder = holder;
+		}
+		
+		@Override
+		public T getValue() {
+			return holder.getValue();
+		}
+		@Override
+		public void setValue(T value) {
+			holder.setValue(value);
+		}
+		@Override
+		public boolean isMissing() {
+			return holder.isMissing();
+		}
+		@Override
+		public void setMissing(boolean missing) {
+			holder.setMissing(missing);
+		}
+		@Override
+		public boolean isInvalid() {
+			return holder.isInvalid();
+		}
+		@Override
+		public void setInvalid(boolean invalid) {
+			holder.setInvalid(invalid);
+		}
+		@Override
+		public NIBRSError getValidationError() {
+			return holder.getValidationError();
+		}
+		@Override
+		public void setValidationError(NIBRSError validationError) {
+			holder.setValidationError(validationError);
+		}
+		
+	}
+	
+}
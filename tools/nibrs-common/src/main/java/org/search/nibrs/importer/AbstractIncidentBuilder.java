@@ -18,6 +18,7 @@ package org.search.nibrs.importer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
@@ -51,6 +52,11 @@ public class AbstractIncidentBuilder {
 
 	private static final Log log = LogFactory.getLog(AbstractIncidentBuilder.class);;
 
+	/**
+	 * The date format of the flat file specification, used unless a builder sets another.
+	 */
+	public static final DateTimeFormatter DEFAULT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
 	private List<ReportListener> listeners;
 	private LogListener logListener = new LogListener();
 	private DateTimeFormatter dateFormat;
@@ -58,7 +64,7 @@ public class AbstractIncidentBuilder {
 	public AbstractIncidentBuilder() {
 		setListeners(new ArrayList<ReportListener>());
 		getListeners().add(getLogListener());
-		setDateFormat(DateTimeFormatter.ofPattern("yyyyMMdd"));
+		setDateFormat(DEFAULT_DATE_FORMAT);
 	}
 
 	public void addIncidentListener(ReportListener listener) {
@@ -82,6 +88,14 @@ public class AbstractIncidentBuilder {
 		throw new NotImplementedException("The method buildIncidents(InputStream, String) is not implemented");
 	}
 
+	/**
+	 * Read NIBRS incidents from the bytes between the position and limit of the specified buffer
+	 * @param buffer the source of the data
+	 */
+	public void buildIncidents(ByteBuffer buffer, String readerLocationName) {
+		throw new NotImplementedException("The method buildIncidents(ByteBuffer, String) is not implemented");
+	}
+
 	public List<ReportListener> getListeners() {
 		return listeners;
 	}
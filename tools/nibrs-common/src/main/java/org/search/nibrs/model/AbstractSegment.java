@@ -57,6 +57,15 @@ public abstract class AbstractSegment implements ValidationTarget {
 		return parentReport;
 	}
 
+	/**
+	 * Discard the lookup index of the parent incident, if there is one; called when a value that the index is keyed on changes.
+	 */
+	protected final void invalidateParentIndex() {
+		if (parentReport instanceof GroupAIncidentReport) {
+			((GroupAIncidentReport) parentReport).invalidateIndex();
+		}
+	}
+
 	public final char getSegmentType() {
 		return segmentType;
 	}
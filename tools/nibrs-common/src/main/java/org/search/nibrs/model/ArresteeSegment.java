@@ -24,8 +24,12 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.search.nibrs.common.ParsedDate;
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.common.ParsedObject;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Representation of an Arrestee reported within an Incident (either Group A or Group B) in a NIBRS report.
  *
@@ -42,9 +46,9 @@ public class ArresteeSegment extends AbstractPersonSegment implements Identifiab
 	@SuppressWarnings("unused")
 	private static final Logger LOG = LogManager.getLogger(ArresteeSegment.class);
 	
-	private ParsedObject<Integer> arresteeSequenceNumber;
+	private ParsedInt arresteeSequenceNumber;
     private String arrestTransactionNumber;
-    private ParsedObject<LocalDate> arrestDate;
+    private ParsedDate arrestDate;
     private String typeOfArrest;
     private String multipleArresteeSegmentsIndicator;
     private String ucrArrestOffenseCode;
@@ -62,8 +66,8 @@ public class ArresteeSegment extends AbstractPersonSegment implements Identifiab
         arresteeArmedWith = new String[ARRESTEE_ARMED_WITH_COUNT];
         automaticWeaponIndicator = new String[AUTOMATIC_WEAPON_INDICATOR_COUNT];
         this.segmentType = segmentType;
-        arrestDate = new ParsedObject<>();
-        arresteeSequenceNumber = new ParsedObject<>();
+        arrestDate = new ParsedDate();
+        arresteeSequenceNumber = new ParsedInt();
     }
     
     public ArresteeSegment(ArresteeSegment a) {
@@ -147,21 +151,37 @@ public class ArresteeSegment extends AbstractPersonSegment implements Identifiab
         arresteeArmedWith[position] = value;
     }
     
-    public ParsedObject<LocalDate> getArrestDate()
+    /**
+     * Get the holder of the arrest date, without creating the ParsedObject view returned by {@link #getArrestDate()}.
+     */
+    @JsonIgnore
+    public ParsedDate getParsedArrestDate()
     {
         return arrestDate;
     }
+    public ParsedObject<LocalDate> getArrestDate()
+    {
+        return arrestDate == null ? null : arrestDate.asParsedObject();
+    }
     public void setArrestDate(ParsedObject<LocalDate> arrestDate)
     {
-        this.arrestDate = arrestDate;
+        this.arrestDate = arrestDate == null ? null : ParsedDate.of(arrestDate);
     }
-    public ParsedObject<Integer> getArresteeSequenceNumber()
+    /**
+     * Get the holder of the arrestee sequence number, without creating the ParsedObject view returned by {@link #getArresteeSequenceNumber()}.
+     */
+    @JsonIgnore
+    public ParsedInt getParsedArresteeSequenceNumber()
     {
         return arresteeSequenceNumber;
     }
+    public ParsedObject<Integer> getArresteeSequenceNumber()
+    {
+        return arresteeSequenceNumber == null ? null : arresteeSequenceNumber.asParsedObject();
+    }
     public void setArresteeSequenceNumber(ParsedObject<Integer> arresteeSequenceNumber)
     {
-        this.arresteeSequenceNumber = arresteeSequenceNumber;
+        this.arresteeSequenceNumber = arresteeSequenceNumber == null ? null : ParsedInt.of(arresteeSequenceNumber);
     }
     public String getArrestTransactionNumber()
     {
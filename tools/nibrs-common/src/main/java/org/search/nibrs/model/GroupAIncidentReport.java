@@ -25,11 +25,15 @@ import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.search.nibrs.common.ParsedDate;
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.common.ParsedObject;
 import org.search.nibrs.model.codes.OffenseCode;
 import org.search.nibrs.model.codes.PropertyDescriptionCode;
 import org.search.nibrs.model.codes.TypeOfPropertyLossCode;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Representation of an individual Group A incident in a NIBRS submission.
  *
@@ -45,11 +49,11 @@ public class GroupAIncidentReport extends AbstractReport
 	private static final Logger LOG = LogManager.getLogger(GroupAIncidentReport.class);
 	
 	private String incidentNumber;
-    private ParsedObject<LocalDate> incidentDate;
+    private ParsedDate incidentDate;
     private String reportDateIndicator;
-    private ParsedObject<Integer> incidentHour;
+    private ParsedInt incidentHour;
     private String exceptionalClearanceCode;
-    private ParsedObject<LocalDate> exceptionalClearanceDate;
+    private ParsedDate exceptionalClearanceDate;
     private String cargoTheftIndicator;
     private List<OffenseSegment> offenseSegmentList;
     private List<PropertySegment> propertySegmentList;
@@ -57,6 +61,7 @@ public class GroupAIncidentReport extends AbstractReport
     private List<OffenderSegment> offenderSegmentList;
     private boolean includesLeoka = false;
     private boolean includesCargoTheft = false;
+    private transient GroupAIncidentReportIndex index;
 
 	public GroupAIncidentReport()
     {
@@ -65,9 +70,9 @@ public class GroupAIncidentReport extends AbstractReport
         removeProperties();
         removeVictims();
         removeOffenders();
-        incidentHour = new ParsedObject<>();
-        incidentDate = new ParsedObject<>();
-        exceptionalClearanceDate = new ParsedObject<>();
+        incidentHour = new ParsedInt();
+        incidentDate = new ParsedDate();
+        exceptionalClearanceDate = new ParsedDate();
     }
 	
 	public GroupAIncidentReport(GroupAIncidentReport r) {
@@ -96,95 +101,70 @@ public class GroupAIncidentReport extends AbstractReport
 		}
 	}
 	
-	public boolean includesGamblingOffense() {
-		boolean ret = false;
-		for (OffenseSegment os : getOffenses()) {
-			String offenseCode = os.getUcrOffenseCode();
-			if (offenseCode != null && OffenseCode.isGamblingOffenseCode(offenseCode)) {
-				ret = true;
-				break;
-			}
+	/**
+	 * Get the lookup index over this incident's segments, building it if this is the first call since the incident last changed.  Adding,
+	 * removing, or replacing segments, and setting the identifying values of a segment (offender sequence number, UCR offense code, type of
+	 * property loss, and a victim's offense connections and related offenders) through their setters all discard the index.  Changes made
+	 * in place (through a holder, or an array returned by a getter) are not seen; call {@link #invalidateIndex()} after making them.
+	 * @return the index
+	 */
+	@JsonIgnore
+	public GroupAIncidentReportIndex getIndex() {
+		GroupAIncidentReportIndex ret = index;
+		if (ret == null) {
+			ret = new GroupAIncidentReportIndex(this);
+			index = ret;
 		}
 		return ret;
 	}
 	
+	/**
+	 * Discard the lookup index, so that the next call to {@link #getIndex()} rebuilds it from the current state of the incident.
+	 */
+	public void invalidateIndex() {
+		index = null;
+	}
+	
+	public boolean includesGamblingOffense() {
+		return getIndex().includesGamblingOffense();
+	}
+	
 	public boolean includesPropertyCrime() {
-		boolean ret = false;
-		for (OffenseSegment os : getOffenses()) {
-			String offenseCode = os.getUcrOffenseCode();
-			if (offenseCode != null && OffenseCode.isCrimeAgainstPropertyCode(offenseCode)) {
-				ret = true;
-				break;
-			}
-		}
-		return ret;
+		return getIndex().includesPropertyCrime();
 	}
 	
 	public PropertySegment getStolenPropertySegment() {
-		PropertySegment ret = null;
-		for (PropertySegment ps : getProperties()) {
-			if (TypeOfPropertyLossCode._7.code.equals(ps.getTypeOfPropertyLoss())) {
-				ret = ps;
-				break;
-			}
-		}
-		return ret;
+		return getIndex().getProperty(TypeOfPropertyLossCode._7.code);
 	}
 	
 	public PropertySegment getRecoveredPropertySegment() {
-		PropertySegment ret = null;
-		for (PropertySegment ps : getProperties()) {
-			if (TypeOfPropertyLossCode._5.code.equals(ps.getTypeOfPropertyLoss())) {
-				ret = ps;
-				break;
-			}
-		}
-		return ret;
+		return getIndex().getProperty(TypeOfPropertyLossCode._5.code);
 	}
 	
 	public OffenderSegment getOffenderForSequenceNumber(Integer sequenceNumber) {
-		OffenderSegment ret = null;
-		if (sequenceNumber == null) {
-			return null;
-		}
-		for (OffenderSegment o : offenderSegmentList) {
-			if (sequenceNumber.equals(o.getOffenderSequenceNumber().getValue())) {
-				ret = o;
-				break;
-			}
-		}
-		return ret;
+		return getIndex().getOffender(sequenceNumber);
 	}
 	
 	public OffenseSegment getOffenseForOffenseCode(String ucrOffenseCode) {
-		OffenseSegment ret = null;
-		if (ucrOffenseCode == null) {
-			return null;
-		}
-		for (OffenseSegment os : offenseSegmentList) {
-			if (ucrOffenseCode.equals(os.getUcrOffenseCode())) {
-				ret = os;
-				break;
-			}
-		}
-		return ret;
+		return getIndex().getOffense(ucrOffenseCode);
 	}
 	
 	public List<VictimSegment> getVictimsOfOffender(OffenderSegment os) {
-		List<VictimSegment> ret = new ArrayList<>();
-		for (VictimSegment vs : getVictims()) {
-			if (vs.isVictimOfOffender(os)) {
-				ret.add(vs);
-			}
+		if (os == null || os.getParsedOffenderSequenceNumber() == null) {
+			return Collections.emptyList();
 		}
-		return ret;
+		return getIndex().getVictimsOfOffender(os.getParsedOffenderSequenceNumber().getValue());
 	}
     
 	public List<OffenderSegment> getOffendersOfVictim(VictimSegment vs) {
-		List<OffenderSegment> ret = new ArrayList<>();
-		for (OffenderSegment os : getOffenders()) {
-			if (os.isOffenderOfVictim(vs)) {
-				ret.add(os);
+		List<OffenderSegment> ret = getIndex().getOffendersOfVictim(vs);
+		if (ret == null) {
+			// not one of this incident's victims
+			ret = new ArrayList<>();
+			for (OffenderSegment os : getOffenders()) {
+				if (os.isOffenderOfVictim(vs)) {
+					ret.add(os);
+				}
 			}
 		}
 		return ret;
@@ -220,34 +200,42 @@ public class GroupAIncidentReport extends AbstractReport
     
     public void removeOffender(int index) {
 		offenderSegmentList.remove(index);
+		invalidateIndex();
 	}
 
 	public void removeOffenders() {
 		offenderSegmentList = new ArrayList<OffenderSegment>();
+		invalidateIndex();
 	}
 
 	public void removeVictim(int index) {
 		victimSegmentList.remove(index);
+		invalidateIndex();
 	}
 
 	public void removeVictims() {
 		victimSegmentList = new ArrayList<VictimSegment>();
+		invalidateIndex();
 	}
 
 	public void removeProperty(int index) {
 		propertySegmentList.remove(index);
+		invalidateIndex();
 	}
 
 	public void removeProperties() {
 		propertySegmentList = new ArrayList<PropertySegment>();
+		invalidateIndex();
 	}
 
 	public void removeOffense(int index) {
 		offenseSegmentList.remove(index);
+		invalidateIndex();
 	}
     
 	public void removeOffenses() {
 		offenseSegmentList = new ArrayList<OffenseSegment>();
+		invalidateIndex();
 	}
     
     public String getCargoTheftIndicator() {
@@ -262,6 +250,7 @@ public class GroupAIncidentReport extends AbstractReport
     {
         offenseSegmentList.add(offense);
         offense.setParentReport(this);
+        invalidateIndex();
     }
     
     public int getOffenseCount()
@@ -280,12 +269,14 @@ public class GroupAIncidentReport extends AbstractReport
     
     public void setOffenses(List<OffenseSegment> offenseSegmentList) {
     	this.offenseSegmentList = offenseSegmentList;
+    	invalidateIndex();
     }
     
     public void addProperty(PropertySegment property)
     {
         propertySegmentList.add(property);
         property.setParentReport(this);
+        invalidateIndex();
     }
     
     public int getPropertyCount()
@@ -304,12 +295,14 @@ public class GroupAIncidentReport extends AbstractReport
 
     public void setProperties(List<PropertySegment> properties) {
     	this.propertySegmentList = properties;
+    	invalidateIndex();
     }
     
 	public void addVictim(VictimSegment victim)
     {
         victimSegmentList.add(victim);
         victim.setParentReport(this);
+        invalidateIndex();
     }
     
     public int getVictimCount()
@@ -328,12 +321,14 @@ public class GroupAIncidentReport extends AbstractReport
 
     public void setVictims(List<VictimSegment> victims) {
     	this.victimSegmentList = victims;
+    	invalidateIndex();
     }
     
     public void addOffender(OffenderSegment offender)
     {
         offenderSegmentList.add(offender);
         offender.setParentReport(this);
+        invalidateIndex();
     }
     
     public int getOffenderCount()
@@ -352,6 +347,7 @@ public class GroupAIncidentReport extends AbstractReport
 
     public void setOffenders(List<OffenderSegment> offenders) {
     	this.offenderSegmentList = offenders;
+    	invalidateIndex();
     }
     
     public String getExceptionalClearanceCode()
@@ -362,29 +358,53 @@ public class GroupAIncidentReport extends AbstractReport
     {
         this.exceptionalClearanceCode = exceptionalClearanceCode;
     }
-    public ParsedObject<LocalDate> getExceptionalClearanceDate()
+    /**
+     * Get the holder of the exceptional clearance date, without creating the ParsedObject view returned by {@link #getExceptionalClearanceDate()}.
+     */
+    @JsonIgnore
+    public ParsedDate getParsedExceptionalClearanceDate()
     {
         return exceptionalClearanceDate;
     }
+    public ParsedObject<LocalDate> getExceptionalClearanceDate()
+    {
+        return exceptionalClearanceDate == null ? null : exceptionalClearanceDate.asParsedObject();
+    }
     public void setExceptionalClearanceDate(ParsedObject<LocalDate> exceptionalClearanceDate)
     {
-        this.exceptionalClearanceDate = exceptionalClearanceDate;
+        this.exceptionalClearanceDate = exceptionalClearanceDate == null ? null : ParsedDate.of(exceptionalClearanceDate);
     }
-    public ParsedObject<LocalDate> getIncidentDate()
+    /**
+     * Get the holder of the incident date, without creating the ParsedObject view returned by {@link #getIncidentDate()}.
+     */
+    @JsonIgnore
+    public ParsedDate getParsedIncidentDate()
     {
         return incidentDate;
     }
+    public ParsedObject<LocalDate> getIncidentDate()
+    {
+        return incidentDate == null ? null : incidentDate.asParsedObject();
+    }
     public void setIncidentDate(ParsedObject<LocalDate> incidentDate)
     {
-        this.incidentDate = incidentDate;
+        this.incidentDate = incidentDate == null ? null : ParsedDate.of(incidentDate);
     }
-    public ParsedObject<Integer> getIncidentHour()
+    /**
+     * Get the holder of the incident hour, without creating the ParsedObject view returned by {@link #getIncidentHour()}.
+     */
+    @JsonIgnore
+    public ParsedInt getParsedIncidentHour()
     {
         return incidentHour;
     }
+    public ParsedObject<Integer> getIncidentHour()
+    {
+        return incidentHour == null ? null : incidentHour.asParsedObject();
+    }
     public void setIncidentHour(ParsedObject<Integer> incidentHour)
     {
-        this.incidentHour = incidentHour;
+        this.incidentHour = incidentHour == null ? null : ParsedInt.of(incidentHour);
     }
     public String getIncidentNumber()
     {
@@ -410,9 +430,7 @@ public class GroupAIncidentReport extends AbstractReport
     }
 
     public boolean isOffenseInvolved( OffenseCode offensecode) {
-		return this.getOffenses().stream()
-			.filter(Objects::nonNull)
-			.anyMatch(item->offensecode.code.equals(item.getUcrOffenseCode()));
+		return getIndex().containsOffense(offensecode.code);
     }
     
     public boolean isCompleteOffenseInvolved( OffenseCode offensecode) {
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.search.nibrs.common.ParsedInt;
+import org.search.nibrs.model.codes.OffenseCode;
+
+/**
+ * Lookup tables over the segments of a Group A incident, so that the cross-segment checks (which offender has a given sequence number, which
+ * victims are connected to an offense, and so on) are map lookups rather than scans of the segment lists.  An index is a snapshot of the
+ * incident at the time it was built; obtain it through {@link GroupAIncidentReport#getIndex()}, which rebuilds it after the incident changes.
+ * <br/>
+ * Where a lookup can match more than one segment, the index preserves the answer the corresponding scan would give:  "first" means first in
+ * the incident's segment list, and lists are in segment list order.
+ */
+public final class GroupAIncidentReportIndex {
+
+	private final Map<Integer, OffenderSegment> offendersBySequenceNumber = new HashMap<>();
+	private final Map<String, OffenseSegment> offensesByUcrCode = new HashMap<>();
+	private final Map<String, PropertySegment> propertiesByLossType = new LinkedHashMap<>();
+	private final Map<String, List<VictimSegment>> victimsByOffenseCode = new HashMap<>();
+	private final Map<Integer, List<VictimSegment>> victimsByOffenderNumber = new HashMap<>();
+	private final Map<VictimSegment, List<OffenderSegment>> offendersByVictim = new IdentityHashMap<>();
+	private final boolean includesGamblingOffense;
+	private final boolean includesPropertyCrime;
+	private final boolean includesCrimeAgainstSociety;
+
+	GroupAIncidentReportIndex(GroupAIncidentReport report) {
+
+		boolean gambling = false;
+		boolean property = false;
+		boolean society = false;
+		for (OffenseSegment os : report.getOffenses()) {
+			String offenseCode = os.getUcrOffenseCode();
+			if (offenseCode != null) {
+				offensesByUcrCode.putIfAbsent(offenseCode, os);
+				gambling |= OffenseCode.isGamblingOffenseCode(offenseCode);
+				property |= OffenseCode.isCrimeAgainstPropertyCode(offenseCode);
+				society |= OffenseCode.isCrimeAgainstSocietyCode(offenseCode);
+			}
+		}
+		includesGamblingOffense = gambling;
+		includesPropertyCrime = property;
+		includesCrimeAgainstSociety = society;
+
+		for (PropertySegment ps : report.getProperties()) {
+			if (ps.getTypeOfPropertyLoss() != null) {
+				propertiesByLossType.putIfAbsent(ps.getTypeOfPropertyLoss(), ps);
+			}
+		}
+
+		for (VictimSegment vs : report.getVictims()) {
+			// the offense code list includes the unpopulated (null) positions, and so does this map, to match List.contains(null)
+			for (String offenseCode : vs.getUcrOffenseCodeList()) {
+				List<VictimSegment> victims = victimsByOffenseCode.computeIfAbsent(offenseCode, k -> new ArrayList<>());
+				if (victims.isEmpty() || victims.get(victims.size() - 1) != vs) {
+					victims.add(vs);
+				}
+			}
+			for (Integer offenderNumber : vs.getDistinctValidRelatedOffenderNumberList()) {
+				victimsByOffenderNumber.computeIfAbsent(offenderNumber, k -> new ArrayList<>()).add(vs);
+			}
+			offendersByVictim.put(vs, new ArrayList<>());
+		}
+
+		for (OffenderSegment os : report.getOffenders()) {
+			ParsedInt sequenceNumber = os.getParsedOffenderSequenceNumber();
+			Integer value = sequenceNumber == null ? null : sequenceNumber.getValue();
+			if (value != null) {
+				offendersBySequenceNumber.putIfAbsent(value, os);
+				for (VictimSegment vs : getVictimsOfOffender(value)) {
+					offendersByVictim.get(vs).add(os);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * @return the first offender with the specified sequence number, or null if there is none
+	 */
+	public OffenderSegment getOffender(Integer sequenceNumber) {
+		return sequenceNumber == null ? null : offendersBySequenceNumber.get(sequenceNumber);
+	}
+
+	/**
+	 * @return the first offense with the specified UCR offense code, or null if there is none
+	 */
+	public OffenseSegment getOffense(String ucrOffenseCode) {
+		return ucrOffenseCode == null ? null : offensesByUcrCode.get(ucrOffenseCode);
+	}
+
+	public boolean containsOffense(String ucrOffenseCode) {
+		return getOffense(ucrOffenseCode) != null;
+	}
+
+	/**
+	 * @return the first property segment with the specified type of property loss, or null if there is none
+	 */
+	public PropertySegment getProperty(String typeOfPropertyLoss) {
+		return typeOfPropertyLoss == null ? null : propertiesByLossType.get(typeOfPropertyLoss);
+	}
+
+	/**
+	 * @return the distinct (non-null) types of property loss in the incident, in the order they first appear
+	 */
+	public Set<String> getPropertyLossTypes() {
+		return Collections.unmodifiableSet(propertiesByLossType.keySet());
+	}
+
+	/**
+	 * @return the victims with an offense connection to the specified UCR offense code
+	 */
+	public List<VictimSegment> getVictimsConnectedTo(String ucrOffenseCode) {
+		return unmodifiableOrEmpty(victimsByOffenseCode.get(ucrOffenseCode));
+	}
+
+	/**
+	 * @return the victims related to the offender with the specified sequence number
+	 */
+	public List<VictimSegment> getVictimsOfOffender(Integer offenderSequenceNumber) {
+		return offenderSequenceNumber == null ? Collections.emptyList() : unmodifiableOrEmpty(victimsByOffenderNumber.get(offenderSequenceNumber));
+	}
+
+	/**
+	 * @return the offenders related to the specified victim, or null if the victim is not one of the incident's victims
+	 */
+	public List<OffenderSegment> getOffendersOfVictim(VictimSegment victim) {
+		List<OffenderSegment> ret = offendersByVictim.get(victim);
+		return ret == null ? null : Collections.unmodifiableList(ret);
+	}
+
+	public boolean includesGamblingOffense() {
+		return includesGamblingOffense;
+	}
+
+	public boolean includesPropertyCrime() {
+		return includesPropertyCrime;
+	}
+
+	public boolean includesCrimeAgainstSociety() {
+		return includesCrimeAgainstSociety;
+	}
+
+	private static <T> List<T> unmodifiableOrEmpty(List<T> list) {
+		return list == null ? Collections.emptyList() : Collections.unmodifiableList(list);
+	}
+
+}
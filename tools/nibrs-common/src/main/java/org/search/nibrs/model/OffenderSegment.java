@@ -17,10 +17,13 @@ package org.search.nibrs.model;
 
 import java.util.Map;
 
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.common.ParsedObject;
 import org.search.nibrs.model.codes.RaceCode;
 import org.search.nibrs.model.codes.SexCode;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Representation of an OffenderSegment reported within an Incident in a NIBRS report.
  *
@@ -29,12 +32,12 @@ public class OffenderSegment extends AbstractPersonSegment
 {
     
 	public static final char OFFENDER_SEGMENT_TYPE_IDENTIFIER = '5';
-	private ParsedObject<Integer> offenderSequenceNumber;
+	private ParsedInt offenderSequenceNumber;
     
     public OffenderSegment() {
     	super();
     	segmentType = OFFENDER_SEGMENT_TYPE_IDENTIFIER;
-    	offenderSequenceNumber = new ParsedObject<>();
+    	offenderSequenceNumber = new ParsedInt();
     }
     
     public OffenderSegment(OffenderSegment o) {
@@ -43,13 +46,22 @@ public class OffenderSegment extends AbstractPersonSegment
     	segmentType = OFFENDER_SEGMENT_TYPE_IDENTIFIER;
     }
     
-    public ParsedObject<Integer> getOffenderSequenceNumber()
+    /**
+     * Get the holder of the offender sequence number, without creating the ParsedObject view returned by {@link #getOffenderSequenceNumber()}.
+     */
+    @JsonIgnore
+    public ParsedInt getParsedOffenderSequenceNumber()
     {
         return offenderSequenceNumber;
     }
+    public ParsedObject<Integer> getOffenderSequenceNumber()
+    {
+        return offenderSequenceNumber == null ? null : offenderSequenceNumber.asParsedObject();
+    }
     public void setOffenderSequenceNumber(ParsedObject<Integer> offenderSequenceNumber)
     {
-        this.offenderSequenceNumber = offenderSequenceNumber;
+        this.offenderSequenceNumber = offenderSequenceNumber == null ? null : ParsedInt.of(offenderSequenceNumber);
+        invalidateParentIndex();
         if (!(offenderSequenceNumber.isMissing() || offenderSequenceNumber.isInvalid()) && offenderSequenceNumber.getValue() == 0) {
         }
     }
@@ -17,8 +17,11 @@ package org.search.nibrs.model;
 
 import java.util.Arrays;
 
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.common.ParsedObject;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Representation of an OffenseSegment reported within an Incident in a NIBRS report.
  *  
@@ -38,7 +41,7 @@ public class OffenseSegment extends AbstractSegment
     private String offenseAttemptedCompleted;
     private String[] offendersSuspectedOfUsing;
     private String locationType;
-    private ParsedObject<Integer> numberOfPremisesEntered;
+    private ParsedInt numberOfPremisesEntered;
     private String methodOfEntry;
     private String[] typeOfCriminalActivity;
     private String[] typeOfWeaponForceInvolved;
@@ -52,7 +55,7 @@ public class OffenseSegment extends AbstractSegment
     public OffenseSegment()
     {
     	super();
-    	numberOfPremisesEntered = new ParsedObject<>();
+    	numberOfPremisesEntered = new ParsedInt();
         offendersSuspectedOfUsing = new String[OFFENDERS_SUSPECTED_OF_USING_COUNT];
         typeOfCriminalActivity = new String[TYPE_OF_CRIMINAL_ACTIVITY_COUNT];
         typeOfWeaponForceInvolved = new String[TYPE_OF_WEAPON_FORCE_INVOLVED_COUNT];
@@ -199,14 +202,23 @@ public class OffenseSegment extends AbstractSegment
         this.methodOfEntry = methodOfEntry;
     }
 
-    public ParsedObject<Integer> getNumberOfPremisesEntered()
+    /**
+     * Get the holder of the number of premises entered, without creating the ParsedObject view returned by {@link #getNumberOfPremisesEntered()}.
+     */
+    @JsonIgnore
+    public ParsedInt getParsedNumberOfPremisesEntered()
     {
         return numberOfPremisesEntered;
     }
 
+    public ParsedObject<Integer> getNumberOfPremisesEntered()
+    {
+        return numberOfPremisesEntered == null ? null : numberOfPremisesEntered.asParsedObject();
+    }
+
     public void setNumberOfPremisesEntered(ParsedObject<Integer> numberOfPremisesEntered)
     {
-        this.numberOfPremisesEntered = numberOfPremisesEntered;
+        this.numberOfPremisesEntered = numberOfPremisesEntered == null ? null : ParsedInt.of(numberOfPremisesEntered);
     }
 
     public String getOffenseAttemptedCompleted()
@@ -227,6 +239,7 @@ public class OffenseSegment extends AbstractSegment
     public void setUcrOffenseCode(String ucrOffenseCode)
     {
         this.ucrOffenseCode = ucrOffenseCode;
+        invalidateParentIndex();
     }
 
     public boolean isWeaponForceFirearm(int position)
@@ -27,11 +27,16 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.search.nibrs.common.ParsedDate;
+import org.search.nibrs.common.ParsedDouble;
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.common.ParsedObject;
 import org.search.nibrs.model.codes.OffenseCode;
 import org.search.nibrs.model.codes.PropertyDescriptionCode;
 import org.search.nibrs.model.codes.TypeOfPropertyLossCode;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Representation of an article of property reported within an Incident in a NIBRS report.
  *
@@ -51,12 +56,12 @@ public class PropertySegment extends AbstractSegment
 	
 	private String typeOfPropertyLoss;
     private String[] propertyDescription;
-    private ParsedObject<Integer>[] valueOfProperty;
-    private ParsedObject<LocalDate>[] dateRecovered;
-    private ParsedObject<Integer> numberOfStolenMotorVehicles;
-    private ParsedObject<Integer> numberOfRecoveredMotorVehicles;
+    private ParsedInt[] valueOfProperty;
+    private ParsedDate[] dateRecovered;
+    private ParsedInt numberOfStolenMotorVehicles;
+    private ParsedInt numberOfRecoveredMotorVehicles;
     private String[] suspectedDrugType;
-    private ParsedObject<Double>[] estimatedDrugQuantity;
+    private ParsedDouble[] estimatedDrugQuantity;
     private String[] typeDrugMeasurement;
 
 	private int populatedPropertyDescriptionCount;
@@ -65,15 +70,15 @@ public class PropertySegment extends AbstractSegment
     public PropertySegment()
     {
     	super();
-        propertyDescription = new String[PROPERTY_DESCRIPTION_COUNT];
-		valueOfProperty = ParsedObject.initializeParsedObjectArray(VALUE_OF_PROPERTY_COUNT);
-        dateRecovered = ParsedObject.initializeParsedObjectArray(DATE_RECOVERED_COUNT);
-        suspectedDrugType = new String[SUSPECTED_DRUG_TYPE_COUNT];
-        estimatedDrugQuantity = ParsedObject.initializeParsedObjectArray(SUSPECTED_DRUG_TYPE_COUNT);
-        typeDrugMeasurement = new String[SUSPECTED_DRUG_TYPE_COUNT];
+        propertyDescription = SparseArrays.EMPTY_STRINGS;
+		valueOfProperty = SparseArrays.EMPTY_PARSED_INTS;
+        dateRecovered = SparseArrays.EMPTY_PARSED_DATES;
+        suspectedDrugType = SparseArrays.EMPTY_STRINGS;
+        estimatedDrugQuantity = SparseArrays.EMPTY_PARSED_DOUBLES;
+        typeDrugMeasurement = SparseArrays.EMPTY_STRINGS;
         segmentType = PROPERTY_SEGMENT_TYPE_IDENTIFIER;
-        numberOfStolenMotorVehicles = new ParsedObject<Integer>();
-        numberOfRecoveredMotorVehicles = new ParsedObject<Integer>();
+        numberOfStolenMotorVehicles = new ParsedInt();
+        numberOfRecoveredMotorVehicles = new ParsedInt();
     }
 
     public PropertySegment(PropertySegment p) {
@@ -83,12 +88,12 @@ public class PropertySegment extends AbstractSegment
     	numberOfStolenMotorVehicles = p.numberOfStolenMotorVehicles;
     	populatedPropertyDescriptionCount = p.populatedPropertyDescriptionCount;
     	populatedSuspectedDrugTypeCount = p.populatedSuspectedDrugTypeCount;
-    	propertyDescription = CopyUtils.copyArray(p.propertyDescription);
-    	valueOfProperty = CopyUtils.copyArray(p.valueOfProperty);
-    	dateRecovered = CopyUtils.copyArray(p.dateRecovered);
-    	suspectedDrugType = CopyUtils.copyArray(p.suspectedDrugType);
-    	estimatedDrugQuantity = CopyUtils.copyArray(p.estimatedDrugQuantity);
-    	typeDrugMeasurement = CopyUtils.copyArray(p.typeDrugMeasurement);
+    	propertyDescription = SparseArrays.copy(p.propertyDescription);
+    	valueOfProperty = SparseArrays.copy(p.valueOfProperty);
+    	dateRecovered = SparseArrays.copy(p.dateRecovered);
+    	suspectedDrugType = SparseArrays.copy(p.suspectedDrugType);
+    	estimatedDrugQuantity = SparseArrays.copy(p.estimatedDrugQuantity);
+    	typeDrugMeasurement = SparseArrays.copy(p.typeDrugMeasurement);
         segmentType = PROPERTY_SEGMENT_TYPE_IDENTIFIER;
     }
     
@@ -97,21 +102,31 @@ public class PropertySegment extends AbstractSegment
     }
     
 	public ParsedObject<Integer>[] getValueOfProperty() {
-		return valueOfProperty;
+		return SparseArrays.asParsedObjects(valueOfProperty, VALUE_OF_PROPERTY_COUNT);
 	}
 	
     public ParsedObject<Double>[] getEstimatedDrugQuantity() {
-		return estimatedDrugQuantity;
+		return SparseArrays.asParsedObjects(estimatedDrugQuantity, SUSPECTED_DRUG_TYPE_COUNT);
 	}
 
 	public ParsedObject<LocalDate>[] getDateRecovered() {
-		return dateRecovered;
+		return SparseArrays.asParsedObjects(dateRecovered, DATE_RECOVERED_COUNT);
 	}
 
+	/**
+	 * Get the full-size array of type drug measurement values.  The segment holds on to the full-size array from then on, so prefer
+	 * {@link #getTypeDrugMeasurement(int)} where possible.
+	 */
 	public String[] getTypeDrugMeasurement() {
+		typeDrugMeasurement = SparseArrays.full(typeDrugMeasurement, SUSPECTED_DRUG_TYPE_COUNT);
 		return typeDrugMeasurement;
 	}
+	/**
+	 * Get the full-size array of property description values.  The segment holds on to the full-size array from then on, so prefer
+	 * {@link #getPropertyDescription(int)} where possible.
+	 */
 	public String[] getPropertyDescription() {
+		propertyDescription = SparseArrays.full(propertyDescription, PROPERTY_DESCRIPTION_COUNT);
 		return propertyDescription;
 	}
 	
@@ -134,7 +149,12 @@ public class PropertySegment extends AbstractSegment
 				.findFirst();
 	}
 
+	/**
+	 * Get the full-size array of suspected drug type values.  The segment holds on to the full-size array from then on, so prefer
+	 * {@link #getSuspectedDrugType(int)} where possible.
+	 */
 	public String[] getSuspectedDrugType() {
+		suspectedDrugType = SparseArrays.full(suspectedDrugType, SUSPECTED_DRUG_TYPE_COUNT);
 		return suspectedDrugType;
 	}
 
@@ -146,84 +166,164 @@ public class PropertySegment extends AbstractSegment
     	return populatedPropertyDescriptionCount;
     }
     
+    /**
+     * Get the holder of the estimated drug quantity at the specified position, without creating the ParsedObject view returned by
+     * {@link #getEstimatedDrugQuantity(int)}.  If nothing has been set at the position, a new (missing) holder is returned, which the segment does not keep;
+     * use {@link #setParsedEstimatedDrugQuantity(int, ParsedDouble)} to set one.
+     */
+    public ParsedDouble getParsedEstimatedDrugQuantity(int position)
+    {
+        ParsedDouble ret = SparseArrays.get(estimatedDrugQuantity, SUSPECTED_DRUG_TYPE_COUNT, position);
+        return ret == null ? new ParsedDouble() : ret;
+    }
+    
+    public void setParsedEstimatedDrugQuantity(int position, ParsedDouble value)
+    {
+        estimatedDrugQuantity = SparseArrays.set(estimatedDrugQuantity, SUSPECTED_DRUG_TYPE_COUNT, position, value);
+    }
+    
     public ParsedObject<Double> getEstimatedDrugQuantity(int position)
     {
-        return estimatedDrugQuantity[position];
+        ParsedDouble ret = SparseArrays.get(estimatedDrugQuantity, SUSPECTED_DRUG_TYPE_COUNT, position);
+        if (ret == null) {
+            ret = new ParsedDouble();
+            setParsedEstimatedDrugQuantity(position, ret);
+        }
+        return ret.asParsedObject();
     }
     
     public void setEstimatedDrugQuantity(int position, ParsedObject<Double> value)
     {
-        estimatedDrugQuantity[position] = value;
+        setParsedEstimatedDrugQuantity(position, value == null ? null : ParsedDouble.of(value));
     }
 
     public String getTypeDrugMeasurement(int position)
     {
-        return typeDrugMeasurement[position];
+        return SparseArrays.get(typeDrugMeasurement, SUSPECTED_DRUG_TYPE_COUNT, position);
     }
     
     public void setTypeDrugMeasurement(int position, String value)
     {
-        typeDrugMeasurement[position] = value;
+        typeDrugMeasurement = SparseArrays.set(typeDrugMeasurement, SUSPECTED_DRUG_TYPE_COUNT, position, value);
     }
 
     public String getSuspectedDrugType(int position)
     {
-        return suspectedDrugType[position];
+        return SparseArrays.get(suspectedDrugType, SUSPECTED_DRUG_TYPE_COUNT, position);
     }
     
     public void setSuspectedDrugType(int position, String value)
     {
-        suspectedDrugType[position] = value;
+        suspectedDrugType = SparseArrays.set(suspectedDrugType, SUSPECTED_DRUG_TYPE_COUNT, position, value);
         populatedSuspectedDrugTypeCount = Math.max(populatedSuspectedDrugTypeCount, position+1);
     }
 
+    /**
+     * Get the holder of the date recovered at the specified position, without creating the ParsedObject view returned by
+     * {@link #getDateRecovered(int)}.  If nothing has been set at the position, a new (missing) holder is returned, which the segment does not keep;
+     * use {@link #setParsedDateRecovered(int, ParsedDate)} to set one.
+     */
+    public ParsedDate getParsedDateRecovered(int position)
+    {
+        ParsedDate ret = SparseArrays.get(dateRecovered, DATE_RECOVERED_COUNT, position);
+        return ret == null ? new ParsedDate() : ret;
+    }
+    
+    public void setParsedDateRecovered(int position, ParsedDate value)
+    {
+        dateRecovered = SparseArrays.set(dateRecovered, DATE_RECOVERED_COUNT, position, value);
+    }
+    
     public ParsedObject<LocalDate> getDateRecovered(int position)
     {
-        return dateRecovered[position];
+        ParsedDate ret = SparseArrays.get(dateRecovered, DATE_RECOVERED_COUNT, position);
+        if (ret == null) {
+            ret = new ParsedDate();
+            setParsedDateRecovered(position, ret);
+        }
+        return ret.asParsedObject();
     }
     
     public void setDateRecovered(int position, ParsedObject<LocalDate> value)
     {
-        dateRecovered[position] = value;
+        setParsedDateRecovered(position, value == null ? null : ParsedDate.of(value));
     }
 
+    /**
+     * Get the holder of the value of property at the specified position, without creating the ParsedObject view returned by
+     * {@link #getValueOfProperty(int)}.  If nothing has been set at the position, a new (missing) holder is returned, which the segment does not keep;
+     * use {@link #setParsedValueOfProperty(int, ParsedInt)} to set one.
+     */
+    public ParsedInt getParsedValueOfProperty(int position)
+    {
+        ParsedInt ret = SparseArrays.get(valueOfProperty, VALUE_OF_PROPERTY_COUNT, position);
+        return ret == null ? new ParsedInt() : ret;
+    }
+    
+    public void setParsedValueOfProperty(int position, ParsedInt value)
+    {
+        valueOfProperty = SparseArrays.set(valueOfProperty, VALUE_OF_PROPERTY_COUNT, position, value);
+    }
+    
     public ParsedObject<Integer> getValueOfProperty(int position)
     {
-        return valueOfProperty[position];
+        ParsedInt ret = SparseArrays.get(valueOfProperty, VALUE_OF_PROPERTY_COUNT, position);
+        if (ret == null) {
+            ret = new ParsedInt();
+            setParsedValueOfProperty(position, ret);
+        }
+        return ret.asParsedObject();
     }
     
     public void setValueOfProperty(int position, ParsedObject<Integer> value)
     {
-        valueOfProperty[position] = value;
+        setParsedValueOfProperty(position, value == null ? null : ParsedInt.of(value));
     }
 
     public String getPropertyDescription(int position)
     {
-        return propertyDescription[position];
+        return SparseArrays.get(propertyDescription, PROPERTY_DESCRIPTION_COUNT, position);
     }
     
     public void setPropertyDescription(int position, String value)
     {
-        propertyDescription[position] = value;
+        propertyDescription = SparseArrays.set(propertyDescription, PROPERTY_DESCRIPTION_COUNT, position, value);
         populatedPropertyDescriptionCount = Math.max(populatedPropertyDescriptionCount, position+1);
     }
 
-    public ParsedObject<Integer> getNumberOfRecoveredMotorVehicles()
+    /**
+     * Get the holder of the number of recovered motor vehicles, without creating the ParsedObject view returned by {@link #getNumberOfRecoveredMotorVehicles()}.
+     */
+    @JsonIgnore
+    public ParsedInt getParsedNumberOfRecoveredMotorVehicles()
     {
         return numberOfRecoveredMotorVehicles;
     }
+
+    public ParsedObject<Integer> getNumberOfRecoveredMotorVehicles()
+    {
+        return numberOfRecoveredMotorVehicles == null ? null : numberOfRecoveredMotorVehicles.asParsedObject();
+    }
     
     public void setNumberOfRecoveredMotorVehicles(ParsedObject<Integer> numberOfRecoveredMotorVehicles)
     {
-    	this.numberOfRecoveredMotorVehicles = numberOfRecoveredMotorVehicles;
+    	this.numberOfRecoveredMotorVehicles = numberOfRecoveredMotorVehicles == null ? null : ParsedInt.of(numberOfRecoveredMotorVehicles);
     }
-    public ParsedObject<Integer> getNumberOfStolenMotorVehicles()
+    /**
+     * Get the holder of the number of stolen motor vehicles, without creating the ParsedObject view returned by {@link #getNumberOfStolenMotorVehicles()}.
+     */
+    @JsonIgnore
+    public ParsedInt getParsedNumberOfStolenMotorVehicles()
     {
         return numberOfStolenMotorVehicles;
     }
+    public ParsedObject<Integer> getNumberOfStolenMotorVehicles()
+    {
+        return numberOfStolenMotorVehicles == null ? null : numberOfStolenMotorVehicles.asParsedObject();
+    }
     public void setNumberOfStolenMotorVehicles(ParsedObject<Integer> numberOfStolenMotorVehicles)
     {
-        this.numberOfStolenMotorVehicles = numberOfStolenMotorVehicles;
+        this.numberOfStolenMotorVehicles = numberOfStolenMotorVehicles == null ? null : ParsedInt.of(numberOfStolenMotorVehicles);
     }
     
     public String getTypeOfPropertyLoss()
@@ -233,6 +333,7 @@ public class PropertySegment extends AbstractSegment
     public void setTypeOfPropertyLoss(String typeOfPropertyLoss)
     {
         this.typeOfPropertyLoss = typeOfPropertyLoss;
+        invalidateParentIndex();
     }
     
     public boolean isLossTypeRecovered()
@@ -260,10 +361,10 @@ public class PropertySegment extends AbstractSegment
     
 	@Override
 	public String toString() {
-		return "PropertySegment [typeOfPropertyLoss=" + typeOfPropertyLoss + ", propertyDescription=" + Arrays.toString(propertyDescription) + ", valueOfProperty=" + Arrays.toString(valueOfProperty)
-				+ ", dateRecovered=" + Arrays.toString(dateRecovered) + ", numberOfStolenMotorVehicles=" + numberOfStolenMotorVehicles + ", numberOfRecoveredMotorVehicles="
-				+ numberOfRecoveredMotorVehicles + ", suspectedDrugType=" + Arrays.toString(suspectedDrugType) + ", estimatedDrugQuantity=" + Arrays.toString(estimatedDrugQuantity)
-				+ ", typeDrugMeasurement=" + Arrays.toString(typeDrugMeasurement) + ", populatedPropertyDescriptionCount=" + populatedPropertyDescriptionCount + ", populatedSuspectedDrugTypeCount="
+		return "PropertySegment [typeOfPropertyLoss=" + typeOfPropertyLoss + ", propertyDescription=" + SparseArrays.toString(propertyDescription, PROPERTY_DESCRIPTION_COUNT) + ", valueOfProperty=" + SparseArrays.toString(valueOfProperty, VALUE_OF_PROPERTY_COUNT)
+				+ ", dateRecovered=" + SparseArrays.toString(dateRecovered, DATE_RECOVERED_COUNT) + ", numberOfStolenMotorVehicles=" + numberOfStolenMotorVehicles + ", numberOfRecoveredMotorVehicles="
+				+ numberOfRecoveredMotorVehicles + ", suspectedDrugType=" + SparseArrays.toString(suspectedDrugType, SUSPECTED_DRUG_TYPE_COUNT) + ", estimatedDrugQuantity=" + SparseArrays.toString(estimatedDrugQuantity, SUSPECTED_DRUG_TYPE_COUNT)
+				+ ", typeDrugMeasurement=" + SparseArrays.toString(typeDrugMeasurement, SUSPECTED_DRUG_TYPE_COUNT) + ", populatedPropertyDescriptionCount=" + populatedPropertyDescriptionCount + ", populatedSuspectedDrugTypeCount="
 				+ populatedSuspectedDrugTypeCount + "]";
 	}
     
@@ -271,17 +372,17 @@ public class PropertySegment extends AbstractSegment
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + Arrays.hashCode(dateRecovered);
-		result = prime * result + Arrays.hashCode(estimatedDrugQuantity);
+		result = prime * result + SparseArrays.hashCode(dateRecovered, DATE_RECOVERED_COUNT);
+		result = prime * result + SparseArrays.hashCode(estimatedDrugQuantity, SUSPECTED_DRUG_TYPE_COUNT);
 		result = prime * result + ((numberOfRecoveredMotorVehicles == null) ? 0 : numberOfRecoveredMotorVehicles.hashCode());
 		result = prime * result + ((numberOfStolenMotorVehicles == null) ? 0 : numberOfStolenMotorVehicles.hashCode());
 		result = prime * result + populatedPropertyDescriptionCount;
 		result = prime * result + populatedSuspectedDrugTypeCount;
-		result = prime * result + Arrays.hashCode(propertyDescription);
-		result = prime * result + Arrays.hashCode(suspectedDrugType);
-		result = prime * result + Arrays.hashCode(typeDrugMeasurement);
+		result = prime * result + SparseArrays.hashCode(propertyDescription, PROPERTY_DESCRIPTION_COUNT);
+		result = prime * result + SparseArrays.hashCode(suspectedDrugType, SUSPECTED_DRUG_TYPE_COUNT);
+		result = prime * result + SparseArrays.hashCode(typeDrugMeasurement, SUSPECTED_DRUG_TYPE_COUNT);
 		result = prime * result + ((typeOfPropertyLoss == null) ? 0 : typeOfPropertyLoss.hashCode());
-		result = prime * result + Arrays.hashCode(valueOfProperty);
+		result = prime * result + SparseArrays.hashCode(valueOfProperty, VALUE_OF_PROPERTY_COUNT);
 		return result;
 	}
 
@@ -299,7 +400,7 @@ public class PropertySegment extends AbstractSegment
 		Map<String, Integer> descriptionValueMap = new HashMap<String, Integer>();
 		for (int i=0; i<PROPERTY_DESCRIPTION_COUNT; i++ ){
 			if (StringUtils.isNotBlank(this.getPropertyDescription(i))){
-				descriptionValueMap.put(StringUtils.trim(this.getPropertyDescription(i)), this.getValueOfProperty(i).getValue());
+				descriptionValueMap.put(StringUtils.trim(this.getPropertyDescription(i)), this.getParsedValueOfProperty(i).getValue());
 			}
 		}
 		
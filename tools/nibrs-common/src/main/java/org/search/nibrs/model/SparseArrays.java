@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.search.nibrs.common.ParsedDate;
+import org.search.nibrs.common.ParsedDouble;
+import org.search.nibrs.common.ParsedInt;
+import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.common.ParsedPrimitive;
+
+/**
+ * Utilities for the repeating data elements of segments (e.g., the ten offense connections of a victim), which are stored as arrays that
+ * start out empty and grow only as far as the highest position actually set.  Since real segments rarely use more than one or two
+ * positions, this saves allocating (and holding on to) mostly-empty arrays for every segment.  A position beyond the end of an array
+ * reads as null; positions beyond the element's capacity (the number of repetitions NIBRS allows) are out of bounds, as they were with
+ * the full-size arrays.
+ */
+final class SparseArrays {
+	
+	static final String[] EMPTY_STRINGS = new String[0];
+	static final ParsedInt[] EMPTY_PARSED_INTS = new ParsedInt[0];
+	static final ParsedDate[] EMPTY_PARSED_DATES = new ParsedDate[0];
+	static final ParsedDouble[] EMPTY_PARSED_DOUBLES = new ParsedDouble[0];
+	
+	private SparseArrays() {
+	}
+	
+	public static final <T> T get(T[] array, int capacity, int position) {
+		checkPosition(array, capacity, position);
+		return position < array.length ? array[position] : null;
+	}
+	
+	/**
+	 * Set the value at the specified position, growing the array if needed.  Setting null beyond the end of the array does not grow it.
+	 * @return the array, which is a new array if it had to grow
+	 */
+	public static final <T> T[] set(T[] array, int capacity, int position, T value) {
+		checkPosition(array, capacity, position);
+		T[] ret = array;
+		if (position >= ret.length) {
+			if (value == null) {
+				return ret;
+			}
+			ret = Arrays.copyOf(ret, position + 1);
+		}
+		ret[position] = value;
+		return ret;
+	}
+	
+	/**
+	 * Get an array of at least the full capacity, with the same values.
+	 * @return the array itself, if it is already full size, or else a new array
+	 */
+	public static final <T> T[] full(T[] array, int capacity) {
+		return array.length >= capacity ? array : Arrays.copyOf(array, capacity);
+	}
+	
+	/**
+	 * Get an unmodifiable list view of the array, padded with nulls to the full capacity.
+	 */
+	public static final <T> List<T> asList(T[] array, int capacity) {
+		int size = Math.max(array.length, capacity);
+		return new AbstractList<T>() {
+			@Override
+			public T get(int index) {
+				if (index >= size) {
+					throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+				}
+				return index < array.length ? array[index] : null;
+			}
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+	
+	/**
+	 * Get ParsedObject views of the holders in the array (see {@link ParsedPrimitive#asParsedObject()}), padded to the full capacity.  Positions
+	 * with no holder are returned as new, missing ParsedObjects.
+	 */
+	public static final <T> ParsedObject<T>[] asParsedObjects(ParsedPrimitive<T>[] holders, int capacity) {
+		@SuppressWarnings("unchecked")
+		ParsedObject<T>[] ret = (ParsedObject<T>[]) new ParsedObject<?>[Math.max(holders.length, capacity)];
+		for (int i = 0; i < ret.length; i++) {
+			ret[i] = i < holders.length && holders[i] != null ? holders[i].asParsedObject() : new ParsedObject<T>();
+		}
+		return ret;
+	}
+	
+	/**
+	 * Copy the array (the elements themselves are not copied).  An empty array is returned as is.
+	 */
+	public static final <T> T[] copy(T[] array) {
+		return array == null || array.length == 0 ? array : Arrays.copyOf(array, array.length);
+	}
+	
+	/**
+	 * Hash the array as Arrays.hashCode would hash it once padded to the full capacity, so that the hash does not depend on how far the array has grown.
+	 */
+	public static final int hashCode(Object[] array, int capacity) {
+		int result = 1;
+		for (int i = 0; i < Math.max(array.length, capacity); i++) {
+			Object o = i < array.length ? array[i] : null;
+			result = 31 * result + (o == null ? 0 : o.hashCode());
+		}
+		return result;
+	}
+	
+	/**
+	 * Format the array as Arrays.toString would format it once padded to the full capacity.
+	 */
+	public static final String toString(Object[] array, int capacity) {
+		return asList(array, capacity).toString();
+	}
+	
+	private static void checkPosition(Object[] array, int capacity, int position) {
+		if (position < 0 || position >= Math.max(array.length, capacity)) {
+			throw new ArrayIndexOutOfBoundsException(position);
+		}
+	}
+	
+}
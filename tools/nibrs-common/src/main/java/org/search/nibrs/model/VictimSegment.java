@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model;
 
-import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -24,6 +23,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.common.ParsedObject;
 import org.search.nibrs.model.codes.OffenseCode;
 import org.search.nibrs.model.codes.TypeOfVictimCode;
@@ -43,14 +43,14 @@ public class VictimSegment extends AbstractPersonSegment {
 	public static final int TYPE_OF_INJURY_COUNT = 5;
 	public static final int OFFENDER_NUMBER_RELATED_COUNT = 10;
 
-	private ParsedObject<Integer> victimSequenceNumber;
+	private ParsedInt victimSequenceNumber;
 	private String[] ucrOffenseCodeConnection;
 	private String typeOfVictim;
 	private String residentStatus;
 	private String[] aggravatedAssaultHomicideCircumstances;
 	private String additionalJustifiableHomicideCircumstances;
 	private String[] typeOfInjury;
-	private ParsedObject<Integer>[] offenderNumberRelated;
+	private ParsedInt[] offenderNumberRelated;
 	private String[] victimOffenderRelationship;
 	private String typeOfOfficerActivityCircumstance;
 	private String officerAssignmentType;
@@ -62,7 +62,7 @@ public class VictimSegment extends AbstractPersonSegment {
 
 	public VictimSegment() {
 		super();
-		victimSequenceNumber = new ParsedObject<>();
+		victimSequenceNumber = new ParsedInt();
 		initUcrOffenseCodeConnection();
 		initAggravatedAssaultHomicideCircumstances();
 		initTypeOfInjury();
@@ -84,11 +84,11 @@ public class VictimSegment extends AbstractPersonSegment {
 		populatedTypeOfInjuryCount = v.populatedTypeOfInjuryCount;
 		populatedUcrOffenseCodeConnectionCount = v.populatedUcrOffenseCodeConnectionCount;
 		populatedOffenderNumberRelatedCount = v.populatedOffenderNumberRelatedCount;
-		ucrOffenseCodeConnection = CopyUtils.copyArray(v.ucrOffenseCodeConnection);
-		aggravatedAssaultHomicideCircumstances = CopyUtils.copyArray(v.aggravatedAssaultHomicideCircumstances);
-		typeOfInjury = CopyUtils.copyArray(v.typeOfInjury);
-		offenderNumberRelated = CopyUtils.copyArray(v.offenderNumberRelated);
-		victimOffenderRelationship = CopyUtils.copyArray(v.victimOffenderRelationship);
+		ucrOffenseCodeConnection = SparseArrays.copy(v.ucrOffenseCodeConnection);
+		aggravatedAssaultHomicideCircumstances = SparseArrays.copy(v.aggravatedAssaultHomicideCircumstances);
+		typeOfInjury = SparseArrays.copy(v.typeOfInjury);
+		offenderNumberRelated = SparseArrays.copy(v.offenderNumberRelated);
+		victimOffenderRelationship = SparseArrays.copy(v.victimOffenderRelationship);
 		segmentType = VICTIM_SEGMENT_TYPE_IDENTIFIER;
 	}
 
@@ -117,29 +117,60 @@ public class VictimSegment extends AbstractPersonSegment {
 	}
 
 	public String getVictimOffenderRelationship(int position) {
-		return victimOffenderRelationship[position];
+		return SparseArrays.get(victimOffenderRelationship, OFFENDER_NUMBER_RELATED_COUNT, position);
 	}
 
 	@JsonIgnore
 	public List<String> getVictimOffenderRelationshipList() {
-		return Collections.unmodifiableList(Arrays.asList(victimOffenderRelationship));
+		return SparseArrays.asList(victimOffenderRelationship, OFFENDER_NUMBER_RELATED_COUNT);
 	}
 
 	public void setVictimOffenderRelationship(int position, String value) {
-		victimOffenderRelationship[position] = value;
+		victimOffenderRelationship = SparseArrays.set(victimOffenderRelationship, OFFENDER_NUMBER_RELATED_COUNT, position, value);
+	}
+
+	/**
+	 * Get the holder of the offender number related at the specified position, without creating the ParsedObject view returned by
+	 * {@link #getOffenderNumberRelated(int)}.  If nothing has been set at the position, a new (missing) holder is returned, which the
+	 * segment does not keep; use {@link #setParsedOffenderNumberRelated(int, ParsedInt)} to set one.
+	 */
+	public ParsedInt getParsedOffenderNumberRelated(int position) {
+		ParsedInt ret = SparseArrays.get(offenderNumberRelated, OFFENDER_NUMBER_RELATED_COUNT, position);
+		return ret == null ? new ParsedInt() : ret;
+	}
+
+	/**
+	 * Set the holder of the offender number related at the specified position.  Unlike {@link #setOffenderNumberRelated(int, ParsedObject)},
+	 * this does not change the populated count.
+	 */
+	public void setParsedOffenderNumberRelated(int position, ParsedInt value) {
+		offenderNumberRelated = SparseArrays.set(offenderNumberRelated, OFFENDER_NUMBER_RELATED_COUNT, position, value);
+		invalidateParentIndex();
 	}
 
 	public ParsedObject<Integer> getOffenderNumberRelated(int position) {
-		return offenderNumberRelated[position];
+		ParsedInt ret = SparseArrays.get(offenderNumberRelated, OFFENDER_NUMBER_RELATED_COUNT, position);
+		if (ret == null) {
+			ret = new ParsedInt();
+			setParsedOffenderNumberRelated(position, ret);
+		}
+		return ret.asParsedObject();
 	}
 
 	@JsonIgnore
 	public List<ParsedObject<Integer>> getOffenderNumberRelatedList() {
-		return Collections.unmodifiableList(Arrays.asList(offenderNumberRelated));
+		return Collections.unmodifiableList(Arrays.asList(getOffenderNumberRelated()));
 	}
 
 	public void setOffenderNumberRelated(int position, ParsedObject<Integer> value) {
-		offenderNumberRelated[position] = value;
+		setParsedOffenderNumberRelated(position, value == null ? null : ParsedInt.of(value));
+		populatedOffenderNumberRelatedCount = Math.max(populatedOffenderNumberRelatedCount, position + 1);
+	}
+
+	/**
+	 * Record that the offender number related at the specified position has been populated through {@link #setParsedOffenderNumberRelated(int, ParsedInt)}.
+	 */
+	public void markOffenderNumberRelatedPopulated(int position) {
 		populatedOffenderNumberRelatedCount = Math.max(populatedOffenderNumberRelatedCount, position + 1);
 	}
 
@@ -152,21 +183,21 @@ public class VictimSegment extends AbstractPersonSegment {
 	}
 
 	public String getTypeOfInjury(int position) {
-		return typeOfInjury[position];
+		return SparseArrays.get(typeOfInjury, TYPE_OF_INJURY_COUNT, position);
 	}
 
 	@JsonIgnore
 	public List<String> getTypeOfInjuryList() {
-		return Collections.unmodifiableList(Arrays.asList(typeOfInjury));
+		return SparseArrays.asList(typeOfInjury, TYPE_OF_INJURY_COUNT);
 	}
 
 	public void setTypeOfInjury(int position, String value) {
-		typeOfInjury[position] = value;
+		typeOfInjury = SparseArrays.set(typeOfInjury, TYPE_OF_INJURY_COUNT, position, value);
 		populatedTypeOfInjuryCount = Math.max(populatedTypeOfInjuryCount, position + 1);
 	}
 
 	public String getAggravatedAssaultHomicideCircumstances(int position) {
-		return aggravatedAssaultHomicideCircumstances[position];
+		return SparseArrays.get(aggravatedAssaultHomicideCircumstances, AGGRAVATED_ASSAULT_HOMICIDE_CIRCUMSTANCES_COUNT, position);
 	}
 
 	@JsonIgnore
@@ -176,7 +207,7 @@ public class VictimSegment extends AbstractPersonSegment {
 
 		for (int i = 0; i < populatedAggravatedAssaultHomicideCircumstancesCount; i++) {
 
-			String aggAssaultCirc = aggravatedAssaultHomicideCircumstances[i];
+			String aggAssaultCirc = getAggravatedAssaultHomicideCircumstances(i);
 
 			aggravatedAssaultHomicideCircumstancesList.add(aggAssaultCirc);
 		}
@@ -184,7 +215,7 @@ public class VictimSegment extends AbstractPersonSegment {
 	}
 
 	public void setAggravatedAssaultHomicideCircumstances(int position, String value) {
-		aggravatedAssaultHomicideCircumstances[position] = value;
+		aggravatedAssaultHomicideCircumstances = SparseArrays.set(aggravatedAssaultHomicideCircumstances, AGGRAVATED_ASSAULT_HOMICIDE_CIRCUMSTANCES_COUNT, position, value);
 		populatedAggravatedAssaultHomicideCircumstancesCount = Math.max(populatedAggravatedAssaultHomicideCircumstancesCount, position + 1);
 	}
 
@@ -197,17 +228,18 @@ public class VictimSegment extends AbstractPersonSegment {
 	}
 
 	public String getUcrOffenseCodeConnection(int position) {
-		return ucrOffenseCodeConnection[position];
+		return SparseArrays.get(ucrOffenseCodeConnection, UCR_OFFENSE_CODE_CONNECTION_COUNT, position);
 	}
 
 	@JsonIgnore
 	public List<String> getUcrOffenseCodeList() {
-		return Collections.unmodifiableList(Arrays.asList(ucrOffenseCodeConnection));
+		return SparseArrays.asList(ucrOffenseCodeConnection, UCR_OFFENSE_CODE_CONNECTION_COUNT);
 	}
 
 	public void setUcrOffenseCodeConnection(int position, String value) {
-		ucrOffenseCodeConnection[position] = value;
+		ucrOffenseCodeConnection = SparseArrays.set(ucrOffenseCodeConnection, UCR_OFFENSE_CODE_CONNECTION_COUNT, position, value);
 		populatedUcrOffenseCodeConnectionCount = Math.max(populatedUcrOffenseCodeConnectionCount, position + 1);
+		invalidateParentIndex();
 	}
 
 	public String getAdditionalJustifiableHomicideCircumstances() {
@@ -234,12 +266,20 @@ public class VictimSegment extends AbstractPersonSegment {
 		this.typeOfVictim = typeOfVictim;
 	}
 
-	public ParsedObject<Integer> getVictimSequenceNumber() {
+	/**
+	 * Get the holder of the victim sequence number, without creating the ParsedObject view returned by {@link #getVictimSequenceNumber()}.
+	 */
+	@JsonIgnore
+	public ParsedInt getParsedVictimSequenceNumber() {
 		return victimSequenceNumber;
 	}
 
+	public ParsedObject<Integer> getVictimSequenceNumber() {
+		return victimSequenceNumber == null ? null : victimSequenceNumber.asParsedObject();
+	}
+
 	public void setVictimSequenceNumber(ParsedObject<Integer> victimSequenceNumber) {
-		this.victimSequenceNumber = victimSequenceNumber;
+		this.victimSequenceNumber = victimSequenceNumber == null ? null : ParsedInt.of(victimSequenceNumber);
 	}
 
 	@Override
@@ -251,7 +291,12 @@ public class VictimSegment extends AbstractPersonSegment {
 		return "L".equals(typeOfVictim);
 	}
 
+	/**
+	 * Get the full-size array of UCR offense code connection values.  The segment holds on to the full-size array from then on, so prefer
+	 * {@link #getUcrOffenseCodeConnection(int)} where possible.
+	 */
 	public String[] getUcrOffenseCodeConnection() {
+		ucrOffenseCodeConnection = SparseArrays.full(ucrOffenseCodeConnection, UCR_OFFENSE_CODE_CONNECTION_COUNT);
 		return ucrOffenseCodeConnection;
 	}
 
@@ -261,9 +306,15 @@ public class VictimSegment extends AbstractPersonSegment {
 		} else {
 			this.ucrOffenseCodeConnection = ucrOffenseCodeConnection;
 		}
+		invalidateParentIndex();
 	}
 
+	/**
+	 * Get the full-size array of aggravated assault homicide circumstances values.  The segment holds on to the full-size array from then on, so prefer
+	 * {@link #getAggravatedAssaultHomicideCircumstances(int)} where possible.
+	 */
 	public String[] getAggravatedAssaultHomicideCircumstances() {
+		aggravatedAssaultHomicideCircumstances = SparseArrays.full(aggravatedAssaultHomicideCircumstances, AGGRAVATED_ASSAULT_HOMICIDE_CIRCUMSTANCES_COUNT);
 		return aggravatedAssaultHomicideCircumstances;
 	}
 
@@ -276,18 +327,27 @@ public class VictimSegment extends AbstractPersonSegment {
 	}
 
 	public ParsedObject<Integer>[] getOffenderNumberRelated() {
-		return offenderNumberRelated;
+		return SparseArrays.asParsedObjects(offenderNumberRelated, OFFENDER_NUMBER_RELATED_COUNT);
 	}
 
 	public void setOffenderNumberRelated(ParsedObject<Integer>[] offenderNumberRelated) {
 		if (offenderNumberRelated == null) {
 			initOffenderNumberRelated();
 		} else {
-			this.offenderNumberRelated = offenderNumberRelated;
+			this.offenderNumberRelated = new ParsedInt[offenderNumberRelated.length];
+			for (int i = 0; i < offenderNumberRelated.length; i++) {
+				this.offenderNumberRelated[i] = offenderNumberRelated[i] == null ? null : ParsedInt.of(offenderNumberRelated[i]);
+			}
 		}
+		invalidateParentIndex();
 	}
 
+	/**
+	 * Get the full-size array of type of injury values.  The segment holds on to the full-size array from then on, so prefer
+	 * {@link #getTypeOfInjury(int)} where possible.
+	 */
 	public String[] getTypeOfInjury() {
+		typeOfInjury = SparseArrays.full(typeOfInjury, TYPE_OF_INJURY_COUNT);
 		return typeOfInjury;
 	}
 
@@ -299,7 +359,12 @@ public class VictimSegment extends AbstractPersonSegment {
 		}
 	}
 
+	/**
+	 * Get the full-size array of victim offender relationship values.  The segment holds on to the full-size array from then on, so prefer
+	 * {@link #getVictimOffenderRelationship(int)} where possible.
+	 */
 	public String[] getVictimOffenderRelationship() {
+		victimOffenderRelationship = SparseArrays.full(victimOffenderRelationship, OFFENDER_NUMBER_RELATED_COUNT);
 		return victimOffenderRelationship;
 	}
 
@@ -316,8 +381,8 @@ public class VictimSegment extends AbstractPersonSegment {
 		final int prime = 31;
 		int result = super.hashCode();
 		result = prime * result + ((additionalJustifiableHomicideCircumstances == null) ? 0 : additionalJustifiableHomicideCircumstances.hashCode());
-		result = prime * result + Arrays.hashCode(aggravatedAssaultHomicideCircumstances);
-		result = prime * result + Arrays.hashCode(offenderNumberRelated);
+		result = prime * result + SparseArrays.hashCode(aggravatedAssaultHomicideCircumstances, AGGRAVATED_ASSAULT_HOMICIDE_CIRCUMSTANCES_COUNT);
+		result = prime * result + SparseArrays.hashCode(offenderNumberRelated, OFFENDER_NUMBER_RELATED_COUNT);
 		result = prime * result + ((officerAssignmentType == null) ? 0 : officerAssignmentType.hashCode());
 		result = prime * result + ((officerOtherJurisdictionORI == null) ? 0 : officerOtherJurisdictionORI.hashCode());
 		result = prime * result + populatedAggravatedAssaultHomicideCircumstancesCount;
@@ -325,11 +390,11 @@ public class VictimSegment extends AbstractPersonSegment {
 		result = prime * result + populatedTypeOfInjuryCount;
 		result = prime * result + populatedUcrOffenseCodeConnectionCount;
 		result = prime * result + ((residentStatus == null) ? 0 : residentStatus.hashCode());
-		result = prime * result + Arrays.hashCode(typeOfInjury);
+		result = prime * result + SparseArrays.hashCode(typeOfInjury, TYPE_OF_INJURY_COUNT);
 		result = prime * result + ((typeOfOfficerActivityCircumstance == null) ? 0 : typeOfOfficerActivityCircumstance.hashCode());
 		result = prime * result + ((typeOfVictim == null) ? 0 : typeOfVictim.hashCode());
-		result = prime * result + Arrays.hashCode(ucrOffenseCodeConnection);
-		result = prime * result + Arrays.hashCode(victimOffenderRelationship);
+		result = prime * result + SparseArrays.hashCode(ucrOffenseCodeConnection, UCR_OFFENSE_CODE_CONNECTION_COUNT);
+		result = prime * result + SparseArrays.hashCode(victimOffenderRelationship, OFFENDER_NUMBER_RELATED_COUNT);
 		result = prime * result + ((victimSequenceNumber == null) ? 0 : victimSequenceNumber.hashCode());
 		return result;
 	}
@@ -341,10 +406,10 @@ public class VictimSegment extends AbstractPersonSegment {
 
 	@Override
 	public String toString() {
-		return "VictimSegment [" + super.toString() + ", victimSequenceNumber=" + victimSequenceNumber + ", ucrOffenseCodeConnection=" + Arrays.toString(ucrOffenseCodeConnection) + ", typeOfVictim=" + typeOfVictim
-				+ ", residentStatus=" + residentStatus + ", aggravatedAssaultHomicideCircumstances=" + Arrays.toString(aggravatedAssaultHomicideCircumstances)
-				+ ", additionalJustifiableHomicideCircumstances=" + additionalJustifiableHomicideCircumstances + ", typeOfInjury=" + Arrays.toString(typeOfInjury) + ", offenderNumberRelated="
-				+ Arrays.toString(offenderNumberRelated) + ", victimOffenderRelationship=" + Arrays.toString(victimOffenderRelationship) + ", typeOfOfficerActivityCircumstance="
+		return "VictimSegment [" + super.toString() + ", victimSequenceNumber=" + victimSequenceNumber + ", ucrOffenseCodeConnection=" + SparseArrays.toString(ucrOffenseCodeConnection, UCR_OFFENSE_CODE_CONNECTION_COUNT) + ", typeOfVictim=" + typeOfVictim
+				+ ", residentStatus=" + residentStatus + ", aggravatedAssaultHomicideCircumstances=" + SparseArrays.toString(aggravatedAssaultHomicideCircumstances, AGGRAVATED_ASSAULT_HOMICIDE_CIRCUMSTANCES_COUNT)
+				+ ", additionalJustifiableHomicideCircumstances=" + additionalJustifiableHomicideCircumstances + ", typeOfInjury=" + SparseArrays.toString(typeOfInjury, TYPE_OF_INJURY_COUNT) + ", offenderNumberRelated="
+				+ SparseArrays.toString(offenderNumberRelated, OFFENDER_NUMBER_RELATED_COUNT) + ", victimOffenderRelationship=" + SparseArrays.toString(victimOffenderRelationship, OFFENDER_NUMBER_RELATED_COUNT) + ", typeOfOfficerActivityCircumstance="
 				+ typeOfOfficerActivityCircumstance + ", officerAssignmentType=" + officerAssignmentType + ", officerOtherJurisdictionORI=" + officerOtherJurisdictionORI
 				+ ", populatedAggravatedAssaultHomicideCircumstancesCount=" + populatedAggravatedAssaultHomicideCircumstancesCount + ", populatedTypeOfInjuryCount=" + populatedTypeOfInjuryCount
 				+ ", populatedUcrOffenseCodeConnectionCount=" + populatedUcrOffenseCodeConnectionCount + ", populatedOffenderNumberRelatedCount=" + populatedOffenderNumberRelatedCount + "]";
@@ -356,35 +421,30 @@ public class VictimSegment extends AbstractPersonSegment {
 	}
 
 	private void initVictimOffenderRelationship() {
-		victimOffenderRelationship = new String[OFFENDER_NUMBER_RELATED_COUNT];
+		victimOffenderRelationship = SparseArrays.EMPTY_STRINGS;
 	}
 
-	@SuppressWarnings("unchecked")
 	private void initOffenderNumberRelated() {
-		offenderNumberRelated = (ParsedObject<Integer>[]) Array.newInstance(ParsedObject.class, OFFENDER_NUMBER_RELATED_COUNT);
-		for (int i=0;i < OFFENDER_NUMBER_RELATED_COUNT;i++) {
-			offenderNumberRelated[i] = new ParsedObject<Integer>();
-		}
+		offenderNumberRelated = SparseArrays.EMPTY_PARSED_INTS;
 	}
 
 	private void initTypeOfInjury() {
-		typeOfInjury = new String[TYPE_OF_INJURY_COUNT];
+		typeOfInjury = SparseArrays.EMPTY_STRINGS;
 	}
 
 	private void initAggravatedAssaultHomicideCircumstances() {
-		aggravatedAssaultHomicideCircumstances = new String[AGGRAVATED_ASSAULT_HOMICIDE_CIRCUMSTANCES_COUNT];
+		aggravatedAssaultHomicideCircumstances = SparseArrays.EMPTY_STRINGS;
 	}
 
 	private void initUcrOffenseCodeConnection() {
-		ucrOffenseCodeConnection = new String[UCR_OFFENSE_CODE_CONNECTION_COUNT];
+		ucrOffenseCodeConnection = SparseArrays.EMPTY_STRINGS;
 	}
 	
 	public List<Integer> getDistinctValidRelatedOffenderNumberList() {
 		Set<Integer> relatedOffenderNumbers = new HashSet<>();
-		for (ParsedObject<Integer> po : getOffenderNumberRelated()) {
-			Integer value = po.getValue();
-			if (value != null) {
-				relatedOffenderNumbers.add(value);
+		for (ParsedInt po : offenderNumberRelated) {
+			if (po != null && po.hasValue()) {
+				relatedOffenderNumbers.add(po.getInt());
 			}
 		}
 		List<Integer> ret = new ArrayList<>();
@@ -398,8 +458,15 @@ public class VictimSegment extends AbstractPersonSegment {
 	 * @return whether that offender victimized this victim
 	 */
 	public boolean isVictimOfOffender(OffenderSegment os) {
-		List<Integer> relatedOffenderNumbers = getDistinctValidRelatedOffenderNumberList();
-		return os != null && relatedOffenderNumbers.contains(os.getOffenderSequenceNumber().getValue());
+		Integer offenderNumber = os == null ? null : os.getOffenderSequenceNumber().getValue();
+		if (offenderNumber != null) {
+			for (ParsedInt po : offenderNumberRelated) {
+				if (po != null && po.hasValue() && po.getInt() == offenderNumber) {
+					return true;
+				}
+			}
+		}
+		return false;
 	}
 	
 	public boolean isVictimOfRape() {
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum AdditionalJustifiableHomicideCircumstancesCode {
@@ -40,18 +39,10 @@ public enum AdditionalJustifiableHomicideCircumstancesCode {
 	public String description;	
 	
 	
+	private static final CodeTable<AdditionalJustifiableHomicideCircumstancesCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for(AdditionalJustifiableHomicideCircumstancesCode iCircsCode : values()){
-			
-			String sCode = iCircsCode.code;
-			
-			rCodeSet.add(sCode);
-		}
-		
-		return rCodeSet;
+		return CODE_TABLE.codeSet();
 	}
 	
 }
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum AggravatedAssaultHomicideCircumstancesCode {
@@ -53,15 +52,10 @@ public enum AggravatedAssaultHomicideCircumstancesCode {
 		this.description = description;
 	}
 
-	public static Set<String> codeSet(){
+	private static final CodeTable<AggravatedAssaultHomicideCircumstancesCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
 	
-		Set<String> rCodeSet = new HashSet<String>();
-		
-		for(AggravatedAssaultHomicideCircumstancesCode assaultCode : values()){
-			
-			rCodeSet.add(assaultCode.code);
-		}
-		return rCodeSet;
+	public static Set<String> codeSet(){
+		return CODE_TABLE.codeSet();
 	}
 	
 }
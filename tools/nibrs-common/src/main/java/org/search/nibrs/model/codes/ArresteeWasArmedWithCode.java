@@ -17,7 +17,6 @@ package org.search.nibrs.model.codes;
 
 import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -45,12 +44,10 @@ public enum ArresteeWasArmedWithCode {
 	
 	private static final List<ArresteeWasArmedWithCode> FIREARMS = Arrays.asList(new ArresteeWasArmedWithCode[] {_11, _12, _13, _14, _15});
 	
+	private static final CodeTable<ArresteeWasArmedWithCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<>();
-		for (ArresteeWasArmedWithCode code : values()) {
-			codeSet.add(code.code);
-		}
-		return codeSet;
+		return CODE_TABLE.codeSet();
 	}
 
 	public static final Set<ArresteeWasArmedWithCode> asSet() {
@@ -58,14 +55,7 @@ public enum ArresteeWasArmedWithCode {
 	}
 	
 	public static final ArresteeWasArmedWithCode forCode(String code) {
-		ArresteeWasArmedWithCode ret = null;
-		for(ArresteeWasArmedWithCode c : asSet()) {
-			if (c.code.equals(code)) {
-				ret = c;
-				break;
-			}
-		}
-		return ret;
+		return CODE_TABLE.forCode(code);
 	}
 
 	public boolean isFirearm() {
@@ -16,7 +16,6 @@
 package org.search.nibrs.model.codes;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -39,12 +38,10 @@ public enum AutomaticWeaponIndicatorCode {
 		return EnumSet.allOf(AutomaticWeaponIndicatorCode.class);
 	}
 
+	private static final CodeTable<AutomaticWeaponIndicatorCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (AutomaticWeaponIndicatorCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_TABLE.codeSet();
 	}
 
 }
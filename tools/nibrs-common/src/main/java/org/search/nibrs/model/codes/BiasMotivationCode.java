@@ -76,12 +76,10 @@ public enum BiasMotivationCode {
 		return EnumSet.allOf(BiasMotivationCode.class);
 	}
 	
+	private static final CodeTable<BiasMotivationCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (BiasMotivationCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_TABLE.codeSet();
 	}
 	
 	public static final Set<String> noneOrUnknownValueCodeSet() {
@@ -96,7 +94,7 @@ public enum BiasMotivationCode {
 	}
 
 	public static final BiasMotivationCode valueOfCode(String code){
-		return	Arrays.stream(BiasMotivationCode.values()).filter(i->i.code.equals(code)).findFirst().orElse(null); 
+		return CODE_TABLE.forCode(code);
 	}
 	
 }
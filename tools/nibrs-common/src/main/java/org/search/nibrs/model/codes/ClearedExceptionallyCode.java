@@ -44,16 +44,15 @@ public enum ClearedExceptionallyCode {
 	}
 	
 	public static final Set<String> applicableCodeSet(){
-		Set<String> ret = codeSet();
+		Set<String> ret = new HashSet<>(codeSet());
 		ret.remove(ClearedExceptionallyCode.N.code);
 		return ret;
 	}
+	
+	private static final CodeTable<ClearedExceptionallyCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (ClearedExceptionallyCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_TABLE.codeSet();
 	}
 
 }
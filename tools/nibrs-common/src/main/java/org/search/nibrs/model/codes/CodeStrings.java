@@ -0,0 +1,176 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.model.codes;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Dictionary of the code values of the code enums in this package.  Importers use it to map a field that holds a code to the code enum's
+ * own String instance, so that the (many) reports retained during validation share one String per code rather than each holding its own
+ * copy, and so that lookups in sets of codes find the key by identity.
+ * <br/>
+ * Codes are at most three ASCII characters long; each is held in an open-addressing table keyed by its packed bytes, so a flat file field
+ * can be looked up without first creating a String.
+ *
+ */
+public final class CodeStrings {
+
+	/**
+	 * The length of the longest code in the dictionary.
+	 */
+	public static final int MAX_CODE_LENGTH = 3;
+
+	private static final int TABLE_SIZE = 1 << 11;
+	private static final int[] KEYS = new int[TABLE_SIZE];
+	private static final String[] CODES = new String[TABLE_SIZE];
+
+	static {
+		@SuppressWarnings("unchecked")
+		Supplier<Set<String>>[] codeSets = new Supplier[] {
+			AdditionalJustifiableHomicideCircumstancesCode::codeSet,
+			AgeOfVictimCode::codeSet,
+			AggravatedAssaultHomicideCircumstancesCode::codeSet,
+			ArresteeWasArmedWithCode::codeSet,
+			AutomaticWeaponIndicatorCode::codeSet,
+			BiasMotivationCode::codeSet,
+			CargoTheftIndicatorCode::codeSet,
+			ClearanceCode::codeSet,
+			ClearedExceptionallyCode::codeSet,
+			DispositionOfArresteeUnder18Code::codeSet,
+			EthnicityCode::codeSet,
+			EthnicityOfArrestee::codeSet,
+			EthnicityOfOffender::codeSet,
+			LocationTypeCode::codeSet,
+			MethodOfEntryCode::codeSet,
+			MultipleArresteeSegmentsIndicator::codeSet,
+			OffenderSuspectedOfUsingCode::codeSet,
+			OffenseAttemptedCompletedCode::codeSet,
+			OffenseCode::codeSet,
+			OfficerAssignmentType::codeSet,
+			PropertyDescriptionCode::codeSet,
+			RaceCode::codeSet,
+			RaceOfArresteeCode::codeSet,
+			RaceOfOffenderCode::codeSet,
+			RelationshipOfVictimToOffenderCode::codeSet,
+			ResidentStatusCode::codeSet,
+			SexCode::codeSet,
+			SexOfArresteeCode::codeSet,
+			SexOfOffenderCode::codeSet,
+			SuspectedDrugTypeCode::codeSet,
+			TypeInjuryCode::codeSet,
+			TypeOfArrestCode::codeSet,
+			TypeOfCriminalActivityCode::codeSet,
+			TypeOfDrugMeasurementCode::codeSet,
+			TypeOfOfficerActivityCircumstance::codeSet,
+			TypeOfPropertyLossCode::codeSet,
+			TypeOfVictimCode::codeSet,
+			TypeOfWeaponForceCode::codeSet
+		};
+		Arrays.fill(KEYS, -1);
+		for (Supplier<Set<String>> codeSet : codeSets) {
+			for (String code : codeSet.get()) {
+				add(code);
+			}
+		}
+	}
+
+	private CodeStrings() {
+	}
+
+	/**
+	 * Get the dictionary's instance of the specified value.
+	 * @param value the value
+	 * @return the shared String equal to value if value is a code, otherwise value itself
+	 */
+	public static String canonical(String value) {
+		if (value == null || value.isEmpty() || value.length() > MAX_CODE_LENGTH) {
+			return value;
+		}
+		int key = key(value);
+		String ret = key < 0 ? null : find(key);
+		return ret == null ? value : ret;
+	}
+
+	/**
+	 * Get the code held in buffer[start, start + length) (absolute indexes), without creating a String.  The bytes are taken to be ASCII.
+	 * @return the shared String for the code, or null if the bytes are not a code
+	 */
+	public static String lookup(ByteBuffer buffer, int start, int length) {
+		if (length <= 0 || length > MAX_CODE_LENGTH) {
+			return null;
+		}
+		int key = length;
+		for (int i = start; i < start + length; i++) {
+			byte b = buffer.get(i);
+			if (b < 0) {
+				return null;
+			}
+			key = key << 8 | b;
+		}
+		return find(key);
+	}
+
+	private static void add(String code) {
+		if (code.isEmpty() || code.length() > MAX_CODE_LENGTH) {
+			return;
+		}
+		int key = key(code);
+		if (key < 0 || find(key) != null) {
+			return;
+		}
+		int slot = slot(key);
+		while (KEYS[slot] != -1) {
+			slot = (slot + 1) & (TABLE_SIZE - 1);
+		}
+		KEYS[slot] = key;
+		CODES[slot] = code;
+	}
+
+	/**
+	 * @return the packed key of the code, or -1 if it holds a non-ASCII character
+	 */
+	private static int key(String code) {
+		int key = code.length();
+		for (int i = 0; i < code.length(); i++) {
+			char c = code.charAt(i);
+			if (c > 0x7f) {
+				return -1;
+			}
+			key = key << 8 | c;
+		}
+		return key;
+	}
+
+	private static String find(int key) {
+		int slot = slot(key);
+		int k;
+		while ((k = KEYS[slot]) != -1) {
+			if (k == key) {
+				return CODES[slot];
+			}
+			slot = (slot + 1) & (TABLE_SIZE - 1);
+		}
+		return null;
+	}
+
+	private static int slot(int key) {
+		return (key * 0x9E3779B9 >>> 21) & (TABLE_SIZE - 1);
+	}
+
+}
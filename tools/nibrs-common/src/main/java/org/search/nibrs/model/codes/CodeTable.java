@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.model.codes;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Lookup tables for a code enum, built once when the enum is initialized:  the enum value for each code, the (unmodifiable) set of codes,
+ * and categories of values, each held as a bit set indexed by the values' ordinals.  Checking whether a code is in a category is then a
+ * hash lookup and a bit test, rather than a search of a list built on every call.
+ *
+ * @param <E> the code enum
+ */
+final class CodeTable<E extends Enum<E>> {
+
+	private final Map<String, E> valuesByCode = new HashMap<>();
+	private final Set<String> codeSet;
+
+	CodeTable(E[] values, Function<E, String> codeFunction) {
+		for (E value : values) {
+			valuesByCode.putIfAbsent(codeFunction.apply(value), value);
+		}
+		codeSet = Collections.unmodifiableSet(new HashSet<>(valuesByCode.keySet()));
+	}
+
+	/**
+	 * @return the enum value with the specified code, or null if there is none
+	 */
+	E forCode(String code) {
+		return code == null ? null : valuesByCode.get(code);
+	}
+
+	/**
+	 * @return the (unmodifiable) set of codes
+	 */
+	Set<String> codeSet() {
+		return codeSet;
+	}
+
+	/**
+	 * Create a category holding the specified values.
+	 */
+	@SafeVarargs
+	final Category category(E... values) {
+		BitSet ordinals = new BitSet();
+		for (E value : values) {
+			ordinals.set(value.ordinal());
+		}
+		return new Category(ordinals);
+	}
+
+	/**
+	 * A set of the enum's values.
+	 */
+	final class Category {
+
+		private final BitSet ordinals;
+
+		private Category(BitSet ordinals) {
+			this.ordinals = ordinals;
+		}
+
+		/**
+		 * @return whether the enum value with the specified code is in this category (false if no value has the code)
+		 */
+		boolean containsCode(String code) {
+			E value = forCode(code);
+			return value != null && ordinals.get(value.ordinal());
+		}
+
+		/**
+		 * @return a new category holding the values of this category and of the others
+		 */
+		Category union(Category... others) {
+			BitSet union = (BitSet) ordinals.clone();
+			for (Category other : others) {
+				union.or(other.ordinals);
+			}
+			return new Category(union);
+		}
+
+	}
+
+}
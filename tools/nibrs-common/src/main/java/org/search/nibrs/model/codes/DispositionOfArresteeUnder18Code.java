@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -34,12 +33,10 @@ public enum DispositionOfArresteeUnder18Code {
 	public String code;
 	public String description;
 
+	private static final CodeTable<DispositionOfArresteeUnder18Code> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<String>();
-		for (DispositionOfArresteeUnder18Code code : values()) {
-			codeSet.add(code.code);
-		}
-		return codeSet;
+		return CODE_TABLE.codeSet();
 	}
 
 }
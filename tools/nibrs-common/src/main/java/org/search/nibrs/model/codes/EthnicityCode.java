@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -35,11 +34,9 @@ public enum EthnicityCode {
 	public String code;
 	public String description;
 
+	private static final CodeTable<EthnicityCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<String>();
-		for (EthnicityCode codeValue : values()) {
-			codeSet.add(codeValue.code);
-		}
-		return codeSet;
+		return CODE_TABLE.codeSet();
 	}
 }
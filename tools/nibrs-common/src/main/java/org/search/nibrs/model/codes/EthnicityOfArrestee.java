@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 
@@ -36,17 +35,9 @@ public enum EthnicityOfArrestee {
 	
 	private String description;
 	
+	private static final CodeTable<EthnicityOfArrestee> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<String>();
-		
-		for(EthnicityOfArrestee ethnicityOfVictim : values()){
-			
-			String iCode = ethnicityOfVictim.code;
-			
-			rCodeSet.add(iCode);
-		}
-		
-		return rCodeSet;
+		return CODE_TABLE.codeSet();
 	}
 }
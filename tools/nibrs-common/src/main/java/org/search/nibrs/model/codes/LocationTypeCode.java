@@ -16,7 +16,6 @@
 package org.search.nibrs.model.codes;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -88,12 +87,10 @@ public enum LocationTypeCode {
 		return EnumSet.allOf(LocationTypeCode.class);
 	}
 
+	private static final CodeTable<LocationTypeCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (LocationTypeCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_TABLE.codeSet();
 	}
 
 }
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -35,12 +34,10 @@ public enum MultipleArresteeSegmentsIndicator {
 		this.description = description;
 	}
 
+	private static final CodeTable<MultipleArresteeSegmentsIndicator> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<>();
-		for (MultipleArresteeSegmentsIndicator arrestCode : values()) {
-			codeSet.add(arrestCode.code);
-		}
-		return codeSet;
+		return CODE_TABLE.codeSet();
 	}
 
 }
@@ -40,17 +40,8 @@ public enum NIBRSErrorCode {
  * 055 not implemented	
  */
 	_055("055","Structure Check","CANNOT HAVE A GROUP A INCIDENT REPORT WITHOUT LEVEL 1 SEGMENT","Segment Level 1 (Administrative Segment) with Segment Action Type I=Incident Report must be the first segment submitted for each Group A Incident Report."),
-/**
- * 056 not implemented	
- */
 	_056("056","Structure Check","DUPLICATE INCIDENT– PREVIOUSLY ADDED","Data Element 2 (Incident Number) must be a unique number for each incident submitted. No two incidents can have the same incident number."),
-/**
- * 058 not implemented	
- */
 	_058("058","Structure Check","ALL SEGMENTS IN A SUBMISSION MUST HAVE SAME MONTH AND YEAR OF SUBMISSION","Month of Submission and Year of Submission must contain the same data values for each segment in a NIBRS submission. The first segment processed will be compared with all other segments to check for this condition."),
-/**
- * 059 not implemented	
- */
 	_059("059","Structure Check","ALL SEGMENTS IN SUBMISSION MUST BE FROM SAME STATE","Data Element 1 (ORI) must contain the same state abbreviation code (e.g., SC, MD, etc.) in the first two positions (record positions 17 & 18). For nonfederal LEAs, every segment in a submission must have the same state code in the first two positions of the ORI."),
 /**
  * 060 not implemented	
@@ -70,9 +61,6 @@ public enum NIBRSErrorCode {
 	_081("081","Structure Check","THIS PROPERTY LOSS CODE CAN NOT EXIST WITH THE OFFENSES SUBMITTED","Data Element 14 (Type Property Loss/Etc.) must be 1=None or 8=Unknown when Data Element 6 (UCR Offense Code) contains an offense of Kidnapping/Abduction, Crimes against Property, Drug/Narcotic Offenses, or Gambling Offenses and Data Element 7 (Offense Attempted/Completed) is A=Attempted. Data Element 14 (Type Property Loss/Etc.) must be 1=None or 5=Recovered when Data Element 6 (UCR Offense Code) is 280=Stolen Property Offenses and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 1=None, 5=Recovered, 7=Stolen/Etc., or 8=Unknown when Data Element 6 (UCR Offense Code) is 100=Kidnapping/Abduction, 220=Burglary/ Breaking & Entering, or 510=Bribery and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 1=None or 6=Seized when Data Element 6 (UCR Offense Code) is 35A=Drug/ Narcotic Violations or 35B=Drug Equipment Violations and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 2=Burned when Data Element 6 (UCR Offense Code) is 200=Arson and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 3=Counterfeited/Forged, 5=Recovered, or 6=Seized when Data Element 6 (UCR Offense Code) is 250=Counterfeiting/Forgery and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 4=Destroyed/Damaged/Vandalized when Data Element 6 (UCR Offense Code) is 290=Destruction/Damage/Vandalism of Property and Data Element 7 (Offense Attempted/Completed) is C=Completed. Data Element 14 (Type Property Loss/Etc.) must be 5=Recovered or 7=Stolen/Etc. when Data Element 6 (UCR Offense Code) is any of the following and Data Element 7 (Offense Attempted/Completed) is C=Completed: 120=Robbery 210=Extortion/Blackmail 23A=Pocket-picking 23B=Purse Snatching 23C=Shoplifting 23D=Theft from Building 23E=Theft from Coin-Operated Machine or Device 23F=Theft from Motor Vehicle 23G=Theft of Motor Vehicle Parts or Accessories 23H=All other Larceny 240=Motor Vehicle Theft 26A=False Pretenses/Swindle/Confidence Game 26B=Credit Card/Automated Teller Machine Fraud 26C=Impersonation 26D=Welfare Fraud 26E=Wire Fraud270=Embezzlement Data Element 14 (Type Property Loss/Etc.) must be 6=Seized when Data Element 6 (UCR Offense Code) is any of the following and Data Element 7 (Offense Attempted/Completed) is C=Completed: 39A=Betting/W agering 39B=Operating/Promoting/Assisting Gambling 39C=Gambling Equipment Violation 39D=Sports Tampering"),
 	_084("084","Structure Check","RECOVERED PROPERTY VALUE CAN NOT BE GREATER THAN THE VALUE WHEN STOLEN","Data Element 16 (Value of Property) for property classified as 7=Stolen/Etc. in Data Element 14 (Type Property Loss/Etc.) must be greater than or equal to the value entered in Data Element 16 (Value of Property) for property classified as 5=Recovered for the same property specified in Data Element 15 (Property Description) in an incident. Note: This edit also applies when a vehicle was stolen and the recovered property in Data Element 15 (Property Description) is 38=Vehicle Parts/Accessories. The value of recovered parts cannot exceed the value of stolen vehicles."),
 	_085("085","Structure Check","WHEN CONNECTED; EACH VICTIM MUST BE CONNECTED TO AT LEAST TWO OFFENDERS","Segment Level 4 (Victim Segment) with a data value in Data Element 24 (Victim Connected to UCR Offense Code) of a Crime Against Person or Robbery must contain at least two offender sequence numbers in Data Element 34 (Offender Number to be Related) when there are three or more Segment Level 5 (Offender Segment) records submitted for the incident."),
-/**
- * 088 not implemented	
- */
 	_088("088","Structure Check","GROUP A AND GROUP B ARREST REPORTS CANNOT HAVE SAME IDENTIFIER","Segment Level 6 (Arrestee Segment) and Segment Level 7 (Group B Arrest Report Segment) cannot have the same data values entered in Data Element 2 (Incident Number) and Data Element 41 (Arrest Transaction Number), respectively, for the same ORI."),
 /**
  * 090-94 not implemented	
@@ -16,7 +16,6 @@
 package org.search.nibrs.model.codes;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -39,12 +38,10 @@ public enum OffenseAttemptedCompletedCode {
 		return EnumSet.allOf(OffenseAttemptedCompletedCode.class);
 	}
 
+	private static final CodeTable<OffenseAttemptedCompletedCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (OffenseAttemptedCompletedCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_TABLE.codeSet();
 	}
 
 }
@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -314,17 +313,17 @@ public enum PropertyDescriptionCode {
 		return EnumSet.allOf(PropertyDescriptionCode.class);
 	}
 
+	private static final CodeTable<PropertyDescriptionCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (PropertyDescriptionCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_TABLE.codeSet();
 	}
 	
+	private static final CodeTable<PropertyDescriptionCode>.Category MOTOR_VEHICLE_CODES = CODE_TABLE.category(_03, _05, 
+			_24, _28, _37);
+	
 	public static final boolean isMotorVehicleCode(String code) {
-		return Arrays.asList(_03.code, _05.code, 
-				_24.code, _28.code, _37.code ).contains(code);
+		return MOTOR_VEHICLE_CODES.containsCode(code);
 	}
 	
 	public static final boolean containsMotorVehicleCode(Collection<String> codes) {
@@ -38,16 +38,14 @@ public enum RaceCode {
 	public String code;
 	public String description;
 
+	private static final CodeTable<RaceCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<String>();
-		for (RaceCode codeValue : values()) {
-			codeSet.add(codeValue.code);
-		}
-		return codeSet;
+		return CODE_TABLE.codeSet();
 	}
 	
 	public static Set<String> knownCodeSet(){
-		Set<String> codeSet = codeSet();
+		Set<String> codeSet = new HashSet<>(codeSet());
 		codeSet.remove(RaceCode.U.code);
 		return codeSet;
 	}
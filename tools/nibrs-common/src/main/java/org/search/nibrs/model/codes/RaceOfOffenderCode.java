@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum RaceOfOffenderCode {
@@ -37,15 +36,10 @@ public enum RaceOfOffenderCode {
 		this.description = description;
 	}
 	
+	private static final CodeTable<RaceOfOffenderCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for(RaceOfOffenderCode v : values()) {
-			
-			rCodeSet.add(v.code);
-		}		
-		return rCodeSet;
+		return CODE_TABLE.codeSet();
 	}		
 
 }
@@ -16,7 +16,6 @@
 package org.search.nibrs.model.codes;
 
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Set;
 
 public enum RelationshipOfVictimToOffenderCode {
@@ -59,17 +58,10 @@ public enum RelationshipOfVictimToOffenderCode {
 	public String description;
 	public String iepdCode;
 		
+	private static final CodeTable<RelationshipOfVictimToOffenderCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for(RelationshipOfVictimToOffenderCode relationshipCode : values()){
-			
-			String sCode = relationshipCode.code;
-			
-			rCodeSet.add(sCode);
-		}		
-		return rCodeSet;
+		return CODE_TABLE.codeSet();
 	}		
 
 	public static final RelationshipOfVictimToOffenderCode valueOfIepdCode(String iepdCode){
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -35,12 +34,10 @@ public enum ResidentStatusCode {
 	public String code;
 	public String description;
 
+	private static final CodeTable<ResidentStatusCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<String>();
-		for (ResidentStatusCode codeValue : values()) {
-			codeSet.add(codeValue.code);
-		}
-		return codeSet;
+		return CODE_TABLE.codeSet();
 	}
 	
 }
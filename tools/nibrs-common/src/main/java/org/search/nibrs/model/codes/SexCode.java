@@ -35,16 +35,14 @@ public enum SexCode {
 	public String code;
 	public String description;
 
+	private static final CodeTable<SexCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static Set<String> codeSet() {
-		Set<String> codeSet = new HashSet<String>();
-		for(SexCode codeValue : values()){
-			codeSet.add(codeValue.code);
-		}
-		return codeSet;
+		return CODE_TABLE.codeSet();
 	}
 	
 	public static Set<String> knownCodeSet(){
-		Set<String> codeSet =  codeSet(); 
+		Set<String> codeSet = new HashSet<>(codeSet()); 
 		codeSet.remove(SexCode.U.code); 
 		return codeSet; 
 	}
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum SexOfOffenderCode {
@@ -34,16 +33,10 @@ public enum SexOfOffenderCode {
 	public String code;
 	public String description;
 		
+	private static final CodeTable<SexOfOffenderCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		
-		Set<String> rCodeSet = new HashSet<>();
-		
-		for (SexOfOffenderCode v : values()) {
-			
-			rCodeSet.add(v.code);
-		}
-		
-		return rCodeSet;
+		return CODE_TABLE.codeSet();
 	}	
 
 }
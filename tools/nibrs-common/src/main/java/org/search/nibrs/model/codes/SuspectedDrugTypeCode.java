@@ -16,7 +16,6 @@
 package org.search.nibrs.model.codes;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 public enum SuspectedDrugTypeCode {
@@ -52,12 +51,10 @@ public enum SuspectedDrugTypeCode {
 		return EnumSet.allOf(SuspectedDrugTypeCode.class);
 	}
 
+	private static final CodeTable<SuspectedDrugTypeCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (SuspectedDrugTypeCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_TABLE.codeSet();
 	}
 
 }
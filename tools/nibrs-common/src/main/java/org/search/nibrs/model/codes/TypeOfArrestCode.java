@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -35,13 +34,10 @@ public enum TypeOfArrestCode {
 	public String code;
 	public String description;
 
+	private static final CodeTable<TypeOfArrestCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static Set<String> codeSet() {
-		Set<String> rCodeSet = new HashSet<>();
-		for (TypeOfArrestCode iArrestCode : values()) {
-			String sArrestCode = iArrestCode.code;
-			rCodeSet.add(sArrestCode);
-		}
-		return rCodeSet;
+		return CODE_TABLE.codeSet();
 	}
 
 }
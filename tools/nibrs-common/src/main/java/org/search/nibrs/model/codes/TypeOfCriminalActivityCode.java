@@ -17,7 +17,6 @@ package org.search.nibrs.model.codes;
 
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -53,12 +52,10 @@ public enum TypeOfCriminalActivityCode {
 		return EnumSet.allOf(TypeOfCriminalActivityCode.class);
 	}
 
+	private static final CodeTable<TypeOfCriminalActivityCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (TypeOfCriminalActivityCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_TABLE.codeSet();
 	}
 	
 	public static final Set<String> noneOrUnknownValueCodeSet() {
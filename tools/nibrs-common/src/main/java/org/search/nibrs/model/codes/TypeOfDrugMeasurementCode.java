@@ -16,7 +16,6 @@
 package org.search.nibrs.model.codes;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 
 public enum TypeOfDrugMeasurementCode {
@@ -45,12 +44,10 @@ public enum TypeOfDrugMeasurementCode {
 		return EnumSet.allOf(TypeOfDrugMeasurementCode.class);
 	}
 
+	private static final CodeTable<TypeOfDrugMeasurementCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (TypeOfDrugMeasurementCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_TABLE.codeSet();
 	}
 
 }
@@ -72,12 +72,10 @@ public enum TypeOfPropertyLossCode {
 		return EnumSet.allOf(TypeOfPropertyLossCode.class);
 	}
 
+	private static final CodeTable<TypeOfPropertyLossCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (TypeOfPropertyLossCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_TABLE.codeSet();
 	}
 
 	public static final Set<String> noneOrUnknownValueCodeSet() {
@@ -111,7 +109,7 @@ public enum TypeOfPropertyLossCode {
 	}
 
 	public static final TypeOfPropertyLossCode valueOfCode(String code){
-		return	Arrays.stream(TypeOfPropertyLossCode.values()).filter(i->i.code.equals(code)).findFirst().orElse(null); 
+		return CODE_TABLE.forCode(code);
 	}
 	
 	
@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.model.codes;
 
-import java.util.HashSet;
 import java.util.Set;
 
 public enum TypeOfVictimCode {
@@ -41,14 +40,9 @@ public enum TypeOfVictimCode {
 		this.description = description;
 	}
 	
+	private static final CodeTable<TypeOfVictimCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static Set<String> codeSet(){
-		
-		Set<String> rCodeSet = new HashSet<String>();
-		
-		for(TypeOfVictimCode iVictimCodeType : values()){
-			
-			rCodeSet.add(iVictimCodeType.code);
-		}
-		return rCodeSet;
+		return CODE_TABLE.codeSet();
 	}
 }
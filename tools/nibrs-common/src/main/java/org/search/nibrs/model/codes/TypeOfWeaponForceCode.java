@@ -54,12 +54,10 @@ public enum TypeOfWeaponForceCode {
 		return EnumSet.allOf(TypeOfWeaponForceCode.class);
 	}
 
+	private static final CodeTable<TypeOfWeaponForceCode> CODE_TABLE = new CodeTable<>(values(), v -> v.code);
+	
 	public static final Set<String> codeSet() {
-		Set<String> ret = new HashSet<>();
-		for (TypeOfWeaponForceCode v : values()) {
-			ret.add(v.code);
-		}
-		return ret;
+		return CODE_TABLE.codeSet();
 	}
 
 	public static final Set<String> noneValueCodeSet() {
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xml;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+/**
+ * Cache of compiled XPath expressions for a namespace context.  Neither XPath nor XPathExpression objects are thread-safe, so each thread
+ * has its own XPath instance and its own cache, which holds the most recently used expressions (expressions that embed values, such as
+ * id references, would otherwise fill it without limit).
+ *
+ */
+public final class XPathExpressionCache {
+
+	/**
+	 * The default number of expressions held for each thread.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+	private final ThreadLocal<ThreadCache> threadCache;
+
+	public XPathExpressionCache(NamespaceContext namespaceContext) {
+		this(namespaceContext, DEFAULT_MAXIMUM_SIZE);
+	}
+
+	public XPathExpressionCache(NamespaceContext namespaceContext, int maximumSize) {
+		threadCache = ThreadLocal.withInitial(() -> new ThreadCache(namespaceContext, maximumSize));
+	}
+
+	/**
+	 * Get the compiled form of the expression, compiling it if the calling thread has not (recently) done so.  The returned expression
+	 * must only be used by the calling thread.
+	 */
+	public XPathExpression get(String expression) throws XPathExpressionException {
+		return threadCache.get().compile(expression);
+	}
+
+	private static final class ThreadCache extends LinkedHashMap<String, XPathExpression> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final XPath xpath;
+		private final int maximumSize;
+
+		ThreadCache(NamespaceContext namespaceContext, int maximumSize) {
+			super(16, 0.75f, true);
+			this.maximumSize = maximumSize;
+			xpath = XPathFactory.newInstance().newXPath();
+			xpath.setNamespaceContext(namespaceContext);
+		}
+
+		XPathExpression compile(String expression) throws XPathExpressionException {
+			XPathExpression ret = get(expression);
+			if (ret == null) {
+				ret = xpath.compile(expression);
+				put(expression, ret);
+			}
+			return ret;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+			return size() > maximumSize;
+		}
+
+	}
+
+}
@@ -35,15 +35,14 @@ import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.model.codes.CodeStrings;
 import org.search.nibrs.xml.NibrsNamespaceContext.Namespace;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
@@ -54,12 +53,14 @@ import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 /**
- * Utilities class for handling common XML tasks.
+ * Utilities class for handling common XML tasks.  The xpath search methods compile each expression once per thread and keep it in an
+ * {@link XPathExpressionCache}.
  *
  */
 public class XmlUtils {
 	
 	private static final NamespaceContext NAMESPACE_CONTEXT = new NibrsNamespaceContext();
+	private static final XPathExpressionCache XPATH_CACHE = new XPathExpressionCache(NAMESPACE_CONTEXT);
 	private static final Log log = LogFactory.getLog(XmlUtils.class);;
 
 	/**
@@ -180,9 +181,7 @@ public class XmlUtils {
         }
         
         try{
-	        XPath xpath = XPathFactory.newInstance().newXPath();
-	        xpath.setNamespaceContext(NAMESPACE_CONTEXT);
-	        XPathExpression expression = xpath.compile(xPath);
+	        XPathExpression expression = XPATH_CACHE.get(xPath);
 	        return (Node) expression.evaluate(context, XPathConstants.NODE);
         }
         catch (Exception e){
@@ -195,7 +194,7 @@ public class XmlUtils {
      * Search the context node for a String that matches the specified xpath
      * @param context the node that's the context for the xpath
      * @param xPath the xpath query
-     * @return the matching string, or null if no match
+     * @return the matching string (the shared instance from {@link CodeStrings} if it is a NIBRS code), or null if no match
      * @throws Exception
      */
     public static final String xPathStringSearch(Node context, String xPath){
@@ -204,17 +203,15 @@ public class XmlUtils {
             return null;
         }
         
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        xpath.setNamespaceContext(NAMESPACE_CONTEXT);
         XPathExpression expression;
         String value = null;
 		try {
-			expression = xpath.compile(xPath);
+			expression = XPATH_CACHE.get(xPath);
 			value = (String) expression.evaluate(context, XPathConstants.STRING);
 		} catch (XPathExpressionException e) {
 			log.warn(e);
 		}
-        return org.apache.commons.lang3.StringUtils.trimToNull(value);
+        return CodeStrings.canonical(org.apache.commons.lang3.StringUtils.trimToNull(value));
         
     }    
     
@@ -231,12 +228,10 @@ public class XmlUtils {
             return null;
         }
         
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        xpath.setNamespaceContext(NAMESPACE_CONTEXT);
         XPathExpression expression;
         NodeList result = null;
 		try {
-			expression = xpath.compile(xPath);
+			expression = XPATH_CACHE.get(xPath);
 			result = (NodeList) expression.evaluate(context, XPathConstants.NODESET);
 		} catch (XPathExpressionException e) {
 			log.warn(e);
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+import org.search.nibrs.model.PropertySegment;
+import org.search.nibrs.model.VictimSegment;
+
+public class TestParsedPrimitive {
+
+	@Test
+	public void testDefaultState() {
+		ParsedInt i = new ParsedInt();
+		assertTrue(i.isMissing());
+		assertFalse(i.isInvalid());
+		assertNull(i.getValue());
+		assertEquals(new ParsedObject<Integer>(), i.asParsedObject());
+		assertEquals(new ParsedObject<Integer>().toString(), i.toString());
+	}
+
+	@Test
+	public void testDates() {
+		ParsedDate d = new ParsedDate();
+		LocalDate date = LocalDate.of(1900, 1, 1);
+		while (date.getYear() < 2101) {
+			d.setDate(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+			assertEquals(date, d.getValue());
+			date = date.plusDays(1);
+		}
+		d.setDate(-1, 2, 29);
+		assertEquals(LocalDate.of(-1, 2, 28).plusDays(1), d.getValue());
+	}
+
+	@Test
+	public void testViews() {
+		ParsedDouble d = new ParsedDouble();
+		ParsedObject<Double> view = d.asParsedObject();
+		view.setValue(1.5);
+		view.setMissing(false);
+		assertEquals(1.5, d.getDouble(), 0);
+		assertFalse(d.isMissing());
+		assertEquals(new ParsedObject<>(1.5), view);
+		assertEquals(view, new ParsedObject<>(1.5));
+		assertEquals(new ParsedObject<>(1.5).hashCode(), view.hashCode());
+		d.setInvalid(true);
+		assertTrue(view.isInvalid());
+
+		d.copyFrom(ParsedObject.getInvalidParsedObject());
+		assertNull(view.getValue());
+		assertTrue(view.isInvalid());
+		assertFalse(view.isMissing());
+	}
+
+	@Test
+	public void testModelAccessors() {
+		PropertySegment p = new PropertySegment();
+		ParsedObject<Integer> value = new ParsedObject<>(100);
+		p.setValueOfProperty(2, value);
+		assertEquals(Integer.valueOf(100), p.getParsedValueOfProperty(2).getValue());
+		assertEquals(value, p.getValueOfProperty(2));
+		assertEquals(value, p.getValueOfProperty()[2]);
+		// setters copy the value in
+		value.setValue(200);
+		assertEquals(100, p.getParsedValueOfProperty(2).getInt());
+		// views write through
+		p.getValueOfProperty(2).setValue(300);
+		assertEquals(300, p.getParsedValueOfProperty(2).getInt());
+
+		VictimSegment v = new VictimSegment();
+		// reading an unset holder does not store it
+		v.getParsedOffenderNumberRelated(1).setInt(2);
+		assertNull(v.getParsedOffenderNumberRelated(1).getValue());
+		v.setParsedOffenderNumberRelated(1, new ParsedInt(2));
+		v.markOffenderNumberRelatedPopulated(1);
+		assertEquals(2, v.getPopulatedOffenderNumberRelatedCount());
+		assertEquals(Integer.valueOf(2), v.getOffenderNumberRelated(1).getValue());
+		assertEquals(1, v.getDistinctValidRelatedOffenderNumberList().size());
+	}
+
+}
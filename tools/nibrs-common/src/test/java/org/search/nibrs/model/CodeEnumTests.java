@@ -17,12 +17,17 @@ package org.search.nibrs.model;
 
 import static org.junit.Assert.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.junit.Test;
 import org.search.nibrs.model.codes.ArresteeWasArmedWithCode;
+import org.search.nibrs.model.codes.CodeStrings;
 import org.search.nibrs.model.codes.OffenseCode;
+import org.search.nibrs.model.codes.PropertyDescriptionCode;
+import org.search.nibrs.model.codes.SexCode;
 
 public class CodeEnumTests {
 	
@@ -45,4 +50,51 @@ public class CodeEnumTests {
 		assertFalse(OffenseCode.containsGamblingOffenseCode(codes));
 	}
 
+	@Test
+	public void testCodeTables() {
+		assertSame(OffenseCode._13A, OffenseCode.forCode("13A"));
+		assertNull(OffenseCode.forCode("13Z"));
+		assertNull(OffenseCode.forCode(null));
+		assertEquals(OffenseCode.values().length, OffenseCode.codeSet().size());
+		assertSame(OffenseCode.codeSet(), OffenseCode.codeSet());
+		try {
+			SexCode.codeSet().add("X");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+		assertEquals(2, SexCode.knownCodeSet().size());
+		assertEquals(3, SexCode.codeSet().size());
+		assertTrue(OffenseCode.isCrimeAgainstPersonCode("09A"));
+		assertFalse(OffenseCode.isCrimeAgainstPersonCode("200"));
+		assertFalse(OffenseCode.isCrimeAgainstPersonCode(null));
+		assertTrue(OffenseCode.isLarcenyOffenseCode("23H"));
+		assertFalse(OffenseCode.isLarcenyOffenseCode("23I"));
+		assertTrue(OffenseCode.isCrimeRequirePropertySegement("100"));
+		assertTrue(OffenseCode.isCrimeRequirePropertySegement("39B"));
+		assertTrue(OffenseCode.isCrimeRequirePropertySegement("35A"));
+		assertTrue(OffenseCode.isCrimeRequirePropertySegement("240"));
+		assertFalse(OffenseCode.isCrimeRequirePropertySegement("13A"));
+		assertTrue(PropertyDescriptionCode.isMotorVehicleCode("24"));
+		assertFalse(PropertyDescriptionCode.isMotorVehicleCode("01"));
+	}
+
+	@Test
+	public void testCodeStrings() {
+		assertSame(OffenseCode._13A.code, CodeStrings.canonical(new String("13A")));
+		assertSame(SexCode.M.code, CodeStrings.canonical(new String("M")));
+		assertSame(PropertyDescriptionCode._01.code, CodeStrings.canonical(new String("01")));
+		String notACode = new String("ZZZ");
+		assertSame(notACode, CodeStrings.canonical(notACode));
+		assertNull(CodeStrings.canonical(null));
+		ByteBuffer buffer = ByteBuffer.wrap(" 13A 1234 M".getBytes(StandardCharsets.US_ASCII));
+		assertSame(OffenseCode._13A.code, CodeStrings.lookup(buffer, 1, 3));
+		assertNull(CodeStrings.lookup(buffer, 5, 4));
+		assertNull(CodeStrings.lookup(buffer, 5, 0));
+		assertSame(SexCode.M.code, CodeStrings.lookup(buffer, 10, 1));
+		for (OffenseCode code : OffenseCode.values()) {
+			assertSame(code.code, CodeStrings.lookup(ByteBuffer.wrap(code.code.getBytes(StandardCharsets.US_ASCII)), 0, code.code.length()));
+		}
+	}
+
 }
@@ -77,4 +77,59 @@ public class GroupAIncidentReportTest {
 		assertTrue(incident.getOffendersOfVictim(vs4).isEmpty());
 	}
 
+	@Test
+	public void testIndexLookups() {
+		OffenseSegment offense = new OffenseSegment();
+		offense.setUcrOffenseCode("13A");
+		incident.addOffense(offense);
+		PropertySegment stolen = new PropertySegment();
+		stolen.setTypeOfPropertyLoss("7");
+		incident.addProperty(stolen);
+		PropertySegment secondStolen = new PropertySegment();
+		secondStolen.setTypeOfPropertyLoss("7");
+		incident.addProperty(secondStolen);
+		vs2.setUcrOffenseCodeConnection(0, "13A");
+		GroupAIncidentReportIndex index = incident.getIndex();
+		assertSame(index, incident.getIndex());
+		assertSame(os2, incident.getOffenderForSequenceNumber(2));
+		assertNull(incident.getOffenderForSequenceNumber(4));
+		assertNull(incident.getOffenderForSequenceNumber(null));
+		assertSame(offense, incident.getOffenseForOffenseCode("13A"));
+		assertNull(incident.getOffenseForOffenseCode("13B"));
+		assertSame(stolen, incident.getStolenPropertySegment());
+		assertNull(incident.getRecoveredPropertySegment());
+		assertEquals(1, index.getVictimsConnectedTo("13A").size());
+		assertSame(vs2, index.getVictimsConnectedTo("13A").get(0));
+		assertFalse(incident.includesPropertyCrime());
+		assertEquals(2, incident.getVictimsOfOffender(os1).size());
+		assertSame(vs1, incident.getVictimsOfOffender(os1).get(0));
+		assertSame(os1, incident.getOffendersOfVictim(vs1).get(0));
+		assertSame(os2, incident.getOffendersOfVictim(vs1).get(1));
+	}
+
+	@Test
+	public void testIndexInvalidation() {
+		GroupAIncidentReportIndex index = incident.getIndex();
+		assertTrue(incident.getVictimsOfOffender(os3).isEmpty());
+		vs4.setOffenderNumberRelated(0, new ParsedObject<>(3));
+		assertNotSame(index, incident.getIndex());
+		assertSame(vs4, incident.getVictimsOfOffender(os3).get(0));
+		os3.setOffenderSequenceNumber(new ParsedObject<>(5));
+		assertNull(incident.getOffenderForSequenceNumber(3));
+		assertSame(os3, incident.getOffenderForSequenceNumber(5));
+		incident.removeOffender(2);
+		assertNull(incident.getOffenderForSequenceNumber(5));
+		PropertySegment recovered = new PropertySegment();
+		incident.addProperty(recovered);
+		assertNull(incident.getRecoveredPropertySegment());
+		recovered.setTypeOfPropertyLoss("5");
+		assertSame(recovered, incident.getRecoveredPropertySegment());
+		// changes made in place are seen only once the index is invalidated
+		index = incident.getIndex();
+		os1.getParsedOffenderSequenceNumber().setInt(6);
+		assertSame(os1, incident.getOffenderForSequenceNumber(1));
+		incident.invalidateIndex();
+		assertSame(os1, incident.getOffenderForSequenceNumber(6));
+	}
+
 }
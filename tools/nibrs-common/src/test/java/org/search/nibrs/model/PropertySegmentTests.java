@@ -32,4 +32,28 @@ public class PropertySegmentTests {
 		assertFalse(ps.containsPropertyDescription(PropertyDescriptionCode._03.code));
 	}
 	
+	@Test
+	public void testSparseArrays() {
+		PropertySegment ps = new PropertySegment();
+		assertNull(ps.getSuspectedDrugType(2));
+		ps.setSuspectedDrugType(1, "A");
+		PropertySegment copy = new PropertySegment(ps);
+		assertEquals(ps, copy);
+		assertEquals(ps.hashCode(), copy.hashCode());
+		assertEquals(PropertySegment.SUSPECTED_DRUG_TYPE_COUNT, ps.getSuspectedDrugType().length);
+		assertEquals("A", ps.getSuspectedDrugType()[1]);
+		assertEquals(ps, copy);
+		assertEquals(ps.hashCode(), copy.hashCode());
+		assertEquals(ps.toString(), copy.toString());
+		assertTrue(ps.getParsedValueOfProperty(3).isMissing());
+		assertEquals(PropertySegment.VALUE_OF_PROPERTY_COUNT, ps.getValueOfProperty().length);
+		assertTrue(ps.getValueOfProperty()[3].isMissing());
+		try {
+			ps.setSuspectedDrugType(PropertySegment.SUSPECTED_DRUG_TYPE_COUNT, "A");
+			fail();
+		} catch (ArrayIndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+	
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.model.codes;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Timing harness comparing the OffenseCode classification methods with the list- and regex-based versions they replaced.  Run with
+ * (for example) java -cp target/classes:target/test-classes org.search.nibrs.model.codes.OffenseCodeBenchmark [iterations].
+ *
+ */
+public class OffenseCodeBenchmark {
+
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int ROUNDS = 5;
+
+	public static void main(String[] args) {
+		int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		String[] codes = sampleCodes();
+		report("isCrimeAgainstPersonCode (list)", codes, iterations, OffenseCodeBenchmark::listCrimeAgainstPerson);
+		report("isCrimeAgainstPersonCode (table)", codes, iterations, OffenseCode::isCrimeAgainstPersonCode);
+		report("isGamblingOffenseCode (regex)", codes, iterations, code -> regexMatches(code, "39[ABCD]"));
+		report("isGamblingOffenseCode (table)", codes, iterations, OffenseCode::isGamblingOffenseCode);
+		report("forCode (scan)", codes, iterations, code -> scanForCode(code) != null);
+		report("forCode (table)", codes, iterations, code -> OffenseCode.forCode(code) != null);
+		report("codeSet().contains (new set)", codes, iterations, code -> newCodeSet().contains(code));
+		report("codeSet().contains (shared set)", codes, iterations, code -> OffenseCode.codeSet().contains(code));
+	}
+
+	private static void report(String name, String[] codes, int iterations, Predicate<String> predicate) {
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			run(codes, iterations, predicate);
+		}
+		long best = Long.MAX_VALUE;
+		int matches = 0;
+		for (int i = 0; i < ROUNDS; i++) {
+			long start = System.nanoTime();
+			matches = run(codes, iterations, predicate);
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		System.out.printf("%-36s %8.1f ns/call (%d matches)%n", name, (double) best / iterations, matches);
+	}
+
+	private static int run(String[] codes, int iterations, Predicate<String> predicate) {
+		int ret = 0;
+		for (int i = 0; i < iterations; i++) {
+			if (predicate.test(codes[i % codes.length])) {
+				ret++;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Offense codes as an importer would produce them:  distinct String instances, with the odd invalid or missing code.
+	 */
+	private static String[] sampleCodes() {
+		OffenseCode[] values = OffenseCode.values();
+		String[] ret = new String[values.length + 2];
+		for (int i = 0; i < values.length; i++) {
+			ret[i] = new String(values[i].code);
+		}
+		ret[values.length] = "99Z";
+		ret[values.length + 1] = null;
+		return ret;
+	}
+
+	private static boolean listCrimeAgainstPerson(String code) {
+		List<String> codes = Arrays.asList(OffenseCode._13A.code, OffenseCode._13B.code, OffenseCode._13C.code,
+				OffenseCode._09A.code, OffenseCode._09B.code, OffenseCode._09C.code, OffenseCode._64A.code, OffenseCode._64B.code, OffenseCode._100.code,
+				OffenseCode._11A.code, OffenseCode._11B.code, OffenseCode._11C.code, OffenseCode._11D.code, OffenseCode._36A.code,
+				OffenseCode._36B.code);
+		return codes.contains(code);
+	}
+
+	private static boolean regexMatches(String code, String regex) {
+		return code != null && Pattern.compile(regex).matcher(code).matches();
+	}
+
+	private static OffenseCode scanForCode(String code) {
+		for (OffenseCode c : OffenseCode.asSet()) {
+			if (c.code.equals(code)) {
+				return c;
+			}
+		}
+		return null;
+	}
+
+	private static Set<String> newCodeSet() {
+		Set<String> ret = new HashSet<>();
+		for (OffenseCode v : OffenseCode.values()) {
+			ret.add(v.code);
+		}
+		return ret;
+	}
+
+}
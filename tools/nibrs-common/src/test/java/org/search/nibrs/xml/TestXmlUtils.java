@@ -17,6 +17,14 @@ package org.search.nibrs.xml;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.xpath.XPathExpression;
 
 import org.junit.Test;
 import org.search.nibrs.xml.NibrsNamespaceContext.Namespace;
@@ -42,4 +50,28 @@ public class TestXmlUtils {
 		assertNotNull(c2);
 	}
 
+	@Test
+	public void testXPathExpressionCache() throws Exception {
+		XPathExpressionCache cache = new XPathExpressionCache(new NibrsNamespaceContext(), 2);
+		XPathExpression e1 = cache.get("nibrs:a");
+		assertSame(e1, cache.get("nibrs:a"));
+		cache.get("nibrs:b");
+		cache.get("nibrs:a");
+		cache.get("nibrs:c");
+		assertSame(e1, cache.get("nibrs:a"));
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<XPathExpression> other = executor.submit(() -> cache.get("nibrs:a"));
+			assertNotSame(e1, other.get());
+		} finally {
+			executor.shutdown();
+		}
+		Document d = XmlUtils.createNewDocument();
+		XmlUtils.appendChildElement(d, Namespace.NIBRS, "child1").setTextContent(" value ");
+		for (int i = 0; i < 2; i++) {
+			assertEquals("value", XmlUtils.xPathStringSearch(d, "nibrs:child1"));
+			assertEquals(1, XmlUtils.xPathNodeListSearch(d, "nibrs:child1").getLength());
+		}
+	}
+
 }
@@ -65,7 +65,6 @@ public final class ErrorExporter {
 	 * @param writer
 	 * @throws IOException 
 	 */
-	@SuppressWarnings("unchecked")
 	public void createErrorReport(List<NIBRSError> errorList, Writer writer) throws IOException {
 		BufferedWriter bw = null;
 		if (!(writer instanceof BufferedWriter)) {
@@ -73,74 +72,90 @@ public final class ErrorExporter {
 		} else {
 			bw = (BufferedWriter) writer;
 		}
-		String line = null;
 		for (NIBRSError error : errorList) {
-			AbstractReport report = error.getReport();
-			line = blankLineTemplate;
-			if (report == null) continue;
-			line = modifyLine(line, 1-1, 4, String.valueOf(report.getYearOfTape()));
-			line = modifyLine(line, 5-1, 6, StringUtils.leftPad(String.valueOf(report.getMonthOfTape()), 2, '0'));
-			line = modifyLine(line, 7-1, 13, StringUtils.leftPad(String.valueOf(error.getContext().getSourceLocation()), 7, '0'));
-			line = modifyLine(line, 14-1, 14, String.valueOf(error.getReport().getReportActionType()));
-			line = modifyLine(line, 15-1, 23, error.getReport().getOri());
-			line = modifyLine(line, 24-1, 35, StringUtils.rightPad(error.getReportUniqueIdentifier(), 12));
-			char segmentType = error.getSegmentType();
-			if (!error.isCrossSegment()) {
-				line = modifyLine(line, 36-1, 36, String.valueOf(segmentType));
-			}
-			Object withinSegmentIdentifier = error.getWithinSegmentIdentifier();
-			if (withinSegmentIdentifier != null) {
-				if (segmentType == OffenseSegment.OFFENSE_SEGMENT_TYPE_IDENTIFIER) {
-					line = modifyLine(line, 37-1, 39, withinSegmentIdentifier.toString());
-				} else if (segmentType == OffenderSegment.OFFENDER_SEGMENT_TYPE_IDENTIFIER || segmentType == VictimSegment.VICTIM_SEGMENT_TYPE_IDENTIFIER ||
-						segmentType == ArresteeSegment.GROUP_A_ARRESTEE_SEGMENT_TYPE_IDENTIFIER || segmentType == ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER) {
-					line = modifyLine(line, 40-1, 42, StringUtils.leftPad(withinSegmentIdentifier.toString(), 3, '0'));
-				} else if (segmentType == PropertySegment.PROPERTY_SEGMENT_TYPE_IDENTIFIER) {
-					line = modifyLine(line, 43-1, 43, withinSegmentIdentifier.toString());
-				}
-			}
-			String dataElementIdentifier = error.getDataElementIdentifier();
-			if (dataElementIdentifier != null) {
-				if (dataElementIdentifier.matches("[0-9]")) {
-					dataElementIdentifier = StringUtils.leftPad(dataElementIdentifier, 2, '0');
-				}
-				line = modifyLine(line, 44 - 1, 46, StringUtils.rightPad(dataElementIdentifier, 3));
+			writeError(error, bw);
+		}
+		writeTrailer(bw);
+		bw.flush();
+		bw.close();
+	}
+
+	/**
+	 * Write the line(s) of the error report for a single error.
+	 * @return whether the error was written (an error that does not refer to a report, such as one for a zero report, is left out of the report)
+	 */
+	@SuppressWarnings("unchecked")
+	boolean writeError(NIBRSError error, BufferedWriter bw) throws IOException {
+		AbstractReport report = error.getReport();
+		String line = blankLineTemplate;
+		if (report == null) return false;
+		line = modifyLine(line, 1-1, 4, String.valueOf(report.getYearOfTape()));
+		line = modifyLine(line, 5-1, 6, StringUtils.leftPad(String.valueOf(report.getMonthOfTape()), 2, '0'));
+		line = modifyLine(line, 7-1, 13, StringUtils.leftPad(String.valueOf(error.getContext().getSourceLocation()), 7, '0'));
+		line = modifyLine(line, 14-1, 14, String.valueOf(error.getReport().getReportActionType()));
+		line = modifyLine(line, 15-1, 23, error.getReport().getOri());
+		line = modifyLine(line, 24-1, 35, StringUtils.rightPad(error.getReportUniqueIdentifier(), 12));
+		char segmentType = error.getSegmentType();
+		if (!error.isCrossSegment()) {
+			line = modifyLine(line, 36-1, 36, String.valueOf(segmentType));
+		}
+		Object withinSegmentIdentifier = error.getWithinSegmentIdentifier();
+		if (withinSegmentIdentifier != null) {
+			if (segmentType == OffenseSegment.OFFENSE_SEGMENT_TYPE_IDENTIFIER) {
+				line = modifyLine(line, 37-1, 39, withinSegmentIdentifier.toString());
+			} else if (segmentType == OffenderSegment.OFFENDER_SEGMENT_TYPE_IDENTIFIER || segmentType == VictimSegment.VICTIM_SEGMENT_TYPE_IDENTIFIER ||
+					segmentType == ArresteeSegment.GROUP_A_ARRESTEE_SEGMENT_TYPE_IDENTIFIER || segmentType == ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER) {
+				line = modifyLine(line, 40-1, 42, StringUtils.leftPad(withinSegmentIdentifier.toString(), 3, '0'));
+			} else if (segmentType == PropertySegment.PROPERTY_SEGMENT_TYPE_IDENTIFIER) {
+				line = modifyLine(line, 43-1, 43, withinSegmentIdentifier.toString());
 			}
-			line = modifyLine(line, 47-1, 49, error.getNIBRSErrorCode().getCode());
-			line = modifyLine(line, 62 - 1, 140, StringUtils.rightPad(error.getErrorMessage(), 79));
-			
-			log.debug("error.getReportUniqueIdentifier():" + error.getReportUniqueIdentifier());
-			String offendingValues = error.getOffendingValues();
-			
-			if (error.getRuleNumber().equals("404") && error.getDataElementIdentifier().equals("35")) {
-				for (String invalidValue : (List<String>)error.getValue()){
-					line = modifyLine(line, 50 - 1, 61, StringUtils.rightPad(StringUtils.trimToEmpty(invalidValue), 12));
-					bw.write(line);
-					bw.newLine();
-				}
+		}
+		String dataElementIdentifier = error.getDataElementIdentifier();
+		if (dataElementIdentifier != null) {
+			if (dataElementIdentifier.matches("[0-9]")) {
+				dataElementIdentifier = StringUtils.leftPad(dataElementIdentifier, 2, '0');
 			}
-			else if (error.getRuleNumber().equals("342")){
-				for (String invalidValue : (List<String>)error.getValue()){
-					line = modifyLine(line, 50 - 1, 61, invalidValue);
-					bw.write(line);
-					bw.newLine();
-				}
+			line = modifyLine(line, 44 - 1, 46, StringUtils.rightPad(dataElementIdentifier, 3));
+		}
+		line = modifyLine(line, 47-1, 49, error.getNIBRSErrorCode().getCode());
+		line = modifyLine(line, 62 - 1, 140, StringUtils.rightPad(error.getErrorMessage(), 79));
+		
+		log.debug("error.getReportUniqueIdentifier():" + error.getReportUniqueIdentifier());
+		String offendingValues = error.getOffendingValues();
+		
+		if (error.getRuleNumber().equals("404") && error.getDataElementIdentifier().equals("35")) {
+			for (String invalidValue : (List<String>)error.getValue()){
+				line = modifyLine(line, 50 - 1, 61, StringUtils.rightPad(StringUtils.trimToEmpty(invalidValue), 12));
+				bw.write(line);
+				bw.newLine();
 			}
-			else { 
-				if (offendingValues != null){
-					line = modifyLine(line, 50 - 1, 61, StringUtils.rightPad(offendingValues, 12));
-				}
+		}
+		else if (error.getRuleNumber().equals("342")){
+			for (String invalidValue : (List<String>)error.getValue()){
+				line = modifyLine(line, 50 - 1, 61, invalidValue);
 				bw.write(line);
 				bw.newLine();
 			}
 		}
-		line = blankLineTemplate;
+		else { 
+			if (offendingValues != null){
+				line = modifyLine(line, 50 - 1, 61, StringUtils.rightPad(offendingValues, 12));
+			}
+			bw.write(line);
+			bw.newLine();
+		}
+		return true;
+	}
+
+	/**
+	 * Write the line that ends the error report.
+	 */
+	void writeTrailer(BufferedWriter bw) throws IOException {
+		String line = blankLineTemplate;
 		line = modifyLine(line, 15-1, 23, "999999999");
 		line = modifyLine(line, 62-1, 140, "IncidentBuilder processed submission on " + new SimpleDateFormat("MM/dd/yy").format(new Date()));
 		bw.write(line);
 		bw.newLine();
-		bw.flush();
-		bw.close();
 	}
 
 	String modifyLine(String line, int beginPosition, int endPosition, String string) {
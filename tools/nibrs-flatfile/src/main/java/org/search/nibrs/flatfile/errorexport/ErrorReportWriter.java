@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.flatfile.errorexport;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import org.search.nibrs.common.NIBRSError;
+
+/**
+ * A writer of an error report in the standard FBI format (the same report that {@link ErrorExporter#createErrorReport(List, Writer)} creates)
+ * that writes the errors as each report's validation completes, rather than from the list of all the errors in a submission.  Neither the errors
+ * nor the reports they refer to then need to be held until the end of the submission, and errors in a large submission can be seen as soon as
+ * they are found.  The line that ends the error report is written when the writer is closed.
+ * <br/>
+ * The methods are synchronized, so errors can be written by listeners on several threads, each report's errors together.
+ */
+public final class ErrorReportWriter implements Closeable, Flushable {
+
+	private final ErrorExporter errorExporter = ErrorExporter.getInstance();
+	private final BufferedWriter writer;
+	private int errorCount;
+	private boolean closed;
+
+	/**
+	 * Create a writer of an error report.
+	 * @param writer the writer to which the report is written, which is closed when this writer is closed
+	 */
+	public ErrorReportWriter(Writer writer) {
+		this.writer = writer instanceof BufferedWriter ? (BufferedWriter) writer : new BufferedWriter(writer);
+	}
+
+	/**
+	 * Write a single error.  The error is buffered, until the next flush.  An error that does not refer to a report is left out of the error
+	 * report, as {@link ErrorExporter#createErrorReport(List, Writer)} leaves it out, and is not counted.
+	 * @param error the error
+	 * @throws IOException if the error cannot be written
+	 */
+	public synchronized void write(NIBRSError error) throws IOException {
+		if (errorExporter.writeError(error, writer)) {
+			errorCount++;
+		}
+	}
+
+	/**
+	 * Write the errors found in a report (or any other group of errors), and flush them to the underlying writer if there are any.
+	 * @param errors the errors
+	 * @throws IOException if the errors cannot be written
+	 */
+	public synchronized void write(List<NIBRSError> errors) throws IOException {
+		if (errors.isEmpty()) {
+			return;
+		}
+		for (NIBRSError error : errors) {
+			write(error);
+		}
+		writer.flush();
+	}
+
+	/**
+	 * @return the number of errors written to the error report so far
+	 */
+	public synchronized int getErrorCount() {
+		return errorCount;
+	}
+
+	@Override
+	public synchronized void flush() throws IOException {
+		writer.flush();
+	}
+
+	/**
+	 * Write the line that ends the error report, and close the underlying writer.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			errorExporter.writeTrailer(writer);
+			writer.flush();
+		} finally {
+			writer.close();
+		}
+	}
+
+}
@@ -65,11 +65,11 @@ public class FlatFileTranslator {
     			4, '0');
         return segmentHeader(segmentLength,
         		gair.getAdminSegmentLevel(), gair, true)
-                + (gair.getIncidentDate().isMissing() ? spaces(8) : DATE_FORMAT.format(gair.getIncidentDate().getValue()))
+                + (gair.getParsedIncidentDate().isMissing() ? spaces(8) : DATE_FORMAT.format(gair.getParsedIncidentDate().getValue()))
                 + spacesIfNull(gair.getReportDateIndicator(), 1)
                 + parsedIntToString(gair.getIncidentHour(), 2)
                 + spacesIfNull(gair.getExceptionalClearanceCode(), 1)
-                + (gair.getExceptionalClearanceDate().isMissing() ? spaces(8) : DATE_FORMAT.format(gair.getExceptionalClearanceDate().getValue()))
+                + (gair.getParsedExceptionalClearanceDate().isMissing() ? spaces(8) : DATE_FORMAT.format(gair.getParsedExceptionalClearanceDate().getValue()))
                 + spaces(30)
                 + (gair.includesCargoTheft() ? spacesIfNull(gair.getCargoTheftIndicator(), 1) : "");
     }
@@ -79,7 +79,7 @@ public class FlatFileTranslator {
         return segmentHeader(as, FlatfileConstants.GROUP_A_ARRESTEE_SEGMENT_LENGTH)
                 + parsedIntToString(as.getArresteeSequenceNumber(), 2)
                 + rightPad(as.getArrestTransactionNumber(), 12)
-                + (as.getArrestDate().isMissing() ? spaces(8) : DATE_FORMAT.format(as.getArrestDate().getValue()))
+                + (as.getParsedArrestDate().isMissing() ? spaces(8) : DATE_FORMAT.format(as.getParsedArrestDate().getValue()))
                 + spacesIfNull(as.getTypeOfArrest(), 1)
                 + spacesIfNull(as.getMultipleArresteeSegmentsIndicator(), 1)
                 + rightPad(as.getUcrArrestOffenseCode(), 3)
@@ -113,10 +113,10 @@ public class FlatFileTranslator {
         for (int i = 0; i < PropertySegment.PROPERTY_DESCRIPTION_COUNT; i++)
         {
             flatFileOutput.append(rightPad(ps.getPropertyDescription(i), 2));
-            flatFileOutput.append((ps.getValueOfProperty(i).isMissing() ?
+            flatFileOutput.append((ps.getParsedValueOfProperty(i).isMissing() ?
                     spaces(9) : leftPad(ps.getValueOfProperty(i).toString(), 9, '0')));
-            flatFileOutput.append((ps.getDateRecovered(i).isMissing() ?
-                    spaces(8) : DATE_FORMAT.format(ps.getDateRecovered(i).getValue())));
+            flatFileOutput.append((ps.getParsedDateRecovered(i).isMissing() ?
+                    spaces(8) : DATE_FORMAT.format(ps.getParsedDateRecovered(i).getValue())));
         }
 
         flatFileOutput.append(parsedIntToString(ps.getNumberOfStolenMotorVehicles(), 2));
@@ -125,8 +125,8 @@ public class FlatFileTranslator {
         for (int i = 0; i < PropertySegment.SUSPECTED_DRUG_TYPE_COUNT; i++)
         {
             flatFileOutput.append(spacesIfNull(ps.getSuspectedDrugType(i), 1));
-            flatFileOutput.append((ps.getEstimatedDrugQuantity(i).getValue() == null ?
-                    spaces(12) : leftPad(String.valueOf((int)(ps.getEstimatedDrugQuantity(i).getValue() * 1000)), 12, '0')));
+            flatFileOutput.append((ps.getParsedEstimatedDrugQuantity(i).getValue() == null ?
+                    spaces(12) : leftPad(String.valueOf((int)(ps.getParsedEstimatedDrugQuantity(i).getValue() * 1000)), 12, '0')));
             flatFileOutput.append(rightPad(ps.getTypeDrugMeasurement(i), 2));
         }
 
@@ -192,7 +192,7 @@ public class FlatFileTranslator {
         		as.getParentReport().getAdminSegmentLevel(), as.getParentReport(), false)
                 + rightPad(as.getArrestTransactionNumber(), 12)
                 + parsedIntToString(as.getArresteeSequenceNumber(), 2)
-                + (as.getArrestDate().isMissing() ? spaces(8) : DATE_FORMAT.format(as.getArrestDate().getValue()))
+                + (as.getParsedArrestDate().isMissing() ? spaces(8) : DATE_FORMAT.format(as.getParsedArrestDate().getValue()))
                 + spacesIfNull(as.getTypeOfArrest(), 1)
                 + rightPad(as.getUcrArrestOffenseCode(), 3)
                 + weaponTrackerHelper(as.getArresteeArmedWith(), as.getAutomaticWeaponIndicator())
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.flatfile.importer;
+
+import org.search.nibrs.common.ParsedDate;
+import org.search.nibrs.common.ParsedDouble;
+import org.search.nibrs.common.ParsedInt;
+
+/**
+ * Decoder for the numeric and date fields of fixed-width segments.  Fields are decoded in place from the segment (no substring is
+ * created), and validity is reported through the returned Status rather than by throwing an exception, which matters for files with
+ * large numbers of bad values.  Fields are trimmed in the same way as {@link Segment#getStringBetween(int, int)}, and each method accepts
+ * exactly the values that the corresponding JDK parse method (noted on the method) accepts for such a field.
+ * <br/>
+ * The decode methods only set the value of the target holder (to the decoded value when valid, or to null when missing), without boxing it;
+ * setting the missing/invalid flags and creating any error is left to the caller.
+ *
+ */
+public final class FixedWidthDecoder {
+
+	public enum Status {
+		MISSING, VALID, INVALID;
+	}
+
+	private static final long INVALID_VALUE = Long.MIN_VALUE;
+	private static final double[] POWERS_OF_TEN = new double[] {1, 10, 100, 1000};
+
+	private FixedWidthDecoder() {
+	}
+
+	/**
+	 * Decode a signed integer field, with the same rules as Integer.parseInt applied to the trimmed field.
+	 */
+	public static Status decodeInteger(Segment s, int begin, int end, ParsedInt target) {
+		return decodeInteger(s, begin, end, true, 1, target);
+	}
+
+	/**
+	 * Decode a field that must consist only of the digits 0-9 (no sign), with the same rules as matching the trimmed field against \d{1,n}
+	 * and then applying Integer.parseInt.
+	 */
+	public static Status decodeDigits(Segment s, int begin, int end, ParsedInt target) {
+		return decodeInteger(s, begin, end, false, 1, target);
+	}
+
+	/**
+	 * Decode an hour field:  a signed integer (as Integer.parseInt) whose trimmed text is exactly two characters long.
+	 */
+	public static Status decodeHour(Segment s, int begin, int end, ParsedInt target) {
+		return decodeInteger(s, begin, end, true, end - begin + 1, target);
+	}
+
+	/**
+	 * Get the value of a signed integer field (as Integer.parseInt applied to the trimmed field).
+	 * @return the value, or null if the field is missing or invalid
+	 */
+	public static Integer getInteger(Segment s, int begin, int end) {
+		long v = parseInteger(s, begin, end, true, 1);
+		return v == INVALID_VALUE ? null : Integer.valueOf((int) v);
+	}
+
+	/**
+	 * Decode a yyyyMMdd date field, with the same rules as LocalDate.parse using DateTimeFormatter.ofPattern("yyyyMMdd"):  the trimmed field
+	 * must be exactly eight digits, with a year of at least 1, a month of 1-12 and a day of 1-31.  As with the formatter's default (smart) resolver
+	 * style, a day beyond the end of the month resolves to the last day of the month.
+	 */
+	public static Status decodeDate(Segment s, int begin, int end, ParsedDate target) {
+		int start = trimmedStart(s, begin, end);
+		int stop = trimmedStop(s, start, end);
+		if (start == stop) {
+			target.setValue(null);
+			return Status.MISSING;
+		}
+		if (stop - start != 8) {
+			return Status.INVALID;
+		}
+		int year = digits(s, start, 4);
+		int month = digits(s, start + 4, 2);
+		int day = digits(s, start + 6, 2);
+		if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31) {
+			return Status.INVALID;
+		}
+		int lengthOfMonth = month == 2 ? (isLeapYear(year) ? 29 : 28) : (month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31);
+		target.setDate(year, month, Math.min(day, lengthOfMonth));
+		return Status.VALID;
+	}
+
+	/**
+	 * Decode a quantity held in separate whole and fractional fields, with the same rules as Double.valueOf applied to the trimmed whole part,
+	 * a decimal point, and the trimmed fractional part (or "000" if it is blank).  The field is missing only if both parts are blank.
+	 */
+	public static Status decodeDecimal(Segment s, int wholeBegin, int wholeEnd, int fractionBegin, int fractionEnd, ParsedDouble target) {
+
+		int wholeStart = trimmedStart(s, wholeBegin, wholeEnd);
+		int wholeStop = trimmedStop(s, wholeStart, wholeEnd);
+		int fractionStart = trimmedStart(s, fractionBegin, fractionEnd);
+		int fractionStop = trimmedStop(s, fractionStart, fractionEnd);
+
+		if (wholeStart == wholeStop && fractionStart == fractionStop) {
+			target.setValue(null);
+			return Status.MISSING;
+		}
+
+		boolean negative = false;
+		int i = wholeStart;
+		if (i < wholeStop && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+			negative = s.charAt(i) == '-';
+			i++;
+		}
+
+		long whole = 0;
+		boolean plain = wholeStop - i <= 15 && fractionStop - fractionStart < POWERS_OF_TEN.length;
+		for (; plain && i < wholeStop; i++) {
+			char c = s.charAt(i);
+			plain = c >= '0' && c <= '9';
+			whole = whole * 10 + (c - '0');
+		}
+		long fraction = 0;
+		for (int j = fractionStart; plain && j < fractionStop; j++) {
+			char c = s.charAt(j);
+			plain = c >= '0' && c <= '9';
+			fraction = fraction * 10 + (c - '0');
+		}
+
+		if (!plain) {
+			// exponents, type suffixes and the like are rare enough that it isn't worth replicating Double's grammar
+			String wholeString = s.getStringBetween(wholeBegin, wholeEnd);
+			String fractionString = s.getStringBetween(fractionBegin, fractionEnd);
+			try {
+				target.setDouble(Double.parseDouble((wholeString == null ? "" : wholeString) + "." + (fractionString == null ? "000" : fractionString)));
+				return Status.VALID;
+			} catch (NumberFormatException nfe) {
+				return Status.INVALID;
+			}
+		}
+
+		int scale = fractionStart == fractionStop ? 0 : fractionStop - fractionStart;
+		// both operands are exact, so the (correctly rounded) quotient is the double nearest the decimal value, as Double.valueOf would give
+		double value = (whole * (long) POWERS_OF_TEN[scale] + fraction) / POWERS_OF_TEN[scale];
+		target.setDouble(negative ? -value : value);
+		return Status.VALID;
+
+	}
+
+	private static Status decodeInteger(Segment s, int begin, int end, boolean allowSign, int requiredLength, ParsedInt target) {
+		int start = trimmedStart(s, begin, end);
+		int stop = trimmedStop(s, start, end);
+		if (start == stop) {
+			target.setValue(null);
+			return Status.MISSING;
+		}
+		if (stop - start < requiredLength) {
+			return Status.INVALID;
+		}
+		long v = parseInteger(s, start, stop, allowSign);
+		if (v == INVALID_VALUE) {
+			return Status.INVALID;
+		}
+		target.setInt((int) v);
+		return Status.VALID;
+	}
+
+	private static long parseInteger(Segment s, int begin, int end, boolean allowSign, int requiredLength) {
+		int start = trimmedStart(s, begin, end);
+		int stop = trimmedStop(s, start, end);
+		if (stop - start < requiredLength) {
+			return INVALID_VALUE;
+		}
+		return parseInteger(s, start, stop, allowSign);
+	}
+
+	/**
+	 * Parse s[start, stop) (0-based) as an int.
+	 * @return the value, or INVALID_VALUE
+	 */
+	private static long parseInteger(Segment s, int start, int stop, boolean allowSign) {
+		boolean negative = false;
+		int i = start;
+		char first = s.charAt(i);
+		if (allowSign && (first == '-' || first == '+')) {
+			negative = first == '-';
+			i++;
+		}
+		if (i == stop) {
+			return INVALID_VALUE;
+		}
+		long v = 0;
+		for (; i < stop; i++) {
+			char c = s.charAt(i);
+			if (c < '0' || c > '9') {
+				return INVALID_VALUE;
+			}
+			v = v * 10 + (c - '0');
+			if (v > (long) Integer.MAX_VALUE + 1) {
+				return INVALID_VALUE;
+			}
+		}
+		v = negative ? -v : v;
+		return v < Integer.MIN_VALUE || v > Integer.MAX_VALUE ? INVALID_VALUE : v;
+	}
+
+	/**
+	 * @return the value of the count digits starting at the 0-based index start, or -1 if any of them is not a digit
+	 */
+	private static int digits(Segment s, int start, int count) {
+		int v = 0;
+		for (int i = start; i < start + count; i++) {
+			char c = s.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			v = v * 10 + (c - '0');
+		}
+		return v;
+	}
+
+	private static boolean isLeapYear(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/**
+	 * @return the 0-based index of the first non-blank character between the 1-based positions begin and end, or the 0-based
+	 *  end of the field if it is blank or falls beyond the end of the segment
+	 */
+	private static int trimmedStart(Segment s, int begin, int end) {
+		if (s.length() <= 0 || s.length() < end) {
+			return end;
+		}
+		int start = begin - 1;
+		while (start < end && s.charAt(start) <= ' ') {
+			start++;
+		}
+		return start;
+	}
+
+	private static int trimmedStop(Segment s, int start, int end) {
+		int stop = end;
+		while (stop > start && s.charAt(stop - 1) <= ' ') {
+			stop--;
+		}
+		return stop;
+	}
+
+}
@@ -18,20 +18,32 @@ package org.search.nibrs.flatfile.importer;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.search.nibrs.common.NIBRSError;
-import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.common.ParsedDate;
+import org.search.nibrs.common.ParsedDouble;
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.common.ReportSource;
 import org.search.nibrs.flatfile.FlatfileConstants;
 import org.search.nibrs.flatfile.NIBRSAgeBuilder;
-import org.search.nibrs.flatfile.util.StringUtils;
+import org.search.nibrs.flatfile.importer.FixedWidthDecoder.Status;
 import org.search.nibrs.importer.AbstractIncidentBuilder;
 import org.search.nibrs.importer.ReportListener;
 import org.search.nibrs.model.AbstractReport;
@@ -63,6 +75,14 @@ import org.springframework.stereotype.Component;
 public class IncidentBuilder extends AbstractIncidentBuilder {
 	
 	private static final Log log = LogFactory.getLog(IncidentBuilder.class);;
+	
+	private static final int MAPPED_WINDOW_SIZE = 1 << 30;
+	private static final int MINIMUM_CHUNK_SIZE = 1 << 16;
+	private static final int MAXIMUM_CHUNK_SIZE = 1 << 22;
+	
+	private ForkJoinPool forkJoinPool;
+	private boolean orderedDelivery = true;
+	private int chunkSize;
 
 	public IncidentBuilder() {
 		super();
@@ -76,6 +96,36 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 		getListeners().remove(listener);
 	}
 
+	public ForkJoinPool getForkJoinPool() {
+		return forkJoinPool;
+	}
+
+	/**
+	 * Set the pool on which reports are built when reading from a ByteBuffer or a file path.  The data is split into byte ranges at report
+	 * boundaries, and the ranges are built concurrently; listeners are still called on the thread that calls buildIncidents.  When the pool is
+	 * null (the default), reports are built on the calling thread.  Building from a Reader is always single-threaded.
+	 * @param forkJoinPool the pool, which remains owned by the caller
+	 */
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	public boolean isOrderedDelivery() {
+		return orderedDelivery;
+	}
+
+	/**
+	 * Set whether, when building in parallel, reports are delivered to listeners in the order they appear in the file (the default), or in
+	 * the order in which the ranges holding them finish building.
+	 */
+	public void setOrderedDelivery(boolean orderedDelivery) {
+		this.orderedDelivery = orderedDelivery;
+	}
+
+	void setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
 	/**
 	 * Read NIBRS incidents from the flatfile format exposed by the specified Reader
 	 * @param reader the source of the data
@@ -94,48 +144,421 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 		}
 		
 		String line = null;
-		AbstractReport currentReport = null;
-		int lineNumber = 1;
 		
 		log.info("Processing NIBRS flat file");
 		
-		List<NIBRSError> errorList = new ArrayList<NIBRSError>();
+		ReportAssembler assembler = new ReportAssembler(readerLocationName, 1, this::handleRawReport);
 		
 		while ((line = br.readLine()) != null && org.apache.commons.lang3.StringUtils.isNotBlank(line)) {
 			Segment s = new Segment();
+			List<NIBRSError> segmentErrors = s.setData(assembler.nextReportSource(), line);
+			assembler.addSegment(s, segmentErrors);
+		}
+		
+		assembler.finish();
+		logSummary(assembler);
+
+	}
+
+	private ReportScan newReportScan(String readerLocationName) {
+		if (forkJoinPool == null) {
+			return new ReportAssembler(readerLocationName, 1, this::handleRawReport);
+		}
+		return new ParallelReportScan(readerLocationName);
+	}
+
+	/**
+	 * Read NIBRS incidents from the flatfile format held in the specified buffer, between its current position and its limit.  Segments are
+	 * located by scanning for line terminators at the byte level, and fields are read directly from the buffer, so no String is created
+	 * for a line or a blank field.  The buffer's position is not changed.
+	 * @param buffer the source of the data (for example, a memory-mapped file or a direct buffer)
+	 * @param readerLocationName the name of the source, used in report sources and errors
+	 */
+	@Override
+	public void buildIncidents(ByteBuffer buffer, String readerLocationName) {
+		log.info("Processing NIBRS flat file");
+		ReportScan scan = newReportScan(readerLocationName);
+		scan.scan(buffer, buffer.position(), buffer.limit(), true);
+		scan.finish();
+		logSummary(scan);
+	}
+
+	/**
+	 * Read NIBRS incidents from the flatfile at the specified path, by memory-mapping the file and scanning it in place.
+	 * @param path the file to read
+	 * @param readerLocationName the name of the source, used in report sources and errors
+	 * @throws IOException exception encountered in opening or mapping the file
+	 */
+	public void buildIncidents(Path path, String readerLocationName) throws IOException {
+		buildIncidents(path, readerLocationName, MAPPED_WINDOW_SIZE);
+	}
+
+	void buildIncidents(Path path, String readerLocationName, int windowSize) throws IOException {
+		log.info("Processing NIBRS flat file " + path);
+		ReportScan scan = newReportScan(readerLocationName);
+		scanFile(path, readerLocationName, windowSize, scan);
+		scan.finish();
+		logSummary(scan);
+	}
+
+	/**
+	 * Read the reports held in the specified buffer, between its current position and its limit, without building them.  Each report is
+	 * handed to the listener as a RawReport once all of its segments have been read; only the segment headers have been decoded at that
+	 * point, so a listener that needs only a few fields (the ORI or incident number, for example) avoids the cost of building the report.
+	 * Reports are not passed to the builder's incident listeners, and the build is always single-threaded.
+	 * @param buffer the source of the data
+	 * @param readerLocationName the name of the source, used in report sources and errors
+	 * @param listener the listener to receive the reports
+	 */
+	public void scanReports(ByteBuffer buffer, String readerLocationName, RawReportListener listener) {
+		ReportAssembler assembler = new ReportAssembler(readerLocationName, 1, listener);
+		assembler.scan(buffer, buffer.position(), buffer.limit(), true);
+		assembler.finish();
+	}
+
+	/**
+	 * Read the reports in the flatfile at the specified path without building them, as {@link #scanReports(ByteBuffer, String, RawReportListener)}.
+	 * The file is memory-mapped, and remains mapped while any of its reports are referenced.
+	 * @param path the file to read
+	 * @param readerLocationName the name of the source, used in report sources and errors
+	 * @param listener the listener to receive the reports
+	 * @throws IOException exception encountered in opening or mapping the file
+	 */
+	public void scanReports(Path path, String readerLocationName, RawReportListener listener) throws IOException {
+		ReportAssembler assembler = new ReportAssembler(readerLocationName, 1, listener);
+		scanFile(path, readerLocationName, MAPPED_WINDOW_SIZE, assembler);
+		assembler.finish();
+	}
+
+	private void scanFile(Path path, String readerLocationName, int windowSize, ReportScan scan) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long position = 0;
+			// a single mapping is limited to 2GB, so larger files are mapped a window at a time; a segment that straddles
+			// the end of a window is re-read at the start of the next one
+			while (position < size && !scan.isStopped()) {
+				int length = (int) Math.min(windowSize, size - position);
+				boolean endOfInput = position + length == size;
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+				int consumed = scan.scan(buffer, 0, length, endOfInput);
+				if (consumed == 0 && !endOfInput) {
+					throw new IOException("Report at line " + scan.getLineNumber() + " of " + readerLocationName + " is longer than the mapping window of " + windowSize + " bytes");
+				}
+				position += consumed;
+			}
+		}
+	}
+
+	/**
+	 * Scan the segments held in buffer[start, end), handing each one to the assembler.
+	 * @param endOfInput whether end is the end of the input; if not, a final segment without a line terminator is left unconsumed
+	 * @return the absolute index of the first byte that was not consumed
+	 */
+	private int scanSegments(ByteBuffer buffer, int start, int end, boolean endOfInput, ReportAssembler assembler) {
+		int position = start;
+		while (position < end) {
+			int lineEnd = position;
+			while (lineEnd < end && !isLineTerminator(buffer.get(lineEnd))) {
+				lineEnd++;
+			}
+			int next;
+			if (lineEnd == end) {
+				if (!endOfInput) {
+					break;
+				}
+				next = end;
+			} else if (buffer.get(lineEnd) == '\r') {
+				if (lineEnd + 1 == end && !endOfInput) {
+					// can't tell yet whether this is a \r\n pair
+					break;
+				}
+				next = lineEnd + 1 < end && buffer.get(lineEnd + 1) == '\n' ? lineEnd + 2 : lineEnd + 1;
+			} else {
+				next = lineEnd + 1;
+			}
+			if (isBlank(buffer, position, lineEnd)) {
+				// consistent with the Reader-based build, a blank line ends the file
+				assembler.stop();
+				return next;
+			}
+			Segment s = new Segment();
+			List<NIBRSError> segmentErrors = s.setData(assembler.nextReportSource(), buffer, position, lineEnd - position);
+			assembler.addSegment(s, segmentErrors);
+			position = next;
+		}
+		return position;
+	}
+
+	private static boolean isLineTerminator(byte b) {
+		return b == '\n' || b == '\r';
+	}
+
+	private static boolean isBlank(ByteBuffer buffer, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (!Character.isWhitespace((char) (buffer.get(i) & 0xff))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void logSummary(ReportScan scan) {
+		log.info("finished processing file, read " + (scan.getLineNumber() - 1) + " lines.");
+		log.info("Encountered " + getLogListener().errorCount + " error(s).");
+		log.info("Created " + getLogListener().reportCount + " incident(s).");
+	}
+
+	/**
+	 * Builds reports from successive windows of flat file data held in a buffer.
+	 */
+	interface ReportScan {
+		/**
+		 * Build the reports in buffer[start, end).
+		 * @param endOfInput whether end is the end of the input
+		 * @return the absolute index of the first byte that was not consumed, and should be presented again at the start of the next window
+		 */
+		int scan(ByteBuffer buffer, int start, int end, boolean endOfInput);
+		void finish();
+		boolean isStopped();
+		int getLineNumber();
+	}
+
+	/**
+	 * Accumulates segments, in file order, into raw reports, and hands each report to a listener once the first segment of the next report
+	 * (or the end of the file) is seen.
+	 */
+	final class ReportAssembler implements ReportScan {
+		
+		private final String readerLocationName;
+		private final RawReportListener reportHandler;
+		private RawReport currentReport;
+		private int lineNumber;
+		private boolean stopped;
+		
+		ReportAssembler(String readerLocationName, int firstLineNumber, RawReportListener reportHandler) {
+			this.readerLocationName = readerLocationName;
+			this.lineNumber = firstLineNumber;
+			this.reportHandler = reportHandler;
+		}
+		
+		@Override
+		public int scan(ByteBuffer buffer, int start, int end, boolean endOfInput) {
+			return scanSegments(buffer, start, end, endOfInput, this);
+		}
+		
+		ReportSource nextReportSource() {
 			ReportSource reportSource = new ReportSource();
 			reportSource.setSourceLocation(String.valueOf(lineNumber));
 			reportSource.setSourceName(readerLocationName);
-			List<NIBRSError> segmentErrors = s.setData(reportSource, line);
-			errorList.addAll(segmentErrors);
-			if (segmentErrors.isEmpty()) {
-				char level = s.getSegmentLevel();
-				if (level == ZeroReport.ZERO_REPORT_TYPE_IDENTIFIER 
-						|| level == GroupAIncidentReport.ADMIN_SEGMENT_TYPE_IDENTIFIER 
-						|| level == ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER 
-						|| !Objects.equals(currentReport.getIdentifier(), s.getSegmentUniqueIdentifier())) {
-					handleNewReport(currentReport, errorList);
-					errorList = new ArrayList<NIBRSError>();
-					currentReport = buildReport(errorList, s, readerLocationName);
-				} else {
-					int errorListSize = errorList.size();
-					if (currentReport instanceof GroupAIncidentReport){
-						addSegmentToIncident((GroupAIncidentReport) currentReport, s, errorList);
-					}
-					if (errorList.size() > errorListSize && currentReport != null) {
-						currentReport.setHasUpstreamErrors(true);
-					}
-				}
+			return reportSource;
+		}
+		
+		void addSegment(Segment s, List<NIBRSError> segmentErrors) {
+			if (segmentErrors.isEmpty() && (currentReport == null || !currentReport.continuesWith(s))) {
+				handleReport();
+				currentReport = new RawReport(IncidentBuilder.this, readerLocationName, s);
+			} else if (currentReport != null) {
+				// errors in a segment before the first report have nowhere to go, and are dropped
+				currentReport.addSegment(s, segmentErrors);
 			}
 			lineNumber++;
 		}
 		
-		handleNewReport(currentReport, errorList);
+		@Override
+		public void finish() {
+			handleReport();
+			currentReport = null;
+		}
+		
+		private void handleReport() {
+			if (currentReport != null) {
+				reportHandler.newRawReport(currentReport);
+			}
+		}
+		
+		void stop() {
+			stopped = true;
+		}
+		
+		@Override
+		public boolean isStopped() {
+			return stopped;
+		}
+		
+		@Override
+		public int getLineNumber() {
+			return lineNumber;
+		}
+		
+	}
 
-		log.info("finished processing file, read " + (lineNumber - 1) + " lines.");
-		log.info("Encountered " + getLogListener().errorCount + " error(s).");
-		log.info("Created " + getLogListener().reportCount + " incident(s).");
+	/**
+	 * The reports built from one range of a parallel build, held until they can be delivered to listeners.
+	 */
+	static final class RangeResult implements RawReportListener {
+		
+		private final List<AbstractReport> reports = new ArrayList<>();
+		private final List<List<NIBRSError>> errorLists = new ArrayList<>();
+		private int lineNumber;
+		
+		@Override
+		public void newRawReport(RawReport report) {
+			// built here, on the pool thread that assembled the range
+			reports.add(report.toReport());
+			errorLists.add(report.getErrorList());
+		}
+		
+	}
+
+	/**
+	 * Splits each window into ranges that start at report boundaries, builds the ranges on the fork-join pool, and delivers the resulting reports
+	 * to listeners on the calling thread (so listeners need not be thread-safe), in file order or as ranges complete.  At most twice the pool's
+	 * parallelism ranges are in flight at once, which bounds the number of built-but-undelivered reports.
+	 */
+	final class ParallelReportScan implements ReportScan {
+		
+		private final String readerLocationName;
+		private int lineNumber = 1;
+		private boolean stopped;
+		
+		ParallelReportScan(String readerLocationName) {
+			this.readerLocationName = readerLocationName;
+		}
+		
+		@Override
+		public int scan(ByteBuffer buffer, int start, int end, boolean endOfInput) {
+			
+			int targetSize = chunkSize > 0 ? chunkSize : Math.max(MINIMUM_CHUNK_SIZE, Math.min(MAXIMUM_CHUNK_SIZE, (end - start) / (forkJoinPool.getParallelism() * 4)));
+			List<Integer> boundaries = ReportBoundaryScanner.findBoundaries(buffer, start, end, endOfInput, targetSize);
+			if (endOfInput) {
+				boundaries.add(end);
+			}
+			// when this isn't the end of the input, the bytes after the last boundary may hold an incomplete report, and are left for the next window
+			int rangeCount = boundaries.size() - 1;
+			if (rangeCount == 0) {
+				return start;
+			}
+			
+			// count the lines in each range first, so that each range knows the line number it starts at
+			List<ForkJoinTask<ReportBoundaryScanner.LineCount>> lineCountTasks = new ArrayList<>(rangeCount);
+			for (int i = 0; i < rangeCount; i++) {
+				int rangeStart = boundaries.get(i);
+				int rangeEnd = boundaries.get(i + 1);
+				lineCountTasks.add(forkJoinPool.submit(() -> ReportBoundaryScanner.countLines(buffer, rangeStart, rangeEnd)));
+			}
+			int[] firstLineNumbers = new int[rangeCount];
+			int line = lineNumber;
+			for (int i = 0; i < rangeCount; i++) {
+				ReportBoundaryScanner.LineCount lineCount = lineCountTasks.get(i).join();
+				firstLineNumbers[i] = line;
+				line += lineCount.terminators;
+				if (lineCount.firstBlankLine >= 0) {
+					// a blank line ends the input; the range that holds it stops there, and later ranges are not built
+					rangeCount = i + 1;
+					stopped = true;
+					break;
+				}
+			}
+			
+			RangeResult last = buildRanges(buffer, boundaries, firstLineNumbers, rangeCount);
+			lineNumber = stopped ? last.lineNumber : line;
+			
+			return stopped ? end : boundaries.get(rangeCount);
+			
+		}
+		
+		private RangeResult buildRanges(ByteBuffer buffer, List<Integer> boundaries, int[] firstLineNumbers, int rangeCount) {
+			
+			int maxInFlight = forkJoinPool.getParallelism() * 2;
+			@SuppressWarnings("unchecked")
+			ForkJoinTask<RangeResult>[] tasks = new ForkJoinTask[rangeCount];
+			BlockingQueue<Integer> completed = new LinkedBlockingQueue<>();
+			RangeResult last = null;
+			int submitted = 0;
+			
+			for (int delivered = 0; delivered < rangeCount; delivered++) {
+				while (submitted < rangeCount && submitted - delivered < maxInFlight) {
+					int index = submitted++;
+					int rangeStart = boundaries.get(index);
+					int rangeEnd = boundaries.get(index + 1);
+					int firstLineNumber = firstLineNumbers[index];
+					tasks[index] = forkJoinPool.submit(() -> {
+						try {
+							return buildRange(buffer, rangeStart, rangeEnd, firstLineNumber);
+						} finally {
+							completed.add(index);
+						}
+					});
+				}
+				int next = delivered;
+				if (!orderedDelivery) {
+					try {
+						next = completed.take();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new IllegalStateException("Interrupted while building reports from " + readerLocationName, e);
+					}
+				}
+				RangeResult result = tasks[next].join();
+				tasks[next] = null;
+				for (int i = 0; i < result.reports.size(); i++) {
+					handleNewReport(result.reports.get(i), result.errorLists.get(i));
+				}
+				if (next == rangeCount - 1) {
+					last = result;
+				}
+			}
+			
+			return last;
+			
+		}
+		
+		private RangeResult buildRange(ByteBuffer buffer, int start, int end, int firstLineNumber) {
+			RangeResult ret = new RangeResult();
+			ReportAssembler assembler = new ReportAssembler(readerLocationName, firstLineNumber, ret);
+			assembler.scan(buffer, start, end, true);
+			assembler.finish();
+			ret.lineNumber = assembler.getLineNumber();
+			return ret;
+		}
+		
+		@Override
+		public void finish() {
+			// each range ends at a report boundary, so there is nothing left over
+		}
+		
+		@Override
+		public boolean isStopped() {
+			return stopped;
+		}
+		
+		@Override
+		public int getLineNumber() {
+			return lineNumber;
+		}
+		
+	}
 
+	/**
+	 * Build the full report from its raw segments, adding the errors encountered to errorList.
+	 */
+	AbstractReport buildReport(RawReport rawReport, List<NIBRSError> errorList, String readerLocationName) {
+		List<Segment> segments = rawReport.getSegments();
+		List<List<NIBRSError>> segmentErrors = rawReport.getSegmentErrors();
+		AbstractReport ret = buildReport(errorList, segments.get(0), readerLocationName);
+		for (int i = 1; i < segments.size(); i++) {
+			errorList.addAll(segmentErrors.get(i));
+			if (segmentErrors.get(i).isEmpty()) {
+				int errorListSize = errorList.size();
+				if (ret instanceof GroupAIncidentReport){
+					addSegmentToIncident((GroupAIncidentReport) ret, segments.get(i), errorList);
+				}
+				if (errorList.size() > errorListSize) {
+					ret.setHasUpstreamErrors(true);
+				}
+			}
+		}
+		return ret;
 	}
 
 	AbstractReport buildReport(List<NIBRSError> errorList, Segment s, String readerLocationName) {
@@ -169,7 +592,7 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 		if (length == 43) {
 			ret.setMonthOfTape(getIntValueFromSegment(s, 7, 8, newErrorList, NIBRSErrorCode._001));
 			ret.setYearOfTape(getIntValueFromSegment(s, 9, 12, newErrorList, NIBRSErrorCode._001));
-			ret.setCityIndicator(StringUtils.getStringBetween(13, 16, s.getData()));
+			ret.setCityIndicator(s.getStringBetween(13, 16));
 		} else {
 			NIBRSError e = new NIBRSError();
 			e.setContext(s.getReportSource());
@@ -195,83 +618,69 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 		GroupBArrestReport ret = new GroupBArrestReport();
 		ArresteeSegment arrestee = new ArresteeSegment(ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER);
 		arrestee.setParentReport(ret);
-		String segmentData = s.getData();
 		ret.setOri(s.getOri());
 		ret.setReportActionType(s.getActionType());
 		int length = s.getSegmentLength();
 		if (length == 66) {
 			ret.setMonthOfTape(getIntValueFromSegment(s, 7, 8, newErrorList, NIBRSErrorCode._701));
 			ret.setYearOfTape(getIntValueFromSegment(s, 9, 12, newErrorList, NIBRSErrorCode._701));
-			ret.setCityIndicator(StringUtils.getStringBetween(13, 16, segmentData));
+			ret.setCityIndicator(s.getStringBetween(13, 16));
 			
-			ParsedObject<Integer> sequenceNumber = arrestee.getArresteeSequenceNumber();
+			ParsedInt sequenceNumber = arrestee.getParsedArresteeSequenceNumber();
 			sequenceNumber.setMissing(false);
 			sequenceNumber.setInvalid(false);
-			String sequenceNumberString = StringUtils.getStringBetween(38, 39, segmentData);
-			if (sequenceNumberString == null) {
+			Status sequenceNumberStatus = FixedWidthDecoder.decodeInteger(s, 38, 39, sequenceNumber);
+			if (sequenceNumberStatus == Status.MISSING) {
 				sequenceNumber.setMissing(true);
-				sequenceNumber.setValue(null);
-			} else {
-				try {
-					Integer sequenceNumberI = Integer.parseInt(sequenceNumberString);
-					sequenceNumber.setValue(sequenceNumberI);
-				} catch (NumberFormatException nfe) {
-					NIBRSError e = new NIBRSError();
-					e.setContext(s.getReportSource());
-					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-					e.setSegmentType(s.getSegmentType());
-					e.setValue(sequenceNumberString);
-					e.setNIBRSErrorCode(NIBRSErrorCode._701);
-					e.setDataElementIdentifier("40");
-					errorList.add(e);
-					sequenceNumber.setInvalid(true);
-					sequenceNumber.setValidationError(e);
-				}
+			} else if (sequenceNumberStatus == Status.INVALID) {
+				String sequenceNumberString = s.getStringBetween(38, 39);
+				NIBRSError e = new NIBRSError();
+				e.setContext(s.getReportSource());
+				e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+				e.setSegmentType(s.getSegmentType());
+				e.setValue(sequenceNumberString);
+				e.setNIBRSErrorCode(NIBRSErrorCode._701);
+				e.setDataElementIdentifier("40");
+				errorList.add(e);
+				sequenceNumber.setInvalid(true);
+				sequenceNumber.setValidationError(e);
 			}
 			
-			arrestee.setArresteeSequenceNumber(sequenceNumber);
-			
-			arrestee.setArrestTransactionNumber(StringUtils.getStringBetween(26, 37, segmentData));
+			arrestee.setArrestTransactionNumber(s.getStringBetween(26, 37));
 			
-			ParsedObject<LocalDate> arrestDate = arrestee.getArrestDate();
+			ParsedDate arrestDate = arrestee.getParsedArrestDate();
 			arrestDate.setMissing(false);
 			arrestDate.setInvalid(false);
-			String arrestDateString = StringUtils.getStringBetween(40, 47, segmentData);
-			if (arrestDateString == null) {
+			Status arrestDateStatus = decodeDate(s, 40, 47, arrestDate);
+			if (arrestDateStatus == Status.MISSING) {
 				arrestDate.setMissing(true);
-				arrestDate.setValue(null);
-			} else {
-				try {
-					LocalDate d = LocalDate.parse(arrestDateString, getDateFormat());
-					arrestDate.setValue(d);
-				} catch (Exception pe) {
-					NIBRSError e = new NIBRSError();
-					e.setContext(s.getReportSource());
-					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-					e.setSegmentType(s.getSegmentType());
-					e.setValue(arrestDateString);
-					e.setNIBRSErrorCode(NIBRSErrorCode._705);
-					e.setDataElementIdentifier("42");
-					newErrorList.add(e);
-					arrestDate.setInvalid(true);
-					arrestDate.setValidationError(e);
-				}
+			} else if (arrestDateStatus == Status.INVALID) {
+				String arrestDateString = s.getStringBetween(40, 47);
+				NIBRSError e = new NIBRSError();
+				e.setContext(s.getReportSource());
+				e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+				e.setSegmentType(s.getSegmentType());
+				e.setValue(arrestDateString);
+				e.setNIBRSErrorCode(NIBRSErrorCode._705);
+				e.setDataElementIdentifier("42");
+				newErrorList.add(e);
+				arrestDate.setInvalid(true);
+				arrestDate.setValidationError(e);
 			}
-			arrestee.setArrestDate(arrestDate);
 			
-			arrestee.setTypeOfArrest(StringUtils.getStringBetween(48, 48, segmentData));
-			arrestee.setUcrArrestOffenseCode(StringUtils.getStringBetween(49, 51, segmentData));
+			arrestee.setTypeOfArrest(s.getStringBetween(48, 48));
+			arrestee.setUcrArrestOffenseCode(s.getStringBetween(49, 51));
 			for (int i = 0; i < 2; i++) {
-				arrestee.setArresteeArmedWith(i, StringUtils.getStringBetween(52 + 3 * i, 53 + 3 * i, segmentData));
-				arrestee.setAutomaticWeaponIndicator(i, StringUtils.getStringBetween(54 + 3 * i, 54 + 3 * i, segmentData));
+				arrestee.setArresteeArmedWith(i, s.getStringBetween(52 + 3 * i, 53 + 3 * i));
+				arrestee.setAutomaticWeaponIndicator(i, s.getStringBetween(54 + 3 * i, 54 + 3 * i));
 			}
-			NIBRSAge arresteeAge = NIBRSAgeBuilder.buildAgeFromRawString(StringUtils.getStringBetween(58, 61, segmentData), arrestee);
+			NIBRSAge arresteeAge = NIBRSAgeBuilder.buildAgeFromRawString(s.getStringBetween(58, 61), arrestee);
 			arrestee.setAge(arresteeAge);
-			arrestee.setSex(StringUtils.getStringBetween(62, 62, segmentData));
-			arrestee.setRace(StringUtils.getStringBetween(63, 63, segmentData));
-			arrestee.setEthnicity(StringUtils.getStringBetween(64, 64, segmentData));
-			arrestee.setResidentStatus(StringUtils.getStringBetween(65, 65, segmentData));
-			arrestee.setDispositionOfArresteeUnder18(StringUtils.getStringBetween(66, 66, segmentData));
+			arrestee.setSex(s.getStringBetween(62, 62));
+			arrestee.setRace(s.getStringBetween(63, 63));
+			arrestee.setEthnicity(s.getStringBetween(64, 64));
+			arrestee.setResidentStatus(s.getStringBetween(65, 65));
+			arrestee.setDispositionOfArresteeUnder18(s.getStringBetween(66, 66));
 		} else {
 			NIBRSError e = new NIBRSError();
 			e.setContext(s.getReportSource());
@@ -292,6 +701,10 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 		return ret;
 	}
 
+	private final void handleRawReport(RawReport rawReport) {
+		handleNewReport(rawReport.toReport(), rawReport.getErrorList());
+	}
+
 	private final void handleNewReport(AbstractReport newReport, List<NIBRSError> errorList) {
 		if (newReport != null) {
 			for (Iterator<ReportListener> it = getListeners().iterator(); it.hasNext();) {
@@ -307,109 +720,88 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 		newIncident.setIncidentNumber(s.getSegmentUniqueIdentifier());
 		newIncident.setOri(s.getOri());
 		newIncident.setReportActionType(s.getActionType());
-		String segmentData = s.getData();
 		int length = s.getSegmentLength();
 		if (length == 87 || length == 88) {
 			newIncident.setMonthOfTape(getIntValueFromSegment(s, 7, 8, newErrorList, NIBRSErrorCode._101));
 			newIncident.setYearOfTape(getIntValueFromSegment(s, 9, 12, newErrorList, NIBRSErrorCode._101));
-			newIncident.setCityIndicator(StringUtils.getStringBetween(13, 16, segmentData));
-			ParsedObject<LocalDate> incidentDate = newIncident.getIncidentDate();
+			newIncident.setCityIndicator(s.getStringBetween(13, 16));
+			ParsedDate incidentDate = newIncident.getParsedIncidentDate();
 			incidentDate.setMissing(false);
 			incidentDate.setInvalid(false);
-			String incidentDateString = StringUtils.getStringBetween(38, 45, segmentData);
-			if (incidentDateString == null) {
+			Status incidentDateStatus = decodeDate(s, 38, 45, incidentDate);
+			if (incidentDateStatus == Status.MISSING) {
 				incidentDate.setMissing(true);
-				incidentDate.setValue(null);
-			} else {
-				try {
-					LocalDate d = LocalDate.parse(incidentDateString, getDateFormat());
-					incidentDate.setValue(d);
-				} catch (Exception pe) {
-					NIBRSError e = new NIBRSError();
-					e.setContext(s.getReportSource());
-					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-					e.setSegmentType(s.getSegmentType());
-					e.setValue(incidentDateString);
-					e.setNIBRSErrorCode(NIBRSErrorCode._105);
-					e.setDataElementIdentifier("3");
-					newErrorList.add(e);
-					incidentDate.setInvalid(true);
-					incidentDate.setValidationError(e);
-				}
+			} else if (incidentDateStatus == Status.INVALID) {
+				String incidentDateString = s.getStringBetween(38, 45);
+				NIBRSError e = new NIBRSError();
+				e.setContext(s.getReportSource());
+				e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+				e.setSegmentType(s.getSegmentType());
+				e.setValue(incidentDateString);
+				e.setNIBRSErrorCode(NIBRSErrorCode._105);
+				e.setDataElementIdentifier("3");
+				newErrorList.add(e);
+				incidentDate.setInvalid(true);
+				incidentDate.setValidationError(e);
 			}
-			newIncident.setIncidentDate(incidentDate);
 			
-			newIncident.setReportDateIndicator(StringUtils.getStringBetween(46, 46, segmentData));
+			newIncident.setReportDateIndicator(s.getStringBetween(46, 46));
 			
-			String hourString = StringUtils.getStringBetween(47, 48, segmentData);
-			ParsedObject<Integer> hour = newIncident.getIncidentHour();
+			ParsedInt hour = newIncident.getParsedIncidentHour();
 			hour.setMissing(false);
 			hour.setInvalid(false);
-			if (hourString != null && hourString.trim().length() > 0) {
-				try {
-					
-					if (hourString.length() != 2){
-						throw new NumberFormatException(); 
-					}
-					Integer hourI = new Integer(hourString);
-					hour.setValue(hourI);
-				} catch(NumberFormatException nfe) {
-					
-					NIBRSError e152 = new NIBRSError();
-					e152.setContext(s.getReportSource());
-					e152.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-					e152.setSegmentType(s.getSegmentType());
-					e152.setValue(hourString);
-					e152.setNIBRSErrorCode(NIBRSErrorCode._152);
-					e152.setDataElementIdentifier("3");
-					newErrorList.add(e152);
-					
-					NIBRSError e = new NIBRSError();
-					e.setContext(s.getReportSource());
-					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-					e.setSegmentType(s.getSegmentType());
-					e.setValue(hourString);
-					e.setNIBRSErrorCode(NIBRSErrorCode._104);
-					e.setDataElementIdentifier("3");
-					newErrorList.add(e);
-					hour.setInvalid(true);
-					hour.setValidationError(e);
-				}
-			} else {
+			Status hourStatus = FixedWidthDecoder.decodeHour(s, 47, 48, hour);
+			if (hourStatus == Status.INVALID) {
+				String hourString = s.getStringBetween(47, 48);
+				
+				NIBRSError e152 = new NIBRSError();
+				e152.setContext(s.getReportSource());
+				e152.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+				e152.setSegmentType(s.getSegmentType());
+				e152.setValue(hourString);
+				e152.setNIBRSErrorCode(NIBRSErrorCode._152);
+				e152.setDataElementIdentifier("3");
+				newErrorList.add(e152);
+				
+				NIBRSError e = new NIBRSError();
+				e.setContext(s.getReportSource());
+				e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+				e.setSegmentType(s.getSegmentType());
+				e.setValue(hourString);
+				e.setNIBRSErrorCode(NIBRSErrorCode._104);
+				e.setDataElementIdentifier("3");
+				newErrorList.add(e);
+				hour.setInvalid(true);
+				hour.setValidationError(e);
+			} else if (hourStatus == Status.MISSING) {
 				hour.setMissing(true);
 			}
 			
-			newIncident.setExceptionalClearanceCode(StringUtils.getStringBetween(49, 49, segmentData));
+			newIncident.setExceptionalClearanceCode(s.getStringBetween(49, 49));
 			
-			ParsedObject<LocalDate> clearanceDate = newIncident.getExceptionalClearanceDate();
+			ParsedDate clearanceDate = newIncident.getParsedExceptionalClearanceDate();
 			clearanceDate.setMissing(false);
 			clearanceDate.setInvalid(false);
-			String clearanceDateString = StringUtils.getStringBetween(50, 57, segmentData);
-			if (clearanceDateString == null) {
+			Status clearanceDateStatus = decodeDate(s, 50, 57, clearanceDate);
+			if (clearanceDateStatus == Status.MISSING) {
 				clearanceDate.setMissing(true);
-				clearanceDate.setValue(null);
-			} else {
-				try {
-					LocalDate d = LocalDate.parse(clearanceDateString, getDateFormat());
-					clearanceDate.setValue(d);
-				} catch (Exception pe) {
-					NIBRSError e = new NIBRSError();
-					e.setContext(s.getReportSource());
-					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-					e.setSegmentType(s.getSegmentType());
-					e.setValue(clearanceDateString);
-					e.setNIBRSErrorCode(NIBRSErrorCode._105);
-					e.setDataElementIdentifier("5");
-					newErrorList.add(e);
-					incidentDate.setInvalid(true);
-					incidentDate.setValidationError(e);
-				}
+			} else if (clearanceDateStatus == Status.INVALID) {
+				String clearanceDateString = s.getStringBetween(50, 57);
+				NIBRSError e = new NIBRSError();
+				e.setContext(s.getReportSource());
+				e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+				e.setSegmentType(s.getSegmentType());
+				e.setValue(clearanceDateString);
+				e.setNIBRSErrorCode(NIBRSErrorCode._105);
+				e.setDataElementIdentifier("5");
+				newErrorList.add(e);
+				incidentDate.setInvalid(true);
+				incidentDate.setValidationError(e);
 			}
-			newIncident.setExceptionalClearanceDate(clearanceDate);
 			
 			boolean cargoTheft = length == 88;
 			if (cargoTheft) {
-				String cargoTheftYN = StringUtils.getStringBetween(88, 88, segmentData);
+				String cargoTheftYN = s.getStringBetween(88, 88);
 				
 				if (org.apache.commons.lang3.StringUtils.isNotBlank(cargoTheftYN)){
 					newIncident.setCargoTheftIndicator(cargoTheftYN);
@@ -448,12 +840,11 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 		newIncident.setIncidentNumber(s.getSegmentUniqueIdentifier());
 		newIncident.setOri(s.getOri());
 		newIncident.setReportActionType(s.getActionType());
-		String segmentData = s.getData();
 		int length = s.getSegmentLength();
 		if (length >=38 ) {
 			newIncident.setMonthOfTape(getIntValueFromSegment(s, 7, 8, newErrorList, NIBRSErrorCode._101));
 			newIncident.setYearOfTape(getIntValueFromSegment(s, 9, 12, newErrorList, NIBRSErrorCode._101));
-			newIncident.setCityIndicator(StringUtils.getStringBetween(13, 16, segmentData));
+			newIncident.setCityIndicator(s.getStringBetween(13, 16));
 		}
 		
 		NIBRSError e = new NIBRSError();
@@ -469,11 +860,9 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 	}
 
 	private Integer getIntValueFromSegment(Segment s, int startPos, int endPos, List<NIBRSError> errorList, NIBRSErrorCode errorCode) {
-		String sv = StringUtils.getStringBetween(startPos, endPos, s.getData());
-		Integer i = null;
-		try {
-			i = new Integer(sv);
-		} catch (NumberFormatException nfe) {
+		Integer i = FixedWidthDecoder.getInteger(s, startPos, endPos);
+		if (i == null) {
+			String sv = s.getStringBetween(startPos, endPos);
 			NIBRSError e = new NIBRSError();
 			e.setContext(s.getReportSource());
 			e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
@@ -524,81 +913,67 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 	private ArresteeSegment buildGroupAArresteeSegment(Segment s, GroupAIncidentReport parent, List<NIBRSError> errorList) {
 		ArresteeSegment newArrestee = new ArresteeSegment(ArresteeSegment.GROUP_A_ARRESTEE_SEGMENT_TYPE_IDENTIFIER);
 		newArrestee.setParentReport(parent);
-		String segmentData = s.getData();
 		int length = s.getSegmentLength();
 		if (length == FlatfileConstants.GROUP_A_ARRESTEE_SEGMENT_LENGTH) {
 			
-			ParsedObject<Integer> sequenceNumber = newArrestee.getArresteeSequenceNumber();
+			ParsedInt sequenceNumber = newArrestee.getParsedArresteeSequenceNumber();
 			sequenceNumber.setMissing(false);
 			sequenceNumber.setInvalid(false);
-			String sequenceNumberString = StringUtils.getStringBetween(38, 39, segmentData);
-			if (sequenceNumberString == null) {
+			Status sequenceNumberStatus = FixedWidthDecoder.decodeInteger(s, 38, 39, sequenceNumber);
+			if (sequenceNumberStatus == Status.MISSING) {
 				sequenceNumber.setMissing(true);
-				sequenceNumber.setValue(null);
-			} else {
-				try {
-					Integer sequenceNumberI = Integer.parseInt(sequenceNumberString);
-					sequenceNumber.setValue(sequenceNumberI);
-				} catch (NumberFormatException nfe) {
-					NIBRSError e = new NIBRSError();
-					e.setContext(s.getReportSource());
-					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-					e.setSegmentType(s.getSegmentType());
-					e.setValue(sequenceNumberString);
-					e.setNIBRSErrorCode(NIBRSErrorCode._601);
-					e.setDataElementIdentifier("40");
-					errorList.add(e);
-					sequenceNumber.setInvalid(true);
-					sequenceNumber.setValidationError(e);
-				}
+			} else if (sequenceNumberStatus == Status.INVALID) {
+				String sequenceNumberString = s.getStringBetween(38, 39);
+				NIBRSError e = new NIBRSError();
+				e.setContext(s.getReportSource());
+				e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+				e.setSegmentType(s.getSegmentType());
+				e.setValue(sequenceNumberString);
+				e.setNIBRSErrorCode(NIBRSErrorCode._601);
+				e.setDataElementIdentifier("40");
+				errorList.add(e);
+				sequenceNumber.setInvalid(true);
+				sequenceNumber.setValidationError(e);
 			}
 			
-			newArrestee.setArresteeSequenceNumber(sequenceNumber);
+			newArrestee.setArrestTransactionNumber(s.getStringBetween(40, 51));
 			
-			newArrestee.setArrestTransactionNumber(StringUtils.getStringBetween(40, 51, segmentData));
-			
-			ParsedObject<LocalDate> arrestDate = newArrestee.getArrestDate();
+			ParsedDate arrestDate = newArrestee.getParsedArrestDate();
 			arrestDate.setMissing(false);
 			arrestDate.setInvalid(false);
-			String arrestDateString = StringUtils.getStringBetween(52, 59, segmentData);
-			if (arrestDateString == null) {
+			Status arrestDateStatus = decodeDate(s, 52, 59, arrestDate);
+			if (arrestDateStatus == Status.MISSING) {
 				arrestDate.setMissing(true);
-				arrestDate.setValue(null);
-			} else {
-				try {
-					LocalDate d = LocalDate.parse(arrestDateString, getDateFormat());
-					arrestDate.setValue(d);
-				} catch (Exception pe) {
-					NIBRSError e = new NIBRSError();
-					e.setContext(s.getReportSource());
-					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-					e.setSegmentType(s.getSegmentType());
-					e.setValue(arrestDateString);
-					e.setNIBRSErrorCode(NIBRSErrorCode._705);
-					e.setDataElementIdentifier("42");
-					errorList.add(e);
-					arrestDate.setInvalid(true);
-					arrestDate.setValidationError(e);
-				}
+			} else if (arrestDateStatus == Status.INVALID) {
+				String arrestDateString = s.getStringBetween(52, 59);
+				NIBRSError e = new NIBRSError();
+				e.setContext(s.getReportSource());
+				e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+				e.setSegmentType(s.getSegmentType());
+				e.setValue(arrestDateString);
+				e.setNIBRSErrorCode(NIBRSErrorCode._705);
+				e.setDataElementIdentifier("42");
+				errorList.add(e);
+				arrestDate.setInvalid(true);
+				arrestDate.setValidationError(e);
 			}
-			newArrestee.setArrestDate(arrestDate);
 			
-			newArrestee.setTypeOfArrest(StringUtils.getStringBetween(60, 60, segmentData));
-			newArrestee.setMultipleArresteeSegmentsIndicator(StringUtils.getStringBetween(61, 61, segmentData));
-			newArrestee.setUcrArrestOffenseCode(StringUtils.getStringBetween(62, 64, segmentData));
+			newArrestee.setTypeOfArrest(s.getStringBetween(60, 60));
+			newArrestee.setMultipleArresteeSegmentsIndicator(s.getStringBetween(61, 61));
+			newArrestee.setUcrArrestOffenseCode(s.getStringBetween(62, 64));
 			for (int i = 0; i < ArresteeSegment.ARRESTEE_ARMED_WITH_COUNT; i++) {
-				newArrestee.setArresteeArmedWith(i, StringUtils.getStringBetween(65 + 3 * i, 66 + 3 * i, segmentData));
+				newArrestee.setArresteeArmedWith(i, s.getStringBetween(65 + 3 * i, 66 + 3 * i));
 			}
 			for (int i = 0; i < ArresteeSegment.AUTOMATIC_WEAPON_INDICATOR_COUNT; i++) {
-				newArrestee.setAutomaticWeaponIndicator(i, StringUtils.getStringBetween(67 + 3 * i, 67 + 3 * i, segmentData));
+				newArrestee.setAutomaticWeaponIndicator(i, s.getStringBetween(67 + 3 * i, 67 + 3 * i));
 			}
-			NIBRSAge arresteeAge = NIBRSAgeBuilder.buildAgeFromRawString(StringUtils.getStringBetween(71, 74, segmentData), newArrestee);
+			NIBRSAge arresteeAge = NIBRSAgeBuilder.buildAgeFromRawString(s.getStringBetween(71, 74), newArrestee);
 			newArrestee.setAge(arresteeAge);
-			newArrestee.setSex(StringUtils.getStringBetween(75, 75, segmentData));
-			newArrestee.setRace(StringUtils.getStringBetween(76, 76, segmentData));
-			newArrestee.setEthnicity(StringUtils.getStringBetween(77, 77, segmentData));
-			newArrestee.setResidentStatus(StringUtils.getStringBetween(78, 78, segmentData));
-			newArrestee.setDispositionOfArresteeUnder18(StringUtils.getStringBetween(79, 79, segmentData));
+			newArrestee.setSex(s.getStringBetween(75, 75));
+			newArrestee.setRace(s.getStringBetween(76, 76));
+			newArrestee.setEthnicity(s.getStringBetween(77, 77));
+			newArrestee.setResidentStatus(s.getStringBetween(78, 78));
+			newArrestee.setDispositionOfArresteeUnder18(s.getStringBetween(79, 79));
 		} else {
 			NIBRSError e = new NIBRSError();
 			e.setContext(s.getReportSource());
@@ -614,42 +989,36 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 	private OffenderSegment buildOffenderSegment(Segment s, GroupAIncidentReport parent, List<NIBRSError> errorList) {
 		OffenderSegment newOffender = new OffenderSegment();
 		newOffender.setParentReport(parent);
-		String segmentData = s.getData();
 		int length = s.getSegmentLength();
 		if (length == FlatfileConstants.OFFENDER_WITHOUT_ETHNICITY_SEGMENT_LENGTH || length == FlatfileConstants.OFFENDER_WITH_ETHNICITY_SEGMENT_LENGTH) {
 			
-			ParsedObject<Integer> sequenceNumber = newOffender.getOffenderSequenceNumber();
+			ParsedInt sequenceNumber = newOffender.getParsedOffenderSequenceNumber();
 			sequenceNumber.setMissing(false);
 			sequenceNumber.setInvalid(false);
-			String sequenceNumberString = StringUtils.getStringBetween(38, 39, segmentData);
-			if (sequenceNumberString == null) {
+			Status sequenceNumberStatus = FixedWidthDecoder.decodeInteger(s, 38, 39, sequenceNumber);
+			if (sequenceNumberStatus == Status.MISSING) {
 				sequenceNumber.setMissing(true);
-				sequenceNumber.setValue(null);
-			} else {
-				try {
-					Integer sequenceNumberI = Integer.parseInt(sequenceNumberString);
-					sequenceNumber.setValue(sequenceNumberI);
-				} catch (NumberFormatException nfe) {
-					NIBRSError e = new NIBRSError();
-					e.setContext(s.getReportSource());
-					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-					e.setSegmentType(s.getSegmentType());
-					e.setValue(sequenceNumberString);
-					e.setNIBRSErrorCode(NIBRSErrorCode._301);
-					e.setDataElementIdentifier("36");
-					errorList.add(e);
-					sequenceNumber.setInvalid(true);
-					sequenceNumber.setValidationError(e);
-				}
+			} else if (sequenceNumberStatus == Status.INVALID) {
+				String sequenceNumberString = s.getStringBetween(38, 39);
+				NIBRSError e = new NIBRSError();
+				e.setContext(s.getReportSource());
+				e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+				e.setSegmentType(s.getSegmentType());
+				e.setValue(sequenceNumberString);
+				e.setNIBRSErrorCode(NIBRSErrorCode._301);
+				e.setDataElementIdentifier("36");
+				errorList.add(e);
+				sequenceNumber.setInvalid(true);
+				sequenceNumber.setValidationError(e);
 			}
 			
-			NIBRSAge offenderAge = NIBRSAgeBuilder.buildAgeFromRawString(StringUtils.getStringBetween(40, 43, segmentData), newOffender);
+			NIBRSAge offenderAge = NIBRSAgeBuilder.buildAgeFromRawString(s.getStringBetween(40, 43), newOffender);
 			newOffender.setAge(offenderAge);
-			newOffender.setSex(StringUtils.getStringBetween(44, 44, segmentData));
-			newOffender.setRace(StringUtils.getStringBetween(45, 45, segmentData));
+			newOffender.setSex(s.getStringBetween(44, 44));
+			newOffender.setRace(s.getStringBetween(45, 45));
 			boolean hasOffenderEthnicity = length == FlatfileConstants.OFFENDER_WITH_ETHNICITY_SEGMENT_LENGTH;
 			if (hasOffenderEthnicity) {
-				newOffender.setEthnicity(StringUtils.getStringBetween(46, 46, segmentData));
+				newOffender.setEthnicity(s.getStringBetween(46, 46));
 			}
 		} else {
 			NIBRSError e = new NIBRSError();
@@ -667,96 +1036,92 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 
 		VictimSegment newVictim = new VictimSegment();
 		newVictim.setParentReport(parentIncident);
-		String segmentData = s.getData();
 		int length = s.getSegmentLength();
 
 // comment out temporarily for Hawaii file validation. TODO  -hw		
 //		if (length == 129 || length >= 141) {
 
 			Integer sequenceNumberI = null;
-			ParsedObject<Integer> sequenceNumber = newVictim.getVictimSequenceNumber();
+			ParsedInt sequenceNumber = newVictim.getParsedVictimSequenceNumber();
 			sequenceNumber.setMissing(false);
 			sequenceNumber.setInvalid(false);
-			String sequenceNumberString = StringUtils.getStringBetween(38, 40, segmentData);
-			if (sequenceNumberString == null) {
+			Status sequenceNumberStatus = FixedWidthDecoder.decodeInteger(s, 38, 40, sequenceNumber);
+			if (sequenceNumberStatus == Status.MISSING) {
 				sequenceNumber.setMissing(true);
-				sequenceNumber.setValue(null);
+			} else if (sequenceNumberStatus == Status.INVALID) {
+				String sequenceNumberString = s.getStringBetween(38, 40);
+				NIBRSError e = new NIBRSError();
+				e.setContext(s.getReportSource());
+				e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+				e.setSegmentType(s.getSegmentType());
+				e.setValue(sequenceNumberString);
+				e.setNIBRSErrorCode(NIBRSErrorCode._401);
+				e.setDataElementIdentifier("23");
+				errorList.add(e);
+				sequenceNumber.setInvalid(true);
+				sequenceNumber.setValidationError(e);
 			} else {
-				try {
-					sequenceNumberI = Integer.parseInt(sequenceNumberString);
-					sequenceNumber.setValue(sequenceNumberI);
-				} catch (NumberFormatException nfe) {
-					NIBRSError e = new NIBRSError();
-					e.setContext(s.getReportSource());
-					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-					e.setSegmentType(s.getSegmentType());
-					e.setValue(sequenceNumberString);
-					e.setNIBRSErrorCode(NIBRSErrorCode._401);
-					e.setDataElementIdentifier("23");
-					errorList.add(e);
-					sequenceNumber.setInvalid(true);
-					sequenceNumber.setValidationError(e);
-				}
+				sequenceNumberI = sequenceNumber.getValue();
 			}
 
 			for (int i = 0; i < VictimSegment.UCR_OFFENSE_CODE_CONNECTION_COUNT; i++) {
-				newVictim.setUcrOffenseCodeConnection(i, StringUtils.getStringBetween(41 + 3 * i, 43 + 3 * i, segmentData));
+				newVictim.setUcrOffenseCodeConnection(i, s.getStringBetween(41 + 3 * i, 43 + 3 * i));
 			}
+			ParsedInt offenderNumberRelated = new ParsedInt();
 			for (int i = 0; i < VictimSegment.OFFENDER_NUMBER_RELATED_COUNT; i++) {
-				String offenderNumberRelatedString = StringUtils.getStringBetween(90 + 4 * i, 91 + 4 * i, segmentData);
-				ParsedObject<Integer> offenderNumberRelated = newVictim.getOffenderNumberRelated(i);
 				offenderNumberRelated.setInvalid(false);
 				offenderNumberRelated.setMissing(false);
-				if (offenderNumberRelatedString == null) {
+				Status offenderNumberRelatedStatus = FixedWidthDecoder.decodeInteger(s, 90 + 4 * i, 91 + 4 * i, offenderNumberRelated);
+				if (offenderNumberRelatedStatus == Status.MISSING) {
 					offenderNumberRelated.setMissing(true);
 					offenderNumberRelated.setInvalid(false);
+				} else if (offenderNumberRelatedStatus == Status.VALID) {
+					newVictim.markOffenderNumberRelatedPopulated(i);
 				} else {
-					try {
-						Integer offenderNumberRelatedValue = Integer.parseInt(offenderNumberRelatedString);
-						offenderNumberRelated.setValue(offenderNumberRelatedValue);
-						newVictim.setOffenderNumberRelated(i, offenderNumberRelated);
-					} catch (NumberFormatException nfe) {
-						NIBRSError e = new NIBRSError();
-						e.setContext(s.getReportSource());
-						e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-						e.setSegmentType(s.getSegmentType());
-						e.setValue(StringUtils.getStringBetween(90 + 4 * i, 91 + 4 * i, segmentData));
-						e.setNIBRSErrorCode(NIBRSErrorCode._402);
-						e.setWithinSegmentIdentifier(sequenceNumberI);
-						e.setDataElementIdentifier("34");
-						errorList.add(e);
-						offenderNumberRelated.setMissing(false);
-						offenderNumberRelated.setInvalid(true);
-					}
+					NIBRSError e = new NIBRSError();
+					e.setContext(s.getReportSource());
+					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+					e.setSegmentType(s.getSegmentType());
+					e.setValue(s.getStringBetween(90 + 4 * i, 91 + 4 * i));
+					e.setNIBRSErrorCode(NIBRSErrorCode._402);
+					e.setWithinSegmentIdentifier(sequenceNumberI);
+					e.setDataElementIdentifier("34");
+					errorList.add(e);
+					offenderNumberRelated.setMissing(false);
+					offenderNumberRelated.setInvalid(true);
+				}
+				if (offenderNumberRelatedStatus != Status.MISSING) {
+					newVictim.setParsedOffenderNumberRelated(i, offenderNumberRelated);
+					offenderNumberRelated = new ParsedInt();
 				}
 			}
 			for (int i = 0; i < VictimSegment.OFFENDER_NUMBER_RELATED_COUNT; i++) {
-				newVictim.setVictimOffenderRelationship(i, StringUtils.getStringBetween(92 + 4 * i, 93 + 4 * i, segmentData));
+				newVictim.setVictimOffenderRelationship(i, s.getStringBetween(92 + 4 * i, 93 + 4 * i));
 			}
 
-			newVictim.setTypeOfVictim(StringUtils.getStringBetween(71, 71, segmentData));
+			newVictim.setTypeOfVictim(s.getStringBetween(71, 71));
 			
-			NIBRSAge victimAge = NIBRSAgeBuilder.buildAgeFromRawString(StringUtils.getStringBetween(72, 75, segmentData), newVictim);
+			NIBRSAge victimAge = NIBRSAgeBuilder.buildAgeFromRawString(s.getStringBetween(72, 75), newVictim);
 			newVictim.setAge(victimAge);
 			
-			newVictim.setSex(StringUtils.getStringBetween(76, 76, segmentData));
-			newVictim.setRace(StringUtils.getStringBetween(77, 77, segmentData));
-			newVictim.setEthnicity(StringUtils.getStringBetween(78, 78, segmentData));
-			newVictim.setResidentStatus(StringUtils.getStringBetween(79, 79, segmentData));
-			newVictim.setAggravatedAssaultHomicideCircumstances(0, StringUtils.getStringBetween(80, 81, segmentData));
-			newVictim.setAggravatedAssaultHomicideCircumstances(1, StringUtils.getStringBetween(82, 83, segmentData));
-			newVictim.setAdditionalJustifiableHomicideCircumstances(StringUtils.getStringBetween(84, 84, segmentData));
+			newVictim.setSex(s.getStringBetween(76, 76));
+			newVictim.setRace(s.getStringBetween(77, 77));
+			newVictim.setEthnicity(s.getStringBetween(78, 78));
+			newVictim.setResidentStatus(s.getStringBetween(79, 79));
+			newVictim.setAggravatedAssaultHomicideCircumstances(0, s.getStringBetween(80, 81));
+			newVictim.setAggravatedAssaultHomicideCircumstances(1, s.getStringBetween(82, 83));
+			newVictim.setAdditionalJustifiableHomicideCircumstances(s.getStringBetween(84, 84));
 
 			for (int i = 0; i < VictimSegment.TYPE_OF_INJURY_COUNT; i++) {
-				newVictim.setTypeOfInjury(i, StringUtils.getStringBetween(85 + i, 85 + i, segmentData));
+				newVictim.setTypeOfInjury(i, s.getStringBetween(85 + i, 85 + i));
 			}
 
 			boolean leoka = length == 141;
 
 			if (leoka) {
-				newVictim.setTypeOfOfficerActivityCircumstance(StringUtils.getStringBetween(130, 131, segmentData));
-				newVictim.setOfficerAssignmentType(StringUtils.getStringBetween(132, 132, segmentData));
-				newVictim.setOfficerOtherJurisdictionORI(StringUtils.getStringBetween(133, 141, segmentData));
+				newVictim.setTypeOfOfficerActivityCircumstance(s.getStringBetween(130, 131));
+				newVictim.setOfficerAssignmentType(s.getStringBetween(132, 132));
+				newVictim.setOfficerOtherJurisdictionORI(s.getStringBetween(133, 141));
 			}
 			
 			parentIncident.setIncludesLeoka(leoka);
@@ -780,123 +1145,106 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 
 		PropertySegment newProperty = new PropertySegment();
 		newProperty.setParentReport(parentIncident);
-		String segmentData = s.getData();
 		int length = s.getSegmentLength();
 
 		if (length == FlatfileConstants.PROPERTY_SEGMENT_LENGTH) {
 
-			String typeOfPropertyLoss = StringUtils.getStringBetween(38, 38, segmentData);
+			String typeOfPropertyLoss = s.getStringBetween(38, 38);
 			newProperty.setTypeOfPropertyLoss(typeOfPropertyLoss);
 
 			for (int i = 0; i < PropertySegment.PROPERTY_DESCRIPTION_COUNT; i++) {
-				newProperty.setPropertyDescription(i, StringUtils.getStringBetween(39 + 19 * i, 40 + 19 * i, segmentData));
+				newProperty.setPropertyDescription(i, s.getStringBetween(39 + 19 * i, 40 + 19 * i));
 			}
+			ParsedInt propertyValue = new ParsedInt();
 			for (int i = 0; i < PropertySegment.VALUE_OF_PROPERTY_COUNT; i++) {
-				String propertyValueString = StringUtils.getStringBetween(41 + 19 * i, 49 + 19 * i, segmentData);
-				ParsedObject<Integer> propertyValue = newProperty.getValueOfProperty(i);
 				propertyValue.setInvalid(false);
 				propertyValue.setMissing(false);
-				if (propertyValueString == null) {
-					propertyValue.setValue(null);
+				Status propertyValueStatus = FixedWidthDecoder.decodeDigits(s, 41 + 19 * i, 49 + 19 * i, propertyValue);
+				if (propertyValueStatus == Status.MISSING) {
 					propertyValue.setInvalid(false);
 					propertyValue.setMissing(true);
-				} else {
-					try {
-						String valueOfPropertyPattern = "\\d{1,9}";
-						if (propertyValueString.matches(valueOfPropertyPattern)){
-							Integer propertyValueI = Integer.parseInt(propertyValueString);
-							propertyValue.setValue(propertyValueI);
-						}
-						else{
-							throw new NumberFormatException(); 
-						}
-					} catch (NumberFormatException nfe) {
-						NIBRSError e = new NIBRSError();
-						e.setContext(s.getReportSource());
-						e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-						e.setSegmentType(s.getSegmentType());
-						e.setValue(org.apache.commons.lang3.StringUtils.leftPad(propertyValueString, 9));
-						e.setNIBRSErrorCode(NIBRSErrorCode._302);
-						e.setWithinSegmentIdentifier(null);
-						e.setDataElementIdentifier("16");
-						errorList.add(e);
-						propertyValue.setMissing(false);
-						propertyValue.setInvalid(true);
-					}
+				} else if (propertyValueStatus == Status.INVALID) {
+					NIBRSError e = new NIBRSError();
+					e.setContext(s.getReportSource());
+					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+					e.setSegmentType(s.getSegmentType());
+					e.setValue(org.apache.commons.lang3.StringUtils.leftPad(s.getStringBetween(41 + 19 * i, 49 + 19 * i), 9));
+					e.setNIBRSErrorCode(NIBRSErrorCode._302);
+					e.setWithinSegmentIdentifier(null);
+					e.setDataElementIdentifier("16");
+					errorList.add(e);
+					propertyValue.setMissing(false);
+					propertyValue.setInvalid(true);
+				}
+				if (propertyValueStatus != Status.MISSING) {
+					newProperty.setParsedValueOfProperty(i, propertyValue);
+					propertyValue = new ParsedInt();
 				}
 			}
+			ParsedDate d = new ParsedDate();
 			for (int i = 0; i < PropertySegment.DATE_RECOVERED_COUNT; i++) {
-				
-				ParsedObject<LocalDate> d = newProperty.getDateRecovered(i);
 				d.setMissing(false);
 				d.setInvalid(false);
-				String ds = StringUtils.getStringBetween(50 + 19 * i, 57 + 19 * i, segmentData);
-				if (ds == null) {
+				Status dsStatus = decodeDate(s, 50 + 19 * i, 57 + 19 * i, d);
+				if (dsStatus == Status.MISSING) {
 					d.setMissing(true);
-					d.setValue(null);
-				} else {
-					try {
-						LocalDate dd = LocalDate.parse(ds, getDateFormat());
-						d.setValue(dd);
-					} catch (Exception pe) {
-						NIBRSError e = new NIBRSError();
-						e.setContext(s.getReportSource());
-						e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-						e.setSegmentType(s.getSegmentType());
-						e.setValue(ds);
-						e.setNIBRSErrorCode(NIBRSErrorCode._305);
-						e.setDataElementIdentifier("17");
-						errorList.add(e);
-						d.setInvalid(true);
-						d.setValidationError(e);
-					}
+				} else if (dsStatus == Status.INVALID) {
+					String ds = s.getStringBetween(50 + 19 * i, 57 + 19 * i);
+					NIBRSError e = new NIBRSError();
+					e.setContext(s.getReportSource());
+					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+					e.setSegmentType(s.getSegmentType());
+					e.setValue(ds);
+					e.setNIBRSErrorCode(NIBRSErrorCode._305);
+					e.setDataElementIdentifier("17");
+					errorList.add(e);
+					d.setInvalid(true);
+					d.setValidationError(e);
+				}
+				if (dsStatus != Status.MISSING) {
+					newProperty.setParsedDateRecovered(i, d);
+					d = new ParsedDate();
 				}
 				
 			}
 
-			parseIntegerObject(segmentData, newProperty.getNumberOfStolenMotorVehicles(), 229, 230);
-			parseIntegerObject(segmentData, newProperty.getNumberOfRecoveredMotorVehicles(), 231, 232);
+			parseIntegerObject(s, newProperty.getParsedNumberOfStolenMotorVehicles(), 229, 230);
+			parseIntegerObject(s, newProperty.getParsedNumberOfRecoveredMotorVehicles(), 231, 232);
 
+			ParsedDouble estimatedDrugQuantity = new ParsedDouble();
 			for (int i = 0; i < PropertySegment.SUSPECTED_DRUG_TYPE_COUNT; i++) {
-				newProperty.setSuspectedDrugType(i, StringUtils.getStringBetween(233 + 15 * i, 233 + 15 * i, segmentData));
-				String drugQuantityWholePartString = StringUtils.getStringBetween(234 + 15 * i, 242 + 15 * i, segmentData);
-				String drugQuantityFractionalPartString = StringUtils.getStringBetween(243 + 15 * i, 245 + 15 * i, segmentData);
-				if (drugQuantityWholePartString != null || drugQuantityFractionalPartString != null) {
-					String fractionalValueString = "000";
+				newProperty.setSuspectedDrugType(i, s.getStringBetween(233 + 15 * i, 233 + 15 * i));
+				estimatedDrugQuantity.setMissing(false);
+				estimatedDrugQuantity.setInvalid(false);
+				Status estimatedDrugQuantityStatus = FixedWidthDecoder.decodeDecimal(s, 234 + 15 * i, 242 + 15 * i, 243 + 15 * i, 245 + 15 * i, estimatedDrugQuantity);
+				if (estimatedDrugQuantityStatus == Status.INVALID) {
+					String drugQuantityWholePartString = s.getStringBetween(234 + 15 * i, 242 + 15 * i);
+					String drugQuantityFractionalPartString = s.getStringBetween(243 + 15 * i, 245 + 15 * i);
 					String value = org.apache.commons.lang3.StringUtils.isBlank(drugQuantityWholePartString)? "0":drugQuantityWholePartString.trim();
 					if (drugQuantityFractionalPartString != null) {
-						fractionalValueString = drugQuantityFractionalPartString;
-						value += fractionalValueString;
-					}
-					
-					String drugQuantityFullValueString = org.apache.commons.lang3.StringUtils.trimToEmpty(drugQuantityWholePartString) + "." + fractionalValueString;
-					
-					try{
-						Double doubleValue = new Double(drugQuantityFullValueString);
-						newProperty.setEstimatedDrugQuantity(i, new ParsedObject<Double>(doubleValue));
-					}
-					catch (NumberFormatException ne){
-						log.error(ne);
-						ParsedObject<Double> estimatedDrugQuantity = ParsedObject.getInvalidParsedObject();
-						newProperty.setEstimatedDrugQuantity(i, estimatedDrugQuantity);
-						NIBRSError e = new NIBRSError();
-						e.setContext(s.getReportSource());
-						e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-						e.setSegmentType(s.getSegmentType());
-						e.setValue(value);
-						e.setNIBRSErrorCode(NIBRSErrorCode._302);
-						e.setWithinSegmentIdentifier(null);
-						e.setDataElementIdentifier("21");
-						errorList.add(e);
-						estimatedDrugQuantity.setValidationError(e);
-
+						value += drugQuantityFractionalPartString;
 					}
+					estimatedDrugQuantity.setValue(null);
+					estimatedDrugQuantity.setInvalid(true);
+					NIBRSError e = new NIBRSError();
+					e.setContext(s.getReportSource());
+					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+					e.setSegmentType(s.getSegmentType());
+					e.setValue(value);
+					e.setNIBRSErrorCode(NIBRSErrorCode._302);
+					e.setWithinSegmentIdentifier(null);
+					e.setDataElementIdentifier("21");
+					errorList.add(e);
+					estimatedDrugQuantity.setValidationError(e);
+				} else if (estimatedDrugQuantityStatus == Status.MISSING) {
+					estimatedDrugQuantity.setMissing(true);
 				}
-				else{
-					newProperty.setEstimatedDrugQuantity(i, ParsedObject.getMissingParsedObject());
+				if (estimatedDrugQuantityStatus != Status.MISSING) {
+					newProperty.setParsedEstimatedDrugQuantity(i, estimatedDrugQuantity);
+					estimatedDrugQuantity = new ParsedDouble();
 				}
 				
-				newProperty.setTypeDrugMeasurement(i, StringUtils.getStringBetween(246 + 15 * i, 247 + 15 * i, segmentData));
+				newProperty.setTypeDrugMeasurement(i, s.getStringBetween(246 + 15 * i, 247 + 15 * i));
 			}
 
 		} else {
@@ -913,25 +1261,40 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 
 	}
 
-	private void parseIntegerObject(String segmentData,
-			ParsedObject<Integer> parsedObject, 
+	/**
+	 * Decode a date field.  Dates in the default format are decoded directly from the segment; any other format configured on the builder
+	 * falls back to the formatter.
+	 */
+	private Status decodeDate(Segment s, int begin, int end, ParsedDate target) {
+		if (getDateFormat() == DEFAULT_DATE_FORMAT) {
+			return FixedWidthDecoder.decodeDate(s, begin, end, target);
+		}
+		String dateString = s.getStringBetween(begin, end);
+		if (dateString == null) {
+			target.setValue(null);
+			return Status.MISSING;
+		}
+		try {
+			target.setValue(LocalDate.parse(dateString, getDateFormat()));
+			return Status.VALID;
+		} catch (DateTimeParseException pe) {
+			return Status.INVALID;
+		}
+	}
+
+	private void parseIntegerObject(Segment s,
+			ParsedInt parsedObject, 
 			int startPosition, 
 			int endPosition) {
 		
 		parsedObject.setMissing(false);
 		parsedObject.setInvalid(false);
 		
-		String parsedString = 
-				StringUtils.getStringBetween(startPosition, endPosition, segmentData);
-		if (parsedString == null) {
+		Status status = FixedWidthDecoder.decodeInteger(s, startPosition, endPosition, parsedObject);
+		if (status == Status.MISSING) {
 			parsedObject.setMissing(true);
-			parsedObject.setValue(null);
-		} else {
-			try {
-				parsedObject.setValue(Integer.parseInt(parsedString));
-			} catch (NumberFormatException nfe) {
-				parsedObject.setInvalid(true);
-			}
+		} else if (status == Status.INVALID) {
+			parsedObject.setInvalid(true);
 		}
 	}
 
@@ -940,63 +1303,55 @@ public class IncidentBuilder extends AbstractIncidentBuilder {
 		OffenseSegment newOffense = new OffenseSegment();
 		newOffense.setParentReport(parentIncident);
 
-		String segmentData = s.getData();
 		int length = s.getSegmentLength();
 
 		if (length == FlatfileConstants.OFFENSE_SINGLE_BIAS_SEGMENT_LENGTH || length == FlatfileConstants.OFFENSE_MULTIPLE_BIAS_SEGMENT_LENGTH) {
 
-			newOffense.setUcrOffenseCode(StringUtils.getStringBetween(38, 40, segmentData));
-			newOffense.setOffenseAttemptedCompleted(StringUtils.getStringBetween(41, 41, segmentData));
-			newOffense.setLocationType(StringUtils.getStringBetween(45, 46, segmentData));
+			newOffense.setUcrOffenseCode(s.getStringBetween(38, 40));
+			newOffense.setOffenseAttemptedCompleted(s.getStringBetween(41, 41));
+			newOffense.setLocationType(s.getStringBetween(45, 46));
 			
-			String premisesEnteredString = StringUtils.getStringBetween(47, 48, segmentData);
-			ParsedObject<Integer> premisesEntered = newOffense.getNumberOfPremisesEntered();
+			ParsedInt premisesEntered = newOffense.getParsedNumberOfPremisesEntered();
+			Status premisesEnteredStatus = FixedWidthDecoder.decodeInteger(s, 47, 48, premisesEntered);
 			
-			if (premisesEnteredString == null) {
+			if (premisesEnteredStatus == Status.MISSING) {
 				premisesEntered.setMissing(true);
 				premisesEntered.setInvalid(false);
-				premisesEntered.setValue(null);
+			} else if (premisesEnteredStatus == Status.VALID) {
+				premisesEntered.setMissing(false);
+				premisesEntered.setInvalid(false);
 			} else {
-				
-				try {
-					Integer value = Integer.parseInt(premisesEnteredString);
-					premisesEntered.setValue(value);
-					premisesEntered.setMissing(false);
-					premisesEntered.setInvalid(false);
-				} catch (NumberFormatException nfe) {
-					NIBRSError e = new NIBRSError();
-					e.setContext(s.getReportSource());
-					e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
-					e.setSegmentType(s.getSegmentType());
-					e.setValue(premisesEnteredString);
-					e.setNIBRSErrorCode(NIBRSErrorCode._204);
-					e.setDataElementIdentifier("10");
-					errorList.add(e);
-					premisesEntered.setInvalid(true);
-					premisesEntered.setValidationError(e);
-				}
-				
+				NIBRSError e = new NIBRSError();
+				e.setContext(s.getReportSource());
+				e.setReportUniqueIdentifier(s.getSegmentUniqueIdentifier());
+				e.setSegmentType(s.getSegmentType());
+				e.setValue(s.getStringBetween(47, 48));
+				e.setNIBRSErrorCode(NIBRSErrorCode._204);
+				e.setDataElementIdentifier("10");
+				errorList.add(e);
+				premisesEntered.setInvalid(true);
+				premisesEntered.setValidationError(e);
 			}
 			
-			newOffense.setMethodOfEntry(StringUtils.getStringBetween(49, 49, segmentData));
+			newOffense.setMethodOfEntry(s.getStringBetween(49, 49));
 
 			int biasMotivationFields = length == FlatfileConstants.OFFENSE_SINGLE_BIAS_SEGMENT_LENGTH ? 1 : OffenseSegment.BIAS_MOTIVATION_COUNT;
 
 			for (int i = 0; i < biasMotivationFields; i++) {
-				newOffense.setBiasMotivation(i, StringUtils.getStringBetween(62 + 2*i, 63 + 2*i, segmentData));
+				newOffense.setBiasMotivation(i, s.getStringBetween(62 + 2*i, 63 + 2*i));
 			}
 
 			for (int i = 0; i < OffenseSegment.OFFENDERS_SUSPECTED_OF_USING_COUNT; i++) {
-				newOffense.setOffendersSuspectedOfUsing(i, StringUtils.getStringBetween(42 + i, 42 + i, segmentData));
+				newOffense.setOffendersSuspectedOfUsing(i, s.getStringBetween(42 + i, 42 + i));
 			}
 			for (int i = 0; i < OffenseSegment.TYPE_OF_CRIMINAL_ACTIVITY_COUNT; i++) {
-				newOffense.setTypeOfCriminalActivity(i, StringUtils.getStringBetween(50 + i, 50 + i, segmentData));
+				newOffense.setTypeOfCriminalActivity(i, s.getStringBetween(50 + i, 50 + i));
 			}
 			for (int i = 0; i < OffenseSegment.TYPE_OF_WEAPON_FORCE_INVOLVED_COUNT; i++) {
-				newOffense.setTypeOfWeaponForceInvolved(i, StringUtils.getStringBetween(53 + 3 * i, 54 + 3 * i, segmentData));
+				newOffense.setTypeOfWeaponForceInvolved(i, s.getStringBetween(53 + 3 * i, 54 + 3 * i));
 			}
 			for (int i = 0; i < OffenseSegment.AUTOMATIC_WEAPON_INDICATOR_COUNT; i++) {
-				newOffense.setAutomaticWeaponIndicator(i, StringUtils.getStringBetween(55 + 3 * i, 55 + 3 * i, segmentData));
+				newOffense.setAutomaticWeaponIndicator(i, s.getStringBetween(55 + 3 * i, 55 + 3 * i));
 			}
 
 		} else {
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.flatfile.importer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ReportSource;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.ArresteeSegment;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.ZeroReport;
+
+/**
+ * A view of one report in a flat file, backed by the raw segments that make it up.  Nothing beyond the segment headers is decoded until it is
+ * requested:  the ORI and identifier are decoded from the first segment on access, individual fields can be read from the segments, and the
+ * full report (with all of its data elements and errors) is only built by {@link #toReport()}, once.
+ * <br/>
+ * A RawReport is not thread-safe.  If it is backed by a buffer, the buffer must not be modified while the report is in use.
+ *
+ */
+public class RawReport {
+	
+	private final IncidentBuilder builder;
+	private final String readerLocationName;
+	private final Segment firstSegment;
+	private final List<Segment> segments = new ArrayList<>();
+	private final List<List<NIBRSError>> segmentErrors = new ArrayList<>();
+	private AbstractReport report;
+	private List<NIBRSError> errorList;
+	
+	RawReport(IncidentBuilder builder, String readerLocationName, Segment firstSegment) {
+		this.builder = builder;
+		this.readerLocationName = readerLocationName;
+		this.firstSegment = firstSegment;
+		segments.add(firstSegment);
+		segmentErrors.add(Collections.emptyList());
+	}
+	
+	/**
+	 * Whether the specified segment (which must have a valid header) belongs to this report, rather than starting a new one.  This is the
+	 * case when it is not at a level that always starts a report, and its unique identifier is the identifier of this report.
+	 */
+	boolean continuesWith(Segment s) {
+		char level = s.getSegmentLevel();
+		if (level == ZeroReport.ZERO_REPORT_TYPE_IDENTIFIER 
+				|| level == GroupAIncidentReport.ADMIN_SEGMENT_TYPE_IDENTIFIER 
+				|| level == ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER) {
+			return false;
+		}
+		if (hasIdentifier()) {
+			return firstSegment.hasSameSegmentUniqueIdentifier(s);
+		}
+		return s.getSegmentUniqueIdentifier() == null;
+	}
+	
+	/**
+	 * Add a segment that continues this report.  A segment with header errors is kept only so that its errors are reported with this report.
+	 */
+	void addSegment(Segment s, List<NIBRSError> headerErrors) {
+		segments.add(s);
+		segmentErrors.add(headerErrors);
+	}
+	
+	List<List<NIBRSError>> getSegmentErrors() {
+		return segmentErrors;
+	}
+	
+	/**
+	 * Whether the built report takes its identifier from the first segment (zero reports have no identifier, and Group B reports of the
+	 * wrong length have no arrestee transaction number).
+	 */
+	private boolean hasIdentifier() {
+		char level = getSegmentLevel();
+		return level != ZeroReport.ZERO_REPORT_TYPE_IDENTIFIER 
+				&& (level != ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER || firstSegment.getSegmentLength() == 66);
+	}
+	
+	public char getSegmentLevel() {
+		return firstSegment.getSegmentLevel();
+	}
+	
+	public char getActionType() {
+		return firstSegment.getActionType();
+	}
+	
+	public String getOri() {
+		return firstSegment.getOri();
+	}
+	
+	/**
+	 * The identifier that the built report will have (see {@link AbstractReport#getIdentifier()}), which is the incident number or arrest
+	 * transaction number.
+	 */
+	public String getIdentifier() {
+		return hasIdentifier() ? firstSegment.getSegmentUniqueIdentifier() : null;
+	}
+	
+	public ReportSource getSource() {
+		return firstSegment.getReportSource();
+	}
+	
+	/**
+	 * The segments of the report, in file order, starting with the segment that began the report.  Segments with header errors are included.
+	 */
+	public List<Segment> getSegments() {
+		return Collections.unmodifiableList(segments);
+	}
+	
+	public int getSegmentCount() {
+		return segments.size();
+	}
+	
+	/**
+	 * Build the full report from its segments.  The report is built on the first call, and the same instance is returned thereafter.
+	 */
+	public AbstractReport toReport() {
+		if (report == null) {
+			errorList = new ArrayList<>();
+			report = builder.buildReport(this, errorList, readerLocationName);
+		}
+		return report;
+	}
+	
+	/**
+	 * The errors encountered in building the report; this builds the report if it has not been built already.
+	 */
+	public List<NIBRSError> getErrorList() {
+		toReport();
+		return errorList;
+	}
+	
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.flatfile.importer;
+
+/**
+ * Interface for objects that are interested in the reports in a flat file, but not necessarily in all of their data.
+ *
+ */
+public interface RawReportListener {
+
+    /**
+     * Called on implementations when the builder has gathered all the segments of a report.  The report's data is decoded only as it is
+     * accessed through the RawReport.
+     * @param report the segments of the report
+     */
+    public void newRawReport(RawReport report);
+
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.flatfile.importer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.search.nibrs.model.ArresteeSegment;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.ZeroReport;
+
+/**
+ * Byte-level utilities for splitting flat file data into ranges that can be built into reports independently.  A range always starts at a
+ * segment that the (serial) builder would treat as the start of a new report:  a segment at level 0, 1, or 7, or a segment whose unique
+ * identifier differs from that of the Group A segment before it.
+ *
+ */
+final class ReportBoundaryScanner {
+
+	private static final int IDENTIFIER_BEGIN = 26;
+	private static final int IDENTIFIER_END = 37;
+	private static final int MINIMUM_SEGMENT_LENGTH = 37;
+
+	private ReportBoundaryScanner() {
+	}
+
+	/**
+	 * The result of counting the lines in a range.
+	 */
+	static final class LineCount {
+		/**
+		 * The number of line terminators in the range (a \r\n pair counts once).
+		 */
+		int terminators;
+		/**
+		 * The absolute index of the start of the first blank line in the range, or -1 if there is none.
+		 */
+		int firstBlankLine = -1;
+	}
+
+	/**
+	 * Find the report boundaries in buffer[start, end).  The first element of the returned list is always start.  Boundaries are placed
+	 * roughly targetSize bytes apart, and only at the start of a complete line (one that is followed by a line terminator, or by end when
+	 * endOfInput is true).
+	 */
+	static List<Integer> findBoundaries(ByteBuffer buffer, int start, int end, boolean endOfInput, int targetSize) {
+		List<Integer> ret = new ArrayList<>();
+		ret.add(start);
+		int position = start + targetSize;
+		while (position < end) {
+			int boundary = findBoundaryAfter(buffer, position, end, endOfInput);
+			if (boundary < 0) {
+				break;
+			}
+			ret.add(boundary);
+			position = boundary + targetSize;
+		}
+		return ret;
+	}
+
+	/**
+	 * Count the line terminators in buffer[start, end), and find the first blank line (which ends the input, as far as the builder is concerned).
+	 */
+	static LineCount countLines(ByteBuffer buffer, int start, int end) {
+		LineCount ret = new LineCount();
+		int lineStart = start;
+		boolean blank = true;
+		for (int i = start; i < end; i++) {
+			byte b = buffer.get(i);
+			if (b == '\n' || b == '\r') {
+				if (blank && ret.firstBlankLine < 0) {
+					ret.firstBlankLine = lineStart;
+				}
+				if (b == '\r' && i + 1 < end && buffer.get(i + 1) == '\n') {
+					i++;
+				}
+				ret.terminators++;
+				lineStart = i + 1;
+				blank = true;
+			} else if (blank && !Character.isWhitespace((char) (b & 0xff))) {
+				blank = false;
+			}
+		}
+		if (lineStart < end && blank && ret.firstBlankLine < 0) {
+			ret.firstBlankLine = lineStart;
+		}
+		return ret;
+	}
+
+	/**
+	 * Find the first report boundary at a line that starts after position.
+	 * @return the absolute index of the boundary, or -1 if there is none before end
+	 */
+	private static int findBoundaryAfter(ByteBuffer buffer, int position, int end, boolean endOfInput) {
+		int previous = -1;
+		int previousEnd = -1;
+		int current = nextLineStart(buffer, position, end);
+		while (current >= 0 && current < end) {
+			int currentEnd = lineEnd(buffer, current, end);
+			if (currentEnd == end && !endOfInput) {
+				// the line may be incomplete
+				return -1;
+			}
+			if (isReportStart(buffer, previous, previousEnd, current, currentEnd)) {
+				return current;
+			}
+			previous = current;
+			previousEnd = currentEnd;
+			current = nextLineStart(buffer, currentEnd, end);
+		}
+		return -1;
+	}
+
+	private static boolean isReportStart(ByteBuffer buffer, int previous, int previousEnd, int current, int currentEnd) {
+		if (!hasValidHeader(buffer, current, currentEnd)) {
+			return false;
+		}
+		char level = (char) (buffer.get(current + 4) & 0xff);
+		if (isSingleSegmentOrAdminLevel(level)) {
+			return true;
+		}
+		if (previous < 0 || !hasValidHeader(buffer, previous, previousEnd)) {
+			return false;
+		}
+		char previousLevel = (char) (buffer.get(previous + 4) & 0xff);
+		// after a zero report or Group B arrest, the report identifier is not simply that of the previous segment
+		return previousLevel != ZeroReport.ZERO_REPORT_TYPE_IDENTIFIER
+				&& previousLevel != ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER
+				&& !sameIdentifier(buffer, previous, current);
+	}
+
+	private static boolean isSingleSegmentOrAdminLevel(char level) {
+		return level == ZeroReport.ZERO_REPORT_TYPE_IDENTIFIER
+				|| level == GroupAIncidentReport.ADMIN_SEGMENT_TYPE_IDENTIFIER
+				|| level == ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER;
+	}
+
+	/**
+	 * Whether the line would pass the header checks in Segment (length of at least 37, and an integer in positions 1-4).
+	 */
+	private static boolean hasValidHeader(ByteBuffer buffer, int start, int end) {
+		if (end - start < MINIMUM_SEGMENT_LENGTH) {
+			return false;
+		}
+		int i = start;
+		int stop = start + 4;
+		while (i < stop && (buffer.get(i) & 0xff) <= ' ') {
+			i++;
+		}
+		while (stop > i && (buffer.get(stop - 1) & 0xff) <= ' ') {
+			stop--;
+		}
+		if (i < stop && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+			i++;
+		}
+		if (i == stop) {
+			return false;
+		}
+		for (; i < stop; i++) {
+			byte b = buffer.get(i);
+			if (b < '0' || b > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean sameIdentifier(ByteBuffer buffer, int line1, int line2) {
+		int start1 = line1 + IDENTIFIER_BEGIN - 1;
+		int end1 = trimmedEnd(buffer, start1, line1 + IDENTIFIER_END);
+		start1 = trimmedStart(buffer, start1, end1);
+		int start2 = line2 + IDENTIFIER_BEGIN - 1;
+		int end2 = trimmedEnd(buffer, start2, line2 + IDENTIFIER_END);
+		start2 = trimmedStart(buffer, start2, end2);
+		if (end1 - start1 != end2 - start2) {
+			return false;
+		}
+		for (int i = 0; i < end1 - start1; i++) {
+			if (buffer.get(start1 + i) != buffer.get(start2 + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int trimmedStart(ByteBuffer buffer, int start, int end) {
+		while (start < end && (buffer.get(start) & 0xff) <= ' ') {
+			start++;
+		}
+		return start;
+	}
+
+	private static int trimmedEnd(ByteBuffer buffer, int start, int end) {
+		while (end > start && (buffer.get(end - 1) & 0xff) <= ' ') {
+			end--;
+		}
+		return end;
+	}
+
+	/**
+	 * @return the index of the first line terminator at or after position, or end if there is none
+	 */
+	static int lineEnd(ByteBuffer buffer, int position, int end) {
+		while (position < end) {
+			byte b = buffer.get(position);
+			if (b == '\n' || b == '\r') {
+				return position;
+			}
+			position++;
+		}
+		return end;
+	}
+
+	/**
+	 * @return the index of the start of the line following the one containing position, or -1 if that line's terminator is not complete
+	 */
+	private static int nextLineStart(ByteBuffer buffer, int position, int end) {
+		int terminator = lineEnd(buffer, position, end);
+		if (terminator >= end) {
+			return -1;
+		}
+		if (buffer.get(terminator) == '\r') {
+			if (terminator + 1 == end) {
+				return -1;
+			}
+			return buffer.get(terminator + 1) == '\n' ? terminator + 2 : terminator + 1;
+		}
+		return terminator + 1;
+	}
+
+}
@@ -15,18 +15,30 @@
  */
 package org.search.nibrs.flatfile.importer;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.common.ReportSource;
 import org.search.nibrs.flatfile.util.*;
+import org.search.nibrs.model.codes.CodeStrings;
 import org.search.nibrs.model.codes.NIBRSErrorCode;
 
 /**
  * Representation of a single line in a NIBRS report file.
+ * <br/>
+ * A segment is backed either by a String (one line read through a Reader) or by a byte range within a ByteBuffer
+ * (see {@link #setData(ReportSource, ByteBuffer, int, int)}).  In the latter case fields are exposed as offset/length views
+ * over the buffer and a String is only materialized when a field is actually requested.  Flat files are ASCII, so each
+ * byte is treated as one (ISO-8859-1) character.
+ * <br/>
+ * Only the header fields needed to group segments into reports (the length, level, and action type) are read when the data is set; the
+ * ORI and unique identifier are decoded on first access, and all other fields are decoded only when requested.
  *
  */
 public class Segment
@@ -39,8 +51,12 @@ public class Segment
     private char segmentType;
     private char actionType;
     private String data;
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
     private int segmentLength;
     private char segmentLevel;
+    private boolean validHeader;
     private ReportSource reportSource;
     
     public char getSegmentLevel() {
@@ -48,70 +64,245 @@ public class Segment
 	}
 
 	public List<NIBRSError> setData(ReportSource reportSource, String data)
+    {
+        this.data = data;
+        this.buffer = null;
+        this.offset = 0;
+        this.length = data == null ? -1 : data.length();
+        return parseHeader(reportSource);
+    }
+
+	/**
+	 * Set the data of this segment to a view of the specified buffer.  No bytes are copied; the buffer must not be modified
+	 * while the segment is in use.
+	 * @param reportSource the source of the segment
+	 * @param buffer the buffer holding the segment bytes
+	 * @param offset the absolute index of the first byte of the segment within the buffer
+	 * @param length the number of bytes in the segment, excluding any line terminator
+	 * @return the list of errors encountered in the segment header
+	 */
+	public List<NIBRSError> setData(ReportSource reportSource, ByteBuffer buffer, int offset, int length)
+	{
+		this.data = null;
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+		return parseHeader(reportSource);
+	}
+
+	private List<NIBRSError> parseHeader(ReportSource reportSource)
     {
     	List<NIBRSError> ret = new ArrayList<NIBRSError>();
     	
-        this.data = data;
         this.reportSource = reportSource;
+        this.segmentUniqueIdentifier = null;
+        this.ori = null;
+        this.validHeader = false;
         NIBRSError e = null;
-        if (data == null || data.length() < 37) {
+        if (length < 37) {
         	e = new NIBRSError();
         	e.setContext(reportSource);
         	e.setNIBRSErrorCode(NIBRSErrorCode._001);
         	e.setDataElementIdentifier("Segment Length");
-        	if (data != null) {
-        		e.setValue(data.length());
+        	if (length >= 0) {
+        		e.setValue(length);
         	}
 			ret.add(e);
         }
-		if (data.length() >= 5) {
-			segmentType = StringUtils.getStringBetween(5, 5, data).charAt(0);
+		if (length >= 5) {
+			segmentType = charAt(4);
 			if (e != null) {
 				e.setSegmentType(segmentType);
 			}
 		}
 		if (e == null) {
-			String sv = StringUtils.getStringBetween(1, 4, data);
-	        Integer i = null;
-	        try {
-				i = Integer.parseInt(sv);
-				this.segmentLength = i;
-	        } catch (NumberFormatException nfe) {
-	        	e = new NIBRSError();
-	        	e.setContext(reportSource);
-	        	e.setNIBRSErrorCode(NIBRSErrorCode._001);
-	        	e.setDataElementIdentifier("Segment Length");
-	        	e.setValue(sv);
-	        	ret.add(e);
+	        Integer i = getUnsignedIntBetween(1, 4);
+	        if (i == null) {
+	        	String sv = getStringBetween(1, 4);
+	        	try {
+	        		i = Integer.parseInt(sv);
+	        	} catch (NumberFormatException nfe) {
+	        		e = new NIBRSError();
+	        		e.setContext(reportSource);
+	        		e.setNIBRSErrorCode(NIBRSErrorCode._001);
+	        		e.setDataElementIdentifier("Segment Length");
+	        		e.setValue(sv);
+	        		ret.add(e);
+	        	}
+	        }
+	        if (i != null) {
+	        	this.segmentLength = i;
 	        }
-	        if (i != data.length()) {
-	        	LOG.warn("Warning at line " + reportSource.getSourceLocation() + ":  expected segment length of " + i + ", actual length was " + data.length());
+	        if (i != null && i != length) {
+	        	LOG.warn("Warning at line " + reportSource.getSourceLocation() + ":  expected segment length of " + i + ", actual length was " + length);
 	        }
 	        if (e == null) {
-	        	this.segmentUniqueIdentifier = StringUtils.getStringBetween(26, 37, data);
-	        	this.ori = StringUtils.getStringBetween(17, 25, data);
-	        	this.actionType =  data.charAt(5);
-	        	this.segmentLevel = StringUtils.getStringBetween(5, 5, data).charAt(0);
+	        	this.validHeader = true;
+	        	this.actionType = charAt(5);
+	        	this.segmentLevel = segmentType;
 	        }
 		}
         return ret;
     }
 
+	/**
+	 * Get the trimmed value of the field between the 1-based beginning and ending positions of this segment, following the same
+	 * rules as {@link StringUtils#getStringBetween(int, int, String)}.  For buffer-backed segments the field is trimmed
+	 * at the byte level, so a String is only allocated for non-blank fields.  Values that are NIBRS codes are returned as the
+	 * shared String from {@link CodeStrings}, which buffer-backed segments look up without allocating at all.
+	 * @param begin the 1-based beginning position
+	 * @param end the 1-based ending position
+	 * @return the trimmed field value, or null if the field is blank or beyond the end of the segment
+	 */
+	public String getStringBetween(int begin, int end)
+	{
+		if (buffer == null) {
+			return CodeStrings.canonical(StringUtils.getStringBetween(begin, end, data));
+		}
+		if (length <= 0 || length < end) {
+			return null;
+		}
+		int start = offset + begin - 1;
+		int stop = offset + end;
+		while (start < stop && (buffer.get(start) & 0xff) <= ' ') {
+			start++;
+		}
+		while (stop > start && (buffer.get(stop - 1) & 0xff) <= ' ') {
+			stop--;
+		}
+		if (start == stop) {
+			return null;
+		}
+		String code = CodeStrings.lookup(buffer, start, stop - start);
+		return code != null ? code : decode(buffer, start, stop - start);
+	}
+
+	/**
+	 * Get the character at the specified 0-based index within this segment.
+	 */
+	public char charAt(int index)
+	{
+		if (buffer == null) {
+			return data.charAt(index);
+		}
+		if (index < 0 || index >= length) {
+			throw new StringIndexOutOfBoundsException(index);
+		}
+		return (char) (buffer.get(offset + index) & 0xff);
+	}
+
+	/**
+	 * The actual number of characters in this segment (which may differ from the length declared in positions 1-4).
+	 */
+	public int length()
+	{
+		return length;
+	}
+
+	/**
+	 * Parse the field between the specified 1-based positions as a non-negative integer without allocating.  Returns null if
+	 * the (trimmed) field is blank or contains anything other than the digits 0-9, or if the value overflows an int; callers
+	 * fall back to the String representation in that case.
+	 */
+	private Integer getUnsignedIntBetween(int begin, int end)
+	{
+		if (length <= 0 || length < end) {
+			return null;
+		}
+		int start = trimmedStart(begin, end);
+		int stop = trimmedStop(start, end);
+		if (start == stop || stop - start > 9) {
+			return null;
+		}
+		int value = 0;
+		for (int i = start; i < stop; i++) {
+			char c = charAt(i);
+			if (c < '0' || c > '9') {
+				return null;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	static final String decode(ByteBuffer buffer, int start, int len)
+	{
+		if (buffer.hasArray()) {
+			return new String(buffer.array(), buffer.arrayOffset() + start, len, StandardCharsets.ISO_8859_1);
+		}
+		byte[] bytes = new byte[len];
+		for (int i = 0; i < len; i++) {
+			bytes[i] = buffer.get(start + i);
+		}
+		return new String(bytes, 0, len, StandardCharsets.ISO_8859_1);
+	}
+
 	public ReportSource getReportSource() {
 		return reportSource;
 	}
+    /**
+     * Get the full text of the segment.  For buffer-backed segments, the String is materialized (once) on demand.
+     */
     public String getData()
     {
+        if (data == null && buffer != null) {
+            data = decode(buffer, offset, length);
+        }
         return data;
     }
     public String getSegmentUniqueIdentifier()
     {
+        if (segmentUniqueIdentifier == null && validHeader) {
+            segmentUniqueIdentifier = getStringBetween(26, 37);
+        }
         return segmentUniqueIdentifier;
     }
     public String getOri()
     {
+        if (ori == null && validHeader) {
+            ori = getStringBetween(17, 25);
+        }
         return ori;
     }
+    /**
+     * Whether this segment has the same unique identifier as the other.  When both segments are backed by buffers, the trimmed identifiers
+     * are compared byte by byte, without decoding either one.
+     */
+    public boolean hasSameSegmentUniqueIdentifier(Segment other)
+    {
+        if (buffer == null || other.buffer == null || !validHeader || !other.validHeader) {
+            return Objects.equals(getSegmentUniqueIdentifier(), other.getSegmentUniqueIdentifier());
+        }
+        int start = trimmedStart(26, 37);
+        int stop = trimmedStop(start, 37);
+        int otherStart = other.trimmedStart(26, 37);
+        int otherStop = other.trimmedStop(otherStart, 37);
+        if (stop - start != otherStop - otherStart) {
+            return false;
+        }
+        for (int i = 0; i < stop - start; i++) {
+            if (buffer.get(offset + start + i) != other.buffer.get(other.offset + otherStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    private int trimmedStart(int begin, int end)
+    {
+        int start = begin - 1;
+        while (start < end && charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+    private int trimmedStop(int start, int end)
+    {
+        int stop = end;
+        while (stop > start && charAt(stop - 1) <= ' ') {
+            stop--;
+        }
+        return stop;
+    }
     public char getSegmentType()
     {
         return segmentType;
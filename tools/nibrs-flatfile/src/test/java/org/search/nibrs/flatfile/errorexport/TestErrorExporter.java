@@ -158,6 +158,36 @@ public class TestErrorExporter {
 				new SimpleDateFormat("MM/dd/yy").format(new Date()) + StringUtils.repeat(' ', 31) + StringUtils.repeat(' ', 6), line);
 	}
 	
+	@Test
+	public void testIncrementalErrorReport() throws IOException {
+		String expected = exportErrorListToString();
+		StringWriter writer = new StringWriter();
+		try (ErrorReportWriter errorReportWriter = new ErrorReportWriter(writer)) {
+			errorReportWriter.write(errorList.subList(0, 2));
+			// each group of errors is visible as soon as it is written
+			assertEquals(2, StringUtils.split(writer.toString(), System.lineSeparator()).length);
+			errorReportWriter.write(new ArrayList<>());
+			errorReportWriter.write(errorList.get(2));
+			errorReportWriter.write(errorList.subList(3, errorList.size()));
+			assertEquals(errorList.size(), errorReportWriter.getErrorCount());
+			assertFalse(writer.toString().contains("999999999"));
+		}
+		assertEquals(expected, writer.toString());
+	}
+	
+	@Test
+	public void testErrorWithoutReport() throws IOException {
+		StringWriter writer = new StringWriter();
+		try (ErrorReportWriter errorReportWriter = new ErrorReportWriter(writer)) {
+			NIBRSError error = new NIBRSError();
+			error.setNIBRSErrorCode(NIBRSErrorCode._015);
+			errorReportWriter.write(error);
+			errorReportWriter.write(errorList.subList(0, 2));
+			assertEquals(2, errorReportWriter.getErrorCount());
+			assertEquals(2, StringUtils.split(writer.toString(), System.lineSeparator()).length);
+		}
+	}
+	
 	@Test
 	public void testErrorReport() throws IOException {
 		String contents = exportErrorListToString();
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.flatfile.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import org.junit.Test;
+import org.search.nibrs.common.ParsedDate;
+import org.search.nibrs.common.ParsedDouble;
+import org.search.nibrs.common.ParsedInt;
+import org.search.nibrs.common.ReportSource;
+import org.search.nibrs.flatfile.importer.FixedWidthDecoder.Status;
+
+/**
+ * Tests that FixedWidthDecoder accepts and rejects exactly the values that the JDK parse methods it replaces do.
+ *
+ */
+public class TestFixedWidthDecoder {
+
+	private static final String HEADER = "00465I022003    TN006000002-018065   ";
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+	@Test
+	public void testDates() {
+		String[] values = new String[] {"20020231", "20000229", "19000229", "20021231", "20021301", "20020001", "20020100", "20020132",
+				"00000101", "00010101", "2002 102", "2002010", " 2002010", "200201011", "+2002010", "-2002010", "        ", "2002-1-1", "abcdefgh"};
+		for (String value : values) {
+			assertSameDate(value);
+		}
+		Random random = new Random(1);
+		for (int i = 0; i < 2000; i++) {
+			assertSameDate(String.format("%04d%02d%02d", random.nextInt(3000), random.nextInt(14), random.nextInt(33)));
+		}
+	}
+
+	@Test
+	public void testIntegers() {
+		String[] values = new String[] {"01", "1 ", " 1", "+1", "-1", "- ", "+ ", "1-", "  ", "0a", "99", "00"};
+		for (String value : values) {
+			assertSameInteger(value);
+		}
+		String[] longValues = new String[] {"2147483647", "2147483648", "-2147483648", "-2147483649", "9999999999", "  -0012345"};
+		for (String value : longValues) {
+			assertSameInteger(value);
+		}
+	}
+
+	@Test
+	public void testShortSegment() {
+		Segment s = segment("");
+		ParsedInt i = new ParsedInt(5);
+		assertEquals(Status.MISSING, FixedWidthDecoder.decodeInteger(s, 38, 39, i));
+		assertNull(i.getValue());
+		assertNull(FixedWidthDecoder.getInteger(s, 38, 39));
+		ParsedDate d = new ParsedDate();
+		assertEquals(Status.MISSING, FixedWidthDecoder.decodeDate(s, 38, 45, d));
+	}
+
+	@Test
+	public void testDigitsAndHours() {
+		String[] values = new String[] {"000000123", "   123   ", "+00000123", "-00000123", "12 3     ", "999999999", "         "};
+		for (String value : values) {
+			Segment s = segment(value);
+			ParsedInt target = new ParsedInt();
+			Status status = FixedWidthDecoder.decodeDigits(s, 38, 46, target);
+			String trimmed = value.trim();
+			if (trimmed.isEmpty()) {
+				assertEquals(value, Status.MISSING, status);
+			} else if (trimmed.matches("\\d{1,9}")) {
+				assertEquals(value, Status.VALID, status);
+				assertEquals(value, Integer.valueOf(trimmed), target.getValue());
+			} else {
+				assertEquals(value, Status.INVALID, status);
+			}
+		}
+		assertEquals(Status.VALID, FixedWidthDecoder.decodeHour(segment("07"), 38, 39, new ParsedInt()));
+		assertEquals(Status.VALID, FixedWidthDecoder.decodeHour(segment("+7"), 38, 39, new ParsedInt()));
+		assertEquals(Status.INVALID, FixedWidthDecoder.decodeHour(segment("7 "), 38, 39, new ParsedInt()));
+		assertEquals(Status.INVALID, FixedWidthDecoder.decodeHour(segment(" 7"), 38, 39, new ParsedInt()));
+		assertEquals(Status.MISSING, FixedWidthDecoder.decodeHour(segment("  "), 38, 39, new ParsedInt()));
+	}
+
+	@Test
+	public void testDecimals() {
+		String[][] values = new String[][] {{"000000001", "500"}, {"        1", "5  "}, {"   ", "   "}, {"         ", "250"}, {"        5", "   "},
+			{"      1e2", "000"}, {"       -5", "000"}, {"        -", "   "}, {"       5.", "000"}, {"     abc ", "000"}, {"        1", "abc"},
+			{"999999999", "999"}, {"        0", "001"}, {"        1", "d  "}, {"  1     0", "000"}};
+		for (String[] value : values) {
+			Segment s = segment(value[0] + " " + value[1]);
+			ParsedDouble target = new ParsedDouble();
+			Status status = FixedWidthDecoder.decodeDecimal(s, 38, 46, 48, 50, target);
+			String whole = value[0].trim();
+			String fraction = value[1].trim();
+			if (whole.isEmpty() && fraction.isEmpty()) {
+				assertEquals(Status.MISSING, status);
+				continue;
+			}
+			Double expected = null;
+			try {
+				expected = Double.valueOf(whole + "." + (fraction.isEmpty() ? "000" : fraction));
+			} catch (NumberFormatException nfe) {
+				// expected stays null
+			}
+			if (expected == null) {
+				assertEquals(value[0] + "." + value[1], Status.INVALID, status);
+			} else {
+				assertEquals(value[0] + "." + value[1], Status.VALID, status);
+				assertEquals(value[0] + "." + value[1], expected, target.getValue());
+			}
+		}
+		Random random = new Random(1);
+		for (int i = 0; i < 2000; i++) {
+			String whole = String.format("%9d", random.nextInt(1000000000));
+			String fraction = String.format("%03d", random.nextInt(1000));
+			ParsedDouble target = new ParsedDouble();
+			assertEquals(Status.VALID, FixedWidthDecoder.decodeDecimal(segment(whole + " " + fraction), 38, 46, 48, 50, target));
+			assertEquals(Double.valueOf(whole.trim() + "." + fraction), target.getValue());
+		}
+	}
+
+	private void assertSameDate(String value) {
+		ParsedDate target = new ParsedDate();
+		Segment s = segment(value);
+		Status status = FixedWidthDecoder.decodeDate(s, 38, 45, target);
+		// a field that runs past the end of the segment is missing, as with getStringBetween
+		String trimmed = s.getStringBetween(38, 45);
+		if (trimmed == null) {
+			assertEquals(value, Status.MISSING, status);
+			return;
+		}
+		LocalDate expected = null;
+		try {
+			expected = LocalDate.parse(trimmed, DATE_FORMAT);
+		} catch (Exception e) {
+			// expected stays null
+		}
+		if (expected == null) {
+			assertEquals(value, Status.INVALID, status);
+		} else {
+			assertEquals(value, Status.VALID, status);
+			assertEquals(value, expected, target.getValue());
+		}
+	}
+
+	private void assertSameInteger(String value) {
+		ParsedInt target = new ParsedInt();
+		int end = 38 + value.length() - 1;
+		Segment s = segment(value);
+		Status status = FixedWidthDecoder.decodeInteger(s, 38, end, target);
+		String trimmed = value.trim();
+		if (trimmed.isEmpty()) {
+			assertEquals(value, Status.MISSING, status);
+			assertNull(FixedWidthDecoder.getInteger(s, 38, end));
+			return;
+		}
+		Integer expected = null;
+		try {
+			expected = Integer.parseInt(trimmed);
+		} catch (NumberFormatException nfe) {
+			// expected stays null
+		}
+		if (expected == null) {
+			assertEquals(value, Status.INVALID, status);
+		} else {
+			assertEquals(value, Status.VALID, status);
+			assertEquals(value, expected, target.getValue());
+		}
+		assertEquals(value, expected, FixedWidthDecoder.getInteger(s, 38, end));
+	}
+
+	private Segment segment(String fields) {
+		String line = HEADER + fields;
+		Segment ret = new Segment();
+		ret.setData(new ReportSource(), ByteBuffer.wrap(line.getBytes(StandardCharsets.US_ASCII)), 0, line.length());
+		return ret;
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.flatfile.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ReportSource;
+import org.search.nibrs.importer.DefaultReportListener;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+/**
+ * Tests that building incidents from a ByteBuffer (heap, direct, or memory-mapped) gives the same results as building them from a Reader.
+ *
+ */
+public class TestIncidentBuilderByteBuffer {
+
+    static final String TESTDATA =
+        "00881I022003    TN006000002-000895   20020102 10N                                      N\n" +
+        "00712I022003    TN006000002-000895   220CN  20  N            88        \n" +
+        "03073I022003    TN006000002-000895   713000000020                                                                                                                                                                                                                                                                  \n" +
+        "01414I022003    TN006000002-000895   001220                           I46  FWNR                                                              \n" +
+        "00465I022003    TN006000002-000895   0124  MW \n" +
+        "01106I022003    TN006000002-000895   0102-000895   20021230TM22001    24  MWNR                                \n" +
+        "00667A022003    TN0060000B-000123    0120030101T90A01    25  MWNR \n" +
+        "00871I022003    TN006000002-018065   20020408 10N                                      \n" +
+        "00712I022003    TN006000002-018065   23DCN  20               88        \n" +
+        "03073I022003    TN006000002-018065   717000002600                                                                                                                                                                                                                                                                  \n" +
+        "01414I022003    TN006000002-018065   00123D                           I54  FWNR          XXAQ                                                \n" +
+        "00465I022003    TN006000002-018065   0100  FWN\n" +
+        "00430A022003    TN0060000000000000000022003\n" +
+        "00871I022003    TN006000002-064481   20021216 07N                                      \n" +
+        "00712I022003    TN006000002-064481   35ACN  22   P           88        \n" +
+        "03073I022003    TN006000002-064481   610                                                                                                                                                                                                E000000000100GMH000000002000DU                                             \n" +
+        "01414I022003    TN006000002-064481   00135A                           S                                                                      \n" +
+        "00465I022003    TN006000002-064481   0115  MW \n" +
+        "00468I022003    TN006000002-064481   0214  MW \n";
+
+    @Test
+    public void testHeapBuffer() throws IOException {
+    	DefaultReportListener expected = buildFromReader(TESTDATA);
+    	DefaultReportListener actual = new DefaultReportListener();
+    	IncidentBuilder incidentBuilder = new IncidentBuilder();
+    	incidentBuilder.addIncidentListener(actual);
+    	ByteBuffer buffer = ByteBuffer.wrap(TESTDATA.getBytes(StandardCharsets.US_ASCII));
+    	incidentBuilder.buildIncidents(buffer, getClass().getName());
+    	assertEquals(0, buffer.position());
+    	assertEquals(5, actual.getReportList().size());
+    	assertEquals(NIBRSErrorCode._402, actual.getErrorList().get(0).getNIBRSErrorCode());
+    	assertEquals(NIBRSErrorCode._051, actual.getErrorList().get(1).getNIBRSErrorCode());
+    	assertSameResults(expected, actual);
+    }
+
+    @Test
+    public void testDirectBufferWithCarriageReturns() throws IOException {
+    	DefaultReportListener expected = buildFromReader(TESTDATA);
+    	DefaultReportListener actual = new DefaultReportListener();
+    	IncidentBuilder incidentBuilder = new IncidentBuilder();
+    	incidentBuilder.addIncidentListener(actual);
+    	byte[] bytes = TESTDATA.replace("\n", "\r\n").getBytes(StandardCharsets.US_ASCII);
+    	ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+    	buffer.put(bytes);
+    	buffer.flip();
+    	incidentBuilder.buildIncidents(buffer, getClass().getName());
+    	assertSameResults(expected, actual);
+    }
+
+    @Test
+    public void testMappedFile() throws IOException {
+    	DefaultReportListener expected = buildFromReader(TESTDATA);
+    	Path file = Files.createTempFile("nibrs", ".txt");
+    	try {
+    		Files.write(file, TESTDATA.replace("\n", "\r\n").getBytes(StandardCharsets.US_ASCII));
+    		// a small window forces segments (and \r\n pairs) to straddle mapping windows
+    		for (int windowSize : new int[] {400, 333, 1 << 20}) {
+    			DefaultReportListener actual = new DefaultReportListener();
+    			IncidentBuilder incidentBuilder = new IncidentBuilder();
+    			incidentBuilder.addIncidentListener(actual);
+    			incidentBuilder.buildIncidents(file, getClass().getName(), windowSize);
+    			assertSameResults(expected, actual);
+    		}
+    	} finally {
+    		Files.delete(file);
+    	}
+    }
+
+    @Test
+    public void testBlankLineEndsInput() throws IOException {
+    	String testData = TESTDATA.substring(0, TESTDATA.indexOf("00667A")) + "   \n" + TESTDATA.substring(TESTDATA.indexOf("00667A"));
+    	DefaultReportListener expected = buildFromReader(testData);
+    	DefaultReportListener actual = new DefaultReportListener();
+    	IncidentBuilder incidentBuilder = new IncidentBuilder();
+    	incidentBuilder.addIncidentListener(actual);
+    	incidentBuilder.buildIncidents(ByteBuffer.wrap(testData.getBytes(StandardCharsets.US_ASCII)), getClass().getName());
+    	assertEquals(1, actual.getReportList().size());
+    	assertSameResults(expected, actual);
+    }
+
+    @Test
+    public void testSegmentFieldViews() {
+    	String line = "00465I022003    TN006000002-018065   0100  FWN";
+    	ByteBuffer buffer = ByteBuffer.wrap(("XX" + line + "\n").getBytes(StandardCharsets.US_ASCII));
+    	Segment s = new Segment();
+    	assertEquals(0, s.setData(new ReportSource(), buffer, 2, line.length()).size());
+    	assertEquals("TN0060000", s.getOri());
+    	assertEquals("02-018065", s.getSegmentUniqueIdentifier());
+    	assertEquals('I', s.getActionType());
+    	assertEquals(46, s.getSegmentLength());
+    	assertEquals("01", s.getStringBetween(38, 39));
+    	assertEquals("00", s.getStringBetween(40, 43));
+    	assertNull(s.getStringBetween(42, 43));
+    	assertNull(s.getStringBetween(46, 47));
+    	assertEquals(line, s.getData());
+    }
+
+    private DefaultReportListener buildFromReader(String testData) throws IOException {
+    	DefaultReportListener ret = new DefaultReportListener();
+    	IncidentBuilder incidentBuilder = new IncidentBuilder();
+    	incidentBuilder.addIncidentListener(ret);
+    	incidentBuilder.buildIncidents(new BufferedReader(new StringReader(testData)), getClass().getName());
+    	return ret;
+    }
+
+    private String withoutIdentityHashes(String s) {
+    	return s.replaceAll("@[0-9a-f]+", "");
+    }
+
+    private void assertSameResults(DefaultReportListener expected, DefaultReportListener actual) {
+    	List<AbstractReport> expectedReports = expected.getReportList();
+    	List<AbstractReport> actualReports = actual.getReportList();
+    	assertEquals(expectedReports.size(), actualReports.size());
+    	for (int i = 0; i < expectedReports.size(); i++) {
+    		AbstractReport e = expectedReports.get(i);
+    		AbstractReport a = actualReports.get(i);
+    		assertEquals(e.getClass(), a.getClass());
+    		assertEquals(withoutIdentityHashes(e.toString()), withoutIdentityHashes(a.toString()));
+    		assertEquals(e.getSource().getSourceLocation(), a.getSource().getSourceLocation());
+    		assertEquals(e.getHasUpstreamErrors(), a.getHasUpstreamErrors());
+    		if (e instanceof GroupAIncidentReport) {
+    			assertEquals(((GroupAIncidentReport) e).getIncidentDate(), ((GroupAIncidentReport) a).getIncidentDate());
+    		}
+    	}
+    	List<NIBRSError> expectedErrors = expected.getErrorList();
+    	List<NIBRSError> actualErrors = actual.getErrorList();
+    	assertEquals(expectedErrors.size(), actualErrors.size());
+    	for (int i = 0; i < expectedErrors.size(); i++) {
+    		NIBRSError e = expectedErrors.get(i);
+    		NIBRSError a = actualErrors.get(i);
+    		assertEquals(e.getNIBRSErrorCode(), a.getNIBRSErrorCode());
+    		assertEquals(e.getValue(), a.getValue());
+    		assertEquals(e.getDataElementIdentifier(), a.getDataElementIdentifier());
+    		assertEquals(((ReportSource) e.getContext()).getSourceLocation(), ((ReportSource) a.getContext()).getSourceLocation());
+    	}
+    }
+
+}
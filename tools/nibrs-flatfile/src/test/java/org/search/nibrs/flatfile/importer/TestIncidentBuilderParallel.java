@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.flatfile.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ReportSource;
+import org.search.nibrs.importer.DefaultReportListener;
+import org.search.nibrs.model.AbstractReport;
+
+/**
+ * Tests that building incidents in parallel gives the same reports and errors as the serial builder.
+ *
+ */
+public class TestIncidentBuilderParallel {
+
+	private ForkJoinPool pool;
+	private String testData;
+
+	@Before
+	public void setUp() {
+		pool = new ForkJoinPool(4);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 40; i++) {
+			// vary the incident numbers so each copy holds distinct reports
+			sb.append(TestIncidentBuilderByteBuffer.TESTDATA.replace("-0", "-" + (char) ('A' + i % 26)).replace("B-000123 ", "B-" + String.format("%06d", i) + " "));
+			// a continuation segment for a new incident number, with no admin segment, so the only boundary is the identifier change
+			sb.append("00465I022003    TN006000002-X").append(String.format("%06d", i)).append("  0124  MW \n");
+		}
+		testData = sb.toString();
+	}
+
+	@After
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void testOrderedDelivery() throws IOException {
+		DefaultReportListener expected = buildFromReader(testData);
+		for (int chunkSize : new int[] {1, 500, 4096, 1 << 20}) {
+			DefaultReportListener actual = new DefaultReportListener();
+			IncidentBuilder incidentBuilder = newParallelBuilder(actual, chunkSize, true);
+			incidentBuilder.buildIncidents(ByteBuffer.wrap(testData.getBytes(StandardCharsets.US_ASCII)), getClass().getName());
+			assertEquals(describe(expected.getReportList()), describe(actual.getReportList()));
+			assertEquals(describeErrors(expected.getErrorList()), describeErrors(actual.getErrorList()));
+		}
+	}
+
+	@Test
+	public void testUnorderedDelivery() throws IOException {
+		DefaultReportListener expected = buildFromReader(testData);
+		DefaultReportListener actual = new DefaultReportListener();
+		IncidentBuilder incidentBuilder = newParallelBuilder(actual, 500, false);
+		incidentBuilder.buildIncidents(ByteBuffer.wrap(testData.getBytes(StandardCharsets.US_ASCII)), getClass().getName());
+		List<String> expectedReports = describe(expected.getReportList());
+		List<String> actualReports = describe(actual.getReportList());
+		Collections.sort(expectedReports);
+		Collections.sort(actualReports);
+		assertEquals(expectedReports, actualReports);
+		List<String> expectedErrors = describeErrors(expected.getErrorList());
+		List<String> actualErrors = describeErrors(actual.getErrorList());
+		Collections.sort(expectedErrors);
+		Collections.sort(actualErrors);
+		assertEquals(expectedErrors, actualErrors);
+	}
+
+	@Test
+	public void testMappedFileWithBlankLine() throws IOException {
+		int blank = testData.indexOf("00871I", testData.length() / 2);
+		String data = testData.substring(0, blank) + "\n" + testData.substring(blank);
+		DefaultReportListener expected = buildFromReader(data);
+		assertTrue(expected.getReportList().size() > 10);
+		Path file = Files.createTempFile("nibrs", ".txt");
+		try {
+			Files.write(file, data.replace("\n", "\r\n").getBytes(StandardCharsets.US_ASCII));
+			for (int windowSize : new int[] {8192, 1 << 20}) {
+				DefaultReportListener actual = new DefaultReportListener();
+				IncidentBuilder incidentBuilder = newParallelBuilder(actual, 700, true);
+				incidentBuilder.buildIncidents(file, getClass().getName(), windowSize);
+				assertEquals(describe(expected.getReportList()), describe(actual.getReportList()));
+				assertEquals(describeErrors(expected.getErrorList()), describeErrors(actual.getErrorList()));
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	private IncidentBuilder newParallelBuilder(DefaultReportListener listener, int chunkSize, boolean ordered) {
+		IncidentBuilder ret = new IncidentBuilder();
+		ret.addIncidentListener(listener);
+		ret.setForkJoinPool(pool);
+		ret.setOrderedDelivery(ordered);
+		ret.setChunkSize(chunkSize);
+		return ret;
+	}
+
+	private DefaultReportListener buildFromReader(String data) throws IOException {
+		DefaultReportListener ret = new DefaultReportListener();
+		IncidentBuilder incidentBuilder = new IncidentBuilder();
+		incidentBuilder.addIncidentListener(ret);
+		incidentBuilder.buildIncidents(new BufferedReader(new StringReader(data)), getClass().getName());
+		return ret;
+	}
+
+	private List<String> describe(List<AbstractReport> reports) {
+		List<String> ret = new ArrayList<>();
+		for (AbstractReport r : reports) {
+			ret.add(r.getSource().getSourceLocation() + " " + r.getHasUpstreamErrors() + " " + r.toString().replaceAll("@[0-9a-f]+", ""));
+		}
+		return ret;
+	}
+
+	private List<String> describeErrors(List<NIBRSError> errors) {
+		List<String> ret = new ArrayList<>();
+		for (NIBRSError e : errors) {
+			ret.add(((ReportSource) e.getContext()).getSourceLocation() + " " + e.getNIBRSErrorCode() + " " + e.getValue() + " " + e.getReport().getIdentifier());
+		}
+		return ret;
+	}
+
+}
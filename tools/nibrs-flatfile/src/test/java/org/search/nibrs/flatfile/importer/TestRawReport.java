@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.flatfile.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.search.nibrs.common.ReportSource;
+import org.search.nibrs.importer.DefaultReportListener;
+import org.search.nibrs.model.AbstractReport;
+
+/**
+ * Tests for scanning raw reports, whose data is decoded only on demand.
+ *
+ */
+public class TestRawReport {
+
+	@Test
+	public void testScanMatchesBuild() throws IOException {
+		// a segment with a bad header inside a report, and a continuation segment whose incident number starts a new report
+		String testData = TestIncidentBuilderByteBuffer.TESTDATA.replace("00465I022003    TN006000002-018065   0100  FWN\n",
+				"00465I022003    TN006000002-018065   0100  FWN\nXX\n00465I022003    TN006000002-099999   0100  FWN\n");
+		DefaultReportListener expected = new DefaultReportListener();
+		IncidentBuilder incidentBuilder = new IncidentBuilder();
+		incidentBuilder.addIncidentListener(expected);
+		incidentBuilder.buildIncidents(new BufferedReader(new StringReader(testData)), getClass().getName());
+
+		List<RawReport> rawReports = new ArrayList<>();
+		new IncidentBuilder().scanReports(ByteBuffer.wrap(testData.getBytes(StandardCharsets.US_ASCII)), getClass().getName(), rawReports::add);
+
+		assertEquals(expected.getReportList().size(), rawReports.size());
+		int errorCount = 0;
+		for (int i = 0; i < rawReports.size(); i++) {
+			AbstractReport e = expected.getReportList().get(i);
+			RawReport r = rawReports.get(i);
+			assertEquals(e.getOri(), r.getOri());
+			assertEquals(e.getIdentifier(), r.getIdentifier());
+			assertEquals(e.getSource().getSourceLocation(), r.getSource().getSourceLocation());
+			AbstractReport a = r.toReport();
+			assertSame(a, r.toReport());
+			assertEquals(e.toString().replaceAll("@[0-9a-f]+", ""), a.toString().replaceAll("@[0-9a-f]+", ""));
+			assertEquals(e.getHasUpstreamErrors(), a.getHasUpstreamErrors());
+			errorCount += r.getErrorList().size();
+		}
+		assertEquals(expected.getErrorList().size(), errorCount);
+		assertEquals(6, rawReports.get(2).getSegmentCount());
+	}
+
+	@Test
+	public void testSameSegmentUniqueIdentifier() {
+		ByteBuffer buffer = ByteBuffer.wrap(("00465I022003    TN006000002-018065   0100  FWN\n" +
+				"00465I022003    TN006000002-018065   0200  FWN\n" +
+				"00465I022003    TN00600000  2-01806   0100  FWN\n").getBytes(StandardCharsets.US_ASCII));
+		Segment s1 = segment(buffer, 0);
+		Segment s2 = segment(buffer, 47);
+		Segment s3 = segment(buffer, 94);
+		assertTrue(s1.hasSameSegmentUniqueIdentifier(s2));
+		assertFalse(s1.hasSameSegmentUniqueIdentifier(s3));
+		Segment stringSegment = new Segment();
+		stringSegment.setData(new ReportSource(), "00465I022003    TN006000002-018065   0100  FWN");
+		assertTrue(stringSegment.hasSameSegmentUniqueIdentifier(s1));
+		assertFalse(s3.hasSameSegmentUniqueIdentifier(stringSegment));
+	}
+
+	private Segment segment(ByteBuffer buffer, int offset) {
+		Segment ret = new Segment();
+		ret.setData(new ReportSource(), buffer, offset, 46);
+		return ret;
+	}
+
+}
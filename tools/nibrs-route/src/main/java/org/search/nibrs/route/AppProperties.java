@@ -25,6 +25,14 @@ public class AppProperties {
     private String multicastEndpoints = "direct:createErrorReport,direct:persistReport";
     private String nibrsFileFolderPath = "/tmp/nibrs";
 	private String stagingDataRestServiceBaseUrl = "http://localhost:8080/";
+	private int flatFileBuildThreads = 1;
+	private boolean orderedReportDelivery = true;
+	private boolean xmlSchemaValidation = false;
+	private String submissionHistoryFile;
+	private boolean incrementalErrorReport = false;
+	private int validationResultCacheSize = 0;
+	private String validationResultCacheDirectory;
+	private int validationResultCacheDiskSize = 1000000;
 
 	public String getMulticastEndpoints() {
 		return multicastEndpoints;
@@ -50,10 +58,79 @@ public class AppProperties {
 		this.stagingDataRestServiceBaseUrl = stagingDataRestServiceBaseUrl;
 	}
 
+	public int getFlatFileBuildThreads() {
+		return flatFileBuildThreads;
+	}
+
+	public void setFlatFileBuildThreads(int flatFileBuildThreads) {
+		this.flatFileBuildThreads = flatFileBuildThreads;
+	}
+
+	public boolean isOrderedReportDelivery() {
+		return orderedReportDelivery;
+	}
+
+	public void setOrderedReportDelivery(boolean orderedReportDelivery) {
+		this.orderedReportDelivery = orderedReportDelivery;
+	}
+
+	public boolean isXmlSchemaValidation() {
+		return xmlSchemaValidation;
+	}
+
+	public void setXmlSchemaValidation(boolean xmlSchemaValidation) {
+		this.xmlSchemaValidation = xmlSchemaValidation;
+	}
+
+	public String getSubmissionHistoryFile() {
+		return submissionHistoryFile;
+	}
+
+	public void setSubmissionHistoryFile(String submissionHistoryFile) {
+		this.submissionHistoryFile = submissionHistoryFile;
+	}
+
+	public boolean isIncrementalErrorReport() {
+		return incrementalErrorReport;
+	}
+
+	public void setIncrementalErrorReport(boolean incrementalErrorReport) {
+		this.incrementalErrorReport = incrementalErrorReport;
+	}
+
+	public int getValidationResultCacheSize() {
+		return validationResultCacheSize;
+	}
+
+	public void setValidationResultCacheSize(int validationResultCacheSize) {
+		this.validationResultCacheSize = validationResultCacheSize;
+	}
+
+	public String getValidationResultCacheDirectory() {
+		return validationResultCacheDirectory;
+	}
+
+	public void setValidationResultCacheDirectory(String validationResultCacheDirectory) {
+		this.validationResultCacheDirectory = validationResultCacheDirectory;
+	}
+
+	public int getValidationResultCacheDiskSize() {
+		return validationResultCacheDiskSize;
+	}
+
+	public void setValidationResultCacheDiskSize(int validationResultCacheDiskSize) {
+		this.validationResultCacheDiskSize = validationResultCacheDiskSize;
+	}
+
 	@Override
 	public String toString() {
 		return "ValidatorProperties [multicastEndpoints=" + multicastEndpoints + ", nibrsFileFolderPath="
-				+ nibrsFileFolderPath + ", stagingDataRestServiceBaseUrl=" + stagingDataRestServiceBaseUrl + "]";
+				+ nibrsFileFolderPath + ", stagingDataRestServiceBaseUrl=" + stagingDataRestServiceBaseUrl 
+				+ ", flatFileBuildThreads=" + flatFileBuildThreads + ", orderedReportDelivery=" + orderedReportDelivery
+				+ ", xmlSchemaValidation=" + xmlSchemaValidation + ", submissionHistoryFile=" + submissionHistoryFile
+				+ ", incrementalErrorReport=" + incrementalErrorReport + ", validationResultCacheSize=" + validationResultCacheSize
+				+ ", validationResultCacheDirectory=" + validationResultCacheDirectory + ", validationResultCacheDiskSize="
+				+ validationResultCacheDiskSize + "]";
 	}
 
 }
\ No newline at end of file
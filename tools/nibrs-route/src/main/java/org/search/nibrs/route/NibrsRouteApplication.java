@@ -15,18 +15,72 @@
  */
 package org.search.nibrs.route;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.validation.ValidatorProperties;
+import org.search.nibrs.validation.cache.ValidationResultCache;
+import org.search.nibrs.validation.groupa.GroupAIncidentReportValidator;
+import org.search.nibrs.validation.submission.SubmissionHistory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 
 @ComponentScan({"org.search.nibrs"})
 @SpringBootApplication
 public class NibrsRouteApplication {
 
+	private static final Log log = LogFactory.getLog(NibrsRouteApplication.class);
+
 	public static void main(String[] args) {
 		SpringApplication.run(NibrsRouteApplication.class, args);
 //		ApplicationContext applicationContext = SpringApplication.run(NibrsRouteApplication.class, args);
 //		Arrays.stream(applicationContext.getBeanDefinitionNames())
 //			.forEach(System.out::println);
 	}
+	
+	/**
+	 * The pool on which flat file reports are built, shared by all submissions.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public ForkJoinPool flatFileForkJoinPool(AppProperties appProperties) {
+		return new ForkJoinPool(Math.max(1, appProperties.getFlatFileBuildThreads()));
+	}
+
+	/**
+	 * The history of incidents accepted in earlier submissions, which the Group A incident validator consults, if a history file is configured.
+	 */
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(prefix = "app", name = "submissionHistoryFile")
+	public SubmissionHistory submissionHistory(AppProperties appProperties, GroupAIncidentReportValidator groupAIncidentReportValidator) throws IOException {
+		SubmissionHistory ret = SubmissionHistory.open(Paths.get(appProperties.getSubmissionHistoryFile()));
+		groupAIncidentReportValidator.setSubmissionHistory(ret);
+		return ret;
+	}
+
+	/**
+	 * The cache of validation results shared by the submission validators of the file processors, if a cache size is configured:  held in
+	 * memory, and also on disk if a cache directory is configured.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "app", name = "validationResultCacheSize")
+	public ValidationResultCache validationResultCache(AppProperties appProperties, ValidatorProperties validatorProperties) throws IOException {
+		String ruleSetVersion = ValidationResultCache.getRuleSetVersion(validatorProperties, null);
+		ValidationResultCache ret;
+		if (appProperties.getValidationResultCacheDirectory() == null) {
+			ret = new ValidationResultCache(ruleSetVersion, appProperties.getValidationResultCacheSize());
+		} else if (ruleSetVersion == null) {
+			log.warn("The validator build cannot be identified, so validation results are only cached in memory");
+			ret = new ValidationResultCache(null, appProperties.getValidationResultCacheSize());
+		} else {
+			ret = new ValidationResultCache(ruleSetVersion, appProperties.getValidationResultCacheSize(),
+					Paths.get(appProperties.getValidationResultCacheDirectory()), appProperties.getValidationResultCacheDiskSize());
+		}
+		return ret;
+	}
 }
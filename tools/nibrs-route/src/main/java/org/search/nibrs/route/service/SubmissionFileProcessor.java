@@ -19,10 +19,12 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -34,11 +36,17 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.tika.exception.TikaException;
 import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.flatfile.errorexport.ErrorExporter;
+import org.search.nibrs.flatfile.errorexport.ErrorReportWriter;
 import org.search.nibrs.flatfile.importer.IncidentBuilder;
 import org.search.nibrs.importer.ReportListener;
 import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.route.AppProperties;
 import org.search.nibrs.validate.common.NibrsValidationUtils;
 import org.search.nibrs.validation.SubmissionValidator;
+import org.search.nibrs.validation.cache.ValidationResultCache;
+import org.search.nibrs.validation.submission.SubmissionHistory;
+import org.search.nibrs.validation.submission.SubmissionStructureValidator;
 import org.search.nibrs.xmlfile.importer.XmlIncidentBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
@@ -49,6 +57,12 @@ import org.xml.sax.SAXException;
 @Scope("prototype")
 public class SubmissionFileProcessor {
 	private final Log log = LogFactory.getLog(SubmissionFileProcessor.class);
+	/**
+	 * Held while a file is validated against the submission history.  The history has a single current submission, so files processed
+	 * concurrently would take each other's incidents as their own (and a file would end the submission of another); this lock is separate from
+	 * the history itself, whose methods are called from the threads that validate the file's reports while it is held.
+	 */
+	private static final Object SUBMISSION_HISTORY_LOCK = new Object();
 
 	@Autowired
 	IncidentBuilder incidentBuilder;
@@ -58,26 +72,85 @@ public class SubmissionFileProcessor {
 	SubmissionValidator submissionValidator;
 	@Autowired
 	ErrorExporter errorExporter;
+	@Autowired
+	AppProperties appProperties;
+	@Autowired
+	ForkJoinPool flatFileForkJoinPool;
+	@Autowired(required = false)
+	SubmissionHistory submissionHistory;
+	@Autowired(required = false)
+	ValidationResultCache validationResultCache;
 	private DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 		
+	/**
+	 * Validate a submission file.  If a submission history is configured, each file is a submission of its own, so files are validated one at a
+	 * time (though the reports in a file can still be built on several threads); otherwise files can be validated concurrently.
+	 */
 	public ValidationResults validate(@Body File file) throws IOException, ParserConfigurationException, TikaException, SAXException{
+		if (submissionHistory == null) {
+			return validateSubmission(file);
+		}
+		synchronized (SUBMISSION_HISTORY_LOCK) {
+			submissionHistory.startSubmission();
+			return validateSubmission(file);
+		}
+	}
+	
+	private ValidationResults validateSubmission(File file) throws IOException, ParserConfigurationException, TikaException, SAXException{
 		ValidationResults validationResults = new ValidationResults();
+		// the validator is a prototype, so the shared cache (if any) is installed on this processor's own instance
+		submissionValidator.setValidationResultCache(validationResultCache);
 		
+		// in incremental mode, each report's errors are written to the error report as soon as it has been validated, and not held
+		ErrorReportWriter errorReportWriter = appProperties.isIncrementalErrorReport() ? newErrorReportWriter(file, validationResults) : null;
+		
+		SubmissionStructureValidator structureValidator = new SubmissionStructureValidator(validationResults.getErrorList()::add);
 		ReportListener validatorListener = new ReportListener() {
 			@Override
 			public void newReport(AbstractReport report, List<NIBRSError> el) {
+				int errorCount = validationResults.getErrorList().size();
 				validationResults.getErrorList().addAll(el);
 				validationResults.getErrorList().addAll(submissionValidator.validateReport(report));
+				structureValidator.validate(report);
 				addReportWithoutErrors(validationResults, report);
+				List<NIBRSError> reportErrors = validationResults.getErrorList().subList(errorCount, validationResults.getErrorList().size());
+				recordAcceptedIncident(reportErrors, report);
+				if (errorReportWriter != null) {
+					try {
+						errorReportWriter.write(reportErrors);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+					reportErrors.clear();
+				}
 			}
 		};
 
-		NibrsValidationUtils.validateFile(validatorListener, file);
+		ForkJoinPool forkJoinPool = appProperties.getFlatFileBuildThreads() > 1 ? flatFileForkJoinPool : null;
+		try {
+			NibrsValidationUtils.validateFile(validatorListener, file, forkJoinPool, appProperties.isOrderedReportDelivery(),
+					appProperties.isXmlSchemaValidation());
+		} finally {
+			if (errorReportWriter != null) {
+				errorReportWriter.close();
+				log.info("The error report is written to " + validationResults.getErrorReportFile());
+			}
+		}
 
 		return validationResults; 
 
 	}
 	
+	private void recordAcceptedIncident(List<NIBRSError> reportErrors, AbstractReport report) {
+		if (submissionHistory != null && report instanceof GroupAIncidentReport && reportErrors.stream().allMatch(NIBRSError::isWarning)) {
+			try {
+				submissionHistory.record((GroupAIncidentReport) report);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+	
 	private void addReportWithoutErrors(ValidationResults validationResults, AbstractReport report) {
 		if (validationResults.getErrorList().isEmpty()){
 			validationResults.getReportsWithoutErrors().add(report);
@@ -95,21 +168,37 @@ public class SubmissionFileProcessor {
 			@Header("CamelFileNameOnly") String fileNameOnly, @Header("CamelFileParent") String parentPath)
 			throws IOException {
 		
-		String resultPath = parentPath.replace("/input", "/result"); 
-		File resultDirectory = new File(resultPath);
-		resultDirectory.mkdir();
-		
-		String baseName = FilenameUtils.getBaseName(fileNameOnly);
+		if (validationResults.getErrorReportFile() != null) {
+			// written as the submission was validated
+			return validationResults.getErrorReportFile();
+		}
 		
-		String fileName = resultPath + File.separator + baseName + "-" + formatter.format(LocalDateTime.now()) + ".txt";
-		File file = new File(fileName);
+		File file = newErrorReportFile(fileNameOnly, parentPath);
 		FileWriter filewriter = new FileWriter(file);
 		Writer outputWriter = new BufferedWriter(filewriter);
 		errorExporter.createErrorReport(validationResults.getErrorList(), outputWriter);
 		outputWriter.close();
-		log.info("The error report is writen to " + fileName); 
+		log.info("The error report is writen to " + file.getPath()); 
 		
 		return file; 
 	}
 	
+	private ErrorReportWriter newErrorReportWriter(File file, ValidationResults validationResults) throws IOException {
+		File errorReportFile = newErrorReportFile(file.getName(), file.getParent());
+		validationResults.setErrorReportFile(errorReportFile);
+		return new ErrorReportWriter(new BufferedWriter(new FileWriter(errorReportFile)));
+	}
+	
+	private File newErrorReportFile(String fileNameOnly, String parentPath) {
+		
+		String resultPath = parentPath.replace("/input", "/result"); 
+		File resultDirectory = new File(resultPath);
+		resultDirectory.mkdir();
+		
+		String baseName = FilenameUtils.getBaseName(fileNameOnly);
+		
+		String fileName = resultPath + File.separator + baseName + "-" + formatter.format(LocalDateTime.now()) + ".txt";
+		return new File(fileName);
+	}
+	
 }
\ No newline at end of file
@@ -15,6 +15,7 @@
  */
 package org.search.nibrs.route.service;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,6 +26,7 @@ public class ValidationResults{
 
 	private final List<NIBRSError> errorList;
 	private List<AbstractReport> reportsWithoutErrors;
+	private File errorReportFile;
 	
 	public ValidationResults() {
 		super();
@@ -36,9 +38,20 @@ public class ValidationResults{
 		return errorList;
 	}
 
+	/**
+	 * @return the error report, if it was written as the submission was validated (in which case the error list is empty), otherwise null
+	 */
+	public File getErrorReportFile() {
+		return errorReportFile;
+	}
+
+	public void setErrorReportFile(File errorReportFile) {
+		this.errorReportFile = errorReportFile;
+	}
+
 	@Override
 	public String toString() {
-		return "ValidationResults [errorList=" + errorList + ", incidentReportsWithoutErrors=" + getReportsWithoutErrors() + "]";
+		return "ValidationResults [errorList=" + errorList + ", incidentReportsWithoutErrors=" + getReportsWithoutErrors() + ", errorReportFile=" + errorReportFile + "]";
 	}
 
 	public List<AbstractReport> getReportsWithoutErrors() {
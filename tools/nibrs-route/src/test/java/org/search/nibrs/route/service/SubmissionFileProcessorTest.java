@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.route.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.search.nibrs.route.AppProperties;
+import org.search.nibrs.validation.SubmissionValidator;
+import org.search.nibrs.validation.ValidatorProperties;
+import org.search.nibrs.validation.cache.ValidationResultCache;
+
+public class SubmissionFileProcessorTest {
+
+	private static final String INCIDENT =
+		"00881I022003    TN006000002-000895   20020102 10N                                      N\n" +
+		"00712I022003    TN006000002-000895   220CN  20  N            88        \n" +
+		"03073I022003    TN006000002-000895   713000000020                                                                                                                                                                                                                                                                  \n" +
+		"01414I022003    TN006000002-000895   001220                           I46  FWNR                                                              \n" +
+		"00465I022003    TN006000002-000895   0124  MW \n" +
+		"01106I022003    TN006000002-000895   0102-000895   20021230TM22001    24  MWNR                                \n";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private SubmissionFileProcessor processor;
+
+	@Before
+	public void init() {
+		processor = new SubmissionFileProcessor();
+		processor.appProperties = new AppProperties();
+		processor.flatFileForkJoinPool = new ForkJoinPool(1);
+		// as injected by the context:  a prototype validator of the processor's own, and the shared cache
+		processor.submissionValidator = new SubmissionValidator(new ValidatorProperties());
+		processor.validationResultCache = new ValidationResultCache(ValidationResultCache.getRuleSetVersion(new ValidatorProperties(), null), 100);
+	}
+
+	@After
+	public void shutdown() {
+		processor.flatFileForkJoinPool.shutdown();
+	}
+
+	@Test
+	public void testValidationResultCache() throws Exception {
+		File file = temporaryFolder.newFile("submission.txt");
+		Files.write(file.toPath(), INCIDENT.getBytes(StandardCharsets.ISO_8859_1));
+		ValidationResults first = processor.validate(file);
+		assertEquals(0, processor.validationResultCache.getHitCount());
+		assertTrue(processor.validationResultCache.getMissCount() > 0);
+		// a resubmission of the file is answered from the cache, with the same errors
+		ValidationResults second = processor.validate(file);
+		assertEquals(processor.validationResultCache.getMissCount(), processor.validationResultCache.getHitCount());
+		assertEquals(first.getErrorList().size(), second.getErrorList().size());
+	}
+
+}
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -43,18 +44,60 @@ public class NibrsValidationUtils {
 	
 	public static void validateFile(ReportListener validatorListener, 
 			File file) throws ParserConfigurationException, IOException, TikaException, SAXException {
+		validateFile(validatorListener, file, null, true);
+	}
+
+	public static void validateFile(ReportListener validatorListener, File file, 
+			ForkJoinPool forkJoinPool, boolean orderedDelivery) throws ParserConfigurationException, IOException, TikaException, SAXException {
+		validateFile(validatorListener, file, forkJoinPool, orderedDelivery, false);
+	}
+
+	/**
+	 * Validate the file, building reports on the specified pool (if it is not null).
+	 * @param forkJoinPool the pool on which to build reports, or null to build them on the calling thread
+	 * @param orderedDelivery whether reports built in parallel are delivered to the listener in file order
+	 * @param schemaValidation whether XML reports are also validated against the IEPD schema
+	 */
+	public static void validateFile(ReportListener validatorListener, File file, 
+			ForkJoinPool forkJoinPool, boolean orderedDelivery, boolean schemaValidation) throws ParserConfigurationException, IOException, TikaException, SAXException {
 		String fileType = NibrsFileUtils.getMediaType(file);
-		FileInputStream inputStream = new FileInputStream(file);
-		validateInputStream(validatorListener, fileType, inputStream, file.getAbsolutePath());
+		switch (fileType){
+		case "text/plain": 
+		case "application/octet-stream": 
+			// flat files are scanned in place through a memory mapping rather than decoded line by line
+			IncidentBuilder incidentBuilder = new IncidentBuilder();
+			incidentBuilder.addIncidentListener(validatorListener);
+			incidentBuilder.setForkJoinPool(forkJoinPool);
+			incidentBuilder.setOrderedDelivery(orderedDelivery);
+			incidentBuilder.buildIncidents(file.toPath(), file.getAbsolutePath());
+			break;
+		default:
+			FileInputStream inputStream = new FileInputStream(file);
+			validateInputStream(validatorListener, fileType, inputStream, file.getAbsolutePath(), forkJoinPool, orderedDelivery, schemaValidation);
+		}
 	}
 
 	public static final void validateInputStream(ReportListener validatorListener, String fileContentType,
 			InputStream stream, String readerLocationName) throws ParserConfigurationException, IOException {
+		validateInputStream(validatorListener, fileContentType, stream, readerLocationName, null, true, false);
+	}
+
+	/**
+	 * Validate the stream, building XML reports on the specified pool (if it is not null), and optionally validating them against the IEPD schema.
+	 * Flat file data read from a stream is always built on the calling thread.
+	 */
+	public static final void validateInputStream(ReportListener validatorListener, String fileContentType,
+			InputStream stream, String readerLocationName, ForkJoinPool forkJoinPool, boolean orderedDelivery, boolean schemaValidation)
+					throws ParserConfigurationException, IOException {
 
 		switch (fileContentType){
 		case "text/xml":
 		case "application/xml":
 			XmlIncidentBuilder xmlIncidentBuilder = new XmlIncidentBuilder();
+			xmlIncidentBuilder.setStreaming(true);
+			xmlIncidentBuilder.setForkJoinPool(forkJoinPool);
+			xmlIncidentBuilder.setOrderedDelivery(orderedDelivery);
+			xmlIncidentBuilder.setSchemaValidation(schemaValidation);
 			xmlIncidentBuilder.addIncidentListener(validatorListener);
 			xmlIncidentBuilder.buildIncidents(stream, readerLocationName);
 
@@ -24,7 +24,8 @@ import java.util.Set;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.search.nibrs.common.NIBRSError;
-import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.common.ParsedDate;
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.model.AbstractReport;
 import org.search.nibrs.model.ArresteeSegment;
 import org.search.nibrs.model.GroupAIncidentReport;
@@ -43,6 +44,7 @@ import org.search.nibrs.validation.rules.NotAllBlankRule;
 import org.search.nibrs.validation.rules.NotBlankRule;
 import org.search.nibrs.validation.rules.NullObjectRule;
 import org.search.nibrs.validation.rules.Rule;
+import org.search.nibrs.validation.rules.RuleScope;
 import org.search.nibrs.validation.rules.ValidNIBRSIdentifierFormatRule;
 import org.search.nibrs.validation.rules.ValidValueListRule;
 
@@ -117,7 +119,7 @@ public class ArresteeSegmentRulesFactory {
 			@Override
 			public NIBRSError apply(ArresteeSegment arresteeSegment) {
 
-				ParsedObject<Integer> arresteeSequenceNumberPO = arresteeSegment.getArresteeSequenceNumber();
+				ParsedInt arresteeSequenceNumberPO = arresteeSegment.getParsedArresteeSequenceNumber();
 				Integer arresteeSequenceNumber = arresteeSequenceNumberPO.getValue();
 				NIBRSError e = null;
 
@@ -176,7 +178,7 @@ public class ArresteeSegmentRulesFactory {
 				AbstractReport parent = arresteeSegment.getParentReport();
 				Integer yearOfTape = parent.getYearOfTape();
 				Integer monthOfTape = parent.getMonthOfTape();
-				ParsedObject<LocalDate> arrestDatePO = arresteeSegment.getArrestDate();
+				ParsedDate arrestDatePO = arresteeSegment.getParsedArrestDate();
 				if (monthOfTape != null && monthOfTape > 0 && monthOfTape < 13 && yearOfTape != null && !arrestDatePO.isMissing() && !arrestDatePO.isInvalid()) {
 					LocalDate submissionDate = LocalDate.of(yearOfTape, monthOfTape, 1).plusMonths(1).minusDays(1);
 					if (arrestDatePO.getValue().isAfter(submissionDate)) {
@@ -198,8 +200,8 @@ public class ArresteeSegmentRulesFactory {
 				NIBRSError e = null;
 				if (arresteeSegment.isGroupA()) {
 					GroupAIncidentReport parent = (GroupAIncidentReport) arresteeSegment.getParentReport();
-					ParsedObject<LocalDate> incidentDatePO = parent.getIncidentDate();
-					ParsedObject<LocalDate> arrestDatePO = arresteeSegment.getArrestDate();
+					ParsedDate incidentDatePO = parent.getParsedIncidentDate();
+					ParsedDate arrestDatePO = arresteeSegment.getParsedArrestDate();
 					if (!incidentDatePO.isMissing() && !incidentDatePO.isInvalid() && !arrestDatePO.isInvalid() && !arrestDatePO.isMissing()) {
 						if (arrestDatePO.getValue().isBefore(incidentDatePO.getValue())) {
 							e = arresteeSegment.getErrorTemplate();
@@ -247,6 +249,11 @@ public class ArresteeSegmentRulesFactory {
 	
 	Rule<ArresteeSegment> getRule760() {
 		return new Rule<ArresteeSegment>() {
+			@Override
+			public RuleScope getScope() {
+				return RuleScope.NON_DELETE;
+			}
+
 			@Override
 			public NIBRSError apply(ArresteeSegment arresteeSegment) {
 				NIBRSError e = null;
@@ -406,6 +413,11 @@ public class ArresteeSegmentRulesFactory {
 	
 	Rule<ArresteeSegment> getRuleX41() {
 		return new Rule<ArresteeSegment>() {
+			@Override
+			public RuleScope getScope() {
+				return RuleScope.NON_DELETE;
+			}
+
 			@Override
 			public NIBRSError apply(ArresteeSegment arresteeSegment) {
 				NIBRSError e = null;
@@ -431,6 +443,11 @@ public class ArresteeSegmentRulesFactory {
 	 */
 	Rule<ArresteeSegment> getRuleX40() {
 		return new Rule<ArresteeSegment>() {
+			@Override
+			public RuleScope getScope() {
+				return RuleScope.NON_DELETE;
+			}
+
 			@Override
 			public NIBRSError apply(ArresteeSegment arresteeSegment) {
 				NIBRSError e = null;
@@ -450,6 +467,11 @@ public class ArresteeSegmentRulesFactory {
 	
 	Rule<ArresteeSegment> getRuleX20() {
 		return new Rule<ArresteeSegment>() {
+			@Override
+			public RuleScope getScope() {
+				return RuleScope.NON_DELETE;
+			}
+
 			@Override
 			public NIBRSError apply(ArresteeSegment arresteeSegment) {
 				NIBRSError e = null;
@@ -27,7 +27,10 @@ import org.search.nibrs.model.codes.NIBRSErrorCode;
 import org.search.nibrs.model.codes.ResidentStatusCode;
 import org.search.nibrs.model.codes.SexCode;
 import org.search.nibrs.validation.rules.AbstractBeanPropertyRule;
+import org.search.nibrs.validation.rules.AbstractSinkRule;
+import org.search.nibrs.validation.rules.ErrorSink;
 import org.search.nibrs.validation.rules.Rule;
+import org.search.nibrs.validation.rules.RuleScope;
 
 public class PersonSegmentRulesFactory<T extends AbstractPersonSegment> {
 	
@@ -57,6 +60,11 @@ public class PersonSegmentRulesFactory<T extends AbstractPersonSegment> {
 			this.allowNull = allowNull;
 		}
 
+		@Override
+		public RuleScope getScope() {
+			return super.getScope().and(RuleScope.PERSON);
+		}
+
 		@Override
 		protected boolean propertyViolatesRule(Object value, AbstractPersonSegment subject) {
 			return (subject.isPerson() && !subject.isUnknown() && ((!allowNull && value == null) || (value != null && !allowedValueSet.contains(value))));
@@ -81,10 +89,9 @@ public class PersonSegmentRulesFactory<T extends AbstractPersonSegment> {
 	}
 	
 	public Rule<T> getProperAgeRangeRule(String dataElementIdentifier, NIBRSErrorCode nibrsErrorCode) {
-		return new Rule<T>() {
+		return new AbstractSinkRule<T>() {
 			@Override
-			public NIBRSError apply(T segment) {
-				NIBRSError e = null;
+			public void apply(T segment, ErrorSink sink) {
 				NIBRSAge nibrsAge = segment.getAge();
 				if (nibrsAge != null && nibrsAge.isAgeRange()) {
 
@@ -92,13 +99,9 @@ public class PersonSegmentRulesFactory<T extends AbstractPersonSegment> {
 					Integer ageMax = nibrsAge.getAgeMax();
 
 					if (ageMin > ageMax) {
-						e = segment.getErrorTemplate();
-						e.setDataElementIdentifier(dataElementIdentifier);
-						e.setNIBRSErrorCode(nibrsErrorCode);
-						e.setValue(nibrsAge);
+						sink.reportError(segment, nibrsErrorCode, dataElementIdentifier, nibrsAge);
 					}
 				}
-				return e;
 			}
 		};
 	}
@@ -129,19 +132,13 @@ public class PersonSegmentRulesFactory<T extends AbstractPersonSegment> {
 	}
 	
 	public Rule<T> getNonZeroAgeRangeMinimumRule(String dataElementIdentifier, NIBRSErrorCode nibrsErrorCode) {
-		return new Rule<T>() {
+		return new AbstractSinkRule<T>() {
 			@Override
-			public NIBRSError apply(T segment) {
-				NIBRSError e = null;
+			public void apply(T segment, ErrorSink sink) {
 				NIBRSAge nibrsAge = segment.getAge();
 				if (nibrsAge != null && nibrsAge.isAgeRange() && nibrsAge.getAgeMin() != null && nibrsAge.getAgeMin() == 0) {
-					e = segment.getErrorTemplate();
-					e.setDataElementIdentifier(dataElementIdentifier);
-					e.setNIBRSErrorCode(nibrsErrorCode);
-					e.setContext(segment.getParentReport().getSource());
-					e.setValue(nibrsAge);
+					sink.reportError(segment, nibrsErrorCode, dataElementIdentifier, nibrsAge);
 				}
-				return e;
 			}
 		};
 	}
@@ -151,15 +148,13 @@ public class PersonSegmentRulesFactory<T extends AbstractPersonSegment> {
 	}
 
 	public Rule<T> getAgeValidRule(String dataElementIdentifier, NIBRSErrorCode nibrsErrorCode, boolean allowNull) {
-		return new Rule<T>() {
+		return new AbstractSinkRule<T>() {
 			@Override
-			public NIBRSError apply(T segment) {
-				NIBRSError e = null;
+			public void apply(T segment, ErrorSink sink) {
 				NIBRSAge nibrsAge = segment.getAge();
 				if (nibrsAge != null) {
-					e = nibrsAge.getError();
-					if (e != null) {
-						e = new NIBRSError(nibrsAge.getError());
+					if (nibrsAge.getError() != null) {
+						NIBRSError e = new NIBRSError(nibrsAge.getError());
 						e.setDataElementIdentifier(dataElementIdentifier);
 						e.setNIBRSErrorCode(nibrsErrorCode);
 						e.setContext(segment.getParentReport().getSource());
@@ -171,14 +166,11 @@ public class PersonSegmentRulesFactory<T extends AbstractPersonSegment> {
 							e.setSegmentType(segment.getSegmentType());
 							e.setReport(segment.getParentReport());
 						}
+						sink.accept(e);
 					}
 				} else if (!allowNull && segment.isPerson() && !segment.isUnknown()) {
-					e = segment.getErrorTemplate();
-					e.setDataElementIdentifier(dataElementIdentifier);
-					e.setNIBRSErrorCode(nibrsErrorCode);
-					e.setValue(nibrsAge);
+					sink.reportError(segment, nibrsErrorCode, dataElementIdentifier, nibrsAge);
 				}
-				return e;
 			}
 		};
 	}
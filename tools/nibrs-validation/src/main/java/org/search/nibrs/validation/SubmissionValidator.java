@@ -17,6 +17,9 @@ package org.search.nibrs.validation;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -26,15 +29,23 @@ import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.model.GroupBArrestReport;
 import org.search.nibrs.model.NIBRSSubmission;
 import org.search.nibrs.model.ZeroReport;
+import org.search.nibrs.validation.cache.ValidationResultCache;
 import org.search.nibrs.validation.groupa.GroupAIncidentReportValidator;
 import org.search.nibrs.validation.groupb.GroupBArrestReportValidator;
+import org.search.nibrs.validation.rules.ErrorCollector;
+import org.search.nibrs.validation.rules.ErrorCountingSink;
+import org.search.nibrs.validation.rules.ErrorSink;
+import org.search.nibrs.validation.submission.SubmissionHistory;
+import org.search.nibrs.validation.submission.SubmissionStatistics;
+import org.search.nibrs.validation.submission.SubmissionStructureValidator;
 import org.search.nibrs.validation.zeroreport.ZeroReportValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 /**
- * Class that applies edits to validate the segments contained within a NIBRS Submission
+ * Class that applies edits to validate the segments contained within a NIBRS Submission.  Each report is validated independently of the
+ * others, so the reports in a submission can also be validated concurrently, with {@link #validate(NIBRSSubmission, ExecutorService)}.
  */
 @Component
 @Scope("prototype")
@@ -46,6 +57,50 @@ public class SubmissionValidator {
 	GroupAIncidentReportValidator groupAIncidentReportValidator;
 	@Autowired
 	GroupBArrestReportValidator groupBArrestReportValidator;
+	private ValidationResultCache validationResultCache;
+
+	/**
+	 * Create a validator whose report validators are injected.
+	 */
+	public SubmissionValidator() {
+	}
+
+	/**
+	 * Create a validator with report validators for the specified configuration, for use outside of a Spring context.
+	 * @param validatorProperties the configuration of the report validators
+	 */
+	public SubmissionValidator(ValidatorProperties validatorProperties) {
+		groupAIncidentReportValidator = new GroupAIncidentReportValidator(validatorProperties);
+		groupBArrestReportValidator = new GroupBArrestReportValidator(validatorProperties);
+	}
+
+	/**
+	 * Get the cache of validation results in front of this validator.
+	 * @return the cache, or null if reports are always validated
+	 */
+	public ValidationResultCache getValidationResultCache() {
+		return validationResultCache;
+	}
+
+	/**
+	 * Set a cache of validation results, so that reports whose content matches that of a report validated before (by this or another
+	 * validator sharing the cache) are not validated again.  The errors for such a report are the same as validation would find, bound to the report.
+	 * Group A incidents are not cached while a submission history is set, since their errors then depend on the history as well as their content.
+	 * @param validationResultCache the cache, or null to always validate reports
+	 */
+	public void setValidationResultCache(ValidationResultCache validationResultCache) {
+		this.validationResultCache = validationResultCache;
+	}
+
+	/**
+	 * Set the history of incidents accepted in earlier submissions, which the Group A incident validator consults for the edits that depend on
+	 * what is already on file.  Note that the history is set on the Group A incident validator, which may be shared with other submission validators.
+	 * @param submissionHistory the history, or null to validate each incident on its own
+	 */
+	public void setSubmissionHistory(SubmissionHistory submissionHistory) {
+		groupAIncidentReportValidator.setSubmissionHistory(submissionHistory);
+	}
+
 	/**
 	 * Apply edits to validate all Reports within the specified submission.
 	 * 
@@ -66,6 +121,69 @@ public class SubmissionValidator {
 		
 	}
 
+	/**
+	 * Apply edits to validate all Reports within the specified submission, validating the reports concurrently on the specified executor (for
+	 * example a ForkJoinPool, or an executor that runs each task on a new thread).  The errors are returned in the same order as
+	 * {@link #validate(NIBRSSubmission)} returns them (each report's errors in turn, in submission order), so any output written from the
+	 * list is identical to that of serial validation.
+	 * 
+	 * @param nibrsSubmission submission containing all the reports to be validated
+	 * @param executor the executor on which to validate the reports, which remains owned by the caller
+	 * @return A List of all errors encountered in validating the submission
+	 */
+	public List<NIBRSError> validate(NIBRSSubmission nibrsSubmission, ExecutorService executor) {
+
+		List<NIBRSError> errorList = new ArrayList<NIBRSError>();
+		List<AbstractReport> reportList = nibrsSubmission.getReports();
+		List<Future<List<NIBRSError>>> futures = new ArrayList<>(reportList.size());
+
+		try {
+			for (AbstractReport report : reportList) {
+				futures.add(executor.submit(() -> validateReport(report)));
+			}
+			for (Future<List<NIBRSError>> future : futures) {
+				errorList.addAll(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while validating submission", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		} finally {
+			// after a failure, don't leave the remaining reports queued on the caller's executor
+			for (Future<List<NIBRSError>> future : futures) {
+				future.cancel(false);
+			}
+		}
+
+		return errorList;
+		
+	}
+
+	/**
+	 * Apply the structure checks that span the whole of the specified submission (such as for duplicate incidents), which
+	 * {@link #validate(NIBRSSubmission)} does not apply.  To apply them while building a submission from a file, add a
+	 * {@link SubmissionStructureValidator} to the builder's listeners instead.
+	 * 
+	 * @param nibrsSubmission submission containing all the reports to be checked
+	 * @return A List of all errors encountered in checking the submission, in submission order
+	 */
+	public List<NIBRSError> validateStructure(NIBRSSubmission nibrsSubmission) {
+		ErrorCollector collector = new ErrorCollector();
+		SubmissionStructureValidator structureValidator = new SubmissionStructureValidator(collector);
+		for (AbstractReport report : nibrsSubmission.getReports()) {
+			structureValidator.validate(report);
+		}
+		return collector.getErrorList();
+	}
+
 	/**
 	 * Validate an individual Report within the specified submission
 	 * @param report the report to be validated
@@ -73,26 +191,67 @@ public class SubmissionValidator {
 	 */
 	public List<NIBRSError> validateReport(AbstractReport report) {
 		
+		ErrorCollector collector = new ErrorCollector();
+		validateReport(report, collector);
+		List<NIBRSError> nibrsErrorList = collector.getErrorList();
+
+		log.info("Found " + nibrsErrorList.size() + " errors");
+
+		return nibrsErrorList;
+		
+	}
+
+	/**
+	 * Validate an individual Report within the specified submission, reporting errors to the specified sink.  With a sink that doesn't need
+	 * the errors themselves (such as an {@link ErrorCountingSink}), most rules report violations without creating error objects (unless a
+	 * validation result cache is set, since the cache holds the errors themselves).
+	 * @param report the report to be validated
+	 * @param sink the sink to which errors are reported, in the same order as {@link #validateReport(AbstractReport)} returns them
+	 */
+	public void validateReport(AbstractReport report, ErrorSink sink) {
+		
 		log.info("Validating report: " + report.getGloballyUniqueReportIdentifier());
 		
-		List<NIBRSError> nibrsErrorList = new ArrayList<>();
+		if (validationResultCache != null && !(report instanceof GroupAIncidentReport && groupAIncidentReportValidator.getSubmissionHistory() != null)) {
+			validationResultCache.getErrors(report, this::collectErrors).forEach(sink::accept);
+		} else {
+			applyValidators(report, sink);
+		}
+
+	}
+
+	/**
+	 * Count an individual Report within the specified submission, and the errors that validating it finds, in the specified statistics.  This is
+	 * the same validation as {@link #validateReport(AbstractReport)}, but most rules count their violations without creating error objects,
+	 * and nothing is logged for the report, so it suits triage of large submissions where only the counts are needed.  The validation result
+	 * cache is not used, since it holds the errors themselves.
+	 * @param report the report to be validated
+	 * @param statistics the statistics in which the report and its errors are counted
+	 */
+	public void collectStatistics(AbstractReport report, SubmissionStatistics statistics) {
+		statistics.addReport(report);
+		applyValidators(report, statistics);
+	}
+
+	private List<NIBRSError> collectErrors(AbstractReport report) {
+		ErrorCollector collector = new ErrorCollector();
+		applyValidators(report, collector);
+		return collector.getErrorList();
+	}
 
+	private void applyValidators(AbstractReport report, ErrorSink sink) {
 		if (report instanceof ZeroReport) {
 			ZeroReport zeroReport = (ZeroReport) report;
 			ZeroReportValidator zeroReportValidator = new ZeroReportValidator();
-			nibrsErrorList = zeroReportValidator.validate(zeroReport);
+			zeroReportValidator.validate(zeroReport, sink);
 		} else if (report instanceof GroupAIncidentReport) {
 			GroupAIncidentReport groupAIncidentReport = (GroupAIncidentReport) report;
-			nibrsErrorList = groupAIncidentReportValidator.validate(groupAIncidentReport);
+			groupAIncidentReportValidator.validate(groupAIncidentReport, sink);
 		} else if (report instanceof GroupBArrestReport) {
 			GroupBArrestReport groupBIncidentReport = (GroupBArrestReport) report;
-			nibrsErrorList = groupBArrestReportValidator.validate(groupBIncidentReport);
+			groupBArrestReportValidator.validate(groupBIncidentReport, sink);
 		}
 
-		log.info("Found " + nibrsErrorList.size() + " errors");
-
-		return nibrsErrorList;
-		
 	}
 
 }
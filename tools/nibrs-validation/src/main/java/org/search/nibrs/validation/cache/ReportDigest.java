@@ -0,0 +1,178 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.cache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.search.nibrs.common.ReportSource;
+import org.search.nibrs.model.AbstractReport;
+
+/**
+ * Computes a canonical digest (SHA-256) of the content of a report, such that two reports with the same content (the same values in
+ * the same segments) have the same digest, wherever they were read from.  The digest covers every non-static, non-transient field of the
+ * report and, recursively, of its segments and value holders; it excludes the report's source (so that resubmitting a report in another
+ * file gives the same digest), and references from segments (and from errors attached to values during parsing) back to their report, none
+ * of which the validation rules depend on.  The content of those parsing errors is digested, since rules copy it (the offending value, for
+ * instance) into the errors they report.  Trailing nulls in arrays are ignored, so that a sparsely-filled array and its full-size form (as created
+ * by the model's accessors) digest the same.
+ */
+final class ReportDigest {
+
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte VALUE = 2;
+	private static final byte ARRAY = 3;
+	private static final byte COLLECTION = 4;
+	private static final byte OBJECT = 5;
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private static final ClassValue<Field[]> DIGESTED_FIELDS = new ClassValue<Field[]>() {
+		@Override
+		protected Field[] computeValue(Class<?> type) {
+			List<Field> fields = new ArrayList<>();
+			for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					if (isDigested(field)) {
+						field.setAccessible(true);
+						fields.add(field);
+					}
+				}
+			}
+			// getDeclaredFields returns fields in no particular order
+			fields.sort(Comparator.comparing((Field f) -> f.getDeclaringClass().getName()).thenComparing(Field::getName));
+			return fields.toArray(new Field[fields.size()]);
+		}
+	};
+
+	private final MessageDigest messageDigest;
+	private final byte[] intBuffer = new byte[4];
+
+	private ReportDigest() {
+		try {
+			messageDigest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// every JRE is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Compute the digest of the specified report, qualified by a rule set version, as a hex string.
+	 * @param report the report
+	 * @param ruleSetVersion the version of the rules (and their configuration), which is digested ahead of the report, so that the results
+	 * of different versions have different digests
+	 * @return the digest, as 64 lower-case hex digits
+	 */
+	static String digest(AbstractReport report, String ruleSetVersion) {
+		ReportDigest digest = new ReportDigest();
+		digest.update(ruleSetVersion);
+		digest.updateObject(report);
+		return toHex(digest.messageDigest.digest());
+	}
+
+	private static boolean isDigested(Field field) {
+		int modifiers = field.getModifiers();
+		if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+			return false;
+		}
+		Class<?> type = field.getType();
+		return !AbstractReport.class.isAssignableFrom(type) && !ReportSource.class.isAssignableFrom(type);
+	}
+
+	private void update(Object o) {
+		if (o == null) {
+			messageDigest.update(NULL);
+		} else if (o instanceof String) {
+			messageDigest.update(STRING);
+			updateString((String) o);
+		} else if (o.getClass().isArray()) {
+			messageDigest.update(ARRAY);
+			int length = Array.getLength(o);
+			while (length > 0 && Array.get(o, length - 1) == null) {
+				length--;
+			}
+			updateInt(length);
+			for (int i = 0; i < length; i++) {
+				update(Array.get(o, i));
+			}
+		} else if (o instanceof Collection) {
+			Collection<?> collection = (Collection<?>) o;
+			messageDigest.update(COLLECTION);
+			updateInt(collection.size());
+			for (Object element : collection) {
+				update(element);
+			}
+		} else if (o instanceof Enum) {
+			messageDigest.update(VALUE);
+			updateString(((Enum<?>) o).getDeclaringClass().getName());
+			updateString(((Enum<?>) o).name());
+		} else if (o.getClass().getName().startsWith("java.")) {
+			// boxed primitives, dates and the like, all of which have a canonical string form
+			messageDigest.update(VALUE);
+			updateString(o.getClass().getName());
+			updateString(o.toString());
+		} else {
+			updateObject(o);
+		}
+	}
+
+	private void updateObject(Object o) {
+		messageDigest.update(OBJECT);
+		updateString(o.getClass().getName());
+		try {
+			for (Field field : DIGESTED_FIELDS.get(o.getClass())) {
+				update(field.get(o));
+			}
+		} catch (IllegalAccessException e) {
+			// the fields were made accessible when they were collected
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void updateString(String s) {
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		updateInt(bytes.length);
+		messageDigest.update(bytes);
+	}
+
+	private void updateInt(int i) {
+		intBuffer[0] = (byte) (i >>> 24);
+		intBuffer[1] = (byte) (i >>> 16);
+		intBuffer[2] = (byte) (i >>> 8);
+		intBuffer[3] = (byte) i;
+		messageDigest.update(intBuffer);
+	}
+
+	static String toHex(byte[] bytes) {
+		char[] ret = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			ret[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+			ret[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xf];
+		}
+		return new String(ret);
+	}
+
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.validation.ValidationConstants;
+import org.search.nibrs.validation.ValidatorProperties;
+
+/**
+ * A cache of the errors found in validating reports, keyed by a digest of the report's content and the version of the rule set, so that
+ * a report that is resubmitted unchanged (typically in a later file, after corrections to other reports) is not validated again.  Entries
+ * are held in a bounded in-memory tier, and optionally in a bounded directory on local disk, which survives restarts; both tiers evict
+ * their least recently used entries.
+ * <br/>
+ * The errors returned for a cached report are copies of those found when the report was first validated, bound to the report being
+ * validated (and its source), so they can be reported exactly as if the report had been validated again.  The cache only holds results for
+ * a given rule set version, which must change whenever the rules or their configuration change; see {@link #getRuleSetVersion(ValidatorProperties, String)}.
+ * <br/>
+ * The cache is thread-safe, and can be shared by validators that validate reports concurrently.
+ */
+public class ValidationResultCache {
+
+	private static final Log log = LogFactory.getLog(ValidationResultCache.class);
+
+	private static final String FILE_SUFFIX = ".ser";
+
+	private final String ruleSetVersion;
+	private final Map<String, CachedErrors> memoryTier;
+	private final Path directory;
+	private final EvictingLruMap<String, Boolean> diskTier;
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * Create a cache with only an in-memory tier.
+	 * @param ruleSetVersion the version of the rule set that produces the cached results
+	 * @param maximumEntries the maximum number of reports whose results are held in memory
+	 */
+	public ValidationResultCache(String ruleSetVersion, int maximumEntries) {
+		this.ruleSetVersion = ruleSetVersion;
+		this.memoryTier = new EvictingLruMap<>(maximumEntries, false);
+		this.directory = null;
+		this.diskTier = null;
+	}
+
+	/**
+	 * Create a cache with an in-memory tier and a tier on local disk.  Results already in the directory (from an earlier run) are used, and
+	 * are evicted before newer ones; results from another rule set version are never used, and are eventually evicted.
+	 * @param ruleSetVersion the version of the rule set that produces the cached results, which must not be null, since results on disk
+	 * outlive the build that produced them
+	 * @param maximumEntries the maximum number of reports whose results are held in memory
+	 * @param directory the directory in which to hold results, which is created if it doesn't exist
+	 * @param maximumDiskEntries the maximum number of reports whose results are held in the directory
+	 * @throws IOException if the directory cannot be created or read
+	 */
+	public ValidationResultCache(String ruleSetVersion, int maximumEntries, Path directory, int maximumDiskEntries) throws IOException {
+		if (ruleSetVersion == null) {
+			throw new IllegalArgumentException("A cache with a disk tier requires a rule set version");
+		}
+		this.ruleSetVersion = ruleSetVersion;
+		this.memoryTier = new EvictingLruMap<>(maximumEntries, false);
+		this.directory = Files.createDirectories(directory);
+		this.diskTier = new EvictingLruMap<>(maximumDiskEntries, true);
+		TreeMap<Long, List<String>> existingKeys = new TreeMap<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+			for (Path file : files) {
+				String fileName = file.getFileName().toString();
+				existingKeys.computeIfAbsent(Files.getLastModifiedTime(file).toMillis(), k -> new ArrayList<>())
+					.add(fileName.substring(0, fileName.length() - FILE_SUFFIX.length()));
+			}
+		}
+		synchronized (diskTier) {
+			for (List<String> keys : existingKeys.values()) {
+				for (String key : keys) {
+					diskTier.put(key, Boolean.TRUE);
+				}
+			}
+			deleteEvictedFiles();
+		}
+	}
+
+	/**
+	 * Get a rule set version that identifies the rules of this build of the validator, with the specified configuration.  The build is identified
+	 * by the builds of the validation module and of the common module (whose code tables and model the rules depend on):  each by the
+	 * implementation version of its jar, if it has a release version, and otherwise (as for a snapshot, or when running from a class directory)
+	 * by a digest of its classes, so that the version changes whenever the rules do.  Callers that hold results on disk while the rules are being
+	 * developed (without changes to the build version) should qualify the version further.
+	 * @param validatorProperties the configuration of the validator
+	 * @param qualifier any further qualification of the version, or null
+	 * @return the version, or null if the build cannot be identified (as when a module is nested in another archive), in which case results
+	 * should only be held in memory
+	 */
+	public static String getRuleSetVersion(ValidatorProperties validatorProperties, String qualifier) {
+		String buildVersion = BuildIdentity.VALUE;
+		if (buildVersion == null) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder(ValidationConstants.SPEC__LATEST);
+		sb.append('/').append(buildVersion);
+		sb.append('/').append(new TreeMap<>(validatorProperties.getStateToFbiRaceCodeMapping()));
+		if (qualifier != null) {
+			sb.append('/').append(qualifier);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Get the errors for the specified report, from the cache if a report with the same content has been validated before, and otherwise
+	 * from the specified validator, whose result is then cached.
+	 * @param report the report
+	 * @param validator the function that validates a report that isn't in the cache
+	 * @return the errors for the report
+	 */
+	public List<NIBRSError> getErrors(AbstractReport report, Function<AbstractReport, List<NIBRSError>> validator) {
+
+		String key = ReportDigest.digest(report, ruleSetVersion);
+
+		CachedErrors cachedErrors;
+		synchronized (memoryTier) {
+			cachedErrors = memoryTier.get(key);
+		}
+		if (cachedErrors == null && directory != null) {
+			cachedErrors = read(key);
+			if (cachedErrors != null) {
+				synchronized (memoryTier) {
+					memoryTier.put(key, cachedErrors);
+				}
+			}
+		}
+		if (cachedErrors != null) {
+			hitCount.incrementAndGet();
+			return cachedErrors.bind(report);
+		}
+
+		missCount.incrementAndGet();
+		List<NIBRSError> ret = validator.apply(report);
+		cachedErrors = CachedErrors.detach(report, ret);
+		if (cachedErrors != null) {
+			synchronized (memoryTier) {
+				memoryTier.put(key, cachedErrors);
+			}
+			if (directory != null) {
+				write(key, cachedErrors);
+			}
+		}
+		return ret;
+
+	}
+
+	/**
+	 * @return the number of reports whose errors have been found in the cache
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * @return the number of reports whose errors were not found in the cache, and so have been validated
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	private CachedErrors read(String key) {
+		synchronized (diskTier) {
+			if (diskTier.get(key) == null) {
+				return null;
+			}
+		}
+		try (InputStream in = Files.newInputStream(getFile(key)); ObjectInputStream objectInput = new ObjectInputStream(in)) {
+			return (CachedErrors) objectInput.readObject();
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			// evicted by another thread, or written by an incompatible build
+			log.debug("Unable to read cached validation result " + key, e);
+			synchronized (diskTier) {
+				diskTier.remove(key);
+				diskTier.evictedKeys.add(key);
+				deleteEvictedFiles();
+			}
+			return null;
+		}
+	}
+
+	private void write(String key, CachedErrors cachedErrors) {
+		try {
+			Path temporaryFile = Files.createTempFile(directory, key, ".tmp");
+			try {
+				try (OutputStream out = Files.newOutputStream(temporaryFile); ObjectOutputStream objectOutput = new ObjectOutputStream(out)) {
+					objectOutput.writeObject(cachedErrors);
+				}
+				Files.move(temporaryFile, getFile(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temporaryFile);
+			}
+		} catch (NotSerializableException e) {
+			// an error value of a type that can't be serialized; the result stays in memory only
+			log.debug("Unable to cache validation result " + key + " on disk", e);
+			return;
+		} catch (IOException e) {
+			log.warn("Unable to cache validation result " + key + " on disk", e);
+			return;
+		}
+		synchronized (diskTier) {
+			diskTier.put(key, Boolean.TRUE);
+			deleteEvictedFiles();
+		}
+	}
+
+	/**
+	 * Delete the files of the entries evicted from the disk tier.  Must be called while holding the lock on the disk tier.
+	 */
+	private void deleteEvictedFiles() {
+		for (Iterator<String> it = diskTier.evictedKeys.iterator(); it.hasNext();) {
+			String key = it.next();
+			it.remove();
+			try {
+				Files.deleteIfExists(getFile(key));
+			} catch (IOException e) {
+				log.warn("Unable to delete evicted validation result " + key, e);
+			}
+		}
+	}
+
+	private Path getFile(String key) {
+		return directory.resolve(key + FILE_SUFFIX);
+	}
+
+	/**
+	 * The identity of this build of the validation and common modules, computed when first needed.
+	 */
+	private static final class BuildIdentity {
+
+		static final String VALUE = identify();
+
+		private static String identify() {
+			String validation = identify(ValidationResultCache.class);
+			String common = identify(NIBRSError.class);
+			return validation == null || common == null ? null : validation + "+" + common;
+		}
+
+		/**
+		 * @return the release version of the module from which the class was loaded, or a digest of its content:  the jar, or each class file
+		 * (and its path) in the class directory
+		 */
+		private static String identify(Class<?> moduleClass) {
+			Package modulePackage = moduleClass.getPackage();
+			String implementationVersion = modulePackage == null ? null : modulePackage.getImplementationVersion();
+			if (implementationVersion != null && !implementationVersion.endsWith("-SNAPSHOT")) {
+				return implementationVersion;
+			}
+			CodeSource codeSource = moduleClass.getProtectionDomain().getCodeSource();
+			if (codeSource == null || codeSource.getLocation() == null) {
+				return null;
+			}
+			URL location = codeSource.getLocation();
+			try {
+				MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+				if ("file".equals(location.getProtocol())) {
+					Path path = Paths.get(location.toURI());
+					if (Files.isDirectory(path)) {
+						List<Path> files;
+						try (Stream<Path> walk = Files.walk(path)) {
+							files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+						}
+						for (Path file : files) {
+							messageDigest.update(path.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+							messageDigest.update(Files.readAllBytes(file));
+						}
+						return ReportDigest.toHex(messageDigest.digest());
+					}
+				}
+				// a jar, possibly nested in another archive, whose handler may or may not be able to read it whole
+				try (InputStream in = new DigestInputStream(location.openStream(), messageDigest)) {
+					byte[] buffer = new byte[8192];
+					while (in.read(buffer) != -1) {
+						// digested as it is read
+					}
+				}
+				return ReportDigest.toHex(messageDigest.digest());
+			} catch (IOException | URISyntaxException | NoSuchAlgorithmException | RuntimeException e) {
+				log.warn("Unable to identify the build of " + location + ", so validation results can only be cached in memory", e);
+				return null;
+			}
+		}
+
+	}
+
+	private static final class EvictingLruMap<K, V> extends LinkedHashMap<K, V> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int maximumEntries;
+		private final boolean trackEvictions;
+		private final List<K> evictedKeys = new ArrayList<>();
+
+		EvictingLruMap(int maximumEntries, boolean trackEvictions) {
+			super(16, 0.75f, true);
+			if (maximumEntries < 1) {
+				throw new IllegalArgumentException("A cache tier must hold at least one entry");
+			}
+			this.maximumEntries = maximumEntries;
+			this.trackEvictions = trackEvictions;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			if (size() > maximumEntries) {
+				if (trackEvictions) {
+					evictedKeys.add(eldest.getKey());
+				}
+				return true;
+			}
+			return false;
+		}
+
+	}
+
+	/**
+	 * The errors found for a report, detached from the report (so that the cache doesn't hold on to it, and the errors can be serialized), with
+	 * a note of which errors referred to the report and its source.  Errors can only be detached if each refers to the report and its source,
+	 * or to nothing; an error that refers to another report (as when a segment has been copied from another report without being re-parented)
+	 * could not be bound to the same report again, so such results are not cached.
+	 */
+	private static final class CachedErrors implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ArrayList<NIBRSError> errors;
+		private final BitSet reportBound = new BitSet();
+		private final BitSet sourceBound = new BitSet();
+
+		private CachedErrors(int size) {
+			errors = new ArrayList<>(size);
+		}
+
+		/**
+		 * @return the detached errors, or null if they cannot be detached
+		 */
+		static CachedErrors detach(AbstractReport report, List<NIBRSError> errors) {
+			CachedErrors ret = new CachedErrors(errors.size());
+			for (NIBRSError error : errors) {
+				if ((error.getReport() != null && error.getReport() != report)
+						|| (error.getContext() != null && error.getContext() != report.getSource())) {
+					return null;
+				}
+				NIBRSError detached = new NIBRSError(error);
+				ret.reportBound.set(ret.errors.size(), error.getReport() != null);
+				ret.sourceBound.set(ret.errors.size(), error.getContext() != null);
+				detached.setReport(null);
+				detached.setContext(null);
+				ret.errors.add(detached);
+			}
+			return ret;
+		}
+
+		List<NIBRSError> bind(AbstractReport report) {
+			List<NIBRSError> ret = new ArrayList<>(errors.size());
+			for (int i = 0; i < errors.size(); i++) {
+				NIBRSError error = new NIBRSError(errors.get(i));
+				if (reportBound.get(i)) {
+					error.setReport(report);
+				}
+				if (sourceBound.get(i)) {
+					error.setContext(report.getSource());
+				}
+				ret.add(error);
+			}
+			return ret;
+		}
+
+	}
+
+}
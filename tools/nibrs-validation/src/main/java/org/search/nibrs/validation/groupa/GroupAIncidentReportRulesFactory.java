@@ -32,7 +32,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.search.nibrs.common.NIBRSError;
-import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.common.ParsedDate;
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.model.AbstractSegment;
 import org.search.nibrs.model.ArresteeSegment;
 import org.search.nibrs.model.GroupAIncidentReport;
@@ -56,9 +57,12 @@ import org.search.nibrs.validation.rules.BlankRightFillStringRule;
 import org.search.nibrs.validation.rules.NotBlankRule;
 import org.search.nibrs.validation.rules.NumericValueRule;
 import org.search.nibrs.validation.rules.Rule;
+import org.search.nibrs.validation.rules.RuleScope;
 import org.search.nibrs.validation.rules.StringValueRule;
 import org.search.nibrs.validation.rules.ValidNIBRSIdentifierFormatRule;
 import org.search.nibrs.validation.rules.ValidValueListRule;
+import org.search.nibrs.validation.submission.SubmissionHistory;
+import org.search.nibrs.validation.submission.SubmissionHistory.IncidentRecord;
 
 /**
  * Factory class that provides Rule implementations to validate the elements contained on the Group A report administrative segment.
@@ -112,7 +116,7 @@ public class GroupAIncidentReportRulesFactory {
 			Integer month = subject.getMonthOfTape();
 			Integer year = subject.getYearOfTape();
 			if (month != null && month > 0 && month < 13 && year != null) {
-				ParsedObject<LocalDate> incidentDatePO = subject.getIncidentDate();
+				ParsedDate incidentDatePO = subject.getParsedIncidentDate();
 				if (!(incidentDatePO.isMissing() || incidentDatePO.isInvalid())) {
 					ret = compareIncidentDateToTape(month, year, incidentDatePO.getValue(), subject.getErrorTemplate());
 				}
@@ -128,6 +132,7 @@ public class GroupAIncidentReportRulesFactory {
 	private Set<String> cargoTheftOffenses = new HashSet<>();
 	private Set<String> trueExceptionalClearanceCodes = new HashSet<>();
 	private ValidatorProperties validatorProperties;
+	private volatile SubmissionHistory submissionHistory;
 
 	public static GroupAIncidentReportRulesFactory instance(ValidatorProperties validatorProperties) {
 		return new GroupAIncidentReportRulesFactory(validatorProperties);
@@ -149,7 +154,7 @@ public class GroupAIncidentReportRulesFactory {
 		cargoTheftOffenses.add(OffenseCode._510.code);
 		cargoTheftOffenses.add(OffenseCode._270.code);
 		
-		trueExceptionalClearanceCodes = ClearedExceptionallyCode.codeSet();
+		trueExceptionalClearanceCodes = new HashSet<>(ClearedExceptionallyCode.codeSet());
 		trueExceptionalClearanceCodes.remove(ClearedExceptionallyCode.N.code);
 		
 		rulesList.add(getRule101("ori", "1"));
@@ -173,6 +178,7 @@ public class GroupAIncidentReportRulesFactory {
 		rulesList.add(getRule156());
 		rulesList.add(getRule170());
 		rulesList.add(getRule172());
+		rulesList.add(getRule056());
 		rulesList.add(getRule072());
 		rulesList.add(getRule071());
 		rulesList.add(getRule073());
@@ -212,6 +218,18 @@ public class GroupAIncidentReportRulesFactory {
 		this.validatorProperties = validatorProperties; 
 	}
 
+	/**
+	 * Set the history of incidents accepted in earlier submissions, which the rules that depend on what is already on file (056 and 072) consult.
+	 * @param submissionHistory the history, or null to apply those rules to each incident on its own
+	 */
+	void setSubmissionHistory(SubmissionHistory submissionHistory) {
+		this.submissionHistory = submissionHistory;
+	}
+
+	SubmissionHistory getSubmissionHistory() {
+		return submissionHistory;
+	}
+
 	Rule<GroupAIncidentReport> getRule560() {
 		return new Rule<GroupAIncidentReport>() {
 			@Override
@@ -229,8 +247,7 @@ public class GroupAIncidentReportRulesFactory {
 							 && !validRelatedOffenderNumbers.contains(Integer.valueOf(0))){;
 							String victimSex = vs.getSex();
 							Set<String> relatedOffenderSexes = 
-									subject.getOffenders().stream()
-									.filter(offense->vs.isVictimOfOffender(offense))
+									subject.getOffendersOfVictim(vs).stream()
 									.map(offense->offense.getSex())
 									.collect(Collectors.toSet()); 
 							relatedOffenderSexes.remove(victimSex);
@@ -255,23 +272,27 @@ public class GroupAIncidentReportRulesFactory {
 			@Override
 			public NIBRSError apply(GroupAIncidentReport subject) {
 				NIBRSError ret = null;
-				NIBRSError template = subject.getErrorTemplate();
-				template.setNIBRSErrorCode(NIBRSErrorCode._656);
-				template.setDataElementIdentifier("L 6");
-				template.setValue(null);
-				template.setCrossSegment(true);
+				boolean violated = false;
+				Object value = null;
 				int offenderCount = subject.getOffenderCount();
 				int arresteeCount = subject.getArresteeCount();
 				if (offenderCount == 1) {
 					OffenderSegment offender = subject.getOffenders().get(0);
-					ParsedObject<Integer> offenderSequenceNumberPO = offender.getOffenderSequenceNumber();
+					ParsedInt offenderSequenceNumberPO = offender.getParsedOffenderSequenceNumber();
 					if (arresteeCount > 0 && (offenderSequenceNumberPO.isInvalid() || offenderSequenceNumberPO.isMissing() || offenderSequenceNumberPO.getValue() == 0)) {
-						ret = template;
+						violated = true;
 					}
 				}
 				if (arresteeCount > offenderCount) {
-					ret = template;
-					ret.setValue(offenderCount + 1);
+					violated = true;
+					value = offenderCount + 1;
+				}
+				if (violated) {
+					ret = subject.getErrorTemplate();
+					ret.setNIBRSErrorCode(NIBRSErrorCode._656);
+					ret.setDataElementIdentifier("L 6");
+					ret.setValue(value);
+					ret.setCrossSegment(true);
 				}
 				return ret;
 			}
@@ -317,7 +338,9 @@ public class GroupAIncidentReportRulesFactory {
 			int offenderCount = subject.getOffenderCount();
 			if (offenderCount > 0) {
 				boolean someOffenderHasAllInfo = false;
-				NIBRSError potentialError = null;
+				OffenderSegment potentialErrorOffender = null;
+				Object potentialErrorValue = null;
+				String potentialErrorDataElementIdentifier = null;
 				for (int i = 0; i < offenderCount; i++) {
 					OffenderSegment os = subject.getOffenders().get(i);
 					Object value = null;
@@ -338,15 +361,17 @@ public class GroupAIncidentReportRulesFactory {
 						dataElementIdentifier = "37";
 					}
 					if (dataElementIdentifier != null) {
-						potentialError = os.getErrorTemplate();
-						potentialError.setValue(value);
-						potentialError.setDataElementIdentifier(dataElementIdentifier);
-						potentialError.setNIBRSErrorCode(nibrsErrorCode);
+						potentialErrorOffender = os;
+						potentialErrorValue = value;
+						potentialErrorDataElementIdentifier = dataElementIdentifier;
 					}
 					someOffenderHasAllInfo |= dataElementIdentifier == null;
 				}
 				if (!someOffenderHasAllInfo && violatesRule(subject)) {
-					ret = potentialError;
+					ret = potentialErrorOffender.getErrorTemplate();
+					ret.setValue(potentialErrorValue);
+					ret.setDataElementIdentifier(potentialErrorDataElementIdentifier);
+					ret.setNIBRSErrorCode(nibrsErrorCode);
 				}
 			}
 			return ret;
@@ -374,6 +399,11 @@ public class GroupAIncidentReportRulesFactory {
 	
 	Rule<GroupAIncidentReport> getRule558() {
 		return new Rule<GroupAIncidentReport>() {
+			@Override
+			public RuleScope getScope() {
+				return RuleScope.NON_DELETE;
+			}
+
 			@Override
 			public NIBRSError apply(GroupAIncidentReport subject) {
 				NIBRSError ret = null;
@@ -407,7 +437,7 @@ public class GroupAIncidentReportRulesFactory {
 				int offenderCount = subject.getOffenderCount();
 				if (offenderCount > 1) {
 					for (int i=0;i < offenderCount && ret == null;i++) {
-						ParsedObject<Integer> offenderSequenceNumber = subject.getOffenders().get(i).getOffenderSequenceNumber();
+						ParsedInt offenderSequenceNumber = subject.getOffenders().get(i).getParsedOffenderSequenceNumber();
 						if (!offenderSequenceNumber.isMissing() && !offenderSequenceNumber.isInvalid() && offenderSequenceNumber.getValue() == 0) {
 							ret = subject.getErrorTemplate();
 							ret.setValue(0);
@@ -459,7 +489,7 @@ public class GroupAIncidentReportRulesFactory {
 						VictimSegment vs = subject.getVictims().get(i);
 						for (int j=0;j < VictimSegment.OFFENDER_NUMBER_RELATED_COUNT && ret == null;j++) {
 							if (RelationshipOfVictimToOffenderCode.VO.code.equals(vs.getVictimOffenderRelationship(j))) {
-								Integer offender = vs.getOffenderNumberRelated(j).getValue();
+								Integer offender = vs.getParsedOffenderNumberRelated(j).getValue();
 								if (priorVictimOffenders.contains(offender)) {
 									ret = vs.getErrorTemplate();
 									ret.setValue(RelationshipOfVictimToOffenderCode.VO.code);
@@ -575,7 +605,7 @@ public class GroupAIncidentReportRulesFactory {
 						for (int i=0;i < propertyCount && !hasUnvaluedDrugs;i++) {
 							PropertySegment ps = subject.getProperties().get(i);
 							for (int j=0;j < PropertySegment.PROPERTY_DESCRIPTION_COUNT && !hasUnvaluedDrugs;j++) {
-								hasUnvaluedDrugs = PropertyDescriptionCode._10.code.equals(ps.getPropertyDescription(j)) && ps.getValueOfProperty(j).getValue() == null;
+								hasUnvaluedDrugs = PropertyDescriptionCode._10.code.equals(ps.getPropertyDescription(j)) && ps.getParsedValueOfProperty(j).getValue() == null;
 							}
 						}
 						if (hasUnvaluedDrugs) {
@@ -706,8 +736,7 @@ public class GroupAIncidentReportRulesFactory {
 			public NIBRSError apply(GroupAIncidentReport subject) {
 				NIBRSError ret = null;
 
-				boolean containsCrimesAgainstSociety = subject.getOffenses().stream()
-						.anyMatch(offense -> OffenseCode.isCrimeAgainstSocietyCode(offense.getUcrOffenseCode())) ;
+				boolean containsCrimesAgainstSociety = subject.getIndex().includesCrimeAgainstSociety();
 				
 				Long crimeAgainsSocietyVictimCount = subject.getVictims()
 						.stream()
@@ -726,6 +755,11 @@ public class GroupAIncidentReportRulesFactory {
 	
 	Rule<GroupAIncidentReport> getRule075() {
 		return new Rule<GroupAIncidentReport>() {
+			@Override
+			public RuleScope getScope() {
+				return RuleScope.NON_DELETE;
+			}
+
 			@Override
 			public NIBRSError apply(GroupAIncidentReport subject) {
 				NIBRSError ret = null;
@@ -779,10 +813,8 @@ public class GroupAIncidentReportRulesFactory {
 						.reduce("", String::concat);
 										
 				if (StringUtils.isNotBlank(qualifiedUcrCode)){
-					boolean hasNonOrUnknowPropertyLoss = subject.getProperties()
-								.stream()
-								.filter(i -> TypeOfPropertyLossCode.noneOrUnknownValueCodeSet().contains( i.getTypeOfPropertyLoss()))
-								.count() > 0 ;
+					boolean hasNonOrUnknowPropertyLoss = 
+							CollectionUtils.containsAny(subject.getIndex().getPropertyLossTypes(), TypeOfPropertyLossCode.noneOrUnknownValueCodeSet());
 							
 					if (!hasNonOrUnknowPropertyLoss){
 						ret = subject.getErrorTemplate();
@@ -804,7 +836,7 @@ public class GroupAIncidentReportRulesFactory {
 			public NIBRSError apply(GroupAIncidentReport subject) {
 				NIBRSError e = null;
 				String exceptionalClearanceCode = subject.getExceptionalClearanceCode();
-				ParsedObject<LocalDate> exceptionalClearanceDatePO = subject.getExceptionalClearanceDate();
+				ParsedDate exceptionalClearanceDatePO = subject.getParsedExceptionalClearanceDate();
 				if (subject.getReportActionType() == 'I' 
 						&& exceptionalClearanceCode != null 
 						&& !ClearedExceptionallyCode.N.code.equals(exceptionalClearanceCode) 
@@ -815,8 +847,8 @@ public class GroupAIncidentReportRulesFactory {
 							subject.getArrestees().stream()
 							.anyMatch(item->
 								item.getArrestDate() != null 
-								&& item.getArrestDate().getValue() != null 
-								&& !item.getArrestDate().getValue().isAfter(exceptionalClearanceDatePO.getValue()));
+								&& item.getParsedArrestDate().getValue() != null 
+								&& !item.getParsedArrestDate().getValue().isAfter(exceptionalClearanceDatePO.getValue()));
 					if (containingInvalidArrests) {
 						e = subject.getErrorTemplate();
 						e.setNIBRSErrorCode(NIBRSErrorCode._071);
@@ -847,11 +879,7 @@ public class GroupAIncidentReportRulesFactory {
 				if (qualifiedOffenses.size() > 0){
 					
 					List<PropertySegment> properties = subject.getProperties();
-					List<String> existingPropertyLosses = 
-							subject.getProperties().stream()
-								.map(item -> item.getTypeOfPropertyLoss())
-								.distinct()
-								.collect(Collectors.toList());
+					Set<String> existingPropertyLosses = subject.getIndex().getPropertyLossTypes();
 					for ( OffenseSegment offense: qualifiedOffenses){
 						List<String> validPropertyLossCodes = getValidPropertyLossCodes(offense);
 						if ( properties == null ||  properties.isEmpty() || 
@@ -893,12 +921,7 @@ public class GroupAIncidentReportRulesFactory {
 						.collect(Collectors.toList()); 
 									
 				
-				List<String> existingPropertyLosses = 
-						subject.getProperties().stream()
-							.map(item -> item.getTypeOfPropertyLoss())
-							.filter(Objects::nonNull)
-							.distinct()
-							.collect(Collectors.toList());
+				List<String> existingPropertyLosses = new ArrayList<>(subject.getIndex().getPropertyLossTypes());
 				
 				if (qualifiedOffenses.size() > 0){
 					existingPropertyLosses.removeAll(getValidPropertyLossCodes(qualifiedOffenses));
@@ -1013,27 +1036,12 @@ public class GroupAIncidentReportRulesFactory {
 			public NIBRSError apply(GroupAIncidentReport subject) {
 				NIBRSError ret = null;
 				
-				boolean hasStolenAndRecoverdPropertySegments = subject.getProperties()
-						.stream()
-						.filter(item -> item.isStolenPropertySegment() || item.isRecoveredPropertySegment())
-						.map(item -> item.getTypeOfPropertyLoss())
-						.distinct()
-						.count() == 2;
-				 
+				PropertySegment stolenSegment = subject.getStolenPropertySegment();
+				PropertySegment recoveredSegment = subject.getRecoveredPropertySegment();
 				
-				if ( hasStolenAndRecoverdPropertySegments ){
-					Map<String, Integer> stolenPropertyValueMap = 
-							subject.getProperties().stream()
-							.filter(item ->item.isStolenPropertySegment())
-							.map(item -> item.getPropertyDescriptionValueMap())
-							.findFirst()
-							.get();
-					Map<String, Integer> recoveredPropertyValueMap = 
-							subject.getProperties().stream()
-							.filter(item ->item.isRecoveredPropertySegment())
-							.map(item -> item.getPropertyDescriptionValueMap())
-							.findFirst()
-							.get();
+				if (stolenSegment != null && recoveredSegment != null){
+					Map<String, Integer> stolenPropertyValueMap = stolenSegment.getPropertyDescriptionValueMap();
+					Map<String, Integer> recoveredPropertyValueMap = recoveredSegment.getPropertyDescriptionValueMap();
 					
 					
 					if (stolenPropertyValueMap != null && recoveredPropertyValueMap != null) {
@@ -1098,15 +1106,15 @@ public class GroupAIncidentReportRulesFactory {
 				PropertySegment recoveredSegment = subject.getRecoveredPropertySegment();
 				PropertySegment stolenSegment = subject.getStolenPropertySegment();
 				if (subject.getReportActionType() == 'I' && recoveredSegment != null 
-					&& recoveredSegment.getNumberOfRecoveredMotorVehicles().getValue() != null 
-					&& recoveredSegment.getNumberOfRecoveredMotorVehicles().getValue() > 0
+					&& recoveredSegment.getParsedNumberOfRecoveredMotorVehicles().getValue() != null 
+					&& recoveredSegment.getParsedNumberOfRecoveredMotorVehicles().getValue() > 0
 					&& (stolenSegment == null 
-						|| stolenSegment.getNumberOfStolenMotorVehicles().isMissing() 
-						|| stolenSegment.getNumberOfStolenMotorVehicles().isInvalid()
-						|| stolenSegment.getNumberOfStolenMotorVehicles().getValue() == null 
-						|| stolenSegment.getNumberOfStolenMotorVehicles().getValue() < recoveredSegment.getNumberOfRecoveredMotorVehicles().getValue())) {
+						|| stolenSegment.getParsedNumberOfStolenMotorVehicles().isMissing() 
+						|| stolenSegment.getParsedNumberOfStolenMotorVehicles().isInvalid()
+						|| stolenSegment.getParsedNumberOfStolenMotorVehicles().getValue() == null 
+						|| stolenSegment.getParsedNumberOfStolenMotorVehicles().getValue() < recoveredSegment.getParsedNumberOfRecoveredMotorVehicles().getValue())) {
 					ret = subject.getErrorTemplate();
-					ret.setValue(recoveredSegment.getNumberOfRecoveredMotorVehicles().getValue());
+					ret.setValue(recoveredSegment.getParsedNumberOfRecoveredMotorVehicles().getValue());
 					ret.setSegmentType('0');
 					ret.setNIBRSErrorCode(NIBRSErrorCode._073);
 				}
@@ -1115,6 +1123,33 @@ public class GroupAIncidentReportRulesFactory {
 		};
 	}
 	
+	Rule<GroupAIncidentReport> getRule056() {
+		return new Rule<GroupAIncidentReport>() {
+			@Override
+			public RuleScope getScope() {
+				return RuleScope.NON_DELETE;
+			}
+
+			@Override
+			public NIBRSError apply(GroupAIncidentReport subject) {
+				NIBRSError ret = null;
+				SubmissionHistory history = submissionHistory;
+				if (history != null && subject.getReportActionType() == 'I') {
+					// duplicates within the current submission are reported by the submission structure checks (SubmissionStructureValidator),
+					// which every caller that sets a history runs alongside; the history itself keeps the first of them
+					IncidentRecord incidentRecord = history.getIncident(subject.getOri(), subject.getIncidentNumber());
+					if (incidentRecord != null && incidentRecord.isOnFile() && !incidentRecord.isFromCurrentSubmission()) {
+						ret = subject.getErrorTemplate();
+						ret.setNIBRSErrorCode(NIBRSErrorCode._056);
+						ret.setDataElementIdentifier("2");
+						ret.setValue(subject.getIncidentNumber());
+					}
+				}
+				return ret;
+			}
+		};
+	}
+	
 	Rule<GroupAIncidentReport> getRule072() {
 		return new Rule<GroupAIncidentReport>() {
 			@Override
@@ -1135,6 +1170,14 @@ public class GroupAIncidentReportRulesFactory {
 					if (stolenPropertyDescriptionList.contains(PropertyDescriptionCode._13.code)){
 						recoveredPropertyTypes.remove(PropertyDescriptionCode._59.code);
 					}
+					SubmissionHistory history = submissionHistory;
+					if (!recoveredPropertyTypes.isEmpty() && history != null) {
+						// property reported stolen when the incident was submitted before need not be reported stolen again
+						IncidentRecord incidentRecord = history.getIncident(subject.getOri(), subject.getIncidentNumber());
+						if (incidentRecord != null && incidentRecord.isOnFile()) {
+							recoveredPropertyTypes.removeIf(incidentRecord::wasReportedStolen);
+						}
+					}
 					if (!recoveredPropertyTypes.isEmpty()) {
 						ret = subject.getErrorTemplate();
 						ret.setNIBRSErrorCode(NIBRSErrorCode._072);
@@ -1150,13 +1193,13 @@ public class GroupAIncidentReportRulesFactory {
 			@Override
 			public NIBRSError apply(GroupAIncidentReport subject) {
 				NIBRSError ret = null;
-				ParsedObject<LocalDate> exceptionalClearanceDatePO = subject.getExceptionalClearanceDate();
-				ParsedObject<LocalDate> incidentDatePO = subject.getIncidentDate();
+				ParsedDate exceptionalClearanceDatePO = subject.getParsedExceptionalClearanceDate();
+				ParsedDate incidentDatePO = subject.getParsedIncidentDate();
 				if (!exceptionalClearanceDatePO.isMissing() && !exceptionalClearanceDatePO.isInvalid()
 						&& !incidentDatePO.isInvalid() && !incidentDatePO.isMissing()) {
 					if (exceptionalClearanceDatePO.getValue().isBefore(incidentDatePO.getValue())) {
 						ret = subject.getErrorTemplate();
-						ret.setValue(subject.getExceptionalClearanceDate().getValue());
+						ret.setValue(subject.getParsedExceptionalClearanceDate().getValue());
 						ret.setDataElementIdentifier("5");
 						ret.setNIBRSErrorCode(NIBRSErrorCode._155);
 					}
@@ -1171,7 +1214,7 @@ public class GroupAIncidentReportRulesFactory {
 			@Override
 			public NIBRSError apply(GroupAIncidentReport subject) {
 				NIBRSError ret = null;
-				ParsedObject<LocalDate> exceptionalClearanceDatePO = subject.getExceptionalClearanceDate();
+				ParsedDate exceptionalClearanceDatePO = subject.getParsedExceptionalClearanceDate();
 				if ((exceptionalClearanceDatePO.isMissing() || exceptionalClearanceDatePO.isInvalid()) && trueExceptionalClearanceCodes.contains(subject.getExceptionalClearanceCode())) {
 					ret = subject.getErrorTemplate();
 					ret.setValue(subject.getExceptionalClearanceCode());
@@ -1188,7 +1231,7 @@ public class GroupAIncidentReportRulesFactory {
 			@Override
 			public NIBRSError apply(GroupAIncidentReport subject) {
 				NIBRSError ret = null;
-				ParsedObject<LocalDate> exceptionalClearanceDatePO = subject.getExceptionalClearanceDate();
+				ParsedDate exceptionalClearanceDatePO = subject.getParsedExceptionalClearanceDate();
 				if (!exceptionalClearanceDatePO.isMissing() && ! exceptionalClearanceDatePO.isInvalid() && "N".equals(subject.getExceptionalClearanceCode())) {
 					ret = subject.getErrorTemplate();
 					ret.setValue(subject.getExceptionalClearanceCode());
@@ -1261,6 +1304,11 @@ public class GroupAIncidentReportRulesFactory {
 	Rule<GroupAIncidentReport> getRule119() {
 		
 		Rule<GroupAIncidentReport> ret = new Rule<GroupAIncidentReport>() {
+			@Override
+			public RuleScope getScope() {
+				return RuleScope.NON_DELETE;
+			}
+
 			@Override
 			public NIBRSError apply(GroupAIncidentReport subject) {
 				if (subject.getReportActionType() == 'D') {
@@ -1328,14 +1376,14 @@ public class GroupAIncidentReportRulesFactory {
 				boolean hasLeoVictims = subject.getVictims().stream().anyMatch(VictimSegment::isLawEnforcementOfficer);
 				
 				NIBRSError ret = null;
-				ParsedObject<Integer> incidentHour = subject.getIncidentHour();
+				ParsedInt incidentHour = subject.getParsedIncidentHour();
 				if (containCrimeRequiresIncidentHour &&  hasLeoVictims
 						&& (incidentHour.isInvalid() || incidentHour.isMissing()
 								|| incidentHour.getValue() == null 
 								|| incidentHour.getValue() < 0 
 								|| incidentHour.getValue() > 23) ) {
 					ret = subject.getErrorTemplate();
-					ret.setValue(subject.getIncidentHour().getValue());
+					ret.setValue(subject.getParsedIncidentHour().getValue());
 					ret.setDataElementIdentifier("3");
 					ret.setNIBRSErrorCode(NIBRSErrorCode._106);
 				}
@@ -1409,7 +1457,7 @@ public class GroupAIncidentReportRulesFactory {
 	
 	Rule<GroupAIncidentReport> getRule152() {
 		return new NumericValueRule<>(subject -> {
-			return subject.getIncidentHour().getValue();
+			return subject.getParsedIncidentHour().getValue();
 		} , (value, target) -> {
 			NIBRSError e = null;
 			if (value != null && (0 > value.intValue() || 23 < value.intValue())) {
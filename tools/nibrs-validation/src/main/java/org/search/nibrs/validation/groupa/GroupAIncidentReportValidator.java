@@ -15,12 +15,12 @@
  */
 package org.search.nibrs.validation.groupa;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
 import org.search.nibrs.model.ArresteeSegment;
 import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.model.OffenderSegment;
@@ -30,12 +30,17 @@ import org.search.nibrs.model.VictimSegment;
 import org.search.nibrs.model.codes.NIBRSErrorCode;
 import org.search.nibrs.validation.ArresteeSegmentRulesFactory;
 import org.search.nibrs.validation.ValidatorProperties;
-import org.search.nibrs.validation.rules.Rule;
+import org.search.nibrs.validation.rules.ErrorCollector;
+import org.search.nibrs.validation.rules.ErrorSink;
+import org.search.nibrs.validation.rules.RulePlan;
+import org.search.nibrs.validation.submission.SubmissionHistory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
- * Class that validates a Group A Incident Report and all of its contained child segments.
+ * Class that validates a Group A Incident Report and all of its contained child segments.  The rules are created (and planned, so that
+ * rules are only applied to the segments they can apply to) when the validator is constructed, and hold no state between reports, so a
+ * single instance can validate different reports on several threads at once.
  * 
  */
 @Component
@@ -45,113 +50,117 @@ public class GroupAIncidentReportValidator {
 	@SuppressWarnings("unused")
 	private static final Logger LOG = LogManager.getLogger(GroupAIncidentReportValidator.class);
 	
-	private List<Rule<GroupAIncidentReport>> incidentReportRules = new ArrayList<>();
-	private List<Rule<OffenseSegment>> offenseSegmentRules = new ArrayList<>();
-	private List<Rule<PropertySegment>> propertySegmentRules = new ArrayList<>();
-	private List<Rule<VictimSegment>> victimSegmentRules = new ArrayList<>();
-	private List<Rule<OffenderSegment>> offenderSegmentRules = new ArrayList<>();
-	private List<Rule<ArresteeSegment>> groupAArresteeSegmentRules = new ArrayList<>();
+	private final GroupAIncidentReportRulesFactory incidentReportRulesFactory;
+	private final RulePlan<GroupAIncidentReport> incidentReportRules;
+	private final RulePlan<OffenseSegment> offenseSegmentRules;
+	private final RulePlan<PropertySegment> propertySegmentRules;
+	private final RulePlan<VictimSegment> victimSegmentRules;
+	private final RulePlan<OffenderSegment> offenderSegmentRules;
+	private final RulePlan<ArresteeSegment> groupAArresteeSegmentRules;
 	
 	@Autowired
 	public GroupAIncidentReportValidator(ValidatorProperties validatorProperties) {
-		incidentReportRules = new GroupAIncidentReportRulesFactory(validatorProperties).getRulesList();
-		offenseSegmentRules = new OffenseSegmentRulesFactory().getRulesList();
-		propertySegmentRules = new PropertySegmentRulesFactory().getRulesList();
-		victimSegmentRules = VictimSegmentRulesFactory.instance(validatorProperties).getRulesList();
-		offenderSegmentRules = OffenderSegmentRulesFactory.instance(validatorProperties).getRulesList();
-		groupAArresteeSegmentRules = ArresteeSegmentRulesFactory.instance(ArresteeSegmentRulesFactory.GROUP_A_ARRESTEE_MODE, validatorProperties).getRulesList();
+		incidentReportRulesFactory = new GroupAIncidentReportRulesFactory(validatorProperties);
+		incidentReportRules = new RulePlan<>(incidentReportRulesFactory.getRulesList());
+		offenseSegmentRules = new RulePlan<>(new OffenseSegmentRulesFactory().getRulesList());
+		propertySegmentRules = new RulePlan<>(new PropertySegmentRulesFactory().getRulesList());
+		// the victim rules factory returns the rules for the spec version in the validator properties
+		victimSegmentRules = new RulePlan<>(VictimSegmentRulesFactory.instance(validatorProperties).getRulesList());
+		offenderSegmentRules = new RulePlan<>(OffenderSegmentRulesFactory.instance(validatorProperties).getRulesList());
+		groupAArresteeSegmentRules = new RulePlan<>(ArresteeSegmentRulesFactory.instance(ArresteeSegmentRulesFactory.GROUP_A_ARRESTEE_MODE, validatorProperties).getRulesList());
+	}
+
+	/**
+	 * Get the history of incidents accepted in earlier submissions, if any, that the validator consults.
+	 * @return the history, or null
+	 */
+	public SubmissionHistory getSubmissionHistory() {
+		return incidentReportRulesFactory.getSubmissionHistory();
+	}
+
+	/**
+	 * Set the history of incidents accepted in earlier submissions, so that edits 056 (incident previously added) and 072 (recovered property
+	 * must first be reported stolen) take account of what is already on file.
+	 * @param submissionHistory the history, or null to validate each incident on its own
+	 */
+	public void setSubmissionHistory(SubmissionHistory submissionHistory) {
+		incidentReportRulesFactory.setSubmissionHistory(submissionHistory);
 	}
 
 	public List<NIBRSError> validate(GroupAIncidentReport groupAIncidentReport) {
+		ErrorCollector collector = new ErrorCollector();
+		validate(groupAIncidentReport, collector);
+		return collector.getErrorList();
+	}
+
+	/**
+	 * Validate the incident, reporting errors to the specified sink in the same order as {@link #validate(GroupAIncidentReport)} returns them.
+	 * @param groupAIncidentReport the incident
+	 * @param sink the sink to which errors are reported
+	 */
+	public void validate(GroupAIncidentReport groupAIncidentReport, ErrorSink sink) {
 		
-		List<NIBRSError> ret = new ArrayList<NIBRSError>();
+		// the cross-segment rules share the incident's lookup index; rebuild it in case the incident was changed in place since it was built
+		groupAIncidentReport.invalidateIndex();
 		
-		for (Rule<GroupAIncidentReport> r : incidentReportRules) {
-			NIBRSError e = r.apply(groupAIncidentReport);
-			if (e != null) {
-				ret.add(e);
-			}
-		}
+		CrossSegmentErrorFilter filter = new CrossSegmentErrorFilter(sink);
+		char reportActionType = groupAIncidentReport.getReportActionType();
 		
-		for (Rule<OffenseSegment> r : offenseSegmentRules) {
-			for (OffenseSegment s : groupAIncidentReport.getOffenses()) {
-				NIBRSError e = r.apply(s);
-				if (e != null) {
-					ret.add(e);
-				}
-			}
-		}
+		incidentReportRules.apply(groupAIncidentReport, reportActionType, filter);
+		offenseSegmentRules.apply(groupAIncidentReport.getOffenses(), reportActionType, filter);
+		propertySegmentRules.apply(groupAIncidentReport.getProperties(), reportActionType, filter);
+
+		filter.deduplicate = true;
+		victimSegmentRules.apply(groupAIncidentReport.getVictims(), reportActionType, filter);
+
+		filter.deduplicate = false;
+		offenderSegmentRules.apply(groupAIncidentReport.getOffenders(), reportActionType, filter);
+
+		filter.deduplicate = true;
+		groupAArresteeSegmentRules.apply(groupAIncidentReport.getArrestees(), reportActionType, filter);
 		
-		for (Rule<PropertySegment> r : propertySegmentRules) {
-			for (PropertySegment s : groupAIncidentReport.getProperties()) {
-				NIBRSError e = r.apply(s);
-				if (e != null) {
-					ret.add(e);
-				}
-			}
-		}
+	}
 
-		for (Rule<VictimSegment> r : victimSegmentRules) {
-			for (VictimSegment s : groupAIncidentReport.getVictims()) {
-				NIBRSError nibrsError = r.apply(s);
-				processVictimSegmentError(ret, nibrsError);
-			}
-		}
+	/**
+	 * Sink that passes errors on to another sink, except that (while deduplicate is set) it drops a 070 error with the same value as one already
+	 * reported, and a 071 error if one has already been reported, since the victim and arrestee rules can report these once per segment.  The
+	 * errors already reported are looked up in an error collector's index, so that incidents with many victims don't take time quadratic in the
+	 * number of errors.
+	 */
+	private static final class CrossSegmentErrorFilter implements ErrorSink {
 
-		for (Rule<OffenderSegment> r : offenderSegmentRules) {
-			for (OffenderSegment s : groupAIncidentReport.getOffenders()) {
-				NIBRSError nibrsError = r.apply(s);
-				if (nibrsError != null) {
-					ret.add(nibrsError);
-				}
-			}
+		private final ErrorCollector reported;
+		private boolean deduplicate;
+
+		CrossSegmentErrorFilter(ErrorSink sink) {
+			reported = new ErrorCollector(sink);
 		}
 
-		for (Rule<ArresteeSegment> r : groupAArresteeSegmentRules) {
-			for (ArresteeSegment s : groupAIncidentReport.getArrestees()) {
-				NIBRSError nibrsError = r.apply(s);
-				processArresteeSegmentError(ret, nibrsError);
+		@Override
+		public void accept(NIBRSError error) {
+			if (pass(error.getNIBRSErrorCode(), error.getValue())) {
+				reported.accept(error);
 			}
 		}
-		
-		return ret;
-		
-	}
 
-	private void processArresteeSegmentError(List<NIBRSError> ret,
-			NIBRSError nibrsError) {
-		if (nibrsError != null) {
-			if (!nibrsError.getRuleNumber().equals(NIBRSErrorCode._071.getCode())){
-				ret.add(nibrsError);
-			}
-			else{
-				long count =  
-					ret.stream()
-					   	.filter(item->item.getRuleNumber().equals(NIBRSErrorCode._071.getCode()))
-					   	.count();
-				if (count == 0){
-					ret.add(nibrsError);
-				}
+		@Override
+		public void reportError(ValidationTarget subject, NIBRSErrorCode errorCode, String dataElementIdentifier, Object value) {
+			if (pass(errorCode, value)) {
+				reported.reportError(subject, errorCode, dataElementIdentifier, value);
 			}
 		}
-	}
 
-	private void processVictimSegmentError(List<NIBRSError> ret, NIBRSError nibrsError) {
-		if (nibrsError != null) {
-			if (!nibrsError.getRuleNumber().equals(NIBRSErrorCode._070.getCode())){
-				ret.add(nibrsError);
-			}
-			else{
-				long count =  
-					ret.stream()
-						.filter(item->item.getRuleNumber().equals(NIBRSErrorCode._070.getCode()))
-					   	.filter(item->nibrsError.getValue().equals(item.getValue()))
-					   	.count();
-				if (count == 0){
-					ret.add(nibrsError);
+		private boolean pass(NIBRSErrorCode errorCode, Object value) {
+			if (deduplicate) {
+				if (errorCode == NIBRSErrorCode._070) {
+					return !reported.contains(NIBRSErrorCode._070, value);
+				} else if (errorCode == NIBRSErrorCode._071) {
+					return !reported.contains(NIBRSErrorCode._071);
 				}
 			}
+			return true;
 		}
+
 	}
 	
 }
@@ -21,6 +21,7 @@ import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.common.ParsedObject;
 import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.model.NIBRSAge;
@@ -52,7 +53,7 @@ public class OffenderSegmentRulesFactory {
 		@Override
 		public NIBRSError apply(OffenderSegment offenderSegment) {
 			NIBRSError e = null;
-			Integer offenderSequenceNumber = offenderSegment.getOffenderSequenceNumber().getValue();
+			Integer offenderSequenceNumber = offenderSegment.getParsedOffenderSequenceNumber().getValue();
 			GroupAIncidentReport incident = (GroupAIncidentReport) offenderSegment.getParentReport();
 			List<VictimSegment> victims = incident.getVictims();
 			for (int i = 0; i < victims.size() && e == null; i++) {
@@ -83,7 +84,7 @@ public class OffenderSegmentRulesFactory {
 
 		@Override
 		protected boolean propertyViolatesRule(Object value, OffenderSegment subject) {
-			ParsedObject<Integer> sequenceNumber = subject.getOffenderSequenceNumber();
+			ParsedInt sequenceNumber = subject.getParsedOffenderSequenceNumber();
 			return !sequenceNumber.isInvalid() && !sequenceNumber.isMissing() && sequenceNumber.getValue() == 0 && value != null;
 		}
 		
@@ -151,7 +152,7 @@ public class OffenderSegmentRulesFactory {
 			@Override
 			public NIBRSError apply(OffenderSegment offenderSegment) {
 
-				ParsedObject<Integer> offenderSequenceNumber = offenderSegment.getOffenderSequenceNumber();
+				ParsedInt offenderSequenceNumber = offenderSegment.getParsedOffenderSequenceNumber();
 				Integer offenderSequenceNumberValue = offenderSequenceNumber.getValue();
 				NIBRSError e = null;
 
@@ -159,7 +160,7 @@ public class OffenderSegmentRulesFactory {
 					e = offenderSegment.getErrorTemplate();
 					e.setNIBRSErrorCode(NIBRSErrorCode._501);
 					e.setDataElementIdentifier("36");
-					e.setValue(offenderSequenceNumber);
+					e.setValue(offenderSequenceNumber.asParsedObject());
 				}
 
 				return e;
@@ -173,7 +174,7 @@ public class OffenderSegmentRulesFactory {
 			@Override
 			public NIBRSError apply(OffenderSegment offenderSegment) {
 
-				ParsedObject<Integer> offenderSequenceNumber = offenderSegment.getOffenderSequenceNumber();
+				ParsedInt offenderSequenceNumber = offenderSegment.getParsedOffenderSequenceNumber();
 				GroupAIncidentReport parent = (GroupAIncidentReport) offenderSegment.getParentReport();
 				String exceptionalClearanceCode = parent.getExceptionalClearanceCode();
 				
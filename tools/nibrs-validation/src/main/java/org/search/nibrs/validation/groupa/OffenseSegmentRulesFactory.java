@@ -25,10 +25,9 @@ import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.search.nibrs.common.NIBRSError;
-import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.model.OffenseSegment;
-import org.search.nibrs.model.VictimSegment;
 import org.search.nibrs.model.codes.AutomaticWeaponIndicatorCode;
 import org.search.nibrs.model.codes.BiasMotivationCode;
 import org.search.nibrs.model.codes.LocationTypeCode;
@@ -39,7 +38,9 @@ import org.search.nibrs.model.codes.OffenseAttemptedCompletedCode;
 import org.search.nibrs.model.codes.OffenseCode;
 import org.search.nibrs.model.codes.TypeOfCriminalActivityCode;
 import org.search.nibrs.model.codes.TypeOfWeaponForceCode;
+import org.search.nibrs.validation.rules.AbstractSinkRule;
 import org.search.nibrs.validation.rules.DuplicateCodedValueRule;
+import org.search.nibrs.validation.rules.ErrorSink;
 import org.search.nibrs.validation.rules.ExclusiveCodedValueRule;
 import org.search.nibrs.validation.rules.NotAllBlankRule;
 import org.search.nibrs.validation.rules.NotBlankRule;
@@ -204,14 +205,8 @@ public class OffenseSegmentRulesFactory {
 			public NIBRSError apply(OffenseSegment subject) {
 				NIBRSError e = null;
 				String ucrCode = subject.getUcrOffenseCode();
-				boolean found = false;
-				for (VictimSegment vs : ((GroupAIncidentReport) subject.getParentReport()).getVictims()) {
-					if (vs.getUcrOffenseCodeList().contains(ucrCode)) {
-						found = true;
-						break;
-					}
-				}
-				if (!found) {
+				GroupAIncidentReport parent = (GroupAIncidentReport) subject.getParentReport();
+				if (parent.getIndex().getVictimsConnectedTo(ucrCode).isEmpty()) {
 					e = subject.getErrorTemplate();
 					e.setValue(ucrCode);
 					e.setDataElementIdentifier("L 2");
@@ -225,64 +220,57 @@ public class OffenseSegmentRulesFactory {
 	}
 	
 	Rule<OffenseSegment> getRule270() {
-		return new Rule<OffenseSegment>() {
+		return new AbstractSinkRule<OffenseSegment>() {
 			@Override
-			public NIBRSError apply(OffenseSegment subject) {
-				NIBRSError ret = null;
+			public void apply(OffenseSegment subject, ErrorSink sink) {
+				String offendingBiasMotivation = null;
 				String offenseCode = subject.getUcrOffenseCode();
 				if (OffenseCode._09C.code.equals(offenseCode)) {
 					String[] biasMotivations = subject.getBiasMotivation();
 					for (String b : biasMotivations) {
 						if (b != null && !BiasMotivationCode._88.code.equals(b)) {
-							ret = subject.getErrorTemplate();
-							ret.setDataElementIdentifier("8A");
-							ret.setValue(b);
-							ret.setNIBRSErrorCode(NIBRSErrorCode._270);
+							offendingBiasMotivation = b;
 						}
 					}
 				}
-				return ret;
+				if (offendingBiasMotivation != null) {
+					sink.reportError(subject, NIBRSErrorCode._270, "8A", offendingBiasMotivation);
+				}
 			}
 		};
 	}
 	
 	Rule<OffenseSegment> getRule205() {
-		return new Rule<OffenseSegment>() {
+		return new AbstractSinkRule<OffenseSegment>() {
 			@Override
-			public NIBRSError apply(OffenseSegment subject) {
-				NIBRSError ret = null;
+			public void apply(OffenseSegment subject, ErrorSink sink) {
 				String offenseCode = subject.getUcrOffenseCode();
 				if (LocationTypeCode._58.code.equals(subject.getLocationType()) && 
 						!OffenseCode.isCrimeAllowingLocationTypeCyberspace(offenseCode)) {
-					ret = subject.getErrorTemplate();
-					ret.setDataElementIdentifier("9");
-					ret.setValue(offenseCode);
-					ret.setNIBRSErrorCode(NIBRSErrorCode._205);
+					sink.reportError(subject, NIBRSErrorCode._205, "9", offenseCode);
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<OffenseSegment> getRule269() {
-		return new Rule<OffenseSegment>() {
+		return new AbstractSinkRule<OffenseSegment>() {
 			@Override
-			public NIBRSError apply(OffenseSegment subject) {
-				NIBRSError ret = null;
+			public void apply(OffenseSegment subject, ErrorSink sink) {
+				String offendingWeapon = null;
 				
 				String offenseCode = subject.getUcrOffenseCode();
 				if (OffenseCode._13B.code.equals(offenseCode)) {
 					String[] ww = subject.getTypeOfWeaponForceInvolved();
 					for (String w : ww) {
 						if (firearmCodes.contains(w)) {
-							ret = subject.getErrorTemplate();
-							ret.setValue(w);
-							ret.setDataElementIdentifier("13");
-							ret.setNIBRSErrorCode(NIBRSErrorCode._269);
+							offendingWeapon = w;
 						}
 					}
 				}
-				return ret;
+				if (offendingWeapon != null) {
+					sink.reportError(subject, NIBRSErrorCode._269, "13", offendingWeapon);
+				}
 			}
 		};
 	}
@@ -292,23 +280,22 @@ public class OffenseSegmentRulesFactory {
 		homicideCodes.add(OffenseCode._09A.code);
 		homicideCodes.add(OffenseCode._09B.code);
 		homicideCodes.add(OffenseCode._09C.code);
-		return new Rule<OffenseSegment>() {
+		return new AbstractSinkRule<OffenseSegment>() {
 			@Override
-			public NIBRSError apply(OffenseSegment subject) {
-				NIBRSError ret = null;
+			public void apply(OffenseSegment subject, ErrorSink sink) {
+				String offendingWeapon = null;
 				String offenseCode = subject.getUcrOffenseCode();
 				if (homicideCodes.contains(offenseCode)) {
 					String[] ww = subject.getTypeOfWeaponForceInvolved();
 					for (String w : ww) {
 						if (TypeOfWeaponForceCode._99.code.equals(w)) {
-							ret = subject.getErrorTemplate();
-							ret.setValue(w);
-							ret.setDataElementIdentifier("13");
-							ret.setNIBRSErrorCode(NIBRSErrorCode._267);
+							offendingWeapon = w;
 						}
 					}
 				}
-				return ret;
+				if (offendingWeapon != null) {
+					sink.reportError(subject, NIBRSErrorCode._267, "13", offendingWeapon);
+				}
 			}
 		};
 	}
@@ -319,23 +306,22 @@ public class OffenseSegmentRulesFactory {
 		simpleAssaultWeapons.add(TypeOfWeaponForceCode._90.code);
 		simpleAssaultWeapons.add(TypeOfWeaponForceCode._95.code);
 		simpleAssaultWeapons.add(TypeOfWeaponForceCode._99.code);
-		return new Rule<OffenseSegment>() {
+		return new AbstractSinkRule<OffenseSegment>() {
 			@Override
-			public NIBRSError apply(OffenseSegment subject) {
-				NIBRSError ret = null;
+			public void apply(OffenseSegment subject, ErrorSink sink) {
+				String offendingWeapon = null;
 				String offenseCode = subject.getUcrOffenseCode();
 				if (offenseCode != null && OffenseCode._13B.code.equals(offenseCode)) {
 					String[] ww = subject.getTypeOfWeaponForceInvolved();
 					for (String w : ww) {
 						if (w != null && !simpleAssaultWeapons.contains(w)) {
-							ret = subject.getErrorTemplate();
-							ret.setValue(w);
-							ret.setDataElementIdentifier("13");
-							ret.setNIBRSErrorCode(NIBRSErrorCode._265);
+							offendingWeapon = w;
 						}
 					}
 				}
-				return ret;
+				if (offendingWeapon != null) {
+					sink.reportError(subject, NIBRSErrorCode._265, "13", offendingWeapon);
+				}
 			}
 		};
 	}
@@ -359,42 +345,33 @@ public class OffenseSegmentRulesFactory {
 	}
 	
 	Rule<OffenseSegment> getRule258() {
-		return new Rule<OffenseSegment>() {
+		return new AbstractSinkRule<OffenseSegment>() {
 			@Override
-			public NIBRSError apply(OffenseSegment subject) {
-				NIBRSError ret = null;
+			public void apply(OffenseSegment subject, ErrorSink sink) {
 				String[] awi = subject.getAutomaticWeaponIndicator();
-				for (int i=0;i < awi.length && ret == null;i++) {
+				for (int i=0;i < awi.length;i++) {
 					String weapon = subject.getTypeOfWeaponForceInvolved(i);
 					if (AutomaticWeaponIndicatorCode.A.code.equals(awi[i]) && weapon != null && !firearmCodes.contains(weapon)) {
-						ret = subject.getErrorTemplate();
-						ret.setValue(weapon);
-						ret.setDataElementIdentifier("13");
-						ret.setNIBRSErrorCode(NIBRSErrorCode._258);
+						sink.reportError(subject, NIBRSErrorCode._258, "13", weapon);
+						break;
 					}
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<OffenseSegment> getRule257() {
-		return new Rule<OffenseSegment>() {
+		return new AbstractSinkRule<OffenseSegment>() {
 			@Override
-			public NIBRSError apply(OffenseSegment subject) {
-				NIBRSError ret = null;
+			public void apply(OffenseSegment subject, ErrorSink sink) {
 				String offenseCode = subject.getUcrOffenseCode();
-				ParsedObject<Integer> numberOfPremises = subject.getNumberOfPremisesEntered();
+				ParsedInt numberOfPremises = subject.getParsedNumberOfPremisesEntered();
 				String locationType = subject.getLocationType();
 				if (offenseCode != null && OffenseCode._220.code.equals(offenseCode) &&
 						locationType != null && (LocationTypeCode._14.code.equals(locationType) || LocationTypeCode._19.code.equals(locationType)) &&
 						(numberOfPremises.isMissing() || numberOfPremises.isInvalid())) {
-					ret = subject.getErrorTemplate();
-					ret.setValue(null);
-					ret.setDataElementIdentifier("10");
-					ret.setNIBRSErrorCode(NIBRSErrorCode._257);
+					sink.reportError(subject, NIBRSErrorCode._257, "10", null);
 				}
-				return ret;
 			}
 		};
 	}
@@ -407,20 +384,15 @@ public class OffenseSegmentRulesFactory {
 		assaultOrHomicideCodeSet.add(OffenseCode._13A.code);
 		assaultOrHomicideCodeSet.add(OffenseCode._13B.code);
 		assaultOrHomicideCodeSet.add(OffenseCode._13C.code);
-		return new Rule<OffenseSegment>() {
+		return new AbstractSinkRule<OffenseSegment>() {
 			@Override
-			public NIBRSError apply(OffenseSegment subject) {
-				NIBRSError ret = null;
+			public void apply(OffenseSegment subject, ErrorSink sink) {
 				String offenseCode = subject.getUcrOffenseCode();
 				String attemptedCompletedCode = subject.getOffenseAttemptedCompleted();
 				if (attemptedCompletedCode != null && !OffenseAttemptedCompletedCode.C.code.equals(attemptedCompletedCode) && 
 						offenseCode != null && assaultOrHomicideCodeSet.contains(offenseCode)) {
-					ret = subject.getErrorTemplate();
-					ret.setValue(attemptedCompletedCode);
-					ret.setDataElementIdentifier("7");
-					ret.setNIBRSErrorCode(NIBRSErrorCode._256);
+					sink.reportError(subject, NIBRSErrorCode._256, "7", attemptedCompletedCode);
 				}
-				return ret;
 			}
 		};
 	}
@@ -430,18 +402,13 @@ public class OffenseSegmentRulesFactory {
 	}
 	
 	Rule<OffenseSegment> getRule254() {
-		return new Rule<OffenseSegment>() {
+		return new AbstractSinkRule<OffenseSegment>() {
 			@Override
-			public NIBRSError apply(OffenseSegment subject) {
-				NIBRSError ret = null;
+			public void apply(OffenseSegment subject, ErrorSink sink) {
 				String offenseCode = subject.getUcrOffenseCode();
 				if (subject.getMethodOfEntry() != null && offenseCode != null && !OffenseCode._220.code.equals(offenseCode)) {
-					ret = subject.getErrorTemplate();
-					ret.setValue(subject.getMethodOfEntry());
-					ret.setDataElementIdentifier("11");
-					ret.setNIBRSErrorCode(NIBRSErrorCode._254);
+					sink.reportError(subject, NIBRSErrorCode._254, "11", subject.getMethodOfEntry());
 				}
-				return ret;
 			}
 		};
 	}
@@ -460,7 +427,7 @@ public class OffenseSegmentRulesFactory {
 			@Override
 			public NIBRSError apply(OffenseSegment subject) {
 				NIBRSError ret = null;
-				if (!(subject.getNumberOfPremisesEntered().isMissing() || subject.getNumberOfPremisesEntered().isInvalid())) {
+				if (!(subject.getParsedNumberOfPremisesEntered().isMissing() || subject.getParsedNumberOfPremisesEntered().isInvalid())) {
 					String offenseCode = subject.getUcrOffenseCode();
 					String locationType = subject.getLocationType();
 					if (!(OffenseCode._220.code.equals(offenseCode) && (LocationTypeCode._14.code.equals(locationType) || LocationTypeCode._19.code.equals(locationType)))) {
@@ -565,7 +532,7 @@ public class OffenseSegmentRulesFactory {
 	Rule<OffenseSegment> getRule204ForPremisesEntered() {
 		Rule<OffenseSegment> ret = new NumericValueRule<>(
 				subject -> {
-					return subject.getNumberOfPremisesEntered().getValue();
+					return subject.getParsedNumberOfPremisesEntered().getValue();
 				},
 				(value, target) -> {
 					NIBRSError e = null;
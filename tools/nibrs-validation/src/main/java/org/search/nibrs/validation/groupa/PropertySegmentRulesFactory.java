@@ -36,7 +36,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.search.nibrs.common.NIBRSError;
-import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.common.ParsedDate;
+import org.search.nibrs.common.ParsedDouble;
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.common.ValidationTarget;
 import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.model.OffenseSegment;
@@ -48,7 +50,9 @@ import org.search.nibrs.model.codes.PropertyDescriptionCode;
 import org.search.nibrs.model.codes.SuspectedDrugTypeCode;
 import org.search.nibrs.model.codes.TypeOfDrugMeasurementCode;
 import org.search.nibrs.model.codes.TypeOfPropertyLossCode;
+import org.search.nibrs.validation.rules.AbstractSinkRule;
 import org.search.nibrs.validation.rules.DuplicateCodedValueRule;
+import org.search.nibrs.validation.rules.ErrorSink;
 import org.search.nibrs.validation.rules.NumericValueRule;
 import org.search.nibrs.validation.rules.Rule;
 import org.search.nibrs.validation.rules.ValidValueListRule;
@@ -63,7 +67,7 @@ public class PropertySegmentRulesFactory {
 		@Override
 		public NIBRSError apply(PropertySegment subject) {
 			NIBRSError ret = null;
-			Integer smv = stolenMode ? subject.getNumberOfStolenMotorVehicles().getValue() : subject.getNumberOfRecoveredMotorVehicles().getValue();
+			Integer smv = stolenMode ? subject.getParsedNumberOfStolenMotorVehicles().getValue() : subject.getParsedNumberOfRecoveredMotorVehicles().getValue();
 			boolean nmvNull = (smv == null);
 			boolean mvOffenseInvolved = false;
 			boolean offenseAttempted = false;
@@ -85,27 +89,22 @@ public class PropertySegmentRulesFactory {
 
 	}
 	
-	private static abstract class Rule364 implements Rule<PropertySegment> {
+	private static abstract class Rule364 extends AbstractSinkRule<PropertySegment> {
 		private String dataElementIdentifier;
 		public Rule364(String dataElementIdentifier) {
 			this.dataElementIdentifier = dataElementIdentifier;
 		}
 		@Override
-		public NIBRSError apply(PropertySegment subject) {
-			NIBRSError ret = null;
+		public void apply(PropertySegment subject, ErrorSink sink) {
 			GroupAIncidentReport parent = (GroupAIncidentReport) subject.getParentReport();
 			boolean drugOffense = parent.isOffenseInvolved(OffenseCode._35A);
 			
 			String typePropertyLoss = subject.getTypeOfPropertyLoss();
 			if (drugOffense && typePropertyLoss != null && TypeOfPropertyLossCode._6.code.equals(typePropertyLoss)) {
 				if (evaluateProperty(subject)) {
-					ret = subject.getErrorTemplate();
-					ret.setNIBRSErrorCode(NIBRSErrorCode._364);
-					ret.setValue(null);
-					ret.setDataElementIdentifier(dataElementIdentifier);
+					sink.reportError(subject, NIBRSErrorCode._364, dataElementIdentifier, null);
 				}
 			}
-			return ret;
 		}
 		private boolean evaluateProperty(PropertySegment segment) {
 			boolean ret = false;
@@ -180,16 +179,12 @@ public class PropertySegmentRulesFactory {
 	}
 	
 	private Rule<PropertySegment> getRule301ForSuspectedDrugType() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				if (subject.isSuspectedDrugTypeMandatory() && allNull(subject.getSuspectedDrugType())) {
-					ret = subject.getErrorTemplate();
-					ret.setDataElementIdentifier("20");
-					ret.setNIBRSErrorCode(NIBRSErrorCode._301);
+					sink.reportError(subject, NIBRSErrorCode._301, "20", null);
 				}
-				return ret;
 			}
 		};
 	}
@@ -199,22 +194,17 @@ public class PropertySegmentRulesFactory {
 		allowedCodes.add(SuspectedDrugTypeCode._E.code);
 		allowedCodes.add(SuspectedDrugTypeCode._G.code);
 		allowedCodes.add(SuspectedDrugTypeCode._K.code);
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				for (int i=0;i < 3;i++) {
 					String drugType = subject.getSuspectedDrugType(i);
 					String measurement = subject.getTypeDrugMeasurement(i);
 					if (TypeOfDrugMeasurementCode._NP.code.equals(measurement) && !allowedCodes.contains(drugType)) {
-						ret = subject.getErrorTemplate();
-						ret.setNIBRSErrorCode(NIBRSErrorCode._367);
-						ret.setValue(drugType);
-						ret.setDataElementIdentifier("22");
+						sink.reportError(subject, NIBRSErrorCode._367, "22", drugType);
 						break;
 					}
 				}
-				return ret;
 			}
 		};
 	}
@@ -240,10 +230,9 @@ public class PropertySegmentRulesFactory {
 	}
 	
 	Rule<PropertySegment> getRule365() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				if ( notAllNull(subject.getSuspectedDrugType())) {
 					GroupAIncidentReport parent = (GroupAIncidentReport) subject.getParentReport();
 					boolean drugOffense = parent.getOffenses().stream()
@@ -254,81 +243,61 @@ public class PropertySegmentRulesFactory {
 							&& (TypeOfPropertyLossCode._1.code.equals(typePropertyLoss)
 								|| (TypeOfPropertyLossCode._6.code.equals(typePropertyLoss)
 										&& subject.getPropertyDescriptionList().contains(PropertyDescriptionCode._10.code))))) {
-						ret = subject.getErrorTemplate();
-						ret.setDataElementIdentifier("20");
-						
 						Optional<String> value = Arrays.stream(subject.getSuspectedDrugType())
 								.filter(Objects::nonNull)
 								.reduce(String::concat);
-						ret.setValue(value.get());
-						ret.setNIBRSErrorCode(NIBRSErrorCode._365);
+						sink.reportError(subject, NIBRSErrorCode._365, "20", value.get());
 					}
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule375() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				if ( TypeOfPropertyLossCode.requirePropertyDescriptionValueCodeSet().contains(subject.getTypeOfPropertyLoss())
 						&& allNull(subject.getPropertyDescription())  ) {
-					ret = subject.getErrorTemplate();
-					ret.setDataElementIdentifier("15");
-					ret.setNIBRSErrorCode(NIBRSErrorCode._375);
+					sink.reportError(subject, NIBRSErrorCode._375, "15", null);
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule363forMeasurement() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				for (int i=0;i < 3;i++) {
 					if (SuspectedDrugTypeCode._X.code.equals(subject.getSuspectedDrugType(i)) && subject.getTypeDrugMeasurement(i) != null) {
-						ret = subject.getErrorTemplate();
-						ret.setNIBRSErrorCode(NIBRSErrorCode._363);
-						ret.setValue(subject.getTypeDrugMeasurement(i));
-						ret.setDataElementIdentifier("22");
+						sink.reportError(subject, NIBRSErrorCode._363, "22", subject.getTypeDrugMeasurement(i));
 						break;
 					}
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule363forQuantity() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				for (int i=0;i < 3;i++) {
 					if (SuspectedDrugTypeCode._X.code.equals(subject.getSuspectedDrugType(i)) && 
-							subject.getEstimatedDrugQuantity(i) != null && subject.getEstimatedDrugQuantity(i).getValue()!= null) {
-						ret = subject.getErrorTemplate();
-						ret.setNIBRSErrorCode(NIBRSErrorCode._363);
-						ret.setValue(subject.getEstimatedDrugQuantity(i).getValue());
-						ret.setDataElementIdentifier("21");
+							subject.getEstimatedDrugQuantity(i) != null && subject.getParsedEstimatedDrugQuantity(i).getValue()!= null) {
+						sink.reportError(subject, NIBRSErrorCode._363, "21", subject.getParsedEstimatedDrugQuantity(i).getValue());
 						break;
 					}
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule362() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				String[] suspectedDrugTypes = subject.getSuspectedDrugType();
 				int notNullCount = 0;
 				boolean xEntered = false;
@@ -342,46 +311,35 @@ public class PropertySegmentRulesFactory {
 					}
 				}
 				if (xEntered && notNullCount != 3) {
-					ret = subject.getErrorTemplate();
-					ret.setNIBRSErrorCode(NIBRSErrorCode._362);
-					ret.setValue(suspectedDrugTypes);
-					ret.setDataElementIdentifier("20");
+					sink.reportError(subject, NIBRSErrorCode._362, "20", suspectedDrugTypes);
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule359() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
-				Integer smv = subject.getNumberOfStolenMotorVehicles().getValue();
-				Integer rmv = subject.getNumberOfRecoveredMotorVehicles().getValue();
+			public void apply(PropertySegment subject, ErrorSink sink) {
+				Integer smv = subject.getParsedNumberOfStolenMotorVehicles().getValue();
+				Integer rmv = subject.getParsedNumberOfRecoveredMotorVehicles().getValue();
 				
 				GroupAIncidentReport parent = (GroupAIncidentReport) subject.getParentReport();
 				boolean motorVehicleTheftOffense = parent.isOffenseInvolved(OffenseCode._240);
 
 				if ( motorVehicleTheftOffense && (smv != null && smv > 0) || (rmv != null && rmv > 0) ) {
 					if (!subject.containsVehiclePropertyCodes()) {
-						ret = subject.getErrorTemplate();
-						ret.setValue((smv != null && smv > 0)?smv:rmv);
-						ret.setNIBRSErrorCode(NIBRSErrorCode._359);
-						ret.setDataElementIdentifier("18");
+						sink.reportError(subject, NIBRSErrorCode._359, "18", (smv != null && smv > 0)?smv:rmv);
 					}
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule390() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
-				
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				List<OffenseSegment> offenses = ((GroupAIncidentReport)subject.getParentReport()).getOffenses();
 				
 				List<String> offensesRequirePropertySegment = 
@@ -391,7 +349,7 @@ public class PropertySegmentRulesFactory {
 							.collect(Collectors.toList()) ;
 						
 				if ( offensesRequirePropertySegment.size() == 0 ) 
-					return ret; 
+					return; 
 				
 				boolean containsOffensesWithoutIllogicalPropertyDescriptions = 
 						offensesRequirePropertySegment.stream()
@@ -399,7 +357,7 @@ public class PropertySegmentRulesFactory {
 						.count() > 0 ; 
 				if (containsOffensesWithoutIllogicalPropertyDescriptions 
 						|| TypeOfPropertyLossCode.noneOrUnknownValueCodeSet().contains(subject.getTypeOfPropertyLoss())){
-					return ret; 
+					return; 
 				}
 
 				List<String> existingDescriptions = 
@@ -417,16 +375,9 @@ public class PropertySegmentRulesFactory {
 					existingDescriptions.removeAll(illogicalPropertyDescriptionToAllOffense.get());
 					
 					if (existingDescriptions.size() == 0){
-						ret = subject.getErrorTemplate();
-						ret.setValue(illogicalPropertyDescriptionToAllOffense.get().get(0));
-						ret.setNIBRSErrorCode(NIBRSErrorCode._390);
-						ret.setDataElementIdentifier("15");
-						return ret;
+						sink.reportError(subject, NIBRSErrorCode._390, "15", illogicalPropertyDescriptionToAllOffense.get().get(0));
 					}
 				}
-						
-				
-				return null;
 			}
 		};
 	}
@@ -446,7 +397,7 @@ public class PropertySegmentRulesFactory {
 								&& OffenseAttemptedCompletedCode.C.code.equals(offense.getOffenseAttemptedCompleted()));
 						
 				NIBRSError ret = null;
-				if ((nmvNull || subject.getNumberOfRecoveredMotorVehicles().getValue() == 0)  && ((typeOfPropertyLoss != null 
+				if ((nmvNull || subject.getParsedNumberOfRecoveredMotorVehicles().getValue() == 0)  && ((typeOfPropertyLoss != null 
 						&& TypeOfPropertyLossCode._5.code.equals(typeOfPropertyLoss)) 
 						&& completeMvOffenseInvolved
 						&& subject.containsVehiclePropertyCodes())) {
@@ -476,13 +427,12 @@ public class PropertySegmentRulesFactory {
 	}
 	
 	Rule<PropertySegment> getRule360() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				String typeOfPropertyLoss = subject.getTypeOfPropertyLoss();
-				boolean numberOfRecoveredVehicleEntered = subject.getNumberOfRecoveredMotorVehicles().getValue() != null; 
-//						&& subject.getNumberOfRecoveredMotorVehicles().getValue() != 0;
+				boolean numberOfRecoveredVehicleEntered = subject.getParsedNumberOfRecoveredMotorVehicles().getValue() != null; 
+//						&& subject.getParsedNumberOfRecoveredMotorVehicles().getValue() != 0;
 				
 				boolean completedMovingVehicleOffenseInvolved = ((GroupAIncidentReport) subject.getParentReport()).isCompleteOffenseInvolved(OffenseCode._240);
 				
@@ -490,12 +440,8 @@ public class PropertySegmentRulesFactory {
 						&& (typeOfPropertyLoss == null 
 							|| !TypeOfPropertyLossCode._5.code.equals(typeOfPropertyLoss)
 							|| !completedMovingVehicleOffenseInvolved)) {
-					ret = subject.getErrorTemplate();
-					ret.setValue(subject.getNumberOfRecoveredMotorVehicles().getValue().toString());
-					ret.setNIBRSErrorCode(NIBRSErrorCode._360);
-					ret.setDataElementIdentifier("19");
+					sink.reportError(subject, NIBRSErrorCode._360, "19", subject.getParsedNumberOfRecoveredMotorVehicles().getValue().toString());
 				}
-				return ret;
 			}
 		};
 	}
@@ -506,7 +452,7 @@ public class PropertySegmentRulesFactory {
 				NIBRSError ret = null;
 				if (!nmvNull && ((typeOfPropertyLoss != null && !TypeOfPropertyLossCode._7.code.equals(typeOfPropertyLoss)) || !mvOffenseInvolved || offenseAttempted)) {
 					ret = subject.getErrorTemplate();
-					ret.setValue(subject.getNumberOfStolenMotorVehicles().getValue().toString());
+					ret.setValue(subject.getParsedNumberOfStolenMotorVehicles().getValue().toString());
 					ret.setNIBRSErrorCode(NIBRSErrorCode._357);
 					ret.setDataElementIdentifier("18");
 				}
@@ -516,74 +462,62 @@ public class PropertySegmentRulesFactory {
 	}
 	
 	Rule<PropertySegment> getRule355() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
+				LocalDate offendingDateRecovered = null;
 				String typeOfPropertyLoss = subject.getTypeOfPropertyLoss();
 				if (typeOfPropertyLoss != null && !TypeOfPropertyLossCode._5.code.equals(typeOfPropertyLoss)) {
 					for (int i=0;i < 10;i++) {
-						ParsedObject<LocalDate> dateRecoveredPO = subject.getDateRecovered(i);
+						ParsedDate dateRecoveredPO = subject.getParsedDateRecovered(i);
 						if (dateRecoveredPO.getValue() != null) {
-							ret = subject.getErrorTemplate();
-							ret.setDataElementIdentifier("17");
-							ret.setValue(dateRecoveredPO.getValue());
-							ret.setNIBRSErrorCode(NIBRSErrorCode._355);
+							offendingDateRecovered = dateRecoveredPO.getValue();
 						}
 					}
 				}
-				return ret;
+				if (offendingDateRecovered != null) {
+					sink.reportError(subject, NIBRSErrorCode._355, "17", offendingDateRecovered);
+				}
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule354() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				for (int i=0;i < 10;i++) {
-					if (subject.getValueOfProperty(i).getValue() != null && 
+					if (subject.getParsedValueOfProperty(i).getValue() != null && 
 							subject.getPropertyDescription(i) == null) {
-						ret = subject.getErrorTemplate();
-						ret.setNIBRSErrorCode(NIBRSErrorCode._354);
-						ret.setValue(subject.getValueOfProperty(i).getValue());
-						ret.setDataElementIdentifier("15");
+						sink.reportError(subject, NIBRSErrorCode._354, "15", subject.getParsedValueOfProperty(i).getValue());
 						break;
 					}
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule353() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				for (int i=0;i < 10;i++) {
-					ParsedObject<Integer> valueOfPropertyPO = subject.getValueOfProperty(i);
+					ParsedInt valueOfPropertyPO = subject.getParsedValueOfProperty(i);
 					String propertyDescription = subject.getPropertyDescription(i);
 					if (propertyDescription != null && PropertyDescriptionCode._88.code.equals(propertyDescription) &&
 							!(valueOfPropertyPO.isMissing() || valueOfPropertyPO.isInvalid()) && valueOfPropertyPO.getValue() != 1) {
-						ret = subject.getErrorTemplate();
-						ret.setNIBRSErrorCode(NIBRSErrorCode._353);
-						ret.setValue(valueOfPropertyPO.getValue());
-						ret.setDataElementIdentifier("16");
+						sink.reportError(subject, NIBRSErrorCode._353, "16", valueOfPropertyPO.getValue());
 						break;
 					}
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule352() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				String loss = subject.getTypeOfPropertyLoss();
 				boolean drugOffense35AInvolved = ((GroupAIncidentReport) subject.getParentReport()).isOffenseInvolved(OffenseCode._35A);
 				boolean otherOffenseRequirePropertySegment = ((GroupAIncidentReport) subject.getParentReport())
@@ -595,8 +529,8 @@ public class PropertySegmentRulesFactory {
 						!(allNull(subject.getPropertyDescription()) &&
 								allNull(subject.getValueOfProperty()) &&
 								allNull(subject.getDateRecovered()) &&
-								(subject.getNumberOfRecoveredMotorVehicles().getValue() == null) &&
-								(subject.getNumberOfStolenMotorVehicles().getValue() == null) &&
+								(subject.getParsedNumberOfRecoveredMotorVehicles().getValue() == null) &&
+								(subject.getParsedNumberOfStolenMotorVehicles().getValue() == null) &&
 								allNull(subject.getSuspectedDrugType()) &&
 								allNull(subject.getEstimatedDrugQuantity()) &&
 								allNull(subject.getTypeDrugMeasurement())
@@ -607,98 +541,83 @@ public class PropertySegmentRulesFactory {
 						&& !(allNull(subject.getPropertyDescription()) &&
 							allNull(subject.getValueOfProperty()) &&
 							allNull(subject.getDateRecovered()) &&
-							(subject.getNumberOfRecoveredMotorVehicles().getValue() == null) &&
-							(subject.getNumberOfStolenMotorVehicles().getValue() == null) &&
+							(subject.getParsedNumberOfRecoveredMotorVehicles().getValue() == null) &&
+							(subject.getParsedNumberOfStolenMotorVehicles().getValue() == null) &&
 							notAllNull(subject.getSuspectedDrugType())
 						)) {
 					value = loss;
 				}
 				if (value != null) {
-					ret = subject.getErrorTemplate();
-					ret.setValue(value);
-					ret.setNIBRSErrorCode(NIBRSErrorCode._352);
-					ret.setDataElementIdentifier("14");
+					sink.reportError(subject, NIBRSErrorCode._352, "14", value);
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule366() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				int length = subject.getEstimatedDrugQuantity().length; 
 				for (int i=0;i < length;i++) {
-					ParsedObject<Double> estimatedDrugQuantity = subject.getEstimatedDrugQuantity(i);
+					ParsedDouble estimatedDrugQuantity = subject.getParsedEstimatedDrugQuantity(i);
 					String suspectedDrugType = subject.getSuspectedDrugType(i);
 					String typeDrugMeasurement = subject.getTypeDrugMeasurement(i);
 					if (estimatedDrugQuantity != null && !estimatedDrugQuantity.isMissing() 
 							&& (StringUtils.isBlank(suspectedDrugType) || StringUtils.isBlank(typeDrugMeasurement)) ) {
-						ret = subject.getErrorTemplate();
-						ret.setNIBRSErrorCode(NIBRSErrorCode._366);
-						ret.setDataElementIdentifier("21");
+						sink.reportError(subject, NIBRSErrorCode._366, "21", null);
+						break;
 					}
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule368() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				int length = subject.getEstimatedDrugQuantity().length; 
 				for (int i=0;i < length;i++) {
-					ParsedObject<Double> estimatedDrugQuantity = subject.getEstimatedDrugQuantity(i);
+					ParsedDouble estimatedDrugQuantity = subject.getParsedEstimatedDrugQuantity(i);
 					String suspectedDrugType = subject.getSuspectedDrugType(i);
 					String typeDrugMeasurement = subject.getTypeDrugMeasurement(i);
 					if (StringUtils.isNotBlank(typeDrugMeasurement) && 
 							(StringUtils.isBlank(suspectedDrugType) || estimatedDrugQuantity == null
 								|| estimatedDrugQuantity.isMissing()) ) {
-						ret = subject.getErrorTemplate();
-						ret.setNIBRSErrorCode(NIBRSErrorCode._368);
-						ret.setDataElementIdentifier("22");
+						sink.reportError(subject, NIBRSErrorCode._368, "22", null);
+						break;
 					}
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule384() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				int length = subject.getEstimatedDrugQuantity().length; 
 				for (int i=0;i < length;i++) {
-					ParsedObject<Double> estimatedDrugQuantity = subject.getEstimatedDrugQuantity(i);
+					ParsedDouble estimatedDrugQuantity = subject.getParsedEstimatedDrugQuantity(i);
 					String typeDrugMeasurement = subject.getTypeDrugMeasurement(i);
 					if ( Objects.equals(typeDrugMeasurement, TypeOfDrugMeasurementCode._XX.code)
 							&& ( estimatedDrugQuantity == null
 							|| estimatedDrugQuantity.isMissing() 
 							|| estimatedDrugQuantity.isInvalid()
 							|| !Objects.equals(estimatedDrugQuantity.getValue(), new Double(1.0))) ) {
-						ret = subject.getErrorTemplate();
-						ret.setNIBRSErrorCode(NIBRSErrorCode._384);
-						ret.setValue(TypeOfDrugMeasurementCode._XX.code);
-						ret.setDataElementIdentifier("21");
+						sink.reportError(subject, NIBRSErrorCode._384, "21", TypeOfDrugMeasurementCode._XX.code);
+						break;
 					}
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule392() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				String loss = subject.getTypeOfPropertyLoss();
 				boolean drugOffense35AInvolved = ((GroupAIncidentReport) subject.getParentReport()).isOffenseInvolved(OffenseCode._35A);
 				boolean otherOffenseRequirePropertySegment = ((GroupAIncidentReport) subject.getParentReport())
@@ -710,20 +629,16 @@ public class PropertySegmentRulesFactory {
 						&& !otherOffenseRequirePropertySegment 
 						&& !isRule392Exception2 
 						&& allNull(subject.getSuspectedDrugType())){
-					ret = subject.getErrorTemplate();
-					ret.setNIBRSErrorCode(NIBRSErrorCode._392);
-					ret.setDataElementIdentifier("20");
+					sink.reportError(subject, NIBRSErrorCode._392, "20", null);
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule387() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				String loss = subject.getTypeOfPropertyLoss();
 				boolean drugOffense35AInvolved = ((GroupAIncidentReport) subject.getParentReport()).isOffenseInvolved(OffenseCode._35A);
 				boolean drugOffense35BInvolved = ((GroupAIncidentReport) subject.getParentReport()).isOffenseInvolved(OffenseCode._35B);
@@ -737,10 +652,7 @@ public class PropertySegmentRulesFactory {
 						&& !drugOffense35BInvolved
 						&& !otherOffenseRequirePropertySegment 
 						&& containsPropertyDescription11){
-					ret = subject.getErrorTemplate();
-					ret.setValue(PropertyDescriptionCode._11.code);
-					ret.setNIBRSErrorCode(NIBRSErrorCode._387);
-					ret.setDataElementIdentifier("15");
+					sink.reportError(subject, NIBRSErrorCode._387, "15", PropertyDescriptionCode._11.code);
 				}
 				
 				if (TypeOfPropertyLossCode._6.code.equals(loss) 
@@ -748,42 +660,35 @@ public class PropertySegmentRulesFactory {
 						&& drugOffense35BInvolved
 						&& !otherOffenseRequirePropertySegment 
 						&& containsPropertyDescription10){
-					ret = subject.getErrorTemplate();
-					ret.setValue(PropertyDescriptionCode._10.code);
-					ret.setNIBRSErrorCode(NIBRSErrorCode._387);
-					ret.setDataElementIdentifier("15");
+					sink.reportError(subject, NIBRSErrorCode._387, "15", PropertyDescriptionCode._10.code);
 				}
-
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule391() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
+				Integer offendingValue = null;
 				for (int i=0;i < 10;i++) {
-					ParsedObject<Integer> valueOfPropertyPO = subject.getValueOfProperty(i);
+					ParsedInt valueOfPropertyPO = subject.getParsedValueOfProperty(i);
 					String propertyDescription = subject.getPropertyDescription(i);
 					if (!(valueOfPropertyPO.isMissing() || valueOfPropertyPO.isInvalid()) && valueOfPropertyPO.getValue() != 0 && zeroValuePropertyDescriptions.contains(propertyDescription)) {
-						ret = subject.getErrorTemplate();
-						ret.setNIBRSErrorCode(NIBRSErrorCode._391);
-						ret.setValue(valueOfPropertyPO.getValue());
-						ret.setDataElementIdentifier("16");
+						offendingValue = valueOfPropertyPO.getValue();
 					}
 				}
-				return ret;
+				if (offendingValue != null) {
+					sink.reportError(subject, NIBRSErrorCode._391, "16", offendingValue);
+				}
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule388() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				
 				List<String> vehicleValues = Arrays.asList(
 						PropertyDescriptionCode._03.code, 
@@ -794,17 +699,13 @@ public class PropertySegmentRulesFactory {
 				long countOfVehicles = Arrays.stream(subject.getPropertyDescription())
 						.filter(item->vehicleValues.contains(item))
 						.count(); 
-				if ( !subject.getNumberOfStolenMotorVehicles().isMissing()
-						&& !subject.getNumberOfStolenMotorVehicles().isInvalid()
-						&& subject.getNumberOfStolenMotorVehicles().getValue() != null 
-						&& (subject.getNumberOfStolenMotorVehicles().getValue() != 0 )
-						&& countOfVehicles > subject.getNumberOfStolenMotorVehicles().getValue()) {
-					ret = subject.getErrorTemplate();
-					ret.setNIBRSErrorCode(NIBRSErrorCode._388);
-					ret.setValue(subject.getNumberOfStolenMotorVehicles());
-					ret.setDataElementIdentifier("18");
+				if ( !subject.getParsedNumberOfStolenMotorVehicles().isMissing()
+						&& !subject.getParsedNumberOfStolenMotorVehicles().isInvalid()
+						&& subject.getParsedNumberOfStolenMotorVehicles().getValue() != null 
+						&& (subject.getParsedNumberOfStolenMotorVehicles().getValue() != 0 )
+						&& countOfVehicles > subject.getParsedNumberOfStolenMotorVehicles().getValue()) {
+					sink.reportError(subject, NIBRSErrorCode._388, "18", subject.getNumberOfStolenMotorVehicles());
 				}
-				return ret;
 			}
 		};
 	}
@@ -814,45 +715,37 @@ public class PropertySegmentRulesFactory {
 		allowedZeroValue.addAll(zeroValuePropertyDescriptions);
 		allowedZeroValue.add(PropertyDescriptionCode._77.code);
 		allowedZeroValue.add(PropertyDescriptionCode._99.code);
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				for (int i=0;i < 10;i++) {
-					ParsedObject<Integer> valueOfPropertyPO = subject.getValueOfProperty(i);
+					ParsedInt valueOfPropertyPO = subject.getParsedValueOfProperty(i);
 					String propertyDescription = subject.getPropertyDescription(i);
 					if (PropertyDescriptionCode.codeSet().contains(propertyDescription) 
 							&& !(valueOfPropertyPO.isMissing() || valueOfPropertyPO.isInvalid()) && valueOfPropertyPO.getValue() == 0 && !allowedZeroValue.contains(propertyDescription)) {
-						ret = subject.getErrorTemplate();
-						ret.setNIBRSErrorCode(NIBRSErrorCode._351);
-						ret.setValue("0");
-						ret.setDataElementIdentifier("16");
+						sink.reportError(subject, NIBRSErrorCode._351, "16", "0");
+						break;
 					}
 				}
-				return ret;
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule356() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				for (int i=0;i < 10;i++) {
-					ParsedObject<LocalDate> recoveredDate = subject.getDateRecovered(i);
-					ParsedObject<Integer> valueOfPropertyPO = subject.getValueOfProperty(i);
+					ParsedDate recoveredDate = subject.getParsedDateRecovered(i);
+					ParsedInt valueOfPropertyPO = subject.getParsedValueOfProperty(i);
 					String propertyDescription = subject.getPropertyDescription(i);
 					if (!(recoveredDate.isInvalid() || recoveredDate.isMissing() || recoveredDate.getValue() == null)  
 							&& (valueOfPropertyPO.isMissing() || valueOfPropertyPO.isInvalid() || valueOfPropertyPO.getValue() == null
 							|| StringUtils.isBlank(propertyDescription))) {
-						ret = subject.getErrorTemplate();
-						ret.setNIBRSErrorCode(NIBRSErrorCode._356);
-						ret.setDataElementIdentifier("17");
+						sink.reportError(subject, NIBRSErrorCode._356, "17", null);
 						break;
 					}
 				}
-				return ret;
 			}
 		};
 	}
@@ -880,10 +773,9 @@ public class PropertySegmentRulesFactory {
 	}
 	
 	Rule<PropertySegment> getRule306() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				String[] suspectedDrugType = subject.getSuspectedDrugType();
 				String[] typeDrugMeasurement = subject.getTypeDrugMeasurement();
 				if (suspectedDrugType != null && typeDrugMeasurement != null && suspectedDrugType.length == typeDrugMeasurement.length) {
@@ -893,17 +785,13 @@ public class PropertySegmentRulesFactory {
 						String m = typeDrugMeasurement[i];
 						if (t != null && m != null) {
 							if (typeToMeasureMap.keySet().contains(t) && (SuspectedDrugTypeCode._U.code.equals(t) || m.equals(typeToMeasureMap.get(t)))) {
-								ret = subject.getErrorTemplate();
-								ret.setDataElementIdentifier("20");
-								ret.setValue(t);
-								ret.setNIBRSErrorCode(NIBRSErrorCode._306);
+								sink.reportError(subject, NIBRSErrorCode._306, "20", t);
 								break;
 							}
 						}
 						typeToMeasureMap.put(t, m);
 					}
 				}
-				return ret;
 			}
 		};
 	}
@@ -917,101 +805,91 @@ public class PropertySegmentRulesFactory {
 	 * @return
 	 */
 	Rule<PropertySegment> getRule320() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
+				LocalDate offendingRecoveredDate = null;
 				GroupAIncidentReport parentIncident = (GroupAIncidentReport) subject.getParentReport();
-				ParsedObject<LocalDate> incidentDatePO = parentIncident.getIncidentDate();
+				ParsedDate incidentDatePO = parentIncident.getParsedIncidentDate();
 				if (!(incidentDatePO.isMissing() || incidentDatePO.isInvalid())) {
 					LocalDate incidentDate = incidentDatePO.getValue();
 					for (int i = 0; i < 10; i++) {
-						ParsedObject<LocalDate> recoveredDatePO = subject.getDateRecovered(i);
+						ParsedDate recoveredDatePO = subject.getParsedDateRecovered(i);
 						if (recoveredDatePO.getValue() != null) {
 							LocalDate recoveredDate = recoveredDatePO.getValue();
 							if (recoveredDate.isBefore(incidentDate)) {
-								ret = subject.getErrorTemplate();
-								ret.setDataElementIdentifier("17");
-								ret.setValue(recoveredDate);
-								ret.setNIBRSErrorCode(NIBRSErrorCode._320);
+								offendingRecoveredDate = recoveredDate;
 							}
 						}
 					}
 				}
-				return ret;
+				if (offendingRecoveredDate != null) {
+					sink.reportError(subject, NIBRSErrorCode._320, "17", offendingRecoveredDate);
+				}
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule305() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
-
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				if (Objects.equals(subject.getTypeOfPropertyLoss(), TypeOfPropertyLossCode._5.code)
 						&& allNull(subject.getDateRecovered())){
-					ret = subject.getErrorTemplate();
-					ret.setDataElementIdentifier("17");
-					ret.setNIBRSErrorCode(NIBRSErrorCode._305);
-					return ret;
+					sink.reportError(subject, NIBRSErrorCode._305, "17", null);
+					return;
 				}
 				GroupAIncidentReport parentIncident = (GroupAIncidentReport) subject.getParentReport();
-				ParsedObject<LocalDate> incidentDatePO = parentIncident.getIncidentDate();
+				ParsedDate incidentDatePO = parentIncident.getParsedIncidentDate();
 				Integer monthOfTape = parentIncident.getMonthOfTape();
 				Integer yearOfTape = parentIncident.getYearOfTape();
+				LocalDate offendingRecoveredDate = null;
 				for (int i=0;i < 10;i++) {
-					ParsedObject<LocalDate> recoveredDatePO = subject.getDateRecovered(i);
+					ParsedDate recoveredDatePO = subject.getParsedDateRecovered(i);
 					if (recoveredDatePO.getValue() != null) {
 						LocalDate recoveredDate = recoveredDatePO.getValue();
 						if (!incidentDatePO.isMissing() && !incidentDatePO.isInvalid() && recoveredDate.isBefore(incidentDatePO.getValue())) {
-							ret = subject.getErrorTemplate();
-							ret.setDataElementIdentifier("17");
-							ret.setValue(recoveredDate);
-							ret.setNIBRSErrorCode(NIBRSErrorCode._305);
+							offendingRecoveredDate = recoveredDate;
 						} else if (monthOfTape != null && yearOfTape != null) {
 							LocalDate submissionDate = LocalDate.of(yearOfTape, monthOfTape, 1).plusMonths(1).minusDays(1);
 							if (recoveredDate.isAfter(submissionDate)) {
-								ret = subject.getErrorTemplate();
-								ret.setDataElementIdentifier("17");
-								ret.setValue(recoveredDate);
-								ret.setNIBRSErrorCode(NIBRSErrorCode._305);
+								offendingRecoveredDate = recoveredDate;
 							}
 						}
 					}
 				}
-				return ret;
+				if (offendingRecoveredDate != null) {
+					sink.reportError(subject, NIBRSErrorCode._305, "17", offendingRecoveredDate);
+				}
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule304ForPropertyValue() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
+				Integer offendingValue = null;
 				for (int i=0;i < 10;i++) {
-					ParsedObject<Integer> propertyValue = subject.getValueOfProperty(i);
+					ParsedInt propertyValue = subject.getParsedValueOfProperty(i);
 					if (propertyValue.getValue() != null) {
 						int v = propertyValue.getValue();
 						if (v < 0 || v > 999999999) {
-							ret = subject.getErrorTemplate();
-							ret.setDataElementIdentifier("16");
-							ret.setValue(v);
-							ret.setNIBRSErrorCode(NIBRSErrorCode._304);
+							offendingValue = v;
 						}
 					}
 				}
-				return ret;
+				if (offendingValue != null) {
+					sink.reportError(subject, NIBRSErrorCode._304, "16", offendingValue);
+				}
 			}
 		};
 	}
 	
 	Rule<PropertySegment> getRule304ForSuspectedDrugType() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
 				
 				boolean mandatoryField = subject.isSuspectedDrugTypeMandatory(); 
 				
@@ -1022,34 +900,30 @@ public class PropertySegmentRulesFactory {
 				
 				if ((mandatoryField && (allNull(subject.getSuspectedDrugType()) || !allValidSuspectedDrugType))
 						|| (!mandatoryField && !allValidSuspectedDrugType)) {
-					ret = subject.getErrorTemplate();
-					ret.setDataElementIdentifier("20");
-					ret.setNIBRSErrorCode(NIBRSErrorCode._304);
+					sink.reportError(subject, NIBRSErrorCode._304, "20", null);
 				}
-				return ret;
 			}
 
 		};
 	}
 	
 	Rule<PropertySegment> getRule304ForDrugQuantity() {
-		return new Rule<PropertySegment>() {
+		return new AbstractSinkRule<PropertySegment>() {
 			@Override
-			public NIBRSError apply(PropertySegment subject) {
-				NIBRSError ret = null;
+			public void apply(PropertySegment subject, ErrorSink sink) {
+				Double offendingQuantity = null;
 				for (int i=0;i < 3;i++) {
-					ParsedObject<Double> drugQuantity = subject.getEstimatedDrugQuantity(i);
+					ParsedDouble drugQuantity = subject.getParsedEstimatedDrugQuantity(i);
 					if (drugQuantity != null && drugQuantity.getValue() != null) {
 						double d = drugQuantity.getValue().doubleValue();
 						if (d < 0 || d > 100000000) {
-							ret = subject.getErrorTemplate();
-							ret.setDataElementIdentifier("21");
-							ret.setValue(drugQuantity.getValue());
-							ret.setNIBRSErrorCode(NIBRSErrorCode._304);
+							offendingQuantity = drugQuantity.getValue();
 						}
 					}
 				}
-				return ret;
+				if (offendingQuantity != null) {
+					sink.reportError(subject, NIBRSErrorCode._304, "21", offendingQuantity);
+				}
 			}
 		};
 	}
@@ -1057,7 +931,7 @@ public class PropertySegmentRulesFactory {
 	Rule<PropertySegment> getRule304ForRecoveredMotorVehicleCount() {
 		return new NumericValueRule<>(
 				subject -> {
-					return subject.getNumberOfRecoveredMotorVehicles().getValue();
+					return subject.getParsedNumberOfRecoveredMotorVehicles().getValue();
 				},
 				(value, target) -> {
 					return getErrorForMotorVehicleCountValue(value, target, "19");
@@ -1067,7 +941,7 @@ public class PropertySegmentRulesFactory {
 	Rule<PropertySegment> getRule304ForStolenMotorVehicleCount() {
 		return new NumericValueRule<>(
 				subject -> {
-					return subject.getNumberOfStolenMotorVehicles().getValue();
+					return subject.getParsedNumberOfStolenMotorVehicles().getValue();
 				},
 				(value, target) -> {
 					return getErrorForMotorVehicleCountValue(value, target, "18");
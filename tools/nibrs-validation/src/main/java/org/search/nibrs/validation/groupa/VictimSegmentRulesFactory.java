@@ -29,6 +29,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.common.ParsedObject;
 import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.model.NIBRSAge;
@@ -53,6 +54,7 @@ import org.search.nibrs.validation.rules.AbstractBeanPropertyRule;
 import org.search.nibrs.validation.rules.DuplicateCodedValueRule;
 import org.search.nibrs.validation.rules.NullObjectRule;
 import org.search.nibrs.validation.rules.Rule;
+import org.search.nibrs.validation.rules.RuleScope;
 import org.search.nibrs.validation.rules.ValidValueListRule;
 
 public class VictimSegmentRulesFactory {
@@ -91,6 +93,12 @@ public class VictimSegmentRulesFactory {
 			this.typeCode = typeCode;
 		}
 
+		@Override
+		public RuleScope getScope() {
+			// typeCode is always I or L
+			return RuleScope.PERSON;
+		}
+
 		@Override
 		protected boolean propertyViolatesRule(Object value, VictimSegment subject) {
 			return (typeCode.equals(subject.getTypeOfVictim()) && value == null);
@@ -104,6 +112,11 @@ public class VictimSegmentRulesFactory {
 			super(propertyName, dataElementIdentifier, VictimSegment.class, errorCode);
 		}
 
+		@Override
+		public RuleScope getScope() {
+			return RuleScope.NON_PERSON;
+		}
+
 		@Override
 		protected boolean propertyViolatesRule(Object value, VictimSegment victimSegment) {
 			return (!victimSegment.isPerson() && value != null);
@@ -272,7 +285,7 @@ public class VictimSegmentRulesFactory {
 			@Override
 			public NIBRSError apply(VictimSegment subject) {
 
-				ParsedObject<Integer> victimSequenceNumberPO = subject.getVictimSequenceNumber();
+				ParsedInt victimSequenceNumberPO = subject.getParsedVictimSequenceNumber();
 				Integer victimSequenceNumber = victimSequenceNumberPO.getValue();
 				NIBRSError e = null;
 				
@@ -296,9 +309,6 @@ public class VictimSegmentRulesFactory {
 			public NIBRSError apply(VictimSegment victimSegment) {
 
 				NIBRSError e = null;
-				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
-				errorTemplate.setDataElementIdentifier("24");
-				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._401);
 
 				Set<String> offenseCodeSet = new HashSet<>();
 				offenseCodeSet.addAll(victimSegment.getUcrOffenseCodeList());
@@ -306,8 +316,7 @@ public class VictimSegmentRulesFactory {
 
 				if (offenseCodeSet.isEmpty()) {
 					
-					e = errorTemplate;
-					e.setValue(null);
+					e = newError(victimSegment, "24", NIBRSErrorCode._401, null);
 					
 				} 
 
@@ -323,9 +332,6 @@ public class VictimSegmentRulesFactory {
 			public NIBRSError apply(VictimSegment victimSegment) {
 				
 				NIBRSError e = null;
-				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
-				errorTemplate.setDataElementIdentifier("24");
-				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._404);
 				
 				Set<String> offenseCodeSet = new HashSet<>();
 				offenseCodeSet.addAll(victimSegment.getUcrOffenseCodeList());
@@ -336,8 +342,7 @@ public class VictimSegmentRulesFactory {
 					offenseCodeSet.removeAll(OffenseCode.codeSet());
 					
 					if (!offenseCodeSet.isEmpty()) {
-						e = errorTemplate;
-						e.setValue(new ArrayList<String>(offenseCodeSet));
+						e = newError(victimSegment, "24", NIBRSErrorCode._404, new ArrayList<String>(offenseCodeSet));
 					}
 				} 
 				
@@ -353,27 +358,18 @@ public class VictimSegmentRulesFactory {
 			public NIBRSError apply(VictimSegment victimSegment) {
 
 				NIBRSError e = null;
-				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
-				errorTemplate.setDataElementIdentifier("34");
-				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._404);
 
 				Set<Integer> victimRelatedOffenderNumberSet = new HashSet<>();
 				victimRelatedOffenderNumberSet.addAll(victimSegment.getDistinctValidRelatedOffenderNumberList());
 				victimRelatedOffenderNumberSet.removeIf(item -> item == null);
 
 				GroupAIncidentReport parent = (GroupAIncidentReport) victimSegment.getParentReport();
-				Set<Integer> offenderSegmentSequenceNumbers = new HashSet<>();
-				for (OffenderSegment os : parent.getOffenders()) {
-					offenderSegmentSequenceNumbers.add(os.getOffenderSequenceNumber().getValue());
-				}
-
-				victimRelatedOffenderNumberSet.removeAll(offenderSegmentSequenceNumbers);
+				victimRelatedOffenderNumberSet.removeIf(item -> parent.getOffenderForSequenceNumber(item) != null);
 				// for whatever reason, empirical evidence suggests that FBI does not count zero-related offenders as invalid
 				victimRelatedOffenderNumberSet.removeIf(item -> item == 0);
 
 				if (!victimRelatedOffenderNumberSet.isEmpty()) {
-					e = errorTemplate;
-					e.setValue(new ArrayList<Integer>(victimRelatedOffenderNumberSet));
+					e = newError(victimSegment, "34", NIBRSErrorCode._404, new ArrayList<Integer>(victimRelatedOffenderNumberSet));
 				}
 
 				return e;
@@ -645,18 +641,14 @@ public class VictimSegmentRulesFactory {
 			@Override
 			public NIBRSError apply(VictimSegment victimSegment) {
 				NIBRSError e = null;
-				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
-				errorTemplate.setDataElementIdentifier("33");
-				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._407);
 				Set<String> noneDisallowed = new HashSet<>();
 				noneDisallowed.addAll(TypeInjuryCode.codeSet());
 				noneDisallowed.remove(TypeInjuryCode.N.code);
 				List<String> injuryList = new ArrayList<>();
 				injuryList.addAll(victimSegment.getTypeOfInjuryList());
 				injuryList.removeIf(item -> item == null);
-				errorTemplate.setValue(injuryList);
 				if (injuryList.contains(TypeInjuryCode.N.code) && CollectionUtils.containsAny(injuryList, noneDisallowed)) {
-					e = errorTemplate;
+					e = newError(victimSegment, "33", NIBRSErrorCode._407, injuryList);
 				}
 				return e;
 			}
@@ -1333,9 +1325,6 @@ public class VictimSegmentRulesFactory {
 			@Override
 			public NIBRSError apply(VictimSegment victimSegment) {
 				NIBRSError e = null;
-				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
-				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._477);
-				errorTemplate.setDataElementIdentifier("31");
 				List<String> offenseList = new ArrayList<>();
 				offenseList.addAll(victimSegment.getUcrOffenseCodeList());
 				offenseList.removeIf(item -> item == null);
@@ -1358,8 +1347,7 @@ public class VictimSegmentRulesFactory {
 					aahc2.addAll(aahc);
 					aahc2.removeAll(allowedSet);
 					if (aahc.size() > 2 || aahc2.size() > 0) {
-						e = errorTemplate;
-						e.setValue(aahc2);
+						e = newError(victimSegment, "31", NIBRSErrorCode._477, aahc2);
 					}
 				} else if (offenseList.contains(OffenseCode._09B.code)) {
 					Set<String> allowedSet = new HashSet<>();
@@ -1372,8 +1360,7 @@ public class VictimSegmentRulesFactory {
 					aahc2.addAll(aahc);
 					aahc2.removeAll(allowedSet);
 					if (aahc.size() > 1 || aahc2.size() > 0) {
-						e = errorTemplate;
-						e.setValue(aahc2);
+						e = newError(victimSegment, "31", NIBRSErrorCode._477, aahc2);
 					}
 				} else if (offenseList.contains(OffenseCode._09C.code)) {
 					Set<String> allowedSet = new HashSet<>();
@@ -1383,8 +1370,7 @@ public class VictimSegmentRulesFactory {
 					aahc2.addAll(aahc);
 					aahc2.removeAll(allowedSet);
 					if (aahc.size() > 1 || aahc2.size() > 0) {
-						e = errorTemplate;
-						e.setValue(aahc2);
+						e = newError(victimSegment, "31", NIBRSErrorCode._477, aahc2);
 					}
 				}
 				return e;
@@ -1397,10 +1383,6 @@ public class VictimSegmentRulesFactory {
 			@Override
 			public NIBRSError apply(VictimSegment victimSegment) {
 				NIBRSError e = null;
-				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
-				errorTemplate.setDataElementIdentifier("24");
-				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._478);
-				errorTemplate.setValue(null);
 				
 				List<String> offenseList = victimSegment.getUcrOffenseCodeList()
 						.stream()
@@ -1419,7 +1401,7 @@ public class VictimSegmentRulesFactory {
 						for (int j = i + 1; j < offenseList.size(); j++ ){
 							Rule478OffenseCode offenseJ = Rule478OffenseCode.valueOfAny(offenseList.get(j));
 							if (offenseJ != null && rule478ExclusionTable[offenseI.ordinal()][offenseJ.ordinal()]){
-								e = errorTemplate;
+								e = newError(victimSegment, "24", NIBRSErrorCode._478, null);
 								break;
 							}
 						}
@@ -1469,19 +1451,15 @@ public class VictimSegmentRulesFactory {
 				List<String> aahc = new ArrayList<>();
 				aahc.addAll(victimSegment.getAggravatedAssaultHomicideCircumstancesList());
 				aahc.removeIf(item -> item == null);
-				NIBRSError errorTemplate = victimSegment.getErrorTemplate();
-				errorTemplate.setDataElementIdentifier("31");
-				errorTemplate.setNIBRSErrorCode(NIBRSErrorCode._456);
-				errorTemplate.setValue(aahc);
 				if (aahc.contains(AggravatedAssaultHomicideCircumstancesCode._10.code) && aahc.size() > 1) {
-					e = errorTemplate;
+					e = newError(victimSegment, "31", NIBRSErrorCode._456, aahc);
 				} else if (aahc.size() > 1) {
 					Set<String> categorySet = new HashSet<>();
 					for (String s : aahc) {
 						categorySet.add(s.substring(0, 1));
 					}
 					if (categorySet.size() > 1) {
-						e = errorTemplate;
+						e = newError(victimSegment, "31", NIBRSErrorCode._456, aahc);
 					}
 				}
 				return e;
@@ -1489,6 +1467,18 @@ public class VictimSegmentRulesFactory {
 		};
 	}
 
+	/**
+	 * Create an error for a rule violation.  Rules should call this only once they've found a violation, so that validating a valid victim
+	 * doesn't create errors that are then thrown away.
+	 */
+	private static NIBRSError newError(VictimSegment victimSegment, String dataElementIdentifier, NIBRSErrorCode errorCode, Object value) {
+		NIBRSError ret = victimSegment.getErrorTemplate();
+		ret.setDataElementIdentifier(dataElementIdentifier);
+		ret.setNIBRSErrorCode(errorCode);
+		ret.setValue(value);
+		return ret;
+	}
+
 	private enum Rule478OffenseCode{
 		_09A, _09B, _11A, _11B, _11C, _11D, _120, _13A, _13B, _13C, 
 		_23A, _23B, _23C, _23D, _23E, _23F, _23G, _23H, _240, _36A, 
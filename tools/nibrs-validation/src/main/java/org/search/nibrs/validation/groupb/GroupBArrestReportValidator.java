@@ -15,7 +15,6 @@
  */
 package org.search.nibrs.validation.groupb;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.search.nibrs.common.NIBRSError;
@@ -24,45 +23,50 @@ import org.search.nibrs.model.GroupBArrestReport;
 import org.search.nibrs.model.codes.NIBRSErrorCode;
 import org.search.nibrs.validation.ArresteeSegmentRulesFactory;
 import org.search.nibrs.validation.ValidatorProperties;
-import org.search.nibrs.validation.rules.Rule;
+import org.search.nibrs.validation.rules.ErrorCollector;
+import org.search.nibrs.validation.rules.ErrorSink;
+import org.search.nibrs.validation.rules.RulePlan;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
- * Class that validates a Group B Arrest Report and all of its contained child segments.
+ * Class that validates a Group B Arrest Report and all of its contained child segments.  As with the Group A validator, the rules are
+ * planned when the validator is constructed (which leaves nearly all of them out for delete reports), and a single instance can validate
+ * different reports on several threads at once.
  * 
  */
 @Component
 public class GroupBArrestReportValidator {
 	
-	private List<Rule<GroupBArrestReport>> incidentReportRules = new ArrayList<>();
-	private List<Rule<ArresteeSegment>> groupBArresteeSegmentRules = new ArrayList<>();
+	private final RulePlan<GroupBArrestReport> incidentReportRules;
+	private final RulePlan<ArresteeSegment> groupBArresteeSegmentRules;
 	
 	@Autowired
 	public GroupBArrestReportValidator(ValidatorProperties validatorProperties) {
-		incidentReportRules = new GroupBArrestReportRulesFactory().getRulesList();
-		groupBArresteeSegmentRules = ArresteeSegmentRulesFactory
-				.instance(ArresteeSegmentRulesFactory.GROUP_B_ARRESTEE_MODE, validatorProperties).getRulesList();
+		incidentReportRules = new RulePlan<>(new GroupBArrestReportRulesFactory().getRulesList());
+		groupBArresteeSegmentRules = new RulePlan<>(ArresteeSegmentRulesFactory
+				.instance(ArresteeSegmentRulesFactory.GROUP_B_ARRESTEE_MODE, validatorProperties).getRulesList());
 	}
 
 	public List<NIBRSError> validate(GroupBArrestReport groupBIncidentReport) {
+		ErrorCollector collector = new ErrorCollector();
+		validate(groupBIncidentReport, collector);
+		return collector.getErrorList();
+	}
+
+	/**
+	 * Validate the arrest report, reporting errors to the specified sink in the same order as {@link #validate(GroupBArrestReport)} returns them.
+	 * @param groupBIncidentReport the arrest report
+	 * @param sink the sink to which errors are reported
+	 */
+	public void validate(GroupBArrestReport groupBIncidentReport, ErrorSink sink) {
 		
-		List<NIBRSError> errorsList = new ArrayList<NIBRSError>();
+		char reportActionType = groupBIncidentReport.getReportActionType();
 		
-		for (Rule<GroupBArrestReport> r : incidentReportRules) {
-			NIBRSError e = r.apply(groupBIncidentReport);
-			if (e != null) {
-				errorsList.add(e);
-			}
-		}
+		incidentReportRules.apply(groupBIncidentReport, reportActionType, sink);
 		
 		if (groupBIncidentReport.getArrestees().size() == 1){
-			for (Rule<ArresteeSegment> r : groupBArresteeSegmentRules) {
-				NIBRSError nibrsError = r.apply(groupBIncidentReport.getArrestees().get(0));
-				if (nibrsError != null) {
-					errorsList.add(nibrsError);
-				}
-			}
+			groupBArresteeSegmentRules.apply(groupBIncidentReport.getArrestees().get(0), reportActionType, sink);
 		}
 		else if (groupBIncidentReport.getArrestees().size() > 1) {
 			NIBRSError e = new NIBRSError();
@@ -73,11 +77,9 @@ public class GroupBArrestReportValidator {
 			e.setCrossSegment(true);
 			e.setWithinSegmentIdentifier(null); 
 			e.setNIBRSErrorCode(NIBRSErrorCode._099);
-			errorsList.add(e);
+			sink.accept(e);
 		}
 		
-		return errorsList;
-		
 	}
 	
 }
@@ -19,6 +19,13 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -29,18 +36,20 @@ import org.search.nibrs.model.GroupBArrestReport;
 import org.search.nibrs.model.codes.NIBRSErrorCode;
 
 /**
- * Abstract base class for rules that obtain values to test from a named bean property.
+ * Abstract base class for rules that obtain values to test from a named bean property.  The property's read method is compiled into a
+ * Function when the rule is created, so applying the rule calls the getter directly rather than through reflection.
  *
  * @param <T> The class of subjects to which this rule applies
  */
 public abstract class AbstractBeanPropertyRule<T extends ValidationTarget> implements Rule<T> {
 	
-	@SuppressWarnings("unused")
 	private static final Logger LOG = LogManager.getLogger(AbstractBeanPropertyRule.class);
 	
 	protected PropertyDescriptor property;
+	protected Function<T, Object> accessor;
 	protected String dataElementIdentifier;
 	protected NIBRSErrorCode errorCode;
+	protected final Class<T> subjectClass;
 	
 	protected AbstractBeanPropertyRule(String propertyName, String dataElementIdentifier, Class<T> subjectClass, NIBRSErrorCode errorCode) {
 		try {
@@ -59,29 +68,72 @@ public abstract class AbstractBeanPropertyRule<T extends ValidationTarget> imple
 			// this really should never happen...
 			throw new RuntimeException(e);
 		}
+		this.accessor = compileAccessor(property.getReadMethod());
 		this.dataElementIdentifier = dataElementIdentifier;
 		this.errorCode = errorCode;
+		this.subjectClass = subjectClass;
+	}
+
+	/**
+	 * Compile a getter into a Function, with LambdaMetafactory, so that it can be called as a lambda would be (primitive values are boxed).
+	 * If the getter can't be linked that way (for example, because it is declared on a class that isn't public), the Function calls it
+	 * reflectively instead.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> Function<T, Object> compileAccessor(Method readMethod) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle getter = lookup.unreflect(readMethod);
+			CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+					MethodType.methodType(Object.class, Object.class), getter, MethodType.methodType(Object.class, readMethod.getDeclaringClass()));
+			return (Function<T, Object>) callSite.getTarget().invoke();
+		} catch (Throwable t) {
+			LOG.debug("Unable to compile accessor for " + readMethod + ", falling back to reflection", t);
+			return subject -> {
+				try {
+					return readMethod.invoke(subject);
+				} catch (ReflectiveOperationException e) {
+					// this really should never happen...
+					throw new RuntimeException(e);
+				}
+			};
+		}
 	}
 
 	@Override
 	public final NIBRSError apply(T subject) {
 		NIBRSError ret = null;
 		if (!ignore(subject)) {
-			try {
-				Object value = property.getReadMethod().invoke(subject, new Object[0]);
-				if (propertyViolatesRule(value, subject)) {
-					ret = subject.getErrorTemplate();
-					ret.setNIBRSErrorCode(errorCode);
-					ret.setValue(value);
-					ret.setDataElementIdentifier(dataElementIdentifier);
-				}
-			} catch (ReflectiveOperationException e) {
-				// this really should never happen...
-				throw new RuntimeException(e);
+			Object value = accessor.apply(subject);
+			if (propertyViolatesRule(value, subject)) {
+				ret = subject.getErrorTemplate();
+				ret.setNIBRSErrorCode(errorCode);
+				ret.setValue(value);
+				ret.setDataElementIdentifier(dataElementIdentifier);
 			}
 		}
 		return ret;
 	}
+
+	@Override
+	public final void apply(T subject, ErrorSink sink) {
+		if (!ignore(subject)) {
+			Object value = accessor.apply(subject);
+			if (propertyViolatesRule(value, subject)) {
+				sink.reportError(subject, errorCode, dataElementIdentifier, value);
+			}
+		}
+	}
+	
+	/**
+	 * The default {@link #ignore(ValidationTarget)} ignores Group B arrest reports and arrestee segments in delete reports, so the scope of
+	 * a rule for those subjects excludes deletes.  Derived types that narrow the subjects further can override this, but those that override
+	 * ignore() to apply the rule to such deletes must override this as well.
+	 */
+	@Override
+	public RuleScope getScope() {
+		return GroupBArrestReport.class.isAssignableFrom(subjectClass) || ArresteeSegment.class.isAssignableFrom(subjectClass) ? RuleScope.NON_DELETE : RuleScope.ALL;
+	}
 	
 	/**
 	 * Templated method that derived types can override to determine if the rule should be ignored for a particular incident.
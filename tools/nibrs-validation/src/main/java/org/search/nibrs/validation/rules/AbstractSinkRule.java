@@ -0,0 +1,40 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
+
+/**
+ * Base class for rules that report their violation to a sink, rather than creating an error object, so that a sink that only counts violations
+ * can apply them without creating any.  The single-subject {@link #apply(ValidationTarget)} collects the violation (if any) reported by
+ * {@link #apply(ValidationTarget, ErrorSink)}, so derived rules must report at most one violation each time they are applied.
+ *
+ * @param <T> The class of subjects to which the rule applies
+ */
+public abstract class AbstractSinkRule<T extends ValidationTarget> implements Rule<T> {
+
+	@Override
+	public final NIBRSError apply(T subject) {
+		NIBRSError[] ret = new NIBRSError[1];
+		apply(subject, e -> ret[0] = e);
+		return ret[0];
+	}
+
+	@Override
+	public abstract void apply(T subject, ErrorSink sink);
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+/**
+ * An error sink that indexes the errors reported to it, by code and by code and value, so that callers can check in constant time whether an
+ * error has already been reported (the Group A incident validator uses this to report 070 and 071 only once per incident).  By default the
+ * errors are collected into a list, in the order they are reported; a collector created with another sink passes the errors on to that sink
+ * instead, so that it can index violations that the sink counts without creating error objects.  Values are compared with equals, so they
+ * should not be changed once the error has been reported.
+ */
+public class ErrorCollector implements ErrorSink {
+
+	private final ErrorSink sink;
+	private final List<NIBRSError> errorList = new ArrayList<>();
+	private final int[] counts = new int[NIBRSErrorCode.values().length];
+	private final Map<NIBRSErrorCode, Set<Object>> valueIndex = new EnumMap<>(NIBRSErrorCode.class);
+
+	/**
+	 * Create a collector that collects errors into a list.
+	 */
+	public ErrorCollector() {
+		this(null);
+	}
+
+	/**
+	 * Create a collector that indexes errors and passes them on to the specified sink, rather than collecting them.
+	 * @param sink the sink to which errors are passed
+	 */
+	public ErrorCollector(ErrorSink sink) {
+		this.sink = sink;
+	}
+
+	@Override
+	public void accept(NIBRSError error) {
+		index(error.getNIBRSErrorCode(), error.getValue());
+		if (sink == null) {
+			errorList.add(error);
+		} else {
+			sink.accept(error);
+		}
+	}
+
+	@Override
+	public void reportError(ValidationTarget subject, NIBRSErrorCode errorCode, String dataElementIdentifier, Object value) {
+		if (sink == null) {
+			ErrorSink.super.reportError(subject, errorCode, dataElementIdentifier, value);
+		} else {
+			index(errorCode, value);
+			sink.reportError(subject, errorCode, dataElementIdentifier, value);
+		}
+	}
+
+	private void index(NIBRSErrorCode errorCode, Object value) {
+		if (errorCode != null) {
+			counts[errorCode.ordinal()]++;
+			valueIndex.computeIfAbsent(errorCode, c -> new HashSet<>()).add(value);
+		}
+	}
+
+	/**
+	 * @return the collected errors, in the order they were reported (empty if the errors are passed on to another sink)
+	 */
+	public List<NIBRSError> getErrorList() {
+		return errorList;
+	}
+
+	/**
+	 * @return the number of errors with the specified code that have been reported
+	 */
+	public int getCount(NIBRSErrorCode errorCode) {
+		return counts[errorCode.ordinal()];
+	}
+
+	/**
+	 * @return whether an error with the specified code has been reported
+	 */
+	public boolean contains(NIBRSErrorCode errorCode) {
+		return counts[errorCode.ordinal()] > 0;
+	}
+
+	/**
+	 * @return whether an error with the specified code and value (which may be null) has been reported
+	 */
+	public boolean contains(NIBRSErrorCode errorCode, Object value) {
+		Set<Object> values = valueIndex.get(errorCode);
+		return values != null && values.contains(value);
+	}
+
+}
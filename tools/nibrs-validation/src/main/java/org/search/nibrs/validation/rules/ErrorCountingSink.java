@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+/**
+ * An error sink that only counts errors, by error code.  Violations reported through
+ * {@link #reportError(ValidationTarget, NIBRSErrorCode, String, Object)} are counted without creating an error object, so this sink suits
+ * callers (such as statistics or triage passes) that only need to know how many of each error a submission has.
+ */
+public class ErrorCountingSink implements ErrorSink {
+
+	private static final int ERROR_CODE_COUNT = NIBRSErrorCode.values().length;
+
+	private final int[] counts = new int[ERROR_CODE_COUNT];
+	private int totalCount;
+
+	@Override
+	public void accept(NIBRSError error) {
+		count(error.getNIBRSErrorCode());
+	}
+
+	@Override
+	public void reportError(ValidationTarget subject, NIBRSErrorCode errorCode, String dataElementIdentifier, Object value) {
+		count(errorCode);
+	}
+
+	private void count(NIBRSErrorCode errorCode) {
+		if (errorCode != null) {
+			counts[errorCode.ordinal()]++;
+		}
+		totalCount++;
+	}
+
+	/**
+	 * @return the number of errors reported with the specified code
+	 */
+	public int getCount(NIBRSErrorCode errorCode) {
+		return counts[errorCode.ordinal()];
+	}
+
+	/**
+	 * @return the number of errors reported, including any without a code
+	 */
+	public int getTotalCount() {
+		return totalCount;
+	}
+
+}
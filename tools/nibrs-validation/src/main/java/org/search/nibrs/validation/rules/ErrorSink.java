@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+/**
+ * Interface for objects to which rules report violations.  Rules that can describe a violation by its code, data element and value report
+ * it through {@link #reportError(ValidationTarget, NIBRSErrorCode, String, Object)}, so that an error object is only created if the sink
+ * needs one; a sink that only counts violations (or that reuses error objects) can then validate a report without creating any.
+ */
+public interface ErrorSink {
+
+	/**
+	 * Accept an error that has already been created.
+	 * @param error the error
+	 */
+	public void accept(NIBRSError error);
+
+	/**
+	 * Report a violation of a rule by the subject.  The default implementation creates an error from the subject's template and passes it to
+	 * {@link #accept(NIBRSError)}.
+	 * @param subject the object that violates the rule
+	 * @param errorCode the code of the rule that is violated
+	 * @param dataElementIdentifier the identifier of the data element in violation
+	 * @param value the offending value
+	 */
+	public default void reportError(ValidationTarget subject, NIBRSErrorCode errorCode, String dataElementIdentifier, Object value) {
+		NIBRSError e = subject.getErrorTemplate();
+		e.setNIBRSErrorCode(errorCode);
+		e.setValue(value);
+		e.setDataElementIdentifier(dataElementIdentifier);
+		accept(e);
+	}
+
+}
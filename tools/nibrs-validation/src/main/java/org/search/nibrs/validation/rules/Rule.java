@@ -32,4 +32,26 @@ public interface Rule<T extends ValidationTarget> {
 	 */
 	public NIBRSError apply(T subject);
 
+	/**
+	 * Apply the rule to the subject object, reporting any violation to the sink rather than returning it.  Rules that can report a violation
+	 * without first creating an error object override this method to call
+	 * {@link ErrorSink#reportError(ValidationTarget, org.search.nibrs.model.codes.NIBRSErrorCode, String, Object)}.
+	 * @param subject the object under test/validation
+	 * @param sink the sink to which any violation is reported
+	 */
+	public default void apply(T subject, ErrorSink sink) {
+		NIBRSError e = apply(subject);
+		if (e != null) {
+			sink.accept(e);
+		}
+	}
+
+	/**
+	 * Get the subjects for which the rule can report a violation, which validators use to avoid applying the rule to other subjects at all.
+	 * @return the scope of the rule; by default, {@link RuleScope#ALL}
+	 */
+	public default RuleScope getScope() {
+		return RuleScope.ALL;
+	}
+
 }
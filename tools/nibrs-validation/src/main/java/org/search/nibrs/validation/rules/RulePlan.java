@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.model.AbstractPersonSegment;
+
+/**
+ * An ordered list of rules that has been partitioned up front by {@link RuleScope}, so that applying it to the subjects of a report only
+ * invokes the rules that can report a violation for them.  There is a separate list of rules for reports with action type D (delete), which
+ * for Group B reports in particular leaves out nearly all of the rules, and rules that apply only to persons (or only to non-persons, such as
+ * business victims) are applied only to those segments among the subjects.  Rules are always applied in the order of the original list, one rule at a time across all of the subjects,
+ * so errors are reported in the same order as applying every rule to every subject would report them.
+ * <br/>
+ * A plan holds no state between reports, so it can be applied to different reports on several threads at once.
+ *
+ * @param <T> The class of subjects to which the rules apply
+ */
+public final class RulePlan<T extends ValidationTarget> {
+
+	private final List<Rule<T>> rules;
+	private final List<Rule<T>> deleteRules;
+
+	public RulePlan(List<Rule<T>> rules) {
+		List<Rule<T>> all = new ArrayList<>(rules.size());
+		List<Rule<T>> deletes = new ArrayList<>();
+		for (Rule<T> rule : rules) {
+			all.add(rule);
+			if (rule.getScope().appliesTo('D')) {
+				deletes.add(rule);
+			}
+		}
+		this.rules = Collections.unmodifiableList(all);
+		this.deleteRules = Collections.unmodifiableList(deletes);
+	}
+
+	/**
+	 * @return the rules, in their original order, that can report a violation for a subject in a report with the specified action type
+	 */
+	public List<Rule<T>> getRules(char reportActionType) {
+		return reportActionType == 'D' ? deleteRules : rules;
+	}
+
+	/**
+	 * Apply the plan to a single subject.
+	 * @param subject the subject
+	 * @param reportActionType the action type of the report containing the subject
+	 * @param sink the sink to which any violations are reported
+	 */
+	public void apply(T subject, char reportActionType, ErrorSink sink) {
+		boolean person = isPerson(subject);
+		for (Rule<T> rule : getRules(reportActionType)) {
+			if (rule.getScope().appliesTo(person)) {
+				rule.apply(subject, sink);
+			}
+		}
+	}
+
+	/**
+	 * Apply the plan to each of the subjects in turn, rule by rule.
+	 * @param subjects the subjects
+	 * @param reportActionType the action type of the report containing the subjects
+	 * @param sink the sink to which any violations are reported
+	 */
+	public void apply(List<? extends T> subjects, char reportActionType, ErrorSink sink) {
+		if (subjects.isEmpty()) {
+			return;
+		}
+		List<T> persons = null;
+		List<T> nonPersons = null;
+		for (Rule<T> rule : getRules(reportActionType)) {
+			RuleScope scope = rule.getScope();
+			List<? extends T> targets = subjects;
+			if (scope.isPersonSpecific()) {
+				if (persons == null) {
+					persons = new ArrayList<>(subjects.size());
+					nonPersons = new ArrayList<>();
+					for (T subject : subjects) {
+						(isPerson(subject) ? persons : nonPersons).add(subject);
+					}
+				}
+				targets = scope.appliesTo(true) ? persons : nonPersons;
+			}
+			for (T subject : targets) {
+				rule.apply(subject, sink);
+			}
+		}
+	}
+
+	private static boolean isPerson(ValidationTarget subject) {
+		return !(subject instanceof AbstractPersonSegment) || ((AbstractPersonSegment) subject).isPerson();
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+/**
+ * The subjects for which a rule can report a violation, as far as can be told without applying it.  Validators group their rules by scope
+ * when they are created (see {@link RulePlan}), so that a rule is not invoked at all for subjects outside its scope.  A rule's scope must
+ * never exclude a subject for which the rule could report a violation; rules that cannot say return {@link #ALL}.
+ */
+public enum RuleScope {
+
+	/**
+	 * The rule may report a violation for any subject.
+	 */
+	ALL(false, true, true),
+	/**
+	 * The rule never reports a violation for a subject in a report with action type D (delete).
+	 */
+	NON_DELETE(true, true, true),
+	/**
+	 * The rule never reports a violation for a person segment that does not represent a person (for example, a business victim).
+	 */
+	PERSON(false, true, false),
+	/**
+	 * The rule never reports a violation for a person segment that represents a person.
+	 */
+	NON_PERSON(false, false, true),
+	/**
+	 * Both {@link #NON_DELETE} and {@link #PERSON}.
+	 */
+	NON_DELETE_PERSON(true, true, false),
+	/**
+	 * Both {@link #NON_DELETE} and {@link #NON_PERSON}.
+	 */
+	NON_DELETE_NON_PERSON(true, false, true);
+
+	private final boolean excludesDeletes;
+	private final boolean appliesToPersons;
+	private final boolean appliesToNonPersons;
+
+	private RuleScope(boolean excludesDeletes, boolean appliesToPersons, boolean appliesToNonPersons) {
+		this.excludesDeletes = excludesDeletes;
+		this.appliesToPersons = appliesToPersons;
+		this.appliesToNonPersons = appliesToNonPersons;
+	}
+
+	/**
+	 * @return the scope that excludes the subjects excluded by either this scope or the other
+	 */
+	public RuleScope and(RuleScope other) {
+		boolean excludes = excludesDeletes || other.excludesDeletes;
+		boolean persons = appliesToPersons && other.appliesToPersons;
+		boolean nonPersons = appliesToNonPersons && other.appliesToNonPersons;
+		for (RuleScope scope : values()) {
+			if (scope.excludesDeletes == excludes && scope.appliesToPersons == persons && scope.appliesToNonPersons == nonPersons) {
+				return scope;
+			}
+		}
+		throw new IllegalArgumentException("Scopes " + this + " and " + other + " exclude all subjects");
+	}
+
+	public boolean appliesTo(char reportActionType) {
+		return !(excludesDeletes && reportActionType == 'D');
+	}
+
+	/**
+	 * @param person whether the subject represents a person (subjects other than person segments always do, as far as scopes are concerned)
+	 */
+	public boolean appliesTo(boolean person) {
+		return person ? appliesToPersons : appliesToNonPersons;
+	}
+
+	/**
+	 * @return whether the scope depends on whether the subject represents a person
+	 */
+	public boolean isPersonSpecific() {
+		return appliesToPersons != appliesToNonPersons;
+	}
+
+}
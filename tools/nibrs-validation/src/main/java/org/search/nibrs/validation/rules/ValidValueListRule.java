@@ -47,6 +47,15 @@ public class ValidValueListRule<T extends ValidationTarget> extends AbstractBean
 		this(propertyName, dataElementIdentifier, subjectClass,  errorCode, allowedValueSet, true);
 	}
 
+	@Override
+	public RuleScope getScope() {
+		RuleScope ret = super.getScope();
+		if (GroupAIncidentReport.class.isAssignableFrom(subjectClass)) {
+			ret = ret.and(RuleScope.NON_DELETE);
+		}
+		return ret;
+	}
+
 	@Override
 	protected boolean propertyViolatesRule(Object value, T subject) {
 		boolean ret = false;
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.submission;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A compact map from report identifiers (an ORI, together with an incident number or arrest transaction number) to a few flags, for
+ * checks that span a whole submission.  Since a submission can hold tens of millions of reports, identifiers are not held as strings:
+ * each twelve-character number is packed into a long (as twelve base-39 digits, which fits in 64 bits), and each ORI is replaced by a small
+ * integer that shares an int with the flags, so that each identifier takes twelve bytes in an open-addressing (linear probing) table.
+ * Numbers that cannot be packed (because they are longer than twelve characters, or contain characters other than A-Z, 0-9, hyphens and
+ * blanks, and so are invalid anyway) are held in an ordinary map.
+ * <br/>
+ * This class is not thread-safe.
+ */
+public final class IdentifierIndex {
+
+	/**
+	 * The largest flags value that the index can hold.
+	 */
+	public static final int MAXIMUM_FLAGS = 0x7f;
+
+	private static final int MAXIMUM_NUMBER_LENGTH = 12;
+	private static final int RADIX = 39;
+	private static final int ORI_BITS = 24;
+	private static final int ORI_MASK = (1 << ORI_BITS) - 1;
+	private static final int INITIAL_CAPACITY = 1 << 10;
+
+	private long[] numbers = new long[INITIAL_CAPACITY];
+	/**
+	 * The ORI id (plus one, so that zero marks an empty slot) in the low bits, and the flags in the high bits.
+	 */
+	private int[] oriAndFlags = new int[INITIAL_CAPACITY];
+	private int packedSize;
+
+	private final Map<String, Integer> oriIds = new HashMap<>();
+	private final Map<String, Integer> unpackedFlags = new HashMap<>();
+
+	/**
+	 * Get the flags of an identifier.
+	 * @param ori the ORI
+	 * @param number the incident number or arrest transaction number
+	 * @return the flags, or zero if the identifier has no flags set
+	 */
+	public int getFlags(String ori, String number) {
+		long packedNumber = pack(number);
+		int oriId = packedNumber == -1 ? -1 : getOriId(ori, false);
+		if (oriId < 0) {
+			return unpackedFlags.getOrDefault(unpackedKey(ori, number), 0);
+		}
+		int slot = findSlot(packedNumber, oriId);
+		return oriAndFlags[slot] == 0 ? 0 : oriAndFlags[slot] >>> ORI_BITS;
+	}
+
+	/**
+	 * Set the flags of an identifier.
+	 * @param ori the ORI
+	 * @param number the incident number or arrest transaction number
+	 * @param flags the flags, from zero to {@link #MAXIMUM_FLAGS}
+	 * @return the flags the identifier had before
+	 */
+	public int setFlags(String ori, String number, int flags) {
+		if (flags < 0 || flags > MAXIMUM_FLAGS) {
+			throw new IllegalArgumentException("Invalid flags: " + flags);
+		}
+		long packedNumber = pack(number);
+		int oriId = packedNumber == -1 ? -1 : getOriId(ori, true);
+		if (oriId < 0) {
+			Integer previous = unpackedFlags.put(unpackedKey(ori, number), flags);
+			return previous == null ? 0 : previous;
+		}
+		int slot = findSlot(packedNumber, oriId);
+		int previous = oriAndFlags[slot];
+		if (previous == 0) {
+			// an identifier keeps its slot when its flags are cleared, as removing it would break the probe sequences of others
+			numbers[slot] = packedNumber;
+			packedSize++;
+		}
+		oriAndFlags[slot] = (flags << ORI_BITS) | (oriId + 1);
+		if (previous == 0 && packedSize > numbers.length / 4 * 3) {
+			resize();
+		}
+		return previous == 0 ? 0 : previous >>> ORI_BITS;
+	}
+
+	/**
+	 * @return the number of distinct identifiers that have been held in the index
+	 */
+	public int size() {
+		return packedSize + unpackedFlags.size();
+	}
+
+	/**
+	 * Pack a number into a long, as twelve base-39 digits, with the value of each character one or more, so that numbers of different lengths
+	 * cannot collide.  Since 39^12 is less than 2^64, the packed value is unique, though it may be negative.
+	 * @return the packed number, or -1 (which no number packs to) if the number cannot be packed
+	 */
+	static long pack(String number) {
+		if (number == null || number.isEmpty() || number.length() > MAXIMUM_NUMBER_LENGTH) {
+			return -1;
+		}
+		long ret = 0;
+		for (int i = 0; i < MAXIMUM_NUMBER_LENGTH; i++) {
+			int digit = 0;
+			if (i < number.length()) {
+				char c = number.charAt(i);
+				if (c >= '0' && c <= '9') {
+					digit = c - '0' + 1;
+				} else if (c >= 'A' && c <= 'Z') {
+					digit = c - 'A' + 11;
+				} else if (c == '-') {
+					digit = 37;
+				} else if (c == ' ') {
+					digit = 38;
+				} else {
+					return -1;
+				}
+			}
+			ret = ret * RADIX + digit;
+		}
+		return ret;
+	}
+
+	private int getOriId(String ori, boolean create) {
+		Integer ret = oriIds.get(ori);
+		if (ret == null) {
+			if (!create || oriIds.size() > ORI_MASK - 1) {
+				return -1;
+			}
+			ret = oriIds.size();
+			oriIds.put(ori, ret);
+		}
+		return ret;
+	}
+
+	private static String unpackedKey(String ori, String number) {
+		return ori + "\u0000" + number;
+	}
+
+	/**
+	 * @return the slot holding the identifier, or the empty slot at which it would be inserted
+	 */
+	private int findSlot(long packedNumber, int oriId) {
+		int mask = numbers.length - 1;
+		int slot = hash(packedNumber, oriId) & mask;
+		while (oriAndFlags[slot] != 0 && (numbers[slot] != packedNumber || (oriAndFlags[slot] & ORI_MASK) != oriId + 1)) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private static int hash(long packedNumber, int oriId) {
+		// the finalizer of MurmurHash3, since packed numbers that differ only in their last characters differ only in their low bits
+		long h = packedNumber * 0x9e3779b97f4a7c15L + oriId;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+
+	private void resize() {
+		long[] oldNumbers = numbers;
+		int[] oldOriAndFlags = oriAndFlags;
+		numbers = new long[oldNumbers.length * 2];
+		oriAndFlags = new int[oldOriAndFlags.length * 2];
+		for (int i = 0; i < oldNumbers.length; i++) {
+			if (oldOriAndFlags[i] != 0) {
+				int slot = findSlot(oldNumbers[i], (oldOriAndFlags[i] & ORI_MASK) - 1);
+				numbers[slot] = oldNumbers[i];
+				oriAndFlags[slot] = oldOriAndFlags[i];
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "IdentifierIndex [size=" + size() + ", capacity=" + numbers.length + ", oris=" + oriIds.size() + "]";
+	}
+
+}
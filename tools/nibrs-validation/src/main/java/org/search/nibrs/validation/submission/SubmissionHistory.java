@@ -0,0 +1,504 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.submission;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.PropertySegment;
+
+/**
+ * A persistent record of the Group A incidents accepted in earlier submissions, for the edits that depend on what is already on file:  056
+ * (an incident added again without first being deleted) and 072 (property recovered in an incident whose stolen property was reported in
+ * an earlier submission).  For each incident (ORI and incident number), the history holds the action type, month and year of submission,
+ * and a fingerprint of the stolen property descriptions of the most recently accepted report.
+ * <br/>
+ * The history is a file that is memory-mapped, as an open-addressing (linear probing) hash table of fixed-size records, so that each lookup
+ * costs a few memory accesses and the history does not have to be loaded into the heap.  The ORI and incident number of each record are packed
+ * into longs (as by {@link IdentifierIndex}); incidents whose identifiers cannot be packed (which are invalid anyway) are not recorded.  When the
+ * table fills, and on {@link #compact()} (which also drops deleted incidents), the table is rebuilt into a new file that replaces the old one.
+ * <br/>
+ * A history can only be open in one process at a time (which a lock file next to it ensures), and its methods are synchronized, so it can be
+ * shared by validators on several threads.  There is only one current submission, though, so callers that validate several submissions
+ * must validate them one at a time (the reports within a submission can still be validated on several threads).
+ */
+public final class SubmissionHistory implements Closeable {
+
+	private static final long MAGIC = 0x4e49425253485354L;
+	private static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 64;
+	private static final int MAGIC_OFFSET = 0;
+	private static final int VERSION_OFFSET = 8;
+	private static final int CAPACITY_OFFSET = 12;
+	private static final int SIZE_OFFSET = 16;
+	private static final int SUBMISSION_OFFSET = 20;
+
+	private static final int SLOT_SIZE = 40;
+	private static final int ORI_OFFSET = 0;
+	private static final int NUMBER_OFFSET = 8;
+	private static final int STOLEN_OFFSET = 16;
+	private static final int SLOT_SUBMISSION_OFFSET = 32;
+	private static final int YEAR_OFFSET = 36;
+	private static final int MONTH_OFFSET = 38;
+	private static final int ACTION_TYPE_OFFSET = 39;
+
+	private static final int INITIAL_CAPACITY = 1 << 12;
+	/**
+	 * Each mapping holds at most 2^24 slots (640MB), since a mapping cannot exceed 2GB.
+	 */
+	private static final int MAXIMUM_CHUNK_BITS = 24;
+
+	/**
+	 * An incident as recorded in the history.
+	 */
+	public static final class IncidentRecord {
+
+		private final char reportActionType;
+		private final int monthOfTape;
+		private final int yearOfTape;
+		private final long stolenLow;
+		private final long stolenHigh;
+		private final boolean currentSubmission;
+
+		private IncidentRecord(char reportActionType, int monthOfTape, int yearOfTape, long stolenLow, long stolenHigh, boolean currentSubmission) {
+			this.reportActionType = reportActionType;
+			this.monthOfTape = monthOfTape;
+			this.yearOfTape = yearOfTape;
+			this.stolenLow = stolenLow;
+			this.stolenHigh = stolenHigh;
+			this.currentSubmission = currentSubmission;
+		}
+
+		/**
+		 * @return the action type of the most recently accepted report of the incident
+		 */
+		public char getReportActionType() {
+			return reportActionType;
+		}
+
+		/**
+		 * @return whether the incident is on file, that is, whether it has been added and not since deleted
+		 */
+		public boolean isOnFile() {
+			return reportActionType == 'I';
+		}
+
+		public int getMonthOfTape() {
+			return monthOfTape;
+		}
+
+		public int getYearOfTape() {
+			return yearOfTape;
+		}
+
+		/**
+		 * @return whether the incident was recorded during the current submission (see {@link SubmissionHistory#startSubmission()})
+		 */
+		public boolean isFromCurrentSubmission() {
+			return currentSubmission;
+		}
+
+		/**
+		 * @param propertyDescription a property description code
+		 * @return whether property with the description was reported stolen (or the like) in the incident
+		 */
+		public boolean wasReportedStolen(String propertyDescription) {
+			int bit = getPropertyDescriptionBit(propertyDescription);
+			if (bit < 0) {
+				return false;
+			}
+			return ((bit < 64 ? stolenLow >>> bit : stolenHigh >>> (bit - 64)) & 1) != 0;
+		}
+
+	}
+
+	private final Path file;
+	private final FileChannel lockChannel;
+	private final FileLock lock;
+	private Table table;
+
+	private SubmissionHistory(Path file, FileChannel lockChannel, FileLock lock, Table table) {
+		this.file = file;
+		this.lockChannel = lockChannel;
+		this.lock = lock;
+		this.table = table;
+	}
+
+	/**
+	 * Open the history held in the specified file, creating it if it doesn't exist.
+	 * @param file the file
+	 * @return the history
+	 * @throws IOException if the file cannot be opened or created, is not a history, or is open in another process
+	 */
+	public static SubmissionHistory open(Path file) throws IOException {
+		FileChannel lockChannel = FileChannel.open(getSibling(file, ".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		try {
+			FileLock lock = null;
+			try {
+				lock = lockChannel.tryLock();
+			} catch (OverlappingFileLockException e) {
+				// open in this process already
+			}
+			if (lock == null) {
+				throw new IOException("Submission history " + file + " is in use by another process");
+			}
+			Table table = Files.exists(file) && Files.size(file) > 0 ? Table.open(file) : Table.create(file, INITIAL_CAPACITY);
+			return new SubmissionHistory(file, lockChannel, lock, table);
+		} catch (IOException | RuntimeException e) {
+			lockChannel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Start a new submission.  Incidents recorded from then on are from the current submission, and those recorded before are from earlier ones.
+	 */
+	public synchronized void startSubmission() {
+		table.setSubmission(table.getSubmission() + 1);
+	}
+
+	/**
+	 * Get the record of an incident.
+	 * @param ori the ORI
+	 * @param incidentNumber the incident number
+	 * @return the record, or null if the incident has never been recorded
+	 */
+	public synchronized IncidentRecord getIncident(String ori, String incidentNumber) {
+		long packedOri = IdentifierIndex.pack(ori);
+		long packedNumber = IdentifierIndex.pack(incidentNumber);
+		if (packedOri == -1 || packedNumber == -1) {
+			return null;
+		}
+		int slot = table.findSlot(packedOri, packedNumber);
+		if (table.isEmpty(slot)) {
+			return null;
+		}
+		return new IncidentRecord((char) table.getByte(slot, ACTION_TYPE_OFFSET), table.getByte(slot, MONTH_OFFSET), table.getShort(slot, YEAR_OFFSET),
+				table.getLong(slot, STOLEN_OFFSET), table.getLong(slot, STOLEN_OFFSET + 8), table.getInt(slot, SLOT_SUBMISSION_OFFSET) == table.getSubmission());
+	}
+
+	/**
+	 * Record a report of an incident that has been accepted.  An added incident replaces any record of the incident from an earlier submission;
+	 * a second add within the current submission is a duplicate (error 056) and is ignored, so the first stays on file.  A deleted incident
+	 * is marked as deleted (until the history is compacted).  Reports with other action types are ignored.
+	 * @param report the report
+	 * @throws IOException if the table has to grow, and cannot be rebuilt
+	 */
+	public synchronized void record(GroupAIncidentReport report) throws IOException {
+		char reportActionType = report.getReportActionType();
+		long packedOri = IdentifierIndex.pack(report.getOri());
+		long packedNumber = IdentifierIndex.pack(report.getIncidentNumber());
+		if ((reportActionType != 'I' && reportActionType != 'D') || packedOri == -1 || packedNumber == -1) {
+			return;
+		}
+		int slot = table.findSlot(packedOri, packedNumber);
+		if (table.isEmpty(slot)) {
+			if (reportActionType == 'D') {
+				return;
+			}
+			table.putLong(slot, NUMBER_OFFSET, packedNumber);
+			table.putLong(slot, ORI_OFFSET, packedOri);
+			table.setSize(table.getSize() + 1);
+		} else if (reportActionType == 'I' && table.getByte(slot, ACTION_TYPE_OFFSET) == 'I'
+				&& table.getInt(slot, SLOT_SUBMISSION_OFFSET) == table.getSubmission()) {
+			return;
+		}
+		long stolenLow = 0;
+		long stolenHigh = 0;
+		PropertySegment stolenSegment = reportActionType == 'I' ? report.getStolenPropertySegment() : null;
+		for (int i = 0; stolenSegment != null && i < PropertySegment.PROPERTY_DESCRIPTION_COUNT; i++) {
+			int bit = getPropertyDescriptionBit(stolenSegment.getPropertyDescription(i));
+			if (bit >= 0 && bit < 64) {
+				stolenLow |= 1L << bit;
+			} else if (bit >= 64) {
+				stolenHigh |= 1L << (bit - 64);
+			}
+		}
+		Integer monthOfTape = report.getMonthOfTape();
+		Integer yearOfTape = report.getYearOfTape();
+		table.putLong(slot, STOLEN_OFFSET, stolenLow);
+		table.putLong(slot, STOLEN_OFFSET + 8, stolenHigh);
+		table.putInt(slot, SLOT_SUBMISSION_OFFSET, table.getSubmission());
+		table.putShort(slot, YEAR_OFFSET, yearOfTape == null ? 0 : yearOfTape);
+		table.putByte(slot, MONTH_OFFSET, monthOfTape == null ? 0 : monthOfTape);
+		table.putByte(slot, ACTION_TYPE_OFFSET, reportActionType);
+		if (table.getSize() > table.capacity / 4 * 3) {
+			rebuild(table.capacity * 2, false);
+		}
+	}
+
+	/**
+	 * @return the number of incidents recorded (including deleted ones that have not been compacted away)
+	 */
+	public synchronized int size() {
+		return table.getSize();
+	}
+
+	/**
+	 * Rebuild the history without the incidents that have been deleted, at the smallest capacity that holds the rest.
+	 * @throws IOException if the history cannot be rebuilt
+	 */
+	public synchronized void compact() throws IOException {
+		int live = 0;
+		for (int slot = 0; slot < table.capacity; slot++) {
+			if (!table.isEmpty(slot) && table.getByte(slot, ACTION_TYPE_OFFSET) != 'D') {
+				live++;
+			}
+		}
+		int capacity = INITIAL_CAPACITY;
+		while (live > capacity / 4 * 3) {
+			capacity *= 2;
+		}
+		rebuild(capacity, true);
+	}
+
+	/**
+	 * Write any changes to the history to the file.
+	 */
+	public synchronized void flush() {
+		table.force();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		try {
+			table.force();
+			table.channel.close();
+		} finally {
+			lock.release();
+			lockChannel.close();
+		}
+	}
+
+	private void rebuild(int capacity, boolean dropDeleted) throws IOException {
+		Path temporaryFile = getSibling(file, ".tmp");
+		Files.deleteIfExists(temporaryFile);
+		Table newTable = Table.create(temporaryFile, capacity);
+		try {
+			int size = 0;
+			for (int slot = 0; slot < table.capacity; slot++) {
+				if (table.isEmpty(slot) || (dropDeleted && table.getByte(slot, ACTION_TYPE_OFFSET) == 'D')) {
+					continue;
+				}
+				int newSlot = newTable.findSlot(table.getLong(slot, ORI_OFFSET), table.getLong(slot, NUMBER_OFFSET));
+				newTable.copySlot(newSlot, table, slot);
+				size++;
+			}
+			newTable.setSize(size);
+			newTable.setSubmission(table.getSubmission());
+			newTable.force();
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException | RuntimeException e) {
+			newTable.channel.close();
+			Files.deleteIfExists(temporaryFile);
+			throw e;
+		}
+		// the new table's channel stays open on the file under its new name
+		Table oldTable = table;
+		table = newTable;
+		oldTable.channel.close();
+	}
+
+	private static Path getSibling(Path file, String suffix) {
+		return file.resolveSibling(file.getFileName().toString() + suffix);
+	}
+
+	/**
+	 * @return the bit of the fingerprint for a property description code (01-99), or -1 if the code is not a number in that range
+	 */
+	private static int getPropertyDescriptionBit(String propertyDescription) {
+		if (propertyDescription == null || propertyDescription.length() != 2) {
+			return -1;
+		}
+		char c1 = propertyDescription.charAt(0);
+		char c2 = propertyDescription.charAt(1);
+		if (c1 < '0' || c1 > '9' || c2 < '0' || c2 > '9') {
+			return -1;
+		}
+		return (c1 - '0') * 10 + (c2 - '0');
+	}
+
+	/**
+	 * The hash table in a file:  a header, followed by the slots, mapped in chunks.
+	 */
+	private static final class Table {
+
+		private final FileChannel channel;
+		private final MappedByteBuffer header;
+		private final MappedByteBuffer[] chunks;
+		private final int capacity;
+		private final int chunkBits;
+		private final int chunkMask;
+
+		private Table(FileChannel channel, int capacity) throws IOException {
+			this.channel = channel;
+			this.capacity = capacity;
+			chunkBits = Math.min(MAXIMUM_CHUNK_BITS, Integer.numberOfTrailingZeros(capacity));
+			chunkMask = (1 << chunkBits) - 1;
+			header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+			chunks = new MappedByteBuffer[capacity >>> chunkBits];
+			long chunkSize = (long) SLOT_SIZE << chunkBits;
+			for (int i = 0; i < chunks.length; i++) {
+				chunks[i] = channel.map(MapMode.READ_WRITE, HEADER_SIZE + i * chunkSize, chunkSize);
+			}
+		}
+
+		static Table create(Path path, int capacity) throws IOException {
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING);
+			try {
+				// extend the file to its full size; the slots read as zero (empty) until written
+				channel.write(ByteBuffer.allocate(1), HEADER_SIZE + (long) capacity * SLOT_SIZE - 1);
+				Table ret = new Table(channel, capacity);
+				ret.header.putLong(MAGIC_OFFSET, MAGIC);
+				ret.header.putInt(VERSION_OFFSET, VERSION);
+				ret.header.putInt(CAPACITY_OFFSET, capacity);
+				return ret;
+			} catch (IOException | RuntimeException e) {
+				channel.close();
+				throw e;
+			}
+		}
+
+		static Table open(Path path) throws IOException {
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			try {
+				ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+				while (header.hasRemaining() && channel.read(header) >= 0) {
+					// keep reading
+				}
+				int capacity = header.getInt(CAPACITY_OFFSET);
+				if (header.position() < HEADER_SIZE || header.getLong(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION
+						|| Integer.bitCount(capacity) != 1 || channel.size() < HEADER_SIZE + (long) capacity * SLOT_SIZE) {
+					throw new IOException(path + " is not a submission history");
+				}
+				return new Table(channel, capacity);
+			} catch (IOException | RuntimeException e) {
+				channel.close();
+				throw e;
+			}
+		}
+
+		int findSlot(long packedOri, long packedNumber) {
+			int mask = capacity - 1;
+			int slot = hash(packedOri, packedNumber) & mask;
+			while (!isEmpty(slot) && (getLong(slot, ORI_OFFSET) != packedOri || getLong(slot, NUMBER_OFFSET) != packedNumber)) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		private static int hash(long packedOri, long packedNumber) {
+			long h = packedNumber * 0x9e3779b97f4a7c15L + packedOri;
+			h ^= h >>> 33;
+			h *= 0xff51afd7ed558ccdL;
+			h ^= h >>> 33;
+			h *= 0xc4ceb9fe1a85ec53L;
+			h ^= h >>> 33;
+			return (int) h;
+		}
+
+		/**
+		 * A slot is empty if its ORI is zero, which no ORI packs to.
+		 */
+		boolean isEmpty(int slot) {
+			return getLong(slot, ORI_OFFSET) == 0;
+		}
+
+		void copySlot(int slot, Table source, int sourceSlot) {
+			for (int offset = 0; offset < SLOT_SIZE; offset += 8) {
+				putLong(slot, offset, source.getLong(sourceSlot, offset));
+			}
+		}
+
+		private MappedByteBuffer chunk(int slot) {
+			return chunks[slot >>> chunkBits];
+		}
+
+		private int position(int slot, int offset) {
+			return (slot & chunkMask) * SLOT_SIZE + offset;
+		}
+
+		long getLong(int slot, int offset) {
+			return chunk(slot).getLong(position(slot, offset));
+		}
+
+		int getInt(int slot, int offset) {
+			return chunk(slot).getInt(position(slot, offset));
+		}
+
+		int getShort(int slot, int offset) {
+			return chunk(slot).getShort(position(slot, offset));
+		}
+
+		int getByte(int slot, int offset) {
+			return chunk(slot).get(position(slot, offset)) & 0xff;
+		}
+
+		void putLong(int slot, int offset, long value) {
+			chunk(slot).putLong(position(slot, offset), value);
+		}
+
+		void putInt(int slot, int offset, int value) {
+			chunk(slot).putInt(position(slot, offset), value);
+		}
+
+		void putShort(int slot, int offset, int value) {
+			chunk(slot).putShort(position(slot, offset), (short) value);
+		}
+
+		void putByte(int slot, int offset, int value) {
+			chunk(slot).put(position(slot, offset), (byte) value);
+		}
+
+		int getSize() {
+			return header.getInt(SIZE_OFFSET);
+		}
+
+		void setSize(int size) {
+			header.putInt(SIZE_OFFSET, size);
+		}
+
+		int getSubmission() {
+			return header.getInt(SUBMISSION_OFFSET);
+		}
+
+		void setSubmission(int submission) {
+			header.putInt(SUBMISSION_OFFSET, submission);
+		}
+
+		void force() {
+			for (MappedByteBuffer chunk : chunks) {
+				chunk.force();
+			}
+			header.force();
+		}
+
+	}
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.submission;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.AbstractSegment;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+import org.search.nibrs.validation.rules.ErrorSink;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Counts of the reports in one or more submissions, and of the errors found in them, for triage of submissions where the errors themselves
+ * are not needed.  Reports are counted by type (admin segment level) and action type, and errors by error code, ORI, segment type and data
+ * element.  The statistics are an error sink:  violations reported through {@link #reportError(ValidationTarget, NIBRSErrorCode, String, Object)}
+ * are counted without creating an error object, and errors that have been created (by the builder, for instance) can be added with
+ * {@link #accept(NIBRSError)}.  Errors are attributed to the report most recently added with {@link #addReport(AbstractReport)}.
+ * <br/>
+ * The statistics are not thread-safe; reports (and their errors) must be added one at a time.
+ */
+public class SubmissionStatistics implements ErrorSink {
+
+	/**
+	 * The number of data elements listed in the summaries, those with the most errors.
+	 */
+	public static final int TOP_DATA_ELEMENT_COUNT = 10;
+
+	private static final int CHARACTER_COUNT = 128;
+	private static final NIBRSErrorCode[] ERROR_CODES = NIBRSErrorCode.values();
+	private static final int ERROR_CODE_COUNT = ERROR_CODES.length;
+	private static final String NONE = "none";
+
+	private final int[][] reportCounts = new int[CHARACTER_COUNT][];
+	private final int[] errorCodeCounts = new int[ERROR_CODE_COUNT];
+	private final int[] segmentTypeCounts = new int[CHARACTER_COUNT];
+	private final Map<String, int[]> oriCounts = new HashMap<>();
+	private final Map<String, int[]> dataElementCounts = new HashMap<>();
+	private int reportCount;
+	private int errorCount;
+	private int[] currentOriCount;
+
+	/**
+	 * Count a report, and attribute the errors counted from now on to it (and to its ORI).
+	 * @param report the report
+	 */
+	public void addReport(AbstractReport report) {
+		int level = index(report.getAdminSegmentLevel());
+		if (reportCounts[level] == null) {
+			reportCounts[level] = new int[CHARACTER_COUNT];
+		}
+		reportCounts[level][index(report.getReportActionType())]++;
+		reportCount++;
+		currentOriCount = oriCounts.computeIfAbsent(report.getOri() == null ? NONE : report.getOri(), k -> new int[1]);
+	}
+
+	@Override
+	public void accept(NIBRSError error) {
+		count(error.getNIBRSErrorCode(), error.getSegmentType(), error.getDataElementIdentifier());
+	}
+
+	@Override
+	public void reportError(ValidationTarget subject, NIBRSErrorCode errorCode, String dataElementIdentifier, Object value) {
+		char segmentType = 0;
+		if (subject instanceof AbstractSegment) {
+			segmentType = ((AbstractSegment) subject).getSegmentType();
+		} else if (subject instanceof AbstractReport) {
+			segmentType = ((AbstractReport) subject).getAdminSegmentLevel();
+		}
+		count(errorCode, segmentType, dataElementIdentifier);
+	}
+
+	private void count(NIBRSErrorCode errorCode, char segmentType, String dataElementIdentifier) {
+		errorCount++;
+		if (errorCode != null) {
+			errorCodeCounts[errorCode.ordinal()]++;
+		}
+		segmentTypeCounts[index(segmentType)]++;
+		if (currentOriCount != null) {
+			currentOriCount[0]++;
+		}
+		dataElementCounts.computeIfAbsent(dataElementIdentifier == null ? NONE : dataElementIdentifier, k -> new int[1])[0]++;
+	}
+
+	private static int index(char c) {
+		return c < CHARACTER_COUNT ? c : 0;
+	}
+
+	/**
+	 * @return the number of reports counted
+	 */
+	public int getReportCount() {
+		return reportCount;
+	}
+
+	/**
+	 * @return the number of reports counted with the specified admin segment level (report type) and action type
+	 */
+	public int getReportCount(char adminSegmentLevel, char reportActionType) {
+		int[] levelCounts = reportCounts[index(adminSegmentLevel)];
+		return levelCounts == null ? 0 : levelCounts[index(reportActionType)];
+	}
+
+	/**
+	 * @return the number of errors counted
+	 */
+	public int getErrorCount() {
+		return errorCount;
+	}
+
+	/**
+	 * @return the number of errors counted with the specified code
+	 */
+	public int getErrorCount(NIBRSErrorCode errorCode) {
+		return errorCodeCounts[errorCode.ordinal()];
+	}
+
+	/**
+	 * @return the number of errors counted in reports with the specified ORI (or without an ORI, if it is null)
+	 */
+	public int getErrorCountForOri(String ori) {
+		int[] count = oriCounts.get(ori == null ? NONE : ori);
+		return count == null ? 0 : count[0];
+	}
+
+	/**
+	 * @return the number of errors counted in segments of the specified type
+	 */
+	public int getErrorCountForSegmentType(char segmentType) {
+		return segmentTypeCounts[index(segmentType)];
+	}
+
+	/**
+	 * @return the number of errors counted with the specified data element identifier (or without one, if it is null)
+	 */
+	public int getErrorCountForDataElement(String dataElementIdentifier) {
+		int[] count = dataElementCounts.get(dataElementIdentifier == null ? NONE : dataElementIdentifier);
+		return count == null ? 0 : count[0];
+	}
+
+	/**
+	 * @return the data elements with the most errors (at most {@link #TOP_DATA_ELEMENT_COUNT} of them), most errors first, with "none" standing
+	 * for errors that aren't attributed to a data element
+	 */
+	public List<String> getTopDataElements() {
+		List<String> ret = new ArrayList<>(dataElementCounts.keySet());
+		ret.sort((d1, d2) -> {
+			int c = Integer.compare(dataElementCounts.get(d2)[0], dataElementCounts.get(d1)[0]);
+			return c != 0 ? c : d1.compareTo(d2);
+		});
+		return ret.size() > TOP_DATA_ELEMENT_COUNT ? new ArrayList<>(ret.subList(0, TOP_DATA_ELEMENT_COUNT)) : ret;
+	}
+
+	/**
+	 * Write a plain text summary of the statistics.  Only the non-zero counts are listed.
+	 * @param writer the writer, which is flushed but not closed
+	 */
+	public void writeSummary(Writer writer) {
+		PrintWriter pw = new PrintWriter(writer);
+		pw.println("Reports: " + reportCount);
+		for (int level = 0; level < CHARACTER_COUNT; level++) {
+			for (int actionType = 0; reportCounts[level] != null && actionType < CHARACTER_COUNT; actionType++) {
+				if (reportCounts[level][actionType] > 0) {
+					pw.println("  level " + (char) level + ", action " + (char) actionType + ": " + reportCounts[level][actionType]);
+				}
+			}
+		}
+		pw.println("Errors: " + errorCount);
+		pw.println("Errors by code:");
+		for (NIBRSErrorCode errorCode : ERROR_CODES) {
+			if (errorCodeCounts[errorCode.ordinal()] > 0) {
+				pw.println("  " + errorCode.getCode() + ": " + errorCodeCounts[errorCode.ordinal()]);
+			}
+		}
+		pw.println("Errors by ORI:");
+		for (Map.Entry<String, int[]> entry : getSortedOriCounts().entrySet()) {
+			pw.println("  " + entry.getKey() + ": " + entry.getValue()[0]);
+		}
+		pw.println("Errors by segment type:");
+		for (int segmentType = 0; segmentType < CHARACTER_COUNT; segmentType++) {
+			if (segmentTypeCounts[segmentType] > 0) {
+				pw.println("  " + (segmentType == 0 ? NONE : String.valueOf((char) segmentType)) + ": " + segmentTypeCounts[segmentType]);
+			}
+		}
+		pw.println("Top data elements:");
+		for (String dataElementIdentifier : getTopDataElements()) {
+			pw.println("  " + dataElementIdentifier + ": " + dataElementCounts.get(dataElementIdentifier)[0]);
+		}
+		pw.flush();
+	}
+
+	/**
+	 * Write the statistics as a JSON object, with the same content as {@link #writeSummary(Writer)}.
+	 * @param writer the writer, which is flushed but not closed
+	 * @throws IOException if the statistics cannot be written
+	 */
+	public void writeJson(Writer writer) throws IOException {
+		JsonGenerator g = new JsonFactory().createGenerator(writer);
+		g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		g.useDefaultPrettyPrinter();
+		g.writeStartObject();
+		g.writeNumberField("reportCount", reportCount);
+		g.writeArrayFieldStart("reports");
+		for (int level = 0; level < CHARACTER_COUNT; level++) {
+			for (int actionType = 0; reportCounts[level] != null && actionType < CHARACTER_COUNT; actionType++) {
+				if (reportCounts[level][actionType] > 0) {
+					g.writeStartObject();
+					g.writeStringField("level", String.valueOf((char) level));
+					g.writeStringField("actionType", String.valueOf((char) actionType));
+					g.writeNumberField("count", reportCounts[level][actionType]);
+					g.writeEndObject();
+				}
+			}
+		}
+		g.writeEndArray();
+		g.writeNumberField("errorCount", errorCount);
+		g.writeObjectFieldStart("errorsByCode");
+		for (NIBRSErrorCode errorCode : ERROR_CODES) {
+			if (errorCodeCounts[errorCode.ordinal()] > 0) {
+				g.writeNumberField(errorCode.getCode(), errorCodeCounts[errorCode.ordinal()]);
+			}
+		}
+		g.writeEndObject();
+		g.writeObjectFieldStart("errorsByOri");
+		for (Map.Entry<String, int[]> entry : getSortedOriCounts().entrySet()) {
+			g.writeNumberField(entry.getKey(), entry.getValue()[0]);
+		}
+		g.writeEndObject();
+		g.writeObjectFieldStart("errorsBySegmentType");
+		for (int segmentType = 0; segmentType < CHARACTER_COUNT; segmentType++) {
+			if (segmentTypeCounts[segmentType] > 0) {
+				g.writeNumberField(segmentType == 0 ? NONE : String.valueOf((char) segmentType), segmentTypeCounts[segmentType]);
+			}
+		}
+		g.writeEndObject();
+		g.writeArrayFieldStart("topDataElements");
+		for (String dataElementIdentifier : getTopDataElements()) {
+			g.writeStartObject();
+			g.writeStringField("dataElement", dataElementIdentifier);
+			g.writeNumberField("count", dataElementCounts.get(dataElementIdentifier)[0]);
+			g.writeEndObject();
+		}
+		g.writeEndArray();
+		g.writeEndObject();
+		g.flush();
+	}
+
+	/**
+	 * @return the ORIs with errors, and their counts, in ORI order
+	 */
+	private Map<String, int[]> getSortedOriCounts() {
+		Map<String, int[]> ret = new TreeMap<>();
+		oriCounts.forEach((ori, count) -> {
+			if (count[0] > 0) {
+				ret.put(ori, count);
+			}
+		});
+		return ret;
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.submission;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.importer.ReportListener;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.GroupBArrestReport;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+import org.search.nibrs.validation.rules.ErrorSink;
+
+/**
+ * Applies the structure checks that span a whole submission, rather than a single report:
+ * <ul>
+ * <li>056, an incident added with the same ORI and incident number as an incident added earlier in the submission (and not since deleted)</li>
+ * <li>058, a report with a different month and year of submission than the first report in the submission</li>
+ * <li>059, a report whose ORI has a different state code than that of the first report in the submission</li>
+ * <li>088, a Group A incident with arrestees and a Group B arrest report with the same ORI and identifier</li>
+ * </ul>
+ * The validator observes each report once, in submission order, as a {@link ReportListener} of an incident builder (or through
+ * {@link #validate(AbstractReport)}), and reports errors for the later of two conflicting reports.  It holds on to no reports, only to an
+ * {@link IdentifierIndex} of their identifiers, so that it can check submissions of any size in memory proportional to the number of
+ * incidents and arrests.  Since the checks depend on the order of the reports, they are only meaningful with ordered delivery of reports.
+ */
+public class SubmissionStructureValidator implements ReportListener {
+
+	private static final int GROUP_A_INCIDENT = 1;
+	private static final int GROUP_A_ARRESTEES = 2;
+	private static final int GROUP_B_ARREST = 4;
+
+	private final ErrorSink sink;
+	private final IdentifierIndex identifierIndex = new IdentifierIndex();
+
+	private boolean firstReportSeen;
+	private Integer monthOfTape;
+	private Integer yearOfTape;
+	private String stateCode;
+
+	/**
+	 * Create a validator for a new submission.
+	 * @param sink the sink to which errors are reported
+	 */
+	public SubmissionStructureValidator(ErrorSink sink) {
+		this.sink = sink;
+	}
+
+	@Override
+	public void newReport(AbstractReport report, List<NIBRSError> errorList) {
+		validate(report);
+	}
+
+	/**
+	 * Apply the structure checks to the next report in the submission.
+	 * @param report the report
+	 */
+	public synchronized void validate(AbstractReport report) {
+
+		if (!firstReportSeen) {
+			firstReportSeen = true;
+			monthOfTape = report.getMonthOfTape();
+			yearOfTape = report.getYearOfTape();
+			stateCode = getStateCode(report.getOri());
+		} else {
+			if (!Objects.equals(monthOfTape, report.getMonthOfTape()) || !Objects.equals(yearOfTape, report.getYearOfTape())) {
+				sink.reportError(report, NIBRSErrorCode._058, null, report.getMonthOfTape() + "/" + report.getYearOfTape());
+			}
+			if (!Objects.equals(stateCode, getStateCode(report.getOri()))) {
+				sink.reportError(report, NIBRSErrorCode._059, "1", report.getOri());
+			}
+		}
+
+		if (report instanceof GroupAIncidentReport) {
+			validateGroupAIncident((GroupAIncidentReport) report);
+		} else if (report instanceof GroupBArrestReport) {
+			validateGroupBArrest((GroupBArrestReport) report);
+		}
+
+	}
+
+	/**
+	 * @return the number of distinct identifiers held in the index
+	 */
+	public synchronized int getIdentifierCount() {
+		return identifierIndex.size();
+	}
+
+	private void validateGroupAIncident(GroupAIncidentReport report) {
+		String incidentNumber = report.getIncidentNumber();
+		if (incidentNumber == null) {
+			return;
+		}
+		int flags = identifierIndex.getFlags(report.getOri(), incidentNumber);
+		char reportActionType = report.getReportActionType();
+		if (reportActionType == 'I') {
+			if ((flags & GROUP_A_INCIDENT) != 0) {
+				sink.reportError(report, NIBRSErrorCode._056, "2", incidentNumber);
+			}
+			boolean hasArrestees = report.getArresteeCount() > 0;
+			if (hasArrestees && (flags & GROUP_B_ARREST) != 0) {
+				sink.reportError(report, NIBRSErrorCode._088, "2", incidentNumber);
+			}
+			identifierIndex.setFlags(report.getOri(), incidentNumber, flags | GROUP_A_INCIDENT | (hasArrestees ? GROUP_A_ARRESTEES : 0));
+		} else if (reportActionType == 'D' && (flags & (GROUP_A_INCIDENT | GROUP_A_ARRESTEES)) != 0) {
+			identifierIndex.setFlags(report.getOri(), incidentNumber, flags & ~(GROUP_A_INCIDENT | GROUP_A_ARRESTEES));
+		}
+	}
+
+	private void validateGroupBArrest(GroupBArrestReport report) {
+		String arrestTransactionNumber = report.getIdentifier();
+		if (arrestTransactionNumber == null) {
+			return;
+		}
+		int flags = identifierIndex.getFlags(report.getOri(), arrestTransactionNumber);
+		char reportActionType = report.getReportActionType();
+		if (reportActionType == 'A') {
+			if ((flags & GROUP_A_ARRESTEES) != 0) {
+				sink.reportError(report, NIBRSErrorCode._088, "41", arrestTransactionNumber);
+			}
+			identifierIndex.setFlags(report.getOri(), arrestTransactionNumber, flags | GROUP_B_ARREST);
+		} else if (reportActionType == 'D' && (flags & GROUP_B_ARREST) != 0) {
+			identifierIndex.setFlags(report.getOri(), arrestTransactionNumber, flags & ~GROUP_B_ARREST);
+		}
+	}
+
+	private static String getStateCode(String ori) {
+		return ori == null || ori.length() < 2 ? null : ori.substring(0, 2);
+	}
+
+}
@@ -15,12 +15,13 @@
  */
 package org.search.nibrs.validation.zeroreport;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.model.ZeroReport;
 import org.search.nibrs.model.codes.NIBRSErrorCode;
+import org.search.nibrs.validation.rules.ErrorCollector;
+import org.search.nibrs.validation.rules.ErrorSink;
 
 
 public class ZeroReportValidator {
@@ -28,30 +29,36 @@ public class ZeroReportValidator {
 	
 	public List<NIBRSError> validate(ZeroReport zeroReport){
 				
-		List<NIBRSError> errorsList = new ArrayList<NIBRSError>();
+		ErrorCollector collector = new ErrorCollector();
 		
-		_015_validate12Zeros(zeroReport, errorsList);
+		validate(zeroReport, collector);
 				
-		return errorsList;
+		return collector.getErrorList();
+	}
+	
+	/**
+	 * Validate the zero report, reporting any errors to the sink rather than collecting them into a list.
+	 * @param zeroReport the report to validate
+	 * @param sink the sink to which errors are reported
+	 */
+	public void validate(ZeroReport zeroReport, ErrorSink sink){
+		
+		_015_validate12Zeros(zeroReport, sink);
 	}
 	
 	
-	NIBRSError _015_validate12Zeros(ZeroReport zeroReport, List<NIBRSError> nibrsErrorList){
+	void _015_validate12Zeros(ZeroReport zeroReport, ErrorSink sink){
 				
-		NIBRSError rNibrsError = null;
-		
 		String incidentNumber = zeroReport.getIncidentNumber();
 		
 		if(!"000000000000".equals(incidentNumber)){
 			
-			rNibrsError = new NIBRSError();
+			NIBRSError rNibrsError = new NIBRSError();
 			
 			rNibrsError.setNIBRSErrorCode(NIBRSErrorCode._015);
 			
-			nibrsErrorList.add(rNibrsError);
+			sink.accept(rNibrsError);
 		}
-		
-		return rNibrsError;
 	}	
 	
 	
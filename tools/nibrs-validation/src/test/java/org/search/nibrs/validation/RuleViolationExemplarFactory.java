@@ -15,9 +15,13 @@
  */
 package org.search.nibrs.validation;
 
+import java.time.DateTimeException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
@@ -76,6 +80,55 @@ public final class RuleViolationExemplarFactory {
 		return groupBTweakerMap.get(ruleNumber).apply(BaselineIncidentFactory.getBaselineGroupBArrestReport());
 	}
 
+	/**
+	 * Get the numbers of the rules for which Group A incident exemplars are available.
+	 * 
+	 * @return the rule numbers, in ascending order
+	 */
+	public SortedSet<Integer> getGroupARuleNumbers() {
+		return new TreeSet<>(groupATweakerMap.keySet());
+	}
+
+	/**
+	 * Get the numbers of the rules for which Group B arrest exemplars are available.
+	 * 
+	 * @return the rule numbers, in ascending order
+	 */
+	public SortedSet<Integer> getGroupBRuleNumbers() {
+		return new TreeSet<>(groupBTweakerMap.keySet());
+	}
+
+	/**
+	 * Get the incidents that exemplify violation of each of the rules for which Group A incident exemplars are available, in rule number order.
+	 * A few exemplars (for rules without tests) set impossible dates, so the incidents for those rules are left out.
+	 * 
+	 * @return the incidents
+	 */
+	public List<GroupAIncidentReport> getGroupAIncidentsThatViolateRules() {
+		List<GroupAIncidentReport> ret = new ArrayList<>();
+		for (Integer ruleNumber : getGroupARuleNumbers()) {
+			try {
+				ret.addAll(getGroupAIncidentsThatViolateRule(ruleNumber));
+			} catch (DateTimeException e) {
+				// a few exemplars (for rules without tests) set impossible dates
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Get the arrest reports that exemplify violation of each of the rules for which Group B arrest exemplars are available, in rule number order.
+	 * 
+	 * @return the arrest reports
+	 */
+	public List<GroupBArrestReport> getGroupBArrestsThatViolateRules() {
+		List<GroupBArrestReport> ret = new ArrayList<>();
+		for (Integer ruleNumber : getGroupBRuleNumbers()) {
+			ret.addAll(getGroupBArrestsThatViolateRule(ruleNumber));
+		}
+		return ret;
+	}
+
 	private void populateGroupAExemplarMap() {
 		groupATweakerMap.putAll(AdministrativeRuleViolationExemplarFactory.getInstance().getGroupATweakerMap());
 		groupATweakerMap.putAll(OffenseRuleViolationExemplarFactory.getInstance().getGroupATweakerMap());
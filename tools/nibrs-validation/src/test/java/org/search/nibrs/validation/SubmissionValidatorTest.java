@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.NIBRSSubmission;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+import org.search.nibrs.validation.cache.ValidationResultCache;
+import org.search.nibrs.validation.groupa.GroupAIncidentReportValidator;
+import org.search.nibrs.validation.groupb.GroupBArrestReportValidator;
+import org.search.nibrs.validation.submission.SubmissionStatistics;
+
+/**
+ * Tests that validating a submission concurrently gives the same errors, in the same order, as serial validation.
+ *
+ */
+public class SubmissionValidatorTest {
+
+	private SubmissionValidator submissionValidator;
+	private NIBRSSubmission submission;
+
+	@Before
+	public void init() {
+		ValidatorProperties validatorProperties = new ValidatorProperties();
+		submissionValidator = new SubmissionValidator();
+		submissionValidator.groupAIncidentReportValidator = new GroupAIncidentReportValidator(validatorProperties);
+		submissionValidator.groupBArrestReportValidator = new GroupBArrestReportValidator(validatorProperties);
+		RuleViolationExemplarFactory exemplarFactory = RuleViolationExemplarFactory.getInstance();
+		submission = new NIBRSSubmission();
+		submission.addReports(new ArrayList<>(exemplarFactory.getGroupAIncidentsThatViolateRules()));
+		submission.addReports(new ArrayList<>(exemplarFactory.getGroupBArrestsThatViolateRules()));
+	}
+
+	@Test
+	public void testForkJoinPool() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			assertSameErrors(pool);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testThreadPerTask() {
+		ExecutorService executor = Executors.newCachedThreadPool();
+		try {
+			assertSameErrors(executor);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testValidationResultCache() {
+		List<NIBRSError> expected = submissionValidator.validate(submission);
+		ValidationResultCache cache = new ValidationResultCache(ValidationResultCache.getRuleSetVersion(new ValidatorProperties(), null), 100000);
+		submissionValidator.setValidationResultCache(cache);
+		for (int i = 0; i < 2; i++) {
+			List<NIBRSError> actual = submissionValidator.validate(submission);
+			assertEquals(expected.size(), actual.size());
+			for (int j = 0; j < expected.size(); j++) {
+				assertTrue(expected.get(j).getReport() == actual.get(j).getReport());
+				assertEquals(expected.get(j).toString(), actual.get(j).toString());
+			}
+		}
+		// results with errors for other reports (which some exemplars have, since they share segments) aren't cached
+		assertTrue(cache.getHitCount() >= submission.getReportCount() / 2);
+		assertEquals(2 * submission.getReportCount(), cache.getHitCount() + cache.getMissCount());
+	}
+
+	@Test
+	public void testCollectStatistics() {
+		SubmissionStatistics statistics = new SubmissionStatistics();
+		Map<String, Integer> oriCounts = new HashMap<>();
+		List<NIBRSError> expected = new ArrayList<>();
+		for (AbstractReport report : submission.getReports()) {
+			List<NIBRSError> reportErrors = submissionValidator.validateReport(report);
+			expected.addAll(reportErrors);
+			oriCounts.merge(report.getOri(), reportErrors.size(), Integer::sum);
+			submissionValidator.collectStatistics(report, statistics);
+		}
+		assertEquals(submission.getReportCount(), statistics.getReportCount());
+		assertEquals(expected.size(), statistics.getErrorCount());
+		for (NIBRSErrorCode errorCode : NIBRSErrorCode.values()) {
+			assertEquals(errorCode.getCode(), expected.stream().filter(e -> e.getNIBRSErrorCode() == errorCode).count(), statistics.getErrorCount(errorCode));
+		}
+		for (char segmentType : new char[] {'1', '2', '3', '4', '5', '6', '7'}) {
+			assertEquals(expected.stream().filter(e -> e.getSegmentType() == segmentType).count(), statistics.getErrorCountForSegmentType(segmentType));
+		}
+		oriCounts.forEach((ori, count) -> assertEquals(count.intValue(), statistics.getErrorCountForOri(ori)));
+		List<String> topDataElements = statistics.getTopDataElements();
+		assertEquals(SubmissionStatistics.TOP_DATA_ELEMENT_COUNT, topDataElements.size());
+		for (String dataElementIdentifier : topDataElements) {
+			assertEquals(expected.stream().filter(e -> dataElementIdentifier.equals(e.getDataElementIdentifier() == null ? "none" : e.getDataElementIdentifier())).count(),
+					statistics.getErrorCountForDataElement(dataElementIdentifier));
+		}
+		int groupAIncidentCount = (int) submission.getReports().stream().filter(r -> r instanceof GroupAIncidentReport && r.getReportActionType() == 'I').count();
+		assertEquals(groupAIncidentCount, statistics.getReportCount(GroupAIncidentReport.ADMIN_SEGMENT_TYPE_IDENTIFIER, 'I'));
+	}
+
+	private void assertSameErrors(ExecutorService executor) {
+		List<NIBRSError> expected = submissionValidator.validate(submission);
+		assertTrue(expected.size() > submission.getReportCount());
+		for (int i = 0; i < 3; i++) {
+			List<NIBRSError> actual = submissionValidator.validate(submission, executor);
+			assertEquals(expected.size(), actual.size());
+			for (int j = 0; j < expected.size(); j++) {
+				assertTrue(expected.get(j).getReport() == actual.get(j).getReport());
+				assertEquals(expected.get(j).toString(), actual.get(j).toString());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ReportSource;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.NIBRSAge;
+import org.search.nibrs.model.OffenseSegment;
+import org.search.nibrs.model.PropertySegment;
+import org.search.nibrs.model.VictimSegment;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+import org.search.nibrs.validation.ValidatorProperties;
+
+/**
+ * Tests that the validation result cache returns the errors of a report validated before, bound to the report being validated, and
+ * that its tiers are bounded.
+ *
+ */
+public class ValidationResultCacheTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final AtomicInteger validationCount = new AtomicInteger();
+
+	private final Function<AbstractReport, List<NIBRSError>> validator = report -> {
+		validationCount.incrementAndGet();
+		List<NIBRSError> ret = new ArrayList<>();
+		NIBRSError e = report.getErrorTemplate();
+		e.setNIBRSErrorCode(NIBRSErrorCode._115);
+		e.setValue(report.getIdentifier());
+		ret.add(e);
+		e = new NIBRSError();
+		e.setNIBRSErrorCode(NIBRSErrorCode._101);
+		ret.add(e);
+		return ret;
+	};
+
+	@Test
+	public void testDigest() {
+		GroupAIncidentReport report = createReport("1", "file1");
+		GroupAIncidentReport copy = new GroupAIncidentReport(report);
+		copy.setSource(createSource("file2"));
+		assertEquals(ReportDigest.digest(report, "v1"), ReportDigest.digest(copy, "v1"));
+		assertNotEquals(ReportDigest.digest(report, "v1"), ReportDigest.digest(report, "v2"));
+		copy.getOffenses().get(0).setUcrOffenseCode("13B");
+		assertNotEquals(ReportDigest.digest(report, "v1"), ReportDigest.digest(copy, "v1"));
+		assertNotEquals(ReportDigest.digest(report, "v1"), ReportDigest.digest(createReport("2", "file1"), "v1"));
+		// growing a sparse array to its full size doesn't change the content
+		String digest = ReportDigest.digest(report, "v1");
+		report.getProperties().get(0).getPropertyDescription();
+		assertEquals(digest, ReportDigest.digest(report, "v1"));
+	}
+
+	@Test
+	public void testErrorsBoundToReport() {
+		ValidationResultCache cache = new ValidationResultCache("v1", 10);
+		GroupAIncidentReport report = createReport("1", "file1");
+		List<NIBRSError> expected = cache.getErrors(report, validator);
+		GroupAIncidentReport resubmitted = new GroupAIncidentReport(report);
+		resubmitted.setSource(createSource("file2"));
+		List<NIBRSError> actual = cache.getErrors(resubmitted, validator);
+		assertEquals(1, validationCount.get());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(expected.size(), actual.size());
+		assertTrue(actual.get(0).getReport() == resubmitted);
+		assertTrue(actual.get(0).getContext() == resubmitted.getSource());
+		assertEquals(expected.get(0).getValue(), actual.get(0).getValue());
+		assertEquals(expected.get(0).getReportUniqueIdentifier(), actual.get(0).getReportUniqueIdentifier());
+		assertEquals(NIBRSErrorCode._101, actual.get(1).getNIBRSErrorCode());
+		assertEquals(null, actual.get(1).getReport());
+		assertEquals(null, actual.get(1).getContext());
+		// the cached errors aren't shared with the caller
+		assertTrue(cache.getErrors(resubmitted, validator).get(0) != actual.get(0));
+	}
+
+	@Test
+	public void testInvalidAge() {
+		// both ages parse to a minimum of 12, and differ only in the offending value of their parsing error, which rules report
+		Function<AbstractReport, List<NIBRSError>> ageValidator = report -> {
+			validationCount.incrementAndGet();
+			NIBRSError e = new NIBRSError(((GroupAIncidentReport) report).getVictims().get(0).getAge().getError());
+			e.setReport(report);
+			e.setContext(report.getSource());
+			List<NIBRSError> ret = new ArrayList<>();
+			ret.add(e);
+			return ret;
+		};
+		ValidationResultCache cache = new ValidationResultCache("v1", 10);
+		GroupAIncidentReport report = createReport("1", "file1");
+		report.addVictim(createVictim(report, "12AB"));
+		GroupAIncidentReport other = createReport("1", "file1");
+		other.addVictim(createVictim(other, "12CD"));
+		assertNotEquals(ReportDigest.digest(report, "v1"), ReportDigest.digest(other, "v1"));
+		assertEquals("12AB", cache.getErrors(report, ageValidator).get(0).getValue());
+		assertEquals("12CD", cache.getErrors(other, ageValidator).get(0).getValue());
+		assertEquals(2, validationCount.get());
+	}
+
+	@Test
+	public void testMemoryEviction() {
+		ValidationResultCache cache = new ValidationResultCache("v1", 2);
+		cache.getErrors(createReport("1", "file1"), validator);
+		cache.getErrors(createReport("2", "file1"), validator);
+		cache.getErrors(createReport("1", "file1"), validator);
+		cache.getErrors(createReport("3", "file1"), validator);
+		assertEquals(3, validationCount.get());
+		// 2 was least recently used
+		cache.getErrors(createReport("2", "file1"), validator);
+		assertEquals(4, validationCount.get());
+		cache.getErrors(createReport("3", "file1"), validator);
+		assertEquals(4, validationCount.get());
+	}
+
+	@Test
+	public void testDiskTier() throws IOException {
+		Path directory = temporaryFolder.getRoot().toPath().resolve("cache");
+		ValidationResultCache cache = new ValidationResultCache("v1", 1, directory, 2);
+		cache.getErrors(createReport("1", "file1"), validator);
+		cache.getErrors(createReport("2", "file1"), validator);
+		// evicted from memory, but not from disk
+		cache.getErrors(createReport("1", "file2"), validator);
+		assertEquals(2, validationCount.get());
+		assertEquals(2, countFiles(directory));
+
+		// a new cache (as after a restart) uses the results on disk
+		cache = new ValidationResultCache("v1", 1, directory, 2);
+		GroupAIncidentReport report = createReport("2", "file3");
+		List<NIBRSError> errors = cache.getErrors(report, validator);
+		assertEquals(2, validationCount.get());
+		assertTrue(errors.get(0).getReport() == report);
+		assertEquals("file3", errors.get(0).getContext().getSourceLocation());
+
+		cache.getErrors(createReport("3", "file1"), validator);
+		assertEquals(3, validationCount.get());
+		assertEquals(2, countFiles(directory));
+		// 1 was least recently used, so its file was deleted
+		cache.getErrors(createReport("1", "file1"), validator);
+		assertEquals(4, validationCount.get());
+
+		// results of another rule set version are not used
+		cache = new ValidationResultCache("v2", 1, directory, 2);
+		cache.getErrors(createReport("1", "file1"), validator);
+		assertEquals(5, validationCount.get());
+	}
+
+	@Test
+	public void testRuleSetVersion() {
+		// the snapshot builds of the validation and common modules are identified by digests of their classes
+		ValidatorProperties validatorProperties = new ValidatorProperties();
+		String version = ValidationResultCache.getRuleSetVersion(validatorProperties, null);
+		assertNotNull(version);
+		assertFalse(version.contains("null"));
+		assertTrue(version.contains("+"));
+		assertEquals(version, ValidationResultCache.getRuleSetVersion(validatorProperties, null));
+		assertNotEquals(version, ValidationResultCache.getRuleSetVersion(validatorProperties, "q"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDiskTierRequiresVersion() throws IOException {
+		new ValidationResultCache(null, 1, temporaryFolder.getRoot().toPath().resolve("cache"), 1);
+	}
+
+	private static long countFiles(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.count();
+		}
+	}
+
+	private static GroupAIncidentReport createReport(String incidentNumber, String location) {
+		GroupAIncidentReport ret = new GroupAIncidentReport();
+		ret.setOri("WA123456789");
+		ret.setIncidentNumber(incidentNumber);
+		ret.setSource(createSource(location));
+		OffenseSegment offense = new OffenseSegment();
+		offense.setUcrOffenseCode("13A");
+		offense.setOffendersSuspectedOfUsing(0, "N");
+		ret.addOffense(offense);
+		PropertySegment property = new PropertySegment();
+		property.setTypeOfPropertyLoss("7");
+		property.setPropertyDescription(0, "01");
+		ret.addProperty(property);
+		return ret;
+	}
+
+	private static VictimSegment createVictim(GroupAIncidentReport report, String ageString) {
+		VictimSegment ret = new VictimSegment();
+		NIBRSAge age = new NIBRSAge();
+		age.setAgeMin(12);
+		NIBRSError error = new NIBRSError();
+		error.setValue(ageString);
+		error.setNIBRSErrorCode(NIBRSErrorCode._409);
+		error.setReport(report);
+		age.setError(error);
+		ret.setAge(age);
+		return ret;
+	}
+
+	private static ReportSource createSource(String location) {
+		ReportSource ret = new ReportSource();
+		ret.setSourceName("test");
+		ret.setSourceLocation(location);
+		return ret;
+	}
+
+}
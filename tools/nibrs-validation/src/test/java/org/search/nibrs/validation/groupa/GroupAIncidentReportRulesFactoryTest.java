@@ -18,6 +18,7 @@ package org.search.nibrs.validation.groupa;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
@@ -26,6 +27,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.common.ParsedObject;
 import org.search.nibrs.common.ReportSource;
@@ -48,9 +50,13 @@ import org.search.nibrs.model.codes.TypeOfPropertyLossCode;
 import org.search.nibrs.model.codes.TypeOfVictimCode;
 import org.search.nibrs.validation.ValidatorProperties;
 import org.search.nibrs.validation.rules.Rule;
+import org.search.nibrs.validation.submission.SubmissionHistory;
 
 public class GroupAIncidentReportRulesFactoryTest {
 	
+	@org.junit.Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+	
 	private GroupAIncidentReportRulesFactory rulesFactory = GroupAIncidentReportRulesFactory.instance(new ValidatorProperties());
 	
 	@Test
@@ -1149,6 +1155,82 @@ public class GroupAIncidentReportRulesFactoryTest {
 
 	}
 	
+	@Test
+	public void testRule072WithSubmissionHistory() throws IOException {
+		GroupAIncidentReportRulesFactory historyRulesFactory = new GroupAIncidentReportRulesFactory(new ValidatorProperties());
+		Rule<GroupAIncidentReport> rule = historyRulesFactory.getRule072();
+		try (SubmissionHistory history = SubmissionHistory.open(temporaryFolder.newFile().toPath())) {
+			historyRulesFactory.setSubmissionHistory(history);
+			history.startSubmission();
+			GroupAIncidentReport report = buildBaseReport();
+			report.setOri("WA1234567");
+			report.setIncidentNumber("A1");
+			report.setReportActionType('I');
+			OffenseSegment offenseSegment = new OffenseSegment();
+			offenseSegment.setUcrOffenseCode(OffenseCode._220.code);
+			report.addOffense(offenseSegment);
+			PropertySegment stolenSegment = new PropertySegment();
+			stolenSegment.setTypeOfPropertyLoss(TypeOfPropertyLossCode._7.code);
+			stolenSegment.setPropertyDescription(0, PropertyDescriptionCode._17.code);
+			report.addProperty(stolenSegment);
+			history.record(report);
+			
+			// the property stolen is recovered in a later submission
+			history.startSubmission();
+			report.removeProperty(0);
+			PropertySegment recoveredSegment = new PropertySegment();
+			recoveredSegment.setTypeOfPropertyLoss(TypeOfPropertyLossCode._5.code);
+			recoveredSegment.setPropertyDescription(0, PropertyDescriptionCode._17.code);
+			report.addProperty(recoveredSegment);
+			assertNull(rule.apply(report));
+			recoveredSegment.setPropertyDescription(1, PropertyDescriptionCode._19.code);
+			NIBRSError e = rule.apply(report);
+			assertNotNull(e);
+			assertEquals(NIBRSErrorCode._072, e.getNIBRSErrorCode());
+			recoveredSegment.setPropertyDescription(1, null);
+			
+			// not once the incident has been deleted
+			GroupAIncidentReport deletion = buildBaseReport();
+			deletion.setOri("WA1234567");
+			deletion.setIncidentNumber("A1");
+			deletion.setReportActionType('D');
+			history.record(deletion);
+			assertNotNull(rule.apply(report));
+		}
+	}
+	
+	@Test
+	public void testRule056() throws IOException {
+		GroupAIncidentReportRulesFactory historyRulesFactory = new GroupAIncidentReportRulesFactory(new ValidatorProperties());
+		Rule<GroupAIncidentReport> rule = historyRulesFactory.getRule056();
+		GroupAIncidentReport report = buildBaseReport();
+		report.setOri("WA1234567");
+		report.setIncidentNumber("A1");
+		report.setReportActionType('I');
+		assertNull(rule.apply(report));
+		try (SubmissionHistory history = SubmissionHistory.open(temporaryFolder.newFile().toPath())) {
+			historyRulesFactory.setSubmissionHistory(history);
+			history.startSubmission();
+			assertNull(rule.apply(report));
+			history.record(report);
+			// duplicates within a submission are left to the submission structure checks
+			assertNull(rule.apply(report));
+			history.startSubmission();
+			NIBRSError e = rule.apply(report);
+			assertNotNull(e);
+			assertEquals(NIBRSErrorCode._056, e.getNIBRSErrorCode());
+			assertEquals("2", e.getDataElementIdentifier());
+			assertEquals("A1", e.getValue());
+			assertEquals(report, e.getReport());
+			report.setReportActionType('W');
+			assertNull(rule.apply(report));
+			report.setReportActionType('D');
+			history.record(report);
+			report.setReportActionType('I');
+			assertNull(rule.apply(report));
+		}
+	}
+	
 	@Test
 	public void testRule101() {
 		
@@ -15,9 +15,13 @@
  */
 package org.search.nibrs.validation.groupa;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,10 +29,16 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.common.ValidationTarget;
 import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.VictimSegment;
 import org.search.nibrs.model.codes.NIBRSErrorCode;
+import org.search.nibrs.validation.ArresteeSegmentRulesFactory;
 import org.search.nibrs.validation.RuleViolationExemplarFactory;
 import org.search.nibrs.validation.ValidatorProperties;
+import org.search.nibrs.validation.rules.ErrorCountingSink;
+import org.search.nibrs.validation.rules.Rule;
 
 public class GroupAIncidentReportValidatorTest {
 
@@ -716,6 +726,83 @@ public class GroupAIncidentReportValidatorTest {
 		testRule(NIBRSErrorCode._560, 560);
 	}
 
+	@Test
+	public void testErrorSinks() {
+		int errorCount = 0;
+		for (GroupAIncidentReport r : exemplarFactory.getGroupAIncidentsThatViolateRules()) {
+			List<NIBRSError> expected = getBaselineErrors(r);
+			assertEquals(expected.toString(), validator.validate(r).toString());
+			ErrorCountingSink countingSink = new ErrorCountingSink();
+			validator.validate(r, countingSink);
+			assertEquals(expected.size(), countingSink.getTotalCount());
+			for (NIBRSError e : expected) {
+				assertEquals(expected.stream().filter(item -> item.getNIBRSErrorCode() == e.getNIBRSErrorCode()).count(),
+						countingSink.getCount(e.getNIBRSErrorCode()));
+			}
+			errorCount += expected.size();
+		}
+		assertTrue(errorCount > 0);
+	}
+
+	/**
+	 * Get the errors in the incident from applying each rule in turn, through the rule's own {@link Rule#apply(ValidationTarget)} rather than
+	 * through a sink, to each subject, dropping the 070 and 071 errors from victims and arrestees that repeat one already found.
+	 */
+	private List<NIBRSError> getBaselineErrors(GroupAIncidentReport incident) {
+		ValidatorProperties validatorProperties = new ValidatorProperties();
+		incident.invalidateIndex();
+		List<NIBRSError> ret = new ArrayList<>();
+		addBaselineErrors(ret, new GroupAIncidentReportRulesFactory(validatorProperties).getRulesList(), Arrays.asList(incident), false);
+		addBaselineErrors(ret, new OffenseSegmentRulesFactory().getRulesList(), incident.getOffenses(), false);
+		addBaselineErrors(ret, new PropertySegmentRulesFactory().getRulesList(), incident.getProperties(), false);
+		addBaselineErrors(ret, VictimSegmentRulesFactory.instance(validatorProperties).getRulesList(), incident.getVictims(), true);
+		addBaselineErrors(ret, OffenderSegmentRulesFactory.instance(validatorProperties).getRulesList(), incident.getOffenders(), false);
+		addBaselineErrors(ret, ArresteeSegmentRulesFactory.instance(ArresteeSegmentRulesFactory.GROUP_A_ARRESTEE_MODE, validatorProperties)
+				.getRulesList(), incident.getArrestees(), true);
+		return ret;
+	}
+
+	private static <T extends ValidationTarget> void addBaselineErrors(List<NIBRSError> errors, List<Rule<T>> rules, List<? extends T> subjects,
+			boolean deduplicate) {
+		for (Rule<T> rule : rules) {
+			for (T subject : subjects) {
+				NIBRSError e = rule.apply(subject);
+				if (e != null && !(deduplicate && isRepeated(errors, e))) {
+					errors.add(e);
+				}
+			}
+		}
+	}
+
+	private static boolean isRepeated(List<NIBRSError> errors, NIBRSError e) {
+		if (e.getNIBRSErrorCode() == NIBRSErrorCode._070) {
+			return errors.stream().anyMatch(item -> item.getNIBRSErrorCode() == NIBRSErrorCode._070 && Objects.equals(item.getValue(), e.getValue()));
+		}
+		return e.getNIBRSErrorCode() == NIBRSErrorCode._071 && errors.stream().anyMatch(item -> item.getNIBRSErrorCode() == NIBRSErrorCode._071);
+	}
+
+	@Test
+	public void testManyVictimsRelatedToMissingOffenders() {
+		GroupAIncidentReport incident = exemplarFactory.getGroupAIncidentsThatViolateRule(101).get(0);
+		VictimSegment template = incident.getVictims().get(0);
+		incident.removeVictims();
+		for (int i = 0; i < 500; i++) {
+			VictimSegment v = new VictimSegment(template);
+			v.setVictimSequenceNumber(new ParsedObject<>(i + 1));
+			// offenders 50-52 don't exist
+			v.setOffenderNumberRelated(0, new ParsedObject<>(50 + i % 3));
+			incident.addVictim(v);
+		}
+		List<NIBRSError> errorList = validator.validate(incident);
+		List<Object> values = new ArrayList<>();
+		for (NIBRSError e : errorList) {
+			if (e.getNIBRSErrorCode() == NIBRSErrorCode._070) {
+				values.add(e.getValue());
+			}
+		}
+		assertEquals(Arrays.asList(50, 51, 52), values);
+	}
+
 	private void testRule(NIBRSErrorCode ruleCode, int ruleNumber) {
 		List<GroupAIncidentReport> exemplars = exemplarFactory.getGroupAIncidentsThatViolateRule(ruleNumber);
 		for (GroupAIncidentReport r : exemplars) {
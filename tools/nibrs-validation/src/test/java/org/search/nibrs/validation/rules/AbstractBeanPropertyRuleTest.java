@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.model.ArresteeSegment;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.OffenderSegment;
+import org.search.nibrs.model.OffenseSegment;
+import org.search.nibrs.model.PropertySegment;
+import org.search.nibrs.model.VictimSegment;
+import org.search.nibrs.validation.RuleViolationExemplarFactory;
+
+public class AbstractBeanPropertyRuleTest {
+
+	private static class HiddenSubject implements ValidationTarget {
+		private String value = "hidden";
+		public String getValue() {
+			return value;
+		}
+		@Override
+		public NIBRSError getErrorTemplate() {
+			return new NIBRSError();
+		}
+	}
+
+	public static final class VisibleSubject extends HiddenSubject {
+	}
+
+	@Test
+	public void testCompiledAccessors() throws Exception {
+		GroupAIncidentReport incident = RuleViolationExemplarFactory.getInstance().getGroupAIncidentsThatViolateRule(101).get(0);
+		int count = assertSameValues(incident);
+		for (OffenseSegment s : incident.getOffenses()) {
+			count += assertSameValues(s);
+		}
+		for (PropertySegment s : incident.getProperties()) {
+			count += assertSameValues(s);
+		}
+		for (VictimSegment s : incident.getVictims()) {
+			count += assertSameValues(s);
+		}
+		for (OffenderSegment s : incident.getOffenders()) {
+			count += assertSameValues(s);
+		}
+		for (ArresteeSegment s : incident.getArrestees()) {
+			count += assertSameValues(s);
+		}
+		assertTrue(count > 100);
+	}
+
+	@Test
+	public void testPrimitiveProperty() throws Exception {
+		NotBlankRuleTest.TestSubject subject = new NotBlankRuleTest.TestSubject();
+		subject.setV2(7);
+		Function<NotBlankRuleTest.TestSubject, Object> accessor =
+				AbstractBeanPropertyRule.compileAccessor(NotBlankRuleTest.TestSubject.class.getMethod("getV2"));
+		assertEquals(Integer.valueOf(7), accessor.apply(subject));
+	}
+
+	@Test
+	public void testFallbackToReflection() throws Exception {
+		// the getter is declared on a private class, so can only be called reflectively (after being made accessible)
+		Method readMethod = HiddenSubject.class.getDeclaredMethod("getValue");
+		readMethod.setAccessible(true);
+		Function<VisibleSubject, Object> accessor = AbstractBeanPropertyRule.compileAccessor(readMethod);
+		assertEquals("hidden", accessor.apply(new VisibleSubject()));
+		Function<NotBlankRuleTest.TestSubject, Object> compiled =
+				AbstractBeanPropertyRule.compileAccessor(NotBlankRuleTest.TestSubject.class.getMethod("getV3"));
+		assertNotEquals(accessor.getClass(), compiled.getClass());
+		NotBlankRule<VisibleSubject> rule = new NotBlankRule<>("value", "1", VisibleSubject.class, null);
+		assertEquals(null, rule.apply(new VisibleSubject()));
+	}
+
+	private int assertSameValues(ValidationTarget subject) throws Exception {
+		int ret = 0;
+		for (PropertyDescriptor pd : Introspector.getBeanInfo(subject.getClass()).getPropertyDescriptors()) {
+			Method readMethod = pd.getReadMethod();
+			if (readMethod != null && readMethod.getReturnType() != NIBRSError.class) {
+				Function<ValidationTarget, Object> accessor = AbstractBeanPropertyRule.compileAccessor(readMethod);
+				assertEquals(pd.getName(), describe(readMethod.invoke(subject)), describe(accessor.apply(subject)));
+				ret++;
+			}
+		}
+		return ret;
+	}
+
+	private String describe(Object value) {
+		return String.valueOf(value).replaceAll("@[0-9a-f]+", "");
+	}
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.validation.ArresteeSegmentRulesFactory;
+import org.search.nibrs.validation.RuleViolationExemplarFactory;
+import org.search.nibrs.validation.SubmissionValidator;
+import org.search.nibrs.validation.ValidatorProperties;
+import org.search.nibrs.validation.groupa.GroupAIncidentReportRulesFactory;
+import org.search.nibrs.validation.groupa.GroupAIncidentReportValidator;
+import org.search.nibrs.validation.groupa.OffenderSegmentRulesFactory;
+import org.search.nibrs.validation.groupa.OffenseSegmentRulesFactory;
+import org.search.nibrs.validation.groupa.PropertySegmentRulesFactory;
+import org.search.nibrs.validation.groupa.VictimSegmentRulesFactory;
+import org.search.nibrs.validation.submission.SubmissionStatistics;
+
+/**
+ * Timing harness comparing reflective and compiled property access for the bean property rules in the full Group A rule set, and validation
+ * that collects errors with validation that only counts them (statistics mode), for incidents that violate the offense, property and person
+ * rules.  Run with (for example) java -cp target/classes:target/test-classes:... org.search.nibrs.validation.rules.BeanPropertyRuleBenchmark
+ * [iterations].
+ *
+ */
+public class BeanPropertyRuleBenchmark {
+
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int ROUNDS = 5;
+
+	/**
+	 * Offense, property and victim (person) rules whose exemplar incidents are validated in the reporting and statistics runs.
+	 */
+	private static final int[] VIOLATED_RULES = new int[] { 254, 256, 257, 258, 265, 267, 269, 270, 304, 305, 351, 352, 353, 355, 359, 375, 390, 391, 392, 410, 450 };
+
+	/**
+	 * A bean property rule, and a subject (segment or report) of the incident to which it applies.
+	 */
+	private static final class Application {
+		private final AbstractBeanPropertyRule<ValidationTarget> rule;
+		private final ValidationTarget subject;
+		private Application(AbstractBeanPropertyRule<ValidationTarget> rule, ValidationTarget subject) {
+			this.rule = rule;
+			this.subject = subject;
+		}
+	}
+
+	public static void main(String[] args) {
+		int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+		ValidatorProperties validatorProperties = new ValidatorProperties();
+		GroupAIncidentReport incident = RuleViolationExemplarFactory.getInstance().getGroupAIncidentsThatViolateRule(101).get(0);
+		List<Application> applications = new ArrayList<>();
+		addApplications(applications, new GroupAIncidentReportRulesFactory(validatorProperties).getRulesList(), listOf(incident));
+		addApplications(applications, new OffenseSegmentRulesFactory().getRulesList(), incident.getOffenses());
+		addApplications(applications, new PropertySegmentRulesFactory().getRulesList(), incident.getProperties());
+		addApplications(applications, VictimSegmentRulesFactory.instance(validatorProperties).getRulesList(), incident.getVictims());
+		addApplications(applications, OffenderSegmentRulesFactory.instance(validatorProperties).getRulesList(), incident.getOffenders());
+		addApplications(applications, ArresteeSegmentRulesFactory.instance(ArresteeSegmentRulesFactory.GROUP_A_ARRESTEE_MODE, validatorProperties)
+				.getRulesList(), incident.getArrestees());
+		GroupAIncidentReportValidator validator = new GroupAIncidentReportValidator(validatorProperties);
+		System.out.println(applications.size() + " bean property rule applications per incident");
+		report("property values (reflection)", iterations, i -> {
+			int ret = 0;
+			for (Application a : applications) {
+				try {
+					ret += a.rule.property.getReadMethod().invoke(a.subject, new Object[0]) == null ? 0 : 1;
+				} catch (ReflectiveOperationException e) {
+					throw new RuntimeException(e);
+				}
+			}
+			return ret;
+		});
+		report("property values (compiled)", iterations, i -> {
+			int ret = 0;
+			for (Application a : applications) {
+				ret += a.rule.accessor.apply(a.subject) == null ? 0 : 1;
+			}
+			return ret;
+		});
+		report("bean property rules", iterations, i -> {
+			int ret = 0;
+			for (Application a : applications) {
+				ret += a.rule.apply(a.subject) == null ? 0 : 1;
+			}
+			return ret;
+		});
+		report("full Group A validation", iterations, i -> validator.validate(incident).size());
+		List<GroupAIncidentReport> violatingIncidents = new ArrayList<>();
+		for (int rule : VIOLATED_RULES) {
+			violatingIncidents.addAll(RuleViolationExemplarFactory.getInstance().getGroupAIncidentsThatViolateRule(rule));
+		}
+		SubmissionValidator submissionValidator = new SubmissionValidator(validatorProperties);
+		System.out.println(violatingIncidents.size() + " incidents that violate rules");
+		report("reporting errors", iterations, violatingIncidents.size(), i -> {
+			ErrorCollector collector = new ErrorCollector();
+			for (GroupAIncidentReport violatingIncident : violatingIncidents) {
+				validator.validate(violatingIncident, collector);
+			}
+			return collector.getErrorList().size();
+		});
+		report("counting errors", iterations, violatingIncidents.size(), i -> {
+			ErrorCountingSink sink = new ErrorCountingSink();
+			for (GroupAIncidentReport violatingIncident : violatingIncidents) {
+				validator.validate(violatingIncident, sink);
+			}
+			return sink.getTotalCount();
+		});
+		report("full reporting", iterations, violatingIncidents.size(), i -> {
+			int ret = 0;
+			for (GroupAIncidentReport violatingIncident : violatingIncidents) {
+				ret += submissionValidator.validateReport(violatingIncident).size();
+			}
+			return ret;
+		});
+		report("statistics only", iterations, violatingIncidents.size(), i -> {
+			SubmissionStatistics statistics = new SubmissionStatistics();
+			for (GroupAIncidentReport violatingIncident : violatingIncidents) {
+				submissionValidator.collectStatistics(violatingIncident, statistics);
+			}
+			return statistics.getErrorCount();
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void addApplications(List<Application> applications, List<? extends Rule<?>> rules, List<? extends ValidationTarget> subjects) {
+		for (Rule<?> rule : rules) {
+			if (rule instanceof AbstractBeanPropertyRule) {
+				for (ValidationTarget subject : subjects) {
+					applications.add(new Application((AbstractBeanPropertyRule<ValidationTarget>) rule, subject));
+				}
+			}
+		}
+	}
+
+	private static List<ValidationTarget> listOf(ValidationTarget subject) {
+		List<ValidationTarget> ret = new ArrayList<>();
+		ret.add(subject);
+		return ret;
+	}
+
+	private static void report(String name, int iterations, ToIntFunction<Integer> incidentRun) {
+		report(name, iterations, 1, incidentRun);
+	}
+
+	private static void report(String name, int iterations, int incidentsPerRun, ToIntFunction<Integer> incidentRun) {
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			run(iterations, incidentRun);
+		}
+		long best = Long.MAX_VALUE;
+		int result = 0;
+		for (int i = 0; i < ROUNDS; i++) {
+			long start = System.nanoTime();
+			result = run(iterations, incidentRun);
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		System.out.printf("%-32s %10.1f ns/incident (%d)%n", name, (double) best / iterations / incidentsPerRun, result);
+	}
+
+	private static int run(int iterations, ToIntFunction<Integer> incidentRun) {
+		int ret = 0;
+		for (int i = 0; i < iterations; i++) {
+			ret += incidentRun.applyAsInt(i);
+		}
+		return ret;
+	}
+
+}
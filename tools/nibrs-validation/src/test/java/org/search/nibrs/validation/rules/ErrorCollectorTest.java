@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+public class ErrorCollectorTest {
+
+	@Test
+	public void testErrorList() {
+		ErrorCollector collector = new ErrorCollector();
+		collector.accept(error(NIBRSErrorCode._070, 2));
+		collector.accept(error(NIBRSErrorCode._070, 3));
+		collector.accept(new NIBRSError());
+		collector.reportError(NIBRSError::new, NIBRSErrorCode._101, "1", null);
+		assertEquals(4, collector.getErrorList().size());
+		assertEquals(Integer.valueOf(3), collector.getErrorList().get(1).getValue());
+		assertNull(collector.getErrorList().get(2).getNIBRSErrorCode());
+		assertEquals(NIBRSErrorCode._101, collector.getErrorList().get(3).getNIBRSErrorCode());
+		assertEquals("1", collector.getErrorList().get(3).getDataElementIdentifier());
+	}
+
+	@Test
+	public void testIndex() {
+		ErrorCollector collector = new ErrorCollector();
+		assertFalse(collector.contains(NIBRSErrorCode._070));
+		collector.accept(error(NIBRSErrorCode._070, 2));
+		collector.accept(error(NIBRSErrorCode._070, 3));
+		collector.reportError(NIBRSError::new, NIBRSErrorCode._071, "1", null);
+		assertEquals(2, collector.getCount(NIBRSErrorCode._070));
+		assertEquals(1, collector.getCount(NIBRSErrorCode._071));
+		assertEquals(0, collector.getCount(NIBRSErrorCode._101));
+		assertTrue(collector.contains(NIBRSErrorCode._070, 2));
+		assertTrue(collector.contains(NIBRSErrorCode._070, 3));
+		assertFalse(collector.contains(NIBRSErrorCode._070, 4));
+		assertFalse(collector.contains(NIBRSErrorCode._071, 3));
+		assertTrue(collector.contains(NIBRSErrorCode._071, null));
+		assertTrue(collector.contains(NIBRSErrorCode._071));
+		assertFalse(collector.contains(NIBRSErrorCode._101, null));
+	}
+
+	@Test
+	public void testPassOn() {
+		ErrorCountingSink sink = new ErrorCountingSink();
+		ErrorCollector collector = new ErrorCollector(sink);
+		collector.accept(error(NIBRSErrorCode._070, 2));
+		collector.reportError(NIBRSError::new, NIBRSErrorCode._070, "40", 3);
+		assertTrue(collector.getErrorList().isEmpty());
+		assertEquals(2, sink.getCount(NIBRSErrorCode._070));
+		assertEquals(2, collector.getCount(NIBRSErrorCode._070));
+		assertTrue(collector.contains(NIBRSErrorCode._070, 3));
+	}
+
+	private NIBRSError error(NIBRSErrorCode errorCode, Object value) {
+		NIBRSError ret = new NIBRSError();
+		ret.setNIBRSErrorCode(errorCode);
+		ret.setValue(value);
+		return ret;
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+public class ErrorCountingSinkTest {
+
+	public static final class TemplatelessSubject implements ValidationTarget {
+		private String v1;
+		private String v2 = "value";
+		public String getV1() {
+			return v1;
+		}
+		public String getV2() {
+			return v2;
+		}
+		@Override
+		public NIBRSError getErrorTemplate() {
+			throw new IllegalStateException("Error template requested");
+		}
+	}
+
+	@Test
+	public void testReportedViolationsCreateNoErrors() {
+		TemplatelessSubject subject = new TemplatelessSubject();
+		ErrorCountingSink sink = new ErrorCountingSink();
+		new NotBlankRule<>("v1", "1", TemplatelessSubject.class, NIBRSErrorCode._101).apply(subject, sink);
+		new NotBlankRule<>("v2", "2", TemplatelessSubject.class, NIBRSErrorCode._101).apply(subject, sink);
+		new ValidValueListRule<>("v2", "2", TemplatelessSubject.class, NIBRSErrorCode._104, Collections.singleton("other")).apply(subject, sink);
+		assertEquals(1, sink.getCount(NIBRSErrorCode._101));
+		assertEquals(1, sink.getCount(NIBRSErrorCode._104));
+		assertEquals(2, sink.getTotalCount());
+	}
+
+	@Test
+	public void testAcceptedErrors() {
+		ErrorCountingSink sink = new ErrorCountingSink();
+		NIBRSError e = new NIBRSError();
+		e.setNIBRSErrorCode(NIBRSErrorCode._070);
+		sink.accept(e);
+		sink.accept(new NIBRSError());
+		assertEquals(1, sink.getCount(NIBRSErrorCode._070));
+		assertEquals(0, sink.getCount(NIBRSErrorCode._071));
+		assertEquals(2, sink.getTotalCount());
+	}
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ValidationTarget;
+import org.search.nibrs.model.AbstractPersonSegment;
+import org.search.nibrs.model.ArresteeSegment;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.GroupBArrestReport;
+import org.search.nibrs.model.OffenderSegment;
+import org.search.nibrs.model.OffenseSegment;
+import org.search.nibrs.model.PropertySegment;
+import org.search.nibrs.model.VictimSegment;
+import org.search.nibrs.validation.ArresteeSegmentRulesFactory;
+import org.search.nibrs.validation.RuleViolationExemplarFactory;
+import org.search.nibrs.validation.ValidationConstants;
+import org.search.nibrs.validation.ValidatorProperties;
+import org.search.nibrs.validation.groupa.GroupAIncidentReportRulesFactory;
+import org.search.nibrs.validation.groupa.OffenderSegmentRulesFactory;
+import org.search.nibrs.validation.groupa.OffenseSegmentRulesFactory;
+import org.search.nibrs.validation.groupa.PropertySegmentRulesFactory;
+import org.search.nibrs.validation.groupa.VictimSegmentRulesFactory;
+import org.search.nibrs.validation.groupb.GroupBArrestReportRulesFactory;
+
+/**
+ * Tests that rules never report a violation for a subject outside their scope (so that planning never changes the errors reported), and
+ * that a plan applies rules in their original order.
+ *
+ */
+public class RulePlanTest {
+
+	private static final ValidatorProperties VALIDATOR_PROPERTIES = new ValidatorProperties();
+
+	@Test
+	public void testGroupARuleScopes() {
+		RuleViolationExemplarFactory exemplarFactory = RuleViolationExemplarFactory.getInstance();
+		List<Rule<GroupAIncidentReport>> incidentRules = new GroupAIncidentReportRulesFactory(VALIDATOR_PROPERTIES).getRulesList();
+		List<Rule<OffenseSegment>> offenseRules = new OffenseSegmentRulesFactory().getRulesList();
+		List<Rule<PropertySegment>> propertyRules = new PropertySegmentRulesFactory().getRulesList();
+		List<Rule<VictimSegment>> victimRules = new ArrayList<>(VictimSegmentRulesFactory.instance(VALIDATOR_PROPERTIES).getRulesList(ValidationConstants.SPEC__2_1));
+		victimRules.addAll(VictimSegmentRulesFactory.instance(VALIDATOR_PROPERTIES).getRulesList(ValidationConstants.SPEC__3_1));
+		List<Rule<OffenderSegment>> offenderRules = OffenderSegmentRulesFactory.instance(VALIDATOR_PROPERTIES).getRulesList();
+		List<Rule<ArresteeSegment>> arresteeRules = ArresteeSegmentRulesFactory.instance(ArresteeSegmentRulesFactory.GROUP_A_ARRESTEE_MODE, VALIDATOR_PROPERTIES).getRulesList();
+		int outOfScope = 0;
+		for (char reportActionType : new char[] {'I', 'D'}) {
+			for (GroupAIncidentReport incident : exemplarFactory.getGroupAIncidentsThatViolateRules()) {
+				incident.setReportActionType(reportActionType);
+				outOfScope += assertNoViolationsOutOfScope(incidentRules, Arrays.asList(incident), reportActionType);
+				outOfScope += assertNoViolationsOutOfScope(offenseRules, incident.getOffenses(), reportActionType);
+				outOfScope += assertNoViolationsOutOfScope(propertyRules, incident.getProperties(), reportActionType);
+				outOfScope += assertNoViolationsOutOfScope(victimRules, incident.getVictims(), reportActionType);
+				outOfScope += assertNoViolationsOutOfScope(offenderRules, incident.getOffenders(), reportActionType);
+				outOfScope += assertNoViolationsOutOfScope(arresteeRules, incident.getArrestees(), reportActionType);
+			}
+		}
+		assertTrue(outOfScope > 0);
+	}
+
+	@Test
+	public void testGroupBRuleScopes() {
+		RuleViolationExemplarFactory exemplarFactory = RuleViolationExemplarFactory.getInstance();
+		List<Rule<GroupBArrestReport>> arrestRules = new GroupBArrestReportRulesFactory().getRulesList();
+		List<Rule<ArresteeSegment>> arresteeRules = ArresteeSegmentRulesFactory.instance(ArresteeSegmentRulesFactory.GROUP_B_ARRESTEE_MODE, VALIDATOR_PROPERTIES).getRulesList();
+		int outOfScope = 0;
+		for (char reportActionType : new char[] {'A', 'D'}) {
+			for (GroupBArrestReport arrest : exemplarFactory.getGroupBArrestsThatViolateRules()) {
+				arrest.setReportActionType(reportActionType);
+				outOfScope += assertNoViolationsOutOfScope(arrestRules, Arrays.asList(arrest), reportActionType);
+				outOfScope += assertNoViolationsOutOfScope(arresteeRules, arrest.getArrestees(), reportActionType);
+			}
+		}
+		assertTrue(outOfScope > 0);
+	}
+
+	@Test
+	public void testDeleteRulesForGroupB() {
+		RulePlan<ArresteeSegment> plan = new RulePlan<>(ArresteeSegmentRulesFactory.instance(ArresteeSegmentRulesFactory.GROUP_B_ARRESTEE_MODE, VALIDATOR_PROPERTIES).getRulesList());
+		assertTrue(plan.getRules('D').size() * 2 < plan.getRules('A').size());
+		RulePlan<GroupBArrestReport> reportPlan = new RulePlan<>(new GroupBArrestReportRulesFactory().getRulesList());
+		assertTrue(reportPlan.getRules('D').size() * 2 < reportPlan.getRules('A').size());
+	}
+
+	@Test
+	public void testOrder() {
+		List<String> applied = new ArrayList<>();
+		List<Rule<VictimSegment>> rules = new ArrayList<>();
+		rules.add(new RecordingRule("all", RuleScope.ALL, applied));
+		rules.add(new RecordingRule("person", RuleScope.PERSON, applied));
+		rules.add(new RecordingRule("nonDeletePerson", RuleScope.NON_DELETE_PERSON, applied));
+		rules.add(new RecordingRule("nonPerson", RuleScope.NON_PERSON, applied));
+		rules.add(new RecordingRule("nonDelete", RuleScope.NON_DELETE, applied));
+		RulePlan<VictimSegment> plan = new RulePlan<>(rules);
+		List<VictimSegment> victims = Arrays.asList(victim("I"), victim("B"), victim("L"));
+		ErrorCollector collector = new ErrorCollector();
+
+		plan.apply(victims, 'I', collector);
+		assertEquals(Arrays.asList("all I", "all B", "all L", "person I", "person L", "nonDeletePerson I", "nonDeletePerson L", "nonPerson B",
+				"nonDelete I", "nonDelete B", "nonDelete L"), applied);
+
+		applied.clear();
+		plan.apply(victims, 'D', collector);
+		assertEquals(Arrays.asList("all I", "all B", "all L", "person I", "person L", "nonPerson B"), applied);
+
+		applied.clear();
+		plan.apply(victim("B"), 'I', collector);
+		assertEquals(Arrays.asList("all B", "nonPerson B", "nonDelete B"), applied);
+		assertEquals(0, collector.getErrorList().size());
+	}
+
+	@Test
+	public void testScopeCombination() {
+		assertEquals(RuleScope.NON_DELETE_PERSON, RuleScope.NON_DELETE.and(RuleScope.PERSON));
+		assertEquals(RuleScope.NON_DELETE_NON_PERSON, RuleScope.NON_PERSON.and(RuleScope.NON_DELETE));
+		assertEquals(RuleScope.PERSON, RuleScope.ALL.and(RuleScope.PERSON));
+		assertEquals(RuleScope.NON_DELETE, RuleScope.NON_DELETE.and(RuleScope.NON_DELETE));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEmptyScope() {
+		RuleScope.PERSON.and(RuleScope.NON_PERSON);
+	}
+
+	/**
+	 * @return the number of rule applications that were out of scope
+	 */
+	private static <T extends ValidationTarget> int assertNoViolationsOutOfScope(List<Rule<T>> rules, List<T> subjects, char reportActionType) {
+		int ret = 0;
+		for (Rule<T> rule : rules) {
+			RuleScope scope = rule.getScope();
+			for (T subject : subjects) {
+				boolean person = !(subject instanceof AbstractPersonSegment) || ((AbstractPersonSegment) subject).isPerson();
+				if (!(scope.appliesTo(reportActionType) && scope.appliesTo(person))) {
+					NIBRSError e = rule.apply(subject);
+					assertNull(scope + " " + reportActionType + " " + e, e);
+					ret++;
+				}
+			}
+		}
+		return ret;
+	}
+
+	private static VictimSegment victim(String typeOfVictim) {
+		VictimSegment ret = new VictimSegment();
+		ret.setTypeOfVictim(typeOfVictim);
+		return ret;
+	}
+
+	private static final class RecordingRule implements Rule<VictimSegment> {
+
+		private final String name;
+		private final RuleScope scope;
+		private final List<String> applied;
+
+		RecordingRule(String name, RuleScope scope, List<String> applied) {
+			this.name = name;
+			this.scope = scope;
+			this.applied = applied;
+		}
+
+		@Override
+		public NIBRSError apply(VictimSegment subject) {
+			applied.add(name + " " + subject.getTypeOfVictim());
+			return null;
+		}
+
+		@Override
+		public RuleScope getScope() {
+			return scope;
+		}
+
+	}
+
+}
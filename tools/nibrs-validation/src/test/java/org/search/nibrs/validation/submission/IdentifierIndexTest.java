@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.submission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class IdentifierIndexTest {
+
+	@Test
+	public void testPacking() {
+		assertEquals(-1, IdentifierIndex.pack(null));
+		assertEquals(-1, IdentifierIndex.pack(""));
+		assertEquals(-1, IdentifierIndex.pack("1234567890123"));
+		assertEquals(-1, IdentifierIndex.pack("12345a"));
+		assertNotEquals(IdentifierIndex.pack("1"), IdentifierIndex.pack("10"));
+		assertNotEquals(IdentifierIndex.pack("1"), IdentifierIndex.pack("01"));
+		assertNotEquals(IdentifierIndex.pack("1"), IdentifierIndex.pack("1 "));
+		assertNotEquals(-1, IdentifierIndex.pack("            "));
+		assertNotEquals(-1, IdentifierIndex.pack("------------"));
+	}
+
+	@Test
+	public void testAgainstMap() {
+		IdentifierIndex index = new IdentifierIndex();
+		Map<String, Integer> expected = new HashMap<>();
+		Random random = new Random(1);
+		String[] oris = new String[] {"WA1234567", "WA7654321", "SC0000000", null};
+		String characters = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ- a";
+		for (int i = 0; i < 200000; i++) {
+			String ori = oris[random.nextInt(oris.length)];
+			StringBuilder number = new StringBuilder();
+			int length = 1 + random.nextInt(random.nextInt(50) == 0 ? 14 : 4);
+			for (int j = 0; j < length; j++) {
+				number.append(characters.charAt(random.nextInt(characters.length() - (random.nextInt(100) == 0 ? 0 : 1))));
+			}
+			String key = ori + "/" + number;
+			if (random.nextBoolean()) {
+				int flags = random.nextInt(IdentifierIndex.MAXIMUM_FLAGS + 1);
+				Integer previous = expected.put(key, flags);
+				assertEquals(key, previous == null ? 0 : previous.intValue(), index.setFlags(ori, number.toString(), flags));
+			} else {
+				assertEquals(key, expected.getOrDefault(key, 0).intValue(), index.getFlags(ori, number.toString()));
+			}
+		}
+		assertEquals(expected.size(), index.size());
+		for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+			String[] parts = entry.getKey().split("/", 2);
+			assertEquals(entry.getValue().intValue(), index.getFlags("null".equals(parts[0]) ? null : parts[0], parts[1]));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFlagsOutOfRange() {
+		new IdentifierIndex().setFlags("WA1234567", "1", IdentifierIndex.MAXIMUM_FLAGS + 1);
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.submission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.PropertySegment;
+import org.search.nibrs.model.codes.PropertyDescriptionCode;
+import org.search.nibrs.model.codes.TypeOfPropertyLossCode;
+import org.search.nibrs.validation.submission.SubmissionHistory.IncidentRecord;
+
+public class SubmissionHistoryTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private Path file;
+
+	@Before
+	public void init() throws IOException {
+		file = temporaryFolder.getRoot().toPath().resolve("history.dat");
+	}
+
+	@Test
+	public void testRecordAndGet() throws IOException {
+		try (SubmissionHistory history = SubmissionHistory.open(file)) {
+			history.startSubmission();
+			assertNull(history.getIncident("WA1234567", "A1"));
+			history.record(createIncident("WA1234567", "A1", 'I', PropertyDescriptionCode._03.code, PropertyDescriptionCode._38.code));
+			history.record(createIncident("WA1234567", "A2", 'W'));
+			history.record(createIncident("WA1234567", "A3", 'D'));
+			history.record(createIncident("WA1234567", "a lowercase number", 'I'));
+			assertEquals(1, history.size());
+			IncidentRecord incidentRecord = history.getIncident("WA1234567", "A1");
+			assertNotNull(incidentRecord);
+			assertEquals('I', incidentRecord.getReportActionType());
+			assertTrue(incidentRecord.isOnFile());
+			assertTrue(incidentRecord.isFromCurrentSubmission());
+			assertEquals(2, incidentRecord.getMonthOfTape());
+			assertEquals(2003, incidentRecord.getYearOfTape());
+			assertTrue(incidentRecord.wasReportedStolen(PropertyDescriptionCode._03.code));
+			assertTrue(incidentRecord.wasReportedStolen(PropertyDescriptionCode._38.code));
+			assertFalse(incidentRecord.wasReportedStolen(PropertyDescriptionCode._13.code));
+			assertFalse(incidentRecord.wasReportedStolen(null));
+			history.record(createIncident("WA1234567", "A1", 'I', PropertyDescriptionCode._13.code));
+			assertTrue(history.getIncident("WA1234567", "A1").wasReportedStolen(PropertyDescriptionCode._03.code));
+			assertFalse(history.getIncident("WA1234567", "A1").wasReportedStolen(PropertyDescriptionCode._13.code));
+			assertNull(history.getIncident("WA7654321", "A1"));
+			assertNull(history.getIncident("WA1234567", "A2"));
+			assertNull(history.getIncident("WA1234567", "A3"));
+			history.startSubmission();
+			assertFalse(history.getIncident("WA1234567", "A1").isFromCurrentSubmission());
+			history.record(createIncident("WA1234567", "A1", 'D'));
+			incidentRecord = history.getIncident("WA1234567", "A1");
+			assertEquals('D', incidentRecord.getReportActionType());
+			assertFalse(incidentRecord.isOnFile());
+			assertTrue(incidentRecord.isFromCurrentSubmission());
+			assertFalse(incidentRecord.wasReportedStolen(PropertyDescriptionCode._03.code));
+			history.record(createIncident("WA1234567", "A1", 'I', PropertyDescriptionCode._13.code));
+			assertTrue(history.getIncident("WA1234567", "A1").isOnFile());
+			assertTrue(history.getIncident("WA1234567", "A1").wasReportedStolen(PropertyDescriptionCode._13.code));
+		}
+	}
+
+	@Test
+	public void testPersistenceAndGrowth() throws IOException {
+		int count = 10000;
+		try (SubmissionHistory history = SubmissionHistory.open(file)) {
+			history.startSubmission();
+			for (int i = 0; i < count; i++) {
+				history.record(createIncident("WA" + (1000000 + i % 7), "N" + i, 'I', PropertyDescriptionCode._01.code));
+			}
+			assertEquals(count, history.size());
+		}
+		try (SubmissionHistory history = SubmissionHistory.open(file)) {
+			assertEquals(count, history.size());
+			for (int i = 0; i < count; i++) {
+				IncidentRecord incidentRecord = history.getIncident("WA" + (1000000 + i % 7), "N" + i);
+				assertNotNull(incidentRecord);
+				assertTrue(incidentRecord.isFromCurrentSubmission());
+				assertTrue(incidentRecord.wasReportedStolen(PropertyDescriptionCode._01.code));
+			}
+			assertNull(history.getIncident("WA1000001", "N0"));
+			history.startSubmission();
+			assertFalse(history.getIncident("WA1000000", "N0").isFromCurrentSubmission());
+		}
+		assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")));
+	}
+
+	@Test
+	public void testCompact() throws IOException {
+		try (SubmissionHistory history = SubmissionHistory.open(file)) {
+			history.startSubmission();
+			for (int i = 0; i < 5000; i++) {
+				history.record(createIncident("WA1234567", "N" + i, 'I'));
+			}
+			for (int i = 0; i < 5000; i += 2) {
+				history.record(createIncident("WA1234567", "N" + i, 'D'));
+			}
+			assertEquals(5000, history.size());
+			long length = Files.size(file);
+			history.compact();
+			assertEquals(2500, history.size());
+			assertTrue(Files.size(file) < length);
+			assertNull(history.getIncident("WA1234567", "N0"));
+			assertTrue(history.getIncident("WA1234567", "N1").isOnFile());
+			assertTrue(history.getIncident("WA1234567", "N1").isFromCurrentSubmission());
+			history.record(createIncident("WA1234567", "N0", 'I'));
+			assertEquals(2501, history.size());
+		}
+		try (SubmissionHistory history = SubmissionHistory.open(file)) {
+			assertEquals(2501, history.size());
+			assertTrue(history.getIncident("WA1234567", "N4999").isOnFile());
+		}
+	}
+
+	@Test
+	public void testSingleOpen() throws IOException {
+		try (SubmissionHistory history = SubmissionHistory.open(file)) {
+			try {
+				SubmissionHistory.open(file).close();
+				fail("A history should only be open once");
+			} catch (IOException e) {
+				// expected
+			}
+			history.startSubmission();
+		}
+		SubmissionHistory.open(file).close();
+	}
+
+	@Test(expected = IOException.class)
+	public void testNotAHistory() throws IOException {
+		Files.write(file, new byte[100]);
+		SubmissionHistory.open(file).close();
+	}
+
+	static GroupAIncidentReport createIncident(String ori, String incidentNumber, char reportActionType, String... stolenPropertyDescriptions) {
+		GroupAIncidentReport ret = new GroupAIncidentReport();
+		ret.setOri(ori);
+		ret.setIncidentNumber(incidentNumber);
+		ret.setReportActionType(reportActionType);
+		ret.setMonthOfTape(2);
+		ret.setYearOfTape(2003);
+		if (stolenPropertyDescriptions.length > 0) {
+			PropertySegment stolenSegment = new PropertySegment();
+			stolenSegment.setTypeOfPropertyLoss(TypeOfPropertyLossCode._7.code);
+			for (int i = 0; i < stolenPropertyDescriptions.length; i++) {
+				stolenSegment.setPropertyDescription(i, stolenPropertyDescriptions[i]);
+			}
+			ret.addProperty(stolenSegment);
+		}
+		return ret;
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.submission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.GroupBArrestReport;
+import org.search.nibrs.model.OffenseSegment;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+public class SubmissionStatisticsTest {
+
+	private SubmissionStatistics statistics;
+
+	@Before
+	public void init() {
+		statistics = new SubmissionStatistics();
+		GroupAIncidentReport incident = new GroupAIncidentReport();
+		incident.setOri("WA1234567");
+		incident.setReportActionType('I');
+		OffenseSegment offense = new OffenseSegment();
+		incident.addOffense(offense);
+		statistics.addReport(incident);
+		statistics.reportError(incident, NIBRSErrorCode._170, "3", "X");
+		statistics.reportError(offense, NIBRSErrorCode._201, "6", null);
+		statistics.reportError(offense, NIBRSErrorCode._201, "7", null);
+		GroupBArrestReport arrest = new GroupBArrestReport();
+		arrest.setOri("WA7654321");
+		arrest.setReportActionType('D');
+		statistics.addReport(arrest);
+		NIBRSError e = arrest.getErrorTemplate();
+		e.setNIBRSErrorCode(NIBRSErrorCode._701);
+		statistics.accept(e);
+	}
+
+	@Test
+	public void testCounts() {
+		assertEquals(2, statistics.getReportCount());
+		assertEquals(1, statistics.getReportCount(GroupAIncidentReport.ADMIN_SEGMENT_TYPE_IDENTIFIER, 'I'));
+		assertEquals(1, statistics.getReportCount('7', 'D'));
+		assertEquals(0, statistics.getReportCount('7', 'I'));
+		assertEquals(4, statistics.getErrorCount());
+		assertEquals(2, statistics.getErrorCount(NIBRSErrorCode._201));
+		assertEquals(0, statistics.getErrorCount(NIBRSErrorCode._202));
+		assertEquals(3, statistics.getErrorCountForOri("WA1234567"));
+		assertEquals(1, statistics.getErrorCountForOri("WA7654321"));
+		assertEquals(0, statistics.getErrorCountForOri(null));
+		assertEquals(1, statistics.getErrorCountForSegmentType('1'));
+		assertEquals(2, statistics.getErrorCountForSegmentType(OffenseSegment.OFFENSE_SEGMENT_TYPE_IDENTIFIER));
+		assertEquals(1, statistics.getErrorCountForSegmentType('7'));
+		assertEquals(1, statistics.getErrorCountForDataElement(null));
+		assertEquals(Arrays.asList("3", "6", "7", "none"), statistics.getTopDataElements());
+	}
+
+	@Test
+	public void testSummaries() throws IOException {
+		StringWriter writer = new StringWriter();
+		statistics.writeSummary(writer);
+		String summary = writer.toString();
+		assertTrue(summary.startsWith("Reports: 2"));
+		assertTrue(summary.contains("  level 1, action I: 1"));
+		assertTrue(summary.contains("Errors: 4"));
+		assertTrue(summary.contains("  201: 2"));
+		assertTrue(summary.contains("  WA1234567: 3"));
+		writer = new StringWriter();
+		statistics.writeJson(writer);
+		String json = writer.toString().replaceAll("\\s", "");
+		assertTrue(json.startsWith("{\"reportCount\":2,\"reports\":[{\"level\":\"1\",\"actionType\":\"I\",\"count\":1}"));
+		assertTrue(json.contains("\"errorCount\":4"));
+		assertTrue(json.contains("\"errorsByCode\":{\"170\":1,\"201\":2,\"701\":1}"));
+		assertTrue(json.contains("\"errorsByOri\":{\"WA1234567\":3,\"WA7654321\":1}"));
+		assertTrue(json.endsWith("}"));
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.validation.submission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.ArresteeSegment;
+import org.search.nibrs.model.GroupAIncidentReport;
+import org.search.nibrs.model.GroupBArrestReport;
+import org.search.nibrs.model.ZeroReport;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+public class SubmissionStructureValidatorTest {
+
+	private List<NIBRSError> errorList;
+	private SubmissionStructureValidator validator;
+
+	@Before
+	public void init() {
+		errorList = new ArrayList<>();
+		validator = new SubmissionStructureValidator(errorList::add);
+	}
+
+	@Test
+	public void testDuplicateIncident() {
+		validator.validate(createIncident("WA1234567", "A1", 'I'));
+		validator.validate(createIncident("WA7654321", "A1", 'I'));
+		validator.validate(createIncident("WA1234567", "A2", 'I'));
+		assertTrue(errorList.isEmpty());
+		GroupAIncidentReport duplicate = createIncident("WA1234567", "A1", 'I');
+		validator.validate(duplicate);
+		assertEquals(1, errorList.size());
+		NIBRSError e = errorList.get(0);
+		assertEquals(NIBRSErrorCode._056, e.getNIBRSErrorCode());
+		assertTrue(e.getReport() == duplicate);
+		assertEquals("A1", e.getValue());
+		assertEquals("2", e.getDataElementIdentifier());
+		// once deleted, the incident can be added again
+		validator.validate(createIncident("WA1234567", "A1", 'D'));
+		validator.validate(createIncident("WA1234567", "A1", 'I'));
+		assertEquals(1, errorList.size());
+		assertEquals(3, validator.getIdentifierCount());
+	}
+
+	@Test
+	public void testMonthAndState() {
+		validator.validate(createIncident("WA1234567", "A1", 'I'));
+		AbstractReport zeroReport = new ZeroReport();
+		zeroReport.setOri("WA1234567");
+		zeroReport.setMonthOfTape(2);
+		zeroReport.setYearOfTape(2003);
+		validator.validate(zeroReport);
+		assertTrue(errorList.isEmpty());
+		GroupAIncidentReport otherMonth = createIncident("WA1234567", "A2", 'I');
+		otherMonth.setMonthOfTape(3);
+		validator.validate(otherMonth);
+		GroupAIncidentReport otherState = createIncident("SC1234567", "A3", 'I');
+		validator.validate(otherState);
+		assertEquals(2, errorList.size());
+		assertEquals(NIBRSErrorCode._058, errorList.get(0).getNIBRSErrorCode());
+		assertTrue(errorList.get(0).getReport() == otherMonth);
+		assertEquals(NIBRSErrorCode._059, errorList.get(1).getNIBRSErrorCode());
+		assertEquals("SC1234567", errorList.get(1).getValue());
+	}
+
+	@Test
+	public void testGroupAAndGroupBIdentifiers() {
+		// an incident without arrestees doesn't conflict with an arrest
+		validator.validate(createIncident("WA1234567", "A1", 'I'));
+		validator.validate(createArrest("WA1234567", "A1", 'A'));
+		assertTrue(errorList.isEmpty());
+		GroupAIncidentReport incident = createIncident("WA1234567", "A2", 'I');
+		incident.addArrestee(new ArresteeSegment(ArresteeSegment.GROUP_A_ARRESTEE_SEGMENT_TYPE_IDENTIFIER));
+		validator.validate(incident);
+		validator.validate(createArrest("WA7654321", "A2", 'A'));
+		assertTrue(errorList.isEmpty());
+		GroupBArrestReport arrest = createArrest("WA1234567", "A2", 'A');
+		validator.validate(arrest);
+		assertEquals(1, errorList.size());
+		assertEquals(NIBRSErrorCode._088, errorList.get(0).getNIBRSErrorCode());
+		assertTrue(errorList.get(0).getReport() == arrest);
+		assertEquals("41", errorList.get(0).getDataElementIdentifier());
+		// and the other way around
+		validator.validate(createArrest("WA1234567", "A3", 'A'));
+		incident = createIncident("WA1234567", "A3", 'I');
+		incident.addArrestee(new ArresteeSegment(ArresteeSegment.GROUP_A_ARRESTEE_SEGMENT_TYPE_IDENTIFIER));
+		validator.validate(incident);
+		assertEquals(2, errorList.size());
+		assertEquals(NIBRSErrorCode._088, errorList.get(1).getNIBRSErrorCode());
+		assertTrue(errorList.get(1).getReport() == incident);
+	}
+
+	private static GroupAIncidentReport createIncident(String ori, String incidentNumber, char reportActionType) {
+		GroupAIncidentReport ret = new GroupAIncidentReport();
+		ret.setOri(ori);
+		ret.setIncidentNumber(incidentNumber);
+		ret.setReportActionType(reportActionType);
+		ret.setMonthOfTape(2);
+		ret.setYearOfTape(2003);
+		return ret;
+	}
+
+	private static GroupBArrestReport createArrest(String ori, String arrestTransactionNumber, char reportActionType) {
+		GroupBArrestReport ret = new GroupBArrestReport();
+		ret.setOri(ori);
+		ret.setReportActionType(reportActionType);
+		ret.setMonthOfTape(2);
+		ret.setYearOfTape(2003);
+		ArresteeSegment arrestee = new ArresteeSegment(ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER);
+		arrestee.setArrestTransactionNumber(arrestTransactionNumber);
+		ret.addArrestee(arrestee);
+		return ret;
+	}
+
+}
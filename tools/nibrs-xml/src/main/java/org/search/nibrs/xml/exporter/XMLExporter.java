@@ -37,7 +37,7 @@ import org.apache.commons.collections4.bidimap.DualHashBidiMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.search.nibrs.common.NIBRSError;
-import org.search.nibrs.common.ParsedObject;
+import org.search.nibrs.common.ParsedDate;
 import org.search.nibrs.model.ArresteeSegment;
 import org.search.nibrs.model.GroupAIncidentReport;
 import org.search.nibrs.model.GroupBArrestReport;
@@ -249,7 +249,7 @@ public class XMLExporter {
 	private void addSubjectVictimAssociationElements(GroupAIncidentReport incident, Element reportElement) {
 		for (VictimSegment victim : incident.getVictims()) {
 			for (int position=0; position < 10; position++) {
-				Integer offenderSequenceNumber = victim.getOffenderNumberRelated(position).getValue();
+				Integer offenderSequenceNumber = victim.getParsedOffenderNumberRelated(position).getValue();
 				String relString = victim.getVictimOffenderRelationship(position);
 				if (offenderSequenceNumber != null) {
 					Element associationElement = XmlUtils.appendChildElement(reportElement, Namespace.J, "SubjectVictimAssociation");
@@ -312,7 +312,7 @@ public class XMLExporter {
 			Element e = XmlUtils.appendChildElement(arrestElement, Namespace.NC, "ActivityIdentification");
 			appendElementAndValueIfNotNull(e, Namespace.NC, "IdentificationID", arrestee.getArrestTransactionNumber());
 			e = XmlUtils.appendChildElement(arrestElement, Namespace.NC, "ActivityDate");
-			ParsedObject<LocalDate> arrestDate = arrestee.getArrestDate();
+			ParsedDate arrestDate = arrestee.getParsedArrestDate();
 			if (!arrestDate.isInvalid() && !arrestDate.isMissing()) {
 				XmlUtils.appendChildElement(e, Namespace.NC, "Date").setTextContent(DATE_FORMAT.format(arrestDate.getValue()));
 			}
@@ -520,15 +520,15 @@ public class XMLExporter {
 						Element itemValueElement = XmlUtils.appendChildElement(itemElement, Namespace.NC, "ItemValue");
 						e = XmlUtils.appendChildElement(itemValueElement, Namespace.NC, "ItemValueAmount");
 						XmlUtils.appendChildElement(e, Namespace.NC, "Amount").setTextContent(value);
-						LocalDate dateRecovered = property.getDateRecovered(i).getValue();
+						LocalDate dateRecovered = property.getParsedDateRecovered(i).getValue();
 						if (dateRecovered != null) {
 							e = XmlUtils.appendChildElement(itemValueElement, Namespace.NC, "ItemValueDate");
 							XmlUtils.appendChildElement(e, Namespace.NC, "Date").setTextContent(DATE_FORMAT.format(dateRecovered));
 						}
 					}
 					appendElementAndValueIfNotNull(itemElement, Namespace.J, "ItemCategoryNIBRSPropertyCategoryCode", description);
-					Integer rmv = property.getNumberOfRecoveredMotorVehicles().getValue();
-					Integer smv = property.getNumberOfStolenMotorVehicles().getValue();
+					Integer rmv = property.getParsedNumberOfRecoveredMotorVehicles().getValue();
+					Integer smv = property.getParsedNumberOfStolenMotorVehicles().getValue();
 					if (rmv != null || smv != null) {
 						XmlUtils.appendChildElement(itemElement, Namespace.NC, "ItemQuantity").setTextContent(String.valueOf(rmv != null ? rmv : smv));
 					}
@@ -607,7 +607,7 @@ public class XMLExporter {
 			e = XmlUtils.appendChildElement(incidentElement, Namespace.NC, "ActivityIdentification");
 			XmlUtils.appendChildElement(e, Namespace.NC, "IdentificationID").setTextContent(incidentNumber);
 		}
-		ParsedObject<LocalDate> incidentDatePO = incident.getIncidentDate();
+		ParsedDate incidentDatePO = incident.getParsedIncidentDate();
 		if (!incidentDatePO.isInvalid() && !incidentDatePO.isMissing()) {
 			e = XmlUtils.appendChildElement(incidentElement, Namespace.NC, "ActivityDate");
 			e = XmlUtils.appendChildElement(e, Namespace.NC, "DateTime");
@@ -618,7 +618,7 @@ public class XMLExporter {
 		appendElementAndValueIfNotNull(augElement, Namespace.J, "OffenseCargoTheftIndicator", String.valueOf(incident.getCargoTheftIndicator()));
 		augElement = XmlUtils.appendChildElement(incidentElement, Namespace.J, "IncidentAugmentation");
 		appendElementAndValueIfNotNull(augElement, Namespace.J, "IncidentExceptionalClearanceCode", incident.getExceptionalClearanceCode());
-		ParsedObject<LocalDate> exceptionalClearanceDate = incident.getExceptionalClearanceDate();
+		ParsedDate exceptionalClearanceDate = incident.getParsedExceptionalClearanceDate();
 		if (!exceptionalClearanceDate.isInvalid() && !exceptionalClearanceDate.isMissing()) {
 			e = XmlUtils.appendChildElement(augElement, Namespace.J, "IncidentExceptionalClearanceDate");
 			e = XmlUtils.appendChildElement(e, Namespace.NC, "Date");
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xmlfile.importer;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ReportSource;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+import org.w3c.dom.Element;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Validates nibrs:Report elements against the schema of the NIBRS IEPD (version 4.2), which is read from the nibrs-resources jar.  The schema is
+ * compiled once per JVM, the first time it is needed, and the compiled form is shared by all builders; each thread validates with its own Validator.
+ * Schema documents are only ever loaded from the jar (or a file system directory, when running from an IDE), never from the network.
+ *
+ */
+public final class IepdSchemaValidator {
+
+	private static final Log log = LogFactory.getLog(IepdSchemaValidator.class);
+
+	public static final String SCHEMA_RESOURCE = "/NIBRS_IEPD_4_2_RC2_FINAL_20171214/base-xsd/nibrs/4.2/nibrs.xsd";
+
+	private static final ThreadLocal<Validator> VALIDATOR = ThreadLocal.withInitial(IepdSchemaValidator::newValidator);
+
+	private IepdSchemaValidator() {
+	}
+
+	private static final class SchemaHolder {
+		// initialized (thread-safely) on first use of the holder class
+		private static final Schema SCHEMA = compileSchema();
+	}
+
+	/**
+	 * @return the compiled IEPD schema
+	 */
+	public static Schema getSchema() {
+		return SchemaHolder.SCHEMA;
+	}
+
+	/**
+	 * Validate a report element against the schema.
+	 * @param reportElement the nibrs:Report element
+	 * @param report the report built from the element (to which the errors refer), or null
+	 * @param reportSource the source of the report
+	 * @return an error (code 001) for each schema violation, or an empty list if the report is valid
+	 */
+	public static List<NIBRSError> validate(Element reportElement, AbstractReport report, ReportSource reportSource) {
+		CollectingErrorHandler errorHandler = new CollectingErrorHandler();
+		Validator validator = VALIDATOR.get();
+		validator.setErrorHandler(errorHandler);
+		try {
+			validator.validate(new DOMSource(reportElement));
+		} catch (SAXException e) {
+			// the handler has already recorded the fatal error
+		} catch (Exception e) {
+			log.error(e);
+			errorHandler.messages.add(e.getMessage());
+		} finally {
+			validator.setErrorHandler(null);
+		}
+		List<NIBRSError> ret = new ArrayList<>(errorHandler.messages.size());
+		for (String message : errorHandler.messages) {
+			NIBRSError e = new NIBRSError();
+			e.setContext(reportSource);
+			e.setReport(report);
+			e.setReportUniqueIdentifier(report == null ? null : report.getIdentifier());
+			e.setNIBRSErrorCode(NIBRSErrorCode._001);
+			e.setDataElementIdentifier("XSD");
+			e.setValue(message);
+			ret.add(e);
+		}
+		return ret;
+	}
+
+	private static Schema compileSchema() {
+		long start = System.currentTimeMillis();
+		URL schemaUrl = IepdSchemaValidator.class.getResource(SCHEMA_RESOURCE);
+		if (schemaUrl == null) {
+			throw new IllegalStateException("IEPD schema " + SCHEMA_RESOURCE + " not found on the classpath");
+		}
+		SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+		try {
+			// imports are resolved relative to the schema's own location, within the jar
+			schemaFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "jar,file");
+			schemaFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+			Schema ret = schemaFactory.newSchema(schemaUrl);
+			log.info("Compiled IEPD schema in " + (System.currentTimeMillis() - start) + " ms");
+			return ret;
+		} catch (SAXException e) {
+			throw new IllegalStateException("Unable to compile IEPD schema " + schemaUrl, e);
+		}
+	}
+
+	private static Validator newValidator() {
+		Validator ret = getSchema().newValidator();
+		try {
+			// ignore any xsi:schemaLocation hints in submissions
+			ret.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+			ret.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+		} catch (SAXException e) {
+			log.warn(e);
+		}
+		return ret;
+	}
+
+	private static final class CollectingErrorHandler implements ErrorHandler {
+
+		private final List<String> messages = new ArrayList<>();
+
+		@Override
+		public void warning(SAXParseException exception) {
+			// warnings are not violations
+		}
+
+		@Override
+		public void error(SAXParseException exception) {
+			messages.add(exception.getMessage());
+		}
+
+		@Override
+		public void fatalError(SAXParseException exception) throws SAXException {
+			messages.add(exception.getMessage());
+			throw exception;
+		}
+
+	}
+
+}
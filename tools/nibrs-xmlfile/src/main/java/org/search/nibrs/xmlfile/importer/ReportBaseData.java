@@ -24,7 +24,6 @@ import org.apache.commons.logging.LogFactory;
 import org.search.nibrs.common.NIBRSError;
 import org.search.nibrs.common.ReportSource;
 import org.search.nibrs.model.codes.NIBRSErrorCode;
-import org.search.nibrs.xml.XmlUtils;
 import org.w3c.dom.Element;
 
 /**
@@ -43,6 +42,7 @@ public class ReportBaseData
     private String nibrsReportCategoryCode ; 
 
     private Element reportElement;
+    private ReportElementIndex reportIndex;
     private ReportSource reportSource;
     
     public char getSegmentLevel() {
@@ -53,28 +53,29 @@ public class ReportBaseData
     {
     	List<NIBRSError> ret = new ArrayList<NIBRSError>();
         this.setReportElement(reportElement);
+        this.reportIndex = new ReportElementIndex(reportElement);
         this.reportSource = reportSource;
         NIBRSError e = null;
         
 		try {
-			String ori = XmlUtils.xPathStringSearch(reportElement, "nibrs:ReportHeader/nibrs:ReportingAgency/j:OrganizationAugmentation/j:OrganizationORIIdentification/nc:IdentificationID");
-			String reportActionType = XmlUtils.xPathStringSearch(reportElement, "nibrs:ReportHeader/nibrs:ReportActionCategoryCode");
+			String ori = ReportElementIndex.getString(reportElement, "nibrs:ReportHeader/nibrs:ReportingAgency/j:OrganizationAugmentation/j:OrganizationORIIdentification/nc:IdentificationID");
+			String reportActionType = ReportElementIndex.getString(reportElement, "nibrs:ReportHeader/nibrs:ReportActionCategoryCode");
 			
-			this.nibrsReportCategoryCode = XmlUtils.xPathStringSearch(reportElement, "nibrs:ReportHeader/nibrs:NIBRSReportCategoryCode");
+			this.nibrsReportCategoryCode = ReportElementIndex.getString(reportElement, "nibrs:ReportHeader/nibrs:NIBRSReportCategoryCode");
 			String incidentNumber = null;
 			
 			switch (this.nibrsReportCategoryCode){
 			case "GROUP A INCIDENT REPORT":
 				this.segmentLevel= '1'; 
-				incidentNumber = XmlUtils.xPathStringSearch(reportElement, "nc:Incident/nc:ActivityIdentification/nc:IdentificationID");
+				incidentNumber = ReportElementIndex.getString(reportElement, "nc:Incident/nc:ActivityIdentification/nc:IdentificationID");
 				break; 
 			case "GROUP B ARREST REPORT": 
 				this.segmentLevel = '7'; 
-				incidentNumber = XmlUtils.xPathStringSearch(reportElement, "j:Arrest/nc:ActivityIdentification/nc:IdentificationID");
+				incidentNumber = ReportElementIndex.getString(reportElement, "j:Arrest/nc:ActivityIdentification/nc:IdentificationID");
 				break; 
 			case "ZERO REPORT": 
 				this.segmentLevel = '0'; 
-				incidentNumber = XmlUtils.xPathStringSearch(reportElement, "nc:Incident/nc:ActivityIdentification/nc:IdentificationID");
+				incidentNumber = ReportElementIndex.getString(reportElement, "nc:Incident/nc:ActivityIdentification/nc:IdentificationID");
 				break;
 			}
 			
@@ -127,6 +128,14 @@ public class ReportBaseData
 		return reportElement;
 	}
 
+	ReportElementIndex getReportIndex() {
+		return reportIndex;
+	}
+
+	public String getNibrsReportCategoryCode() {
+		return nibrsReportCategoryCode;
+	}
+
 	public void setReportElement(Element reportElement) {
 		this.reportElement = reportElement;
 	}
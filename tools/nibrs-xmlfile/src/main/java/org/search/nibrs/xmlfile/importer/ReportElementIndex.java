@@ -0,0 +1,391 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xmlfile.importer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import javax.xml.namespace.QName;
+
+import org.apache.commons.lang3.StringUtils;
+import org.search.nibrs.model.codes.CodeStrings;
+import org.search.nibrs.xml.NibrsNamespaceContext;
+import org.search.nibrs.xml.NibrsNamespaceContext.Namespace;
+import org.search.nibrs.xml.XmlUtils;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * An index of the children of a single nibrs:Report element, built with one pass over the report, that replaces the XPath searches the
+ * builder used to make to find elements by s:id and to follow the *Association elements (each of which was a scan of the whole report,
+ * making the build quadratic in the size of the report).
+ * <br/>
+ * The static search methods navigate simple relative paths (child steps such as "nc:ItemValue/nc:ItemValueAmount/nc:Amount", optionally
+ * ending in an attribute step such as "nc:RoleOfPerson/@s:ref", and unions of such paths) directly through the DOM, with the same results as
+ * the corresponding {@link XmlUtils} method.  Any other path is handed to XmlUtils.
+ *
+ */
+final class ReportElementIndex {
+
+	private static final Pattern STEP_PATTERN = Pattern.compile("@?[A-Za-z_][\\w.\\-]*:[A-Za-z_][\\w.\\-]*");
+	private static final NibrsNamespaceContext NAMESPACE_CONTEXT = new NibrsNamespaceContext();
+	private static final Map<String, Path[]> PATHS = new ConcurrentHashMap<>();
+	private static final Path[] UNSUPPORTED = new Path[0];
+
+	private static final String ID_ATTRIBUTE = "id";
+	private static final String REF_ATTRIBUTE = "ref";
+
+	private final Element reportElement;
+	private final Map<QName, List<Element>> childrenByName = new HashMap<>();
+	private final Map<String, List<Element>> childrenById = new HashMap<>();
+	private final Map<Reference, List<Element>> referencingChildren = new HashMap<>();
+	private final Map<Element, Integer> positions = new IdentityHashMap<>();
+
+	ReportElementIndex(Element reportElement) {
+		this.reportElement = reportElement;
+		int position = 0;
+		for (Node child = reportElement.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child.getNodeType() != Node.ELEMENT_NODE) {
+				continue;
+			}
+			Element element = (Element) child;
+			positions.put(element, position++);
+			QName name = nameOf(element);
+			childrenByName.computeIfAbsent(name, k -> new ArrayList<>()).add(element);
+			Attr id = element.getAttributeNodeNS(Namespace.S.uri, ID_ATTRIBUTE);
+			if (id != null) {
+				childrenById.computeIfAbsent(id.getValue(), k -> new ArrayList<>()).add(element);
+			}
+			for (Node role = element.getFirstChild(); role != null; role = role.getNextSibling()) {
+				if (role.getNodeType() != Node.ELEMENT_NODE) {
+					continue;
+				}
+				Attr ref = ((Element) role).getAttributeNodeNS(Namespace.S.uri, REF_ATTRIBUTE);
+				if (ref != null) {
+					List<Element> referencing = referencingChildren.computeIfAbsent(new Reference(name, nameOf(role), ref.getValue()), k -> new ArrayList<>());
+					// an element with several matching roles is only listed once, as in an XPath node-set
+					if (referencing.isEmpty() || referencing.get(referencing.size() - 1) != element) {
+						referencing.add(element);
+					}
+				}
+			}
+		}
+	}
+
+	Element getReportElement() {
+		return reportElement;
+	}
+
+	/**
+	 * Get the children of the report element with the specified name, in document order.  Equivalent to the XPath "name".
+	 */
+	List<Element> getChildren(String name) {
+		List<Element> ret = childrenByName.get(qName(name));
+		return ret == null ? Collections.emptyList() : ret;
+	}
+
+	/**
+	 * Get the first child of the report element with the specified name and s:id.  Equivalent to the XPath "name[@s:id='id']".
+	 * @return the child, or null if there is none
+	 */
+	Element getChildById(String name, String id) {
+		List<Element> candidates = childrenById.get(id);
+		if (candidates != null) {
+			QName qName = qName(name);
+			for (Element candidate : candidates) {
+				if (qName.equals(nameOf(candidate))) {
+					return candidate;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the children of the report element with the specified name that have a child with the specified role name that refers to ref, in
+	 * document order.  Equivalent to the XPath "name[role/@s:ref='ref']".
+	 */
+	List<Element> getReferencingChildren(String name, String role, String ref) {
+		List<Element> ret = referencingChildren.get(new Reference(qName(name), qName(role), ref));
+		return ret == null ? Collections.emptyList() : ret;
+	}
+
+	/**
+	 * Get the children of the report element with the specified name that are related to the element with s:id fromRef by an association:  that
+	 * is, whose s:id is referred to by the toRole child of an association element that also has a fromRole child that refers to fromRef.  The
+	 * children are returned in document order.  Equivalent to the XPath
+	 * "name[@s:id = ../association[fromRole/@s:ref='fromRef']/toRole/@s:ref]".
+	 */
+	List<Element> getAssociatedChildren(String name, String association, String fromRole, String fromRef, String toRole) {
+		List<Element> associations = getReferencingChildren(association, fromRole, fromRef);
+		if (associations.isEmpty()) {
+			return Collections.emptyList();
+		}
+		QName qName = qName(name);
+		QName toRoleName = qName(toRole);
+		Set<Element> found = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<Element> ret = new ArrayList<>();
+		Set<String> seenRefs = new HashSet<>();
+		for (Element associationElement : associations) {
+			for (Node role = associationElement.getFirstChild(); role != null; role = role.getNextSibling()) {
+				if (role.getNodeType() != Node.ELEMENT_NODE || !toRoleName.equals(nameOf(role))) {
+					continue;
+				}
+				Attr ref = ((Element) role).getAttributeNodeNS(Namespace.S.uri, REF_ATTRIBUTE);
+				if (ref == null || !seenRefs.add(ref.getValue())) {
+					continue;
+				}
+				List<Element> candidates = childrenById.get(ref.getValue());
+				if (candidates == null) {
+					continue;
+				}
+				for (Element candidate : candidates) {
+					if (qName.equals(nameOf(candidate)) && found.add(candidate)) {
+						ret.add(candidate);
+					}
+				}
+			}
+		}
+		if (ret.size() > 1) {
+			ret.sort((e1, e2) -> Integer.compare(positions.get(e1), positions.get(e2)));
+		}
+		return ret;
+	}
+
+	/**
+	 * @return the first of the elements, or null if there are none
+	 */
+	static Element first(List<Element> elements) {
+		return elements.isEmpty() ? null : elements.get(0);
+	}
+
+	/**
+	 * Search the context node for the string value of the first node that matches the specified path.  Equivalent to
+	 * {@link XmlUtils#xPathStringSearch(Node, String)}.
+	 * @return the trimmed value, or null if there is no match or the value is blank
+	 */
+	static String getString(Node context, String path) {
+		if (context == null) {
+			// XPath cannot evaluate a relative path without a context node, so XmlUtils returns null
+			return null;
+		}
+		Path[] alternatives = parse(path);
+		if (alternatives == UNSUPPORTED) {
+			return XmlUtils.xPathStringSearch(context, path);
+		}
+		Node first = null;
+		for (Path alternative : alternatives) {
+			Node match = alternative.first(context);
+			if (match != null && (first == null || (first.compareDocumentPosition(match) & Node.DOCUMENT_POSITION_PRECEDING) != 0)) {
+				first = match;
+			}
+		}
+		return first == null ? null : CodeStrings.canonical(StringUtils.trimToNull(first.getTextContent()));
+	}
+
+	/**
+	 * Search the context node for the first element that matches the specified path.  Equivalent to {@link XmlUtils#xPathNodeSearch(Node, String)}.
+	 * @return the element, or null if there is no match
+	 */
+	static Node getNode(Node context, String path) {
+		if (context == null) {
+			return null;
+		}
+		Path[] alternatives = parse(path);
+		if (alternatives.length != 1 || alternatives[0].attribute != null) {
+			return XmlUtils.xPathNodeSearch(context, path);
+		}
+		return alternatives[0].first(context);
+	}
+
+	/**
+	 * Search the context node for the elements that match the specified path, in document order.  Equivalent to
+	 * {@link XmlUtils#xPathNodeListSearch(Node, String)}.
+	 */
+	static NodeList getNodeList(Node context, String path) {
+		if (context == null) {
+			return null;
+		}
+		Path[] alternatives = parse(path);
+		if (alternatives.length != 1 || alternatives[0].attribute != null) {
+			return XmlUtils.xPathNodeListSearch(context, path);
+		}
+		List<Element> ret = new ArrayList<>();
+		alternatives[0].collect(context, 0, ret);
+		return new ElementList(ret);
+	}
+
+	private static Path[] parse(String path) {
+		return path == null ? UNSUPPORTED : PATHS.computeIfAbsent(path, ReportElementIndex::doParse);
+	}
+
+	private static Path[] doParse(String path) {
+		String[] alternatives = StringUtils.splitPreserveAllTokens(path, '|');
+		Path[] ret = new Path[alternatives.length];
+		for (int i = 0; i < alternatives.length; i++) {
+			String[] steps = StringUtils.splitPreserveAllTokens(alternatives[i].trim(), '/');
+			List<QName> elementSteps = new ArrayList<>();
+			QName attribute = null;
+			for (int j = 0; j < steps.length; j++) {
+				String step = steps[j];
+				if (!STEP_PATTERN.matcher(step).matches() || (step.startsWith("@") && j != steps.length - 1)) {
+					return UNSUPPORTED;
+				}
+				QName name = qName(step.startsWith("@") ? step.substring(1) : step);
+				if (name == null) {
+					return UNSUPPORTED;
+				}
+				if (step.startsWith("@")) {
+					attribute = name;
+				} else {
+					elementSteps.add(name);
+				}
+			}
+			ret[i] = new Path(elementSteps.toArray(new QName[elementSteps.size()]), attribute);
+		}
+		return ret;
+	}
+
+	private static QName qName(String prefixedName) {
+		int colon = prefixedName.indexOf(':');
+		String uri = NAMESPACE_CONTEXT.getNamespaceURI(prefixedName.substring(0, colon));
+		return uri == null ? null : new QName(uri, prefixedName.substring(colon + 1));
+	}
+
+	private static QName nameOf(Node node) {
+		String localName = node.getLocalName() == null ? node.getNodeName() : node.getLocalName();
+		return new QName(node.getNamespaceURI() == null ? "" : node.getNamespaceURI(), localName);
+	}
+
+	private static boolean hasName(Node node, QName name) {
+		return name.getLocalPart().equals(node.getLocalName()) && name.getNamespaceURI().equals(node.getNamespaceURI());
+	}
+
+	/**
+	 * A path of child steps, with an optional final attribute step.
+	 */
+	private static final class Path {
+
+		private final QName[] steps;
+		private final QName attribute;
+
+		Path(QName[] steps, QName attribute) {
+			this.steps = steps;
+			this.attribute = attribute;
+		}
+
+		/**
+		 * @return the first matching node in document order, or null
+		 */
+		Node first(Node context) {
+			return first(context, 0);
+		}
+
+		private Node first(Node node, int step) {
+			if (step == steps.length) {
+				if (attribute == null) {
+					return node;
+				}
+				return node instanceof Element ? ((Element) node).getAttributeNodeNS(attribute.getNamespaceURI(), attribute.getLocalPart()) : null;
+			}
+			for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+				if (child.getNodeType() == Node.ELEMENT_NODE && hasName(child, steps[step])) {
+					Node ret = first(child, step + 1);
+					if (ret != null) {
+						return ret;
+					}
+				}
+			}
+			return null;
+		}
+
+		void collect(Node node, int step, List<Element> ret) {
+			for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+				if (child.getNodeType() == Node.ELEMENT_NODE && hasName(child, steps[step])) {
+					if (step == steps.length - 1) {
+						ret.add((Element) child);
+					} else {
+						collect(child, step + 1, ret);
+					}
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * The key for an element with a child (in a role) that refers to another element.
+	 */
+	private static final class Reference {
+
+		private final QName name;
+		private final QName role;
+		private final String ref;
+
+		Reference(QName name, QName role, String ref) {
+			this.name = name;
+			this.role = role;
+			this.ref = ref;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(name, role, ref);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Reference)) {
+				return false;
+			}
+			Reference other = (Reference) obj;
+			return name.equals(other.name) && role.equals(other.role) && Objects.equals(ref, other.ref);
+		}
+
+	}
+
+	private static final class ElementList implements NodeList {
+
+		private final List<Element> elements;
+
+		ElementList(List<Element> elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		public Node item(int index) {
+			return index < 0 || index >= elements.size() ? null : elements.get(index);
+		}
+
+		@Override
+		public int getLength() {
+			return elements.size();
+		}
+
+	}
+
+}
@@ -15,6 +15,7 @@
  */
 package org.search.nibrs.xmlfile.importer;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
@@ -23,23 +24,37 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
 
+import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ParsedDate;
+import org.search.nibrs.common.ParsedInt;
 import org.search.nibrs.common.ParsedObject;
 import org.search.nibrs.common.ReportSource;
 import org.search.nibrs.importer.AbstractIncidentBuilder;
@@ -61,6 +76,7 @@ import org.search.nibrs.model.codes.NIBRSErrorCode;
 import org.search.nibrs.model.codes.PropertyDescriptionCode;
 import org.search.nibrs.model.codes.RelationshipOfVictimToOffenderCode;
 import org.search.nibrs.model.codes.TypeOfPropertyLossCode;
+import org.search.nibrs.xml.NibrsNamespaceContext.Namespace;
 import org.search.nibrs.xml.XmlUtils;
 import org.springframework.stereotype.Component;
 import org.w3c.dom.Document;
@@ -85,6 +101,11 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 	private static final Log log = LogFactory.getLog(XmlIncidentBuilder.class);;
 	
 	private DocumentBuilder documentBuilder; 
+	private XMLInputFactory xmlInputFactory;
+	private boolean streaming;
+	private ForkJoinPool forkJoinPool;
+	private boolean orderedDelivery = true;
+	private boolean schemaValidation;
 	private List<String> automaticWeaponCodes = Arrays.asList("11A", "12A", "13A", "14A", "15A");
 
 	public XmlIncidentBuilder() throws ParserConfigurationException {
@@ -103,6 +124,62 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 
 		documentBuilder = documentBuilderFactory.newDocumentBuilder();
 		documentBuilder.setEntityResolver(new NullResolver());
+
+		xmlInputFactory = XMLInputFactory.newInstance();
+		xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+		xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		xmlInputFactory.setXMLResolver((publicID, systemID, baseURI, namespace) -> new ByteArrayInputStream(new byte[0]));
+	}
+
+	/**
+	 * Whether submissions are read one report at a time (with StAX), rather than parsed into a single DOM document.  When streaming, only the
+	 * report being built is held in memory, so the heap needed does not depend on the size of the submission.  The reports and errors are the same
+	 * either way, except that reports ahead of the point at which a malformed submission fails to parse are still built when streaming.
+	 */
+	public boolean isStreaming() {
+		return streaming;
+	}
+
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	public ForkJoinPool getForkJoinPool() {
+		return forkJoinPool;
+	}
+
+	/**
+	 * Set the pool on which reports are built.  The submission is still read on the thread that calls buildIncidents, which hands each report
+	 * element (in its own DOM document) to the pool, and listeners are also called on that thread.  When the pool is null (the default), reports are
+	 * built on the calling thread.
+	 * @param forkJoinPool the pool, which remains owned by the caller
+	 */
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	public boolean isOrderedDelivery() {
+		return orderedDelivery;
+	}
+
+	/**
+	 * Set whether, when building in parallel, reports are delivered to listeners in the order they appear in the submission (the default), or in
+	 * the order in which they finish building.
+	 */
+	public void setOrderedDelivery(boolean orderedDelivery) {
+		this.orderedDelivery = orderedDelivery;
+	}
+
+	public boolean isSchemaValidation() {
+		return schemaValidation;
+	}
+
+	/**
+	 * Set whether each report is validated against the IEPD schema (see {@link IepdSchemaValidator}) as it is built.  Violations are passed to
+	 * listeners in the report's error list.  The default is false.
+	 */
+	public void setSchemaValidation(boolean schemaValidation) {
+		this.schemaValidation = schemaValidation;
 	}
 
 	public void addIncidentListener(ReportListener listener) {
@@ -120,33 +197,25 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 	 */
 	public void buildIncidents(InputStream inputStream, String readerLocationName) {
 
-		AbstractReport currentReport = null;
-		
 		log.info("Processing NIBRS XML file");
 		
-		List<NIBRSError> errorList = new ArrayList<NIBRSError>();
-		
-		Document document;
+		ReportDispatcher dispatcher = new ReportDispatcher(readerLocationName);
 		
 		try {
-			document = documentBuilder.parse(inputStream);
-			NodeList reportElements = (NodeList) XmlUtils.xPathNodeListSearch(document, "nibrs:Submission/nibrs:Report");
-			
-			for(int i=0; i < reportElements.getLength(); i++){
-				ReportSource reportSource = new ReportSource();
-				reportSource.setSourceLocation(String.valueOf(i+1));
-				reportSource.setSourceName(readerLocationName);
-				
-				Element reportNode = (Element)reportElements.item(i);
+			if (streaming) {
+				buildIncidentsStreaming(inputStream, dispatcher);
+			} else {
+				Document document = documentBuilder.parse(inputStream);
+				NodeList reportElements = (NodeList) XmlUtils.xPathNodeListSearch(document, "nibrs:Submission/nibrs:Report");
 				
-				ReportBaseData reportBaseData = new ReportBaseData();
-				List<NIBRSError> reportBaseDataErrors = reportBaseData.setData(reportSource, reportNode);
-				errorList.addAll(reportBaseDataErrors);
-
-				if (reportBaseDataErrors.isEmpty()){
-					currentReport = buildReport(errorList, reportNode, readerLocationName, reportBaseData);
-					errorList = new ArrayList<NIBRSError>();
-					handleNewReport(currentReport, errorList);
+				for(int i=0; i < reportElements.getLength(); i++){
+					Element reportElement = (Element) reportElements.item(i);
+					if (forkJoinPool != null) {
+						// DOM implementations are not safe for concurrent reads (even of distinct subtrees), so each worker gets its own copy
+						Document reportDocument = documentBuilder.newDocument();
+						reportElement = (Element) reportDocument.appendChild(reportDocument.importNode(reportElement, true));
+					}
+					dispatcher.dispatch(reportElement, i);
 				}
 			}
 
@@ -155,6 +224,14 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			log.error(e.getMessage());
 		}
 		
+		try {
+			// reports handed to the pool ahead of a failure are still delivered, as they would have been when building serially
+			dispatcher.finish();
+		} catch (Exception e) {
+			e.printStackTrace();
+			log.error(e.getMessage());
+		}
+		
 		
 		log.info("finished processing file");
 		log.info("Encountered " + getLogListener().errorCount + " error(s).");
@@ -162,11 +239,184 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 
 	}
 
+	/**
+	 * Build the report at the specified (0-based) index within the submission.  This is called on the pool's threads when building in parallel,
+	 * and so must not touch any state of the builder other than its (read-only) configuration.
+	 * @return the report (which is null if the report header could not be read), and the errors to pass to listeners with it
+	 */
+	private BuiltReport buildReport(Element reportNode, int index, String readerLocationName) throws Exception {
+		ReportSource reportSource = new ReportSource();
+		reportSource.setSourceLocation(String.valueOf(index+1));
+		reportSource.setSourceName(readerLocationName);
+		
+		ReportBaseData reportBaseData = new ReportBaseData();
+		List<NIBRSError> errorList = reportBaseData.setData(reportSource, reportNode);
+
+		BuiltReport ret = new BuiltReport();
+		if (errorList.isEmpty()){
+			ret.report = buildReport(errorList, reportNode, readerLocationName, reportBaseData);
+			if (schemaValidation) {
+				ret.errorList.addAll(IepdSchemaValidator.validate(reportNode, ret.report, reportBaseData.getReportSource()));
+				if (!ret.errorList.isEmpty()) {
+					ret.report.setHasUpstreamErrors(true);
+				}
+			}
+		}
+		return ret;
+	}
+
+	static final class BuiltReport {
+		private AbstractReport report;
+		private final List<NIBRSError> errorList = new ArrayList<>();
+	}
+
+	/**
+	 * Builds each report handed to it, either immediately on the calling thread or (when there is a pool) on the pool, and delivers the results to
+	 * listeners on the calling thread, in submission order or as they complete.  At most twice the pool's parallelism reports are in flight at once,
+	 * which (when streaming) bounds the number of report documents held in memory.
+	 */
+	final class ReportDispatcher {
+
+		private final String readerLocationName;
+		private final boolean ordered = orderedDelivery;
+		private final Deque<Integer> submitted = new ArrayDeque<>();
+		private final Map<Integer, ForkJoinTask<BuiltReport>> tasks = new HashMap<>();
+		private final BlockingQueue<Integer> completed = new LinkedBlockingQueue<>();
+
+		ReportDispatcher(String readerLocationName) {
+			this.readerLocationName = readerLocationName;
+		}
+
+		void dispatch(Element reportNode, int index) throws Exception {
+			if (forkJoinPool == null) {
+				BuiltReport builtReport = buildReport(reportNode, index, readerLocationName);
+				handleNewReport(builtReport.report, builtReport.errorList);
+				return;
+			}
+			while (tasks.size() >= forkJoinPool.getParallelism() * 2) {
+				deliverNext();
+			}
+			tasks.put(index, forkJoinPool.submit(() -> {
+				try {
+					return buildReport(reportNode, index, readerLocationName);
+				} finally {
+					if (!ordered) {
+						completed.add(index);
+					}
+				}
+			}));
+			if (ordered) {
+				submitted.add(index);
+			}
+		}
+
+		void finish() throws InterruptedException {
+			while (!tasks.isEmpty()) {
+				deliverNext();
+			}
+		}
+
+		private void deliverNext() throws InterruptedException {
+			Integer next = ordered ? submitted.poll() : completed.take();
+			BuiltReport builtReport = tasks.remove(next).join();
+			handleNewReport(builtReport.report, builtReport.errorList);
+		}
+
+	}
+
+	/**
+	 * Read the submission with StAX, copying each nibrs:Report child of the nibrs:Submission element into its own (small) DOM document and
+	 * building it as soon as it has been read.
+	 */
+	private void buildIncidentsStreaming(InputStream inputStream, ReportDispatcher dispatcher) throws Exception {
+		XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+		try {
+			int depth = 0;
+			boolean inSubmission = false;
+			int index = 0;
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					depth++;
+					if (depth == 1) {
+						inSubmission = isNibrsElement(reader, "Submission");
+					} else if (depth == 2 && inSubmission && isNibrsElement(reader, "Report")) {
+						Element reportNode = copyElement(reader, documentBuilder.newDocument());
+						depth--;
+						dispatcher.dispatch(reportNode, index++);
+					}
+				} else if (event == XMLStreamConstants.END_ELEMENT) {
+					depth--;
+				}
+			}
+		} finally {
+			reader.close();
+		}
+	}
+
+	private static boolean isNibrsElement(XMLStreamReader reader, String localName) {
+		return Namespace.NIBRS.uri.equals(reader.getNamespaceURI()) && localName.equals(reader.getLocalName());
+	}
+
+	/**
+	 * Copy the element at which the reader is positioned (and its content) into the document, as its document element.  On return, the reader is
+	 * positioned at the element's end tag.
+	 */
+	private static Element copyElement(XMLStreamReader reader, Document document) throws XMLStreamException {
+		Element ret = createElement(reader, document);
+		document.appendChild(ret);
+		Node current = ret;
+		int depth = 1;
+		while (depth > 0) {
+			switch (reader.next()) {
+			case XMLStreamConstants.START_ELEMENT:
+				Element child = createElement(reader, document);
+				current.appendChild(child);
+				current = child;
+				depth++;
+				break;
+			case XMLStreamConstants.END_ELEMENT:
+				current = current.getParentNode();
+				depth--;
+				break;
+			case XMLStreamConstants.CHARACTERS:
+			case XMLStreamConstants.CDATA:
+			case XMLStreamConstants.SPACE:
+				current.appendChild(document.createTextNode(reader.getText()));
+				break;
+			case XMLStreamConstants.COMMENT:
+				current.appendChild(document.createComment(reader.getText()));
+				break;
+			default:
+				break;
+			}
+		}
+		return ret;
+	}
+
+	private static Element createElement(XMLStreamReader reader, Document document) {
+		Element ret = document.createElementNS(StringUtils.trimToNull(reader.getNamespaceURI()), qualifiedName(reader.getPrefix(), reader.getLocalName()));
+		for (int i = 0; i < reader.getNamespaceCount(); i++) {
+			String prefix = reader.getNamespacePrefix(i);
+			ret.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, StringUtils.isEmpty(prefix) ? XMLConstants.XMLNS_ATTRIBUTE : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix,
+					reader.getNamespaceURI(i));
+		}
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			ret.setAttributeNS(StringUtils.trimToNull(reader.getAttributeNamespace(i)), qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+					reader.getAttributeValue(i));
+		}
+		return ret;
+	}
+
+	private static String qualifiedName(String prefix, String localName) {
+		return StringUtils.isEmpty(prefix) ? localName : prefix + ":" + localName;
+	}
+
 	AbstractReport buildReport(List<NIBRSError> errorList, Element reportElement, String readerLocationName, ReportBaseData reportBaseData) throws Exception {
 		int errorListSize = errorList.size();
 		AbstractReport ret = null;
 		
-		String nibrsReportCategoryCode = XmlUtils.xPathStringSearch(reportElement, "nibrs:ReportHeader/nibrs:NIBRSReportCategoryCode"); 
+		String nibrsReportCategoryCode = reportBaseData.getNibrsReportCategoryCode(); 
 		
 		switch (nibrsReportCategoryCode){
 		case "GROUP A INCIDENT REPORT":
@@ -213,7 +463,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 		
 		try {
 			
-			submissionDateString = XmlUtils.xPathStringSearch(reportBaseData.getReportElement(), "nibrs:ReportHeader/nibrs:ReportDate/nc:YearMonthDate");
+			submissionDateString = ReportElementIndex.getString(reportBaseData.getReportElement(), "nibrs:ReportHeader/nibrs:ReportDate/nc:YearMonthDate");
 			if (StringUtils.isNotBlank(submissionDateString) && submissionDateString.length() == 7){
 				YearMonth submissionDate = YearMonth.parse(submissionDateString);
 				ret.setYearOfTape(submissionDate.getYear());
@@ -246,7 +496,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 		ret.setOri(reportBaseData.getOri());
 		ret.setReportActionType(reportBaseData.getActionType());
 		
-		String cityIndicator = XmlUtils.xPathStringSearch(reportElement, 
+		String cityIndicator = ReportElementIndex.getString(reportElement, 
 				"nibrs:ReportHeader/nibrs:ReportingAgency/cjis:OrganizationAugmentation/cjis:DirectReportingCityIdentification/nc:IdentificationID");
 		ret.setCityIndicator(cityIndicator);
 
@@ -261,19 +511,20 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 	private void buildGroupBArresteeSegments(ReportBaseData reportBaseData, List<NIBRSError> newErrorList, GroupBArrestReport ret,
 			Element reportElement) {
 		
-		NodeList arresteeElements = (NodeList) XmlUtils.xPathNodeListSearch(reportElement, "j:Arrestee");
+		ReportElementIndex reportIndex = reportBaseData.getReportIndex();
+		NodeList arresteeElements = (NodeList) ReportElementIndex.getNodeList(reportElement, "j:Arrestee");
 		for(int i=0; i < arresteeElements.getLength() ; i++){
 			Element arresteeElement = (Element) arresteeElements.item(i);
 			ArresteeSegment newArrestee = new ArresteeSegment(ArresteeSegment.GROUP_B_ARRESTEE_SEGMENT_TYPE_IDENTIFIER);
 			
 			ReportSource reportSource = new ReportSource(reportBaseData.getReportSource());;
-			String arresteeId = XmlUtils.xPathStringSearch(arresteeElement, "@s:id");
+			String arresteeId = ReportElementIndex.getString(arresteeElement, "@s:id");
 			reportSource.setSourceLocation(arresteeId);
 			
-			ParsedObject<Integer> sequenceNumber = newArrestee.getArresteeSequenceNumber();
+			ParsedInt sequenceNumber = newArrestee.getParsedArresteeSequenceNumber();
 			sequenceNumber.setMissing(false);
 			sequenceNumber.setInvalid(false);
-			String sequenceNumberString = XmlUtils.xPathStringSearch(arresteeElement, "j:ArrestSequenceID");
+			String sequenceNumberString = ReportElementIndex.getString(arresteeElement, "j:ArrestSequenceID");
 			if (sequenceNumberString == null) {
 				sequenceNumber.setMissing(true);
 				sequenceNumber.setValue(null);
@@ -281,17 +532,16 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				getIntegerValue(newErrorList, sequenceNumber, sequenceNumberString, NIBRSErrorCode._701, "40", reportBaseData );
 			}
 			
-			newArrestee.setArresteeSequenceNumber(sequenceNumber);
-			
-			Node arrestNode = XmlUtils.xPathNodeSearch(reportElement, "j:Arrest[@s:id = ../j:ArrestSubjectAssociation[j:Subject/@s:ref='"+ arresteeId +  "']/nc:Activity/@s:ref]");
+			Node arrestNode = ReportElementIndex.first(
+					reportIndex.getAssociatedChildren("j:Arrest", "j:ArrestSubjectAssociation", "j:Subject", arresteeId, "nc:Activity"));
 			
 			if (arrestNode != null){
-				newArrestee.setArrestTransactionNumber(XmlUtils.xPathStringSearch(arrestNode, "nc:ActivityIdentification/nc:IdentificationID"));
+				newArrestee.setArrestTransactionNumber(ReportElementIndex.getString(arrestNode, "nc:ActivityIdentification/nc:IdentificationID"));
 				
-				ParsedObject<LocalDate> arrestDate = newArrestee.getArrestDate();
+				ParsedDate arrestDate = newArrestee.getParsedArrestDate();
 				arrestDate.setMissing(false);
 				arrestDate.setInvalid(false);
-				String arrestDateString = XmlUtils.xPathStringSearch(arrestNode, "nc:ActivityDate/nc:Date");
+				String arrestDateString = ReportElementIndex.getString(arrestNode, "nc:ActivityDate/nc:Date");
 				if (arrestDateString == null) {
 					arrestDate.setMissing(true);
 					arrestDate.setValue(null);
@@ -301,7 +551,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 						arrestDate.setValue(d);
 					} catch (Exception pe) {
 						NIBRSError e = new NIBRSError();
-						reportSource.setSourceLocation((String)XmlUtils.xPathStringSearch(reportElement, "j:Arrest/@s:id"));
+						reportSource.setSourceLocation((String)ReportElementIndex.getString(reportElement, "j:Arrest/@s:id"));
 						e.setContext(reportBaseData.getReportSource());
 						e.setReportUniqueIdentifier(reportBaseData.getIncidentNumber());
 						e.setSegmentType(reportBaseData.getSegmentType());
@@ -313,14 +563,13 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 						arrestDate.setValidationError(e);
 					}
 				}
-				newArrestee.setArrestDate(arrestDate);
-				newArrestee.setUcrArrestOffenseCode(XmlUtils.xPathStringSearch(arrestNode, "j:ArrestCharge/nibrs:ChargeUCRCode"));
-				newArrestee.setTypeOfArrest(XmlUtils.xPathStringSearch(arrestNode, "j:ArrestCategoryCode"));
+				newArrestee.setUcrArrestOffenseCode(ReportElementIndex.getString(arrestNode, "j:ArrestCharge/nibrs:ChargeUCRCode"));
+				newArrestee.setTypeOfArrest(ReportElementIndex.getString(arrestNode, "j:ArrestCategoryCode"));
 			}
 			
-			newArrestee.setMultipleArresteeSegmentsIndicator(XmlUtils.xPathStringSearch(arresteeElement, "j:ArrestSubjectCountCode"));
+			newArrestee.setMultipleArresteeSegmentsIndicator(ReportElementIndex.getString(arresteeElement, "j:ArrestSubjectCountCode"));
 			
-			NodeList arresteeArmedWithElements = (NodeList) XmlUtils.xPathNodeListSearch(arresteeElement, "j:ArresteeArmedWithCode");
+			NodeList arresteeArmedWithElements = (NodeList) ReportElementIndex.getNodeList(arresteeElement, "j:ArresteeArmedWithCode");
 			
 			for(int j=0; j < arresteeArmedWithElements.getLength() && j < 2; j++){
 				Element arresteeArmedWithElement = (Element)arresteeArmedWithElements.item(j);
@@ -328,16 +577,16 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				setArmedWithAndAutomaticIndicator(newArrestee, j, arresteeArmedWithCode);
 			}
 			
-			String personRef = XmlUtils.xPathStringSearch(arresteeElement, "nc:RoleOfPerson/@s:ref");
-			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id ='" + personRef + "']");
+			String personRef = ReportElementIndex.getString(arresteeElement, "nc:RoleOfPerson/@s:ref");
+			Node personNode = reportIndex.getChildById("nc:Person", personRef);
 			
 			newArrestee.setAge(parseAgeNode(personNode, newArrestee));
-			newArrestee.setSex(XmlUtils.xPathStringSearch(personNode, "j:PersonSexCode"));
-			newArrestee.setRace(XmlUtils.xPathStringSearch(personNode, "j:PersonRaceNDExCode"));
-			newArrestee.setEthnicity(XmlUtils.xPathStringSearch(personNode, "j:PersonEthnicityCode"));
-			newArrestee.setResidentStatus(XmlUtils.xPathStringSearch(personNode, "j:PersonResidentCode"));
+			newArrestee.setSex(ReportElementIndex.getString(personNode, "j:PersonSexCode"));
+			newArrestee.setRace(ReportElementIndex.getString(personNode, "j:PersonRaceNDExCode"));
+			newArrestee.setEthnicity(ReportElementIndex.getString(personNode, "j:PersonEthnicityCode"));
+			newArrestee.setResidentStatus(ReportElementIndex.getString(personNode, "j:PersonResidentCode"));
 			
-			newArrestee.setDispositionOfArresteeUnder18(XmlUtils.xPathStringSearch(arresteeElement, "j:ArresteeJuvenileDispositionCode"));
+			newArrestee.setDispositionOfArresteeUnder18(ReportElementIndex.getString(arresteeElement, "j:ArresteeJuvenileDispositionCode"));
 
 			ret.addArrestee(newArrestee);
 		}	
@@ -353,12 +602,12 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 		
 		NIBRSAge ret = null;
 
-		String ageString = XmlUtils.xPathStringSearch(personNode, "nc:PersonAgeMeasure/nc:MeasureIntegerValue|nc:PersonAgeMeasure/nc:MeasureValueText");
+		String ageString = ReportElementIndex.getString(personNode, "nc:PersonAgeMeasure/nc:MeasureIntegerValue|nc:PersonAgeMeasure/nc:MeasureValueText");
 		ageString = StringUtils.leftPad(ageString, 2); 
 		
 		if (StringUtils.isBlank(ageString)){
-			String ageMinString = XmlUtils.xPathStringSearch(personNode, "nc:PersonAgeMeasure/nc:MeasureIntegerRange/nc:RangeMinimumIntegerValue"); 
-			String ageMaxString = XmlUtils.xPathStringSearch(personNode, "nc:PersonAgeMeasure/nc:MeasureIntegerRange/nc:RangeMaximumIntegerValue");
+			String ageMinString = ReportElementIndex.getString(personNode, "nc:PersonAgeMeasure/nc:MeasureIntegerRange/nc:RangeMinimumIntegerValue"); 
+			String ageMaxString = ReportElementIndex.getString(personNode, "nc:PersonAgeMeasure/nc:MeasureIntegerRange/nc:RangeMaximumIntegerValue");
 			ageString = StringUtils.join(StringUtils.leftPad(ageMinString, 2), StringUtils.leftPad(ageMaxString, 2)); 
 		}
 		
@@ -389,7 +638,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 		return ret;
 	}
 	
-	private void getIntegerValue(List<NIBRSError> errorList, ParsedObject<Integer> parsedObject,
+	private void getIntegerValue(List<NIBRSError> errorList, ParsedInt parsedObject,
 			String stringValue, NIBRSErrorCode nibrsErrorCode,  String dataElementId, ReportBaseData reportBaseData) {
 		try {
 			Integer sequenceNumberI = Integer.parseInt(stringValue);
@@ -419,15 +668,15 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 		Element reportElement = reportBaseData.getReportElement();
 		newErrorList.addAll(getSubmissionYearMonth(reportBaseData,  newIncident, NIBRSErrorCode._101));
 
-		String cityIndicator = XmlUtils.xPathStringSearch(reportElement, 
+		String cityIndicator = ReportElementIndex.getString(reportElement, 
 				"nibrs:ReportHeader/nibrs:ReportingAgency/cjis:OrganizationAugmentation/cjis:DirectReportingCityIdentification/nc:IdentificationID");
 		newIncident.setCityIndicator(cityIndicator);
 		
-		ParsedObject<LocalDate> incidentDate = newIncident.getIncidentDate();
+		ParsedDate incidentDate = newIncident.getParsedIncidentDate();
 		incidentDate.setMissing(false);
 		incidentDate.setInvalid(false);
-		String incidentDateString = XmlUtils.xPathStringSearch(reportElement, "nc:Incident/nc:ActivityDate/nc:Date");
-		String incidentDatetimeString = XmlUtils.xPathStringSearch(reportElement, "nc:Incident/nc:ActivityDate/nc:DateTime");
+		String incidentDateString = ReportElementIndex.getString(reportElement, "nc:Incident/nc:ActivityDate/nc:Date");
+		String incidentDatetimeString = ReportElementIndex.getString(reportElement, "nc:Incident/nc:ActivityDate/nc:DateTime");
 		if (StringUtils.isBlank(incidentDateString) && StringUtils.isBlank(incidentDatetimeString)) {
 			incidentDate.setMissing(true);
 			incidentDate.setValue(null);
@@ -455,9 +704,8 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				incidentDate.setValidationError(e);
 			}
 		}
-		newIncident.setIncidentDate(incidentDate);
 			
-		String reportDateIncidator = XmlUtils.xPathStringSearch(reportElement, "nc:Incident/cjis:IncidentAugmentation/cjis:IncidentReportDateIndicator");
+		String reportDateIncidator = ReportElementIndex.getString(reportElement, "nc:Incident/cjis:IncidentAugmentation/cjis:IncidentReportDateIndicator");
 		
 		newIncident.setReportDateIndicator(BooleanUtils.toString(BooleanUtils.toBoolean(reportDateIncidator), "R", null));
 
@@ -466,7 +714,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			hourString = StringUtils.substringBefore(StringUtils.substringAfter(incidentDatetimeString, "T"), ":"); 
 		}
 		
-		ParsedObject<Integer> hour = newIncident.getIncidentHour();
+		ParsedInt hour = newIncident.getParsedIncidentHour();
 		hour.setMissing(false);
 		hour.setInvalid(false);
 		if (StringUtils.isNotBlank(hourString)) {
@@ -501,12 +749,12 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			hour.setMissing(true);
 		}
 			
-		newIncident.setExceptionalClearanceCode(XmlUtils.xPathStringSearch(reportElement, "nc:Incident/j:IncidentAugmentation/j:IncidentExceptionalClearanceCode"));
+		newIncident.setExceptionalClearanceCode(ReportElementIndex.getString(reportElement, "nc:Incident/j:IncidentAugmentation/j:IncidentExceptionalClearanceCode"));
 		
-		ParsedObject<LocalDate> clearanceDate = newIncident.getExceptionalClearanceDate();
+		ParsedDate clearanceDate = newIncident.getParsedExceptionalClearanceDate();
 		clearanceDate.setMissing(false);
 		clearanceDate.setInvalid(false);
-		String clearanceDateString = XmlUtils.xPathStringSearch(reportElement, "nc:Incident/j:IncidentAugmentation/j:IncidentExceptionalClearanceDate/nc:Date");
+		String clearanceDateString = ReportElementIndex.getString(reportElement, "nc:Incident/j:IncidentAugmentation/j:IncidentExceptionalClearanceDate/nc:Date");
 		if (clearanceDateString == null) {
 			clearanceDate.setMissing(true);
 			clearanceDate.setValue(null);
@@ -527,9 +775,8 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				incidentDate.setValidationError(e);
 			}
 		}
-		newIncident.setExceptionalClearanceDate(clearanceDate);
 		
-		String cargoTheftYN = XmlUtils.xPathStringSearch(reportElement, "nc:Incident/cjis:IncidentAugmentation/j:OffenseCargoTheftIndicator");
+		String cargoTheftYN = ReportElementIndex.getString(reportElement, "nc:Incident/cjis:IncidentAugmentation/j:OffenseCargoTheftIndicator");
 		
 		if (StringUtils.isNotBlank(cargoTheftYN)){
 			String cargoTheft = BooleanUtils.toString(BooleanUtils.toBoolean(cargoTheftYN), "Y", "N", "N"); 
@@ -542,30 +789,30 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 		}
 		errorList.addAll(newErrorList);
 		
-		buildOffenseSegments(reportElement, newIncident, errorList);
+		buildOffenseSegments(reportBaseData.getReportIndex(), newIncident, errorList);
 		buildPropertySegments(reportElement, newIncident, errorList);
-		buildVictimSegments(reportElement, newIncident, errorList);
-		buildOffenderSegments(reportElement, newIncident, errorList);
-		buildGroupAArresteeSegments(reportElement, newIncident, errorList);
+		buildVictimSegments(reportBaseData.getReportIndex(), newIncident, errorList);
+		buildOffenderSegments(reportBaseData.getReportIndex(), newIncident, errorList);
+		buildGroupAArresteeSegments(reportBaseData.getReportIndex(), newIncident, errorList);
 		return newIncident;
 	}
 
-	private void buildGroupAArresteeSegments(Element reportElement, GroupAIncidentReport incident,
+	private void buildGroupAArresteeSegments(ReportElementIndex reportIndex, GroupAIncidentReport incident,
 			List<NIBRSError> errorList) {
 		char segmentType = '6';
-		NodeList arresteeElements = (NodeList) XmlUtils.xPathNodeListSearch(reportElement, "j:Arrestee");
+		NodeList arresteeElements = (NodeList) ReportElementIndex.getNodeList(reportIndex.getReportElement(), "j:Arrestee");
 		for(int i=0; i < arresteeElements.getLength() ; i++){
 			Element arresteeElement = (Element) arresteeElements.item(i);
 			ArresteeSegment newArrestee = new ArresteeSegment(segmentType);
 			
 			ReportSource reportSource = new ReportSource(incident.getSource());
-			String arresteeId = XmlUtils.xPathStringSearch(arresteeElement, "@s:id");
+			String arresteeId = ReportElementIndex.getString(arresteeElement, "@s:id");
 			reportSource.setSourceLocation(arresteeId);
 			
-			ParsedObject<Integer> sequenceNumber = newArrestee.getArresteeSequenceNumber();
+			ParsedInt sequenceNumber = newArrestee.getParsedArresteeSequenceNumber();
 			sequenceNumber.setMissing(false);
 			sequenceNumber.setInvalid(false);
-			String sequenceNumberString = XmlUtils.xPathStringSearch(arresteeElement, "j:ArrestSequenceID");
+			String sequenceNumberString = ReportElementIndex.getString(arresteeElement, "j:ArrestSequenceID");
 			if (sequenceNumberString == null) {
 				sequenceNumber.setMissing(true);
 				sequenceNumber.setValue(null);
@@ -587,17 +834,16 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				}
 			}
 			
-			newArrestee.setArresteeSequenceNumber(sequenceNumber);
-			
-			Node arrestNode = XmlUtils.xPathNodeSearch(reportElement, "j:Arrest[@s:id = ../j:ArrestSubjectAssociation[j:Subject/@s:ref='"+ arresteeId +  "']/nc:Activity/@s:ref]");
+			Node arrestNode = ReportElementIndex.first(
+					reportIndex.getAssociatedChildren("j:Arrest", "j:ArrestSubjectAssociation", "j:Subject", arresteeId, "nc:Activity"));
 			
 			if (arrestNode != null){
-				newArrestee.setArrestTransactionNumber(XmlUtils.xPathStringSearch(arrestNode, "nc:ActivityIdentification/nc:IdentificationID"));
+				newArrestee.setArrestTransactionNumber(ReportElementIndex.getString(arrestNode, "nc:ActivityIdentification/nc:IdentificationID"));
 				
-				ParsedObject<LocalDate> arrestDate = newArrestee.getArrestDate();
+				ParsedDate arrestDate = newArrestee.getParsedArrestDate();
 				arrestDate.setMissing(false);
 				arrestDate.setInvalid(false);
-				String arrestDateString = XmlUtils.xPathStringSearch(arrestNode, "nc:ActivityDate/nc:Date");
+				String arrestDateString = ReportElementIndex.getString(arrestNode, "nc:ActivityDate/nc:Date");
 				if (arrestDateString == null) {
 					arrestDate.setMissing(true);
 					arrestDate.setValue(null);
@@ -618,14 +864,13 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 						arrestDate.setValidationError(e);
 					}
 				}
-				newArrestee.setArrestDate(arrestDate);
-				newArrestee.setUcrArrestOffenseCode(XmlUtils.xPathStringSearch(arrestNode, "j:ArrestCharge/nibrs:ChargeUCRCode"));
-				newArrestee.setTypeOfArrest(XmlUtils.xPathStringSearch(arrestNode, "j:ArrestCategoryCode"));
+				newArrestee.setUcrArrestOffenseCode(ReportElementIndex.getString(arrestNode, "j:ArrestCharge/nibrs:ChargeUCRCode"));
+				newArrestee.setTypeOfArrest(ReportElementIndex.getString(arrestNode, "j:ArrestCategoryCode"));
 			}
 			
-			newArrestee.setMultipleArresteeSegmentsIndicator(XmlUtils.xPathStringSearch(arresteeElement, "j:ArrestSubjectCountCode"));
+			newArrestee.setMultipleArresteeSegmentsIndicator(ReportElementIndex.getString(arresteeElement, "j:ArrestSubjectCountCode"));
 			
-			NodeList arresteeArmedWithElements = (NodeList) XmlUtils.xPathNodeListSearch(arresteeElement, "j:ArresteeArmedWithCode");
+			NodeList arresteeArmedWithElements = (NodeList) ReportElementIndex.getNodeList(arresteeElement, "j:ArresteeArmedWithCode");
 			
 			for(int j=0; j < arresteeArmedWithElements.getLength() && j < 2; j++){
 				Element arresteeArmedWithElement = (Element)arresteeArmedWithElements.item(j);
@@ -633,37 +878,37 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				setArmedWithAndAutomaticIndicator(newArrestee, j, arresteeArmedWithCode);
 			}
 			
-			String personRef = XmlUtils.xPathStringSearch(arresteeElement, "nc:RoleOfPerson/@s:ref");
-			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id ='" + personRef + "']");
+			String personRef = ReportElementIndex.getString(arresteeElement, "nc:RoleOfPerson/@s:ref");
+			Node personNode = reportIndex.getChildById("nc:Person", personRef);
 			
 			newArrestee.setAge(parseAgeNode(personNode, newArrestee));
-			newArrestee.setSex(XmlUtils.xPathStringSearch(personNode, "j:PersonSexCode"));
-			newArrestee.setRace(XmlUtils.xPathStringSearch(personNode, "j:PersonRaceNDExCode"));
-			newArrestee.setEthnicity(XmlUtils.xPathStringSearch(personNode, "j:PersonEthnicityCode"));
-			newArrestee.setResidentStatus(XmlUtils.xPathStringSearch(personNode, "j:PersonResidentCode"));
+			newArrestee.setSex(ReportElementIndex.getString(personNode, "j:PersonSexCode"));
+			newArrestee.setRace(ReportElementIndex.getString(personNode, "j:PersonRaceNDExCode"));
+			newArrestee.setEthnicity(ReportElementIndex.getString(personNode, "j:PersonEthnicityCode"));
+			newArrestee.setResidentStatus(ReportElementIndex.getString(personNode, "j:PersonResidentCode"));
 			
-			newArrestee.setDispositionOfArresteeUnder18(XmlUtils.xPathStringSearch(arresteeElement, "j:ArresteeJuvenileDispositionCode"));
+			newArrestee.setDispositionOfArresteeUnder18(ReportElementIndex.getString(arresteeElement, "j:ArresteeJuvenileDispositionCode"));
 
 			incident.addArrestee(newArrestee);
 		}		
 	}
 
-	private void buildOffenderSegments(Element reportElement, GroupAIncidentReport incident,
+	private void buildOffenderSegments(ReportElementIndex reportIndex, GroupAIncidentReport incident,
 			List<NIBRSError> errorList) {
 		char segmentType = '5';
-		NodeList offenderElements = (NodeList) XmlUtils.xPathNodeListSearch(reportElement, "j:Subject");
+		NodeList offenderElements = (NodeList) ReportElementIndex.getNodeList(reportIndex.getReportElement(), "j:Subject");
 		for(int i=0; i < offenderElements.getLength(); i++){
 			Element offenderElement = (Element) offenderElements.item(i);
 			OffenderSegment newOffender = new OffenderSegment();
 			
 			ReportSource reportSource = new ReportSource(incident.getSource());
-			String offenderId = XmlUtils.xPathStringSearch(offenderElement, "@s:id");
+			String offenderId = ReportElementIndex.getString(offenderElement, "@s:id");
 			reportSource.setSourceLocation(offenderId);
 			
-			ParsedObject<Integer> sequenceNumber = newOffender.getOffenderSequenceNumber();
+			ParsedInt sequenceNumber = newOffender.getParsedOffenderSequenceNumber();
 			sequenceNumber.setMissing(false);
 			sequenceNumber.setInvalid(false);
-			String sequenceNumberString = XmlUtils.xPathStringSearch(offenderElement, "j:SubjectSequenceNumberText");
+			String sequenceNumberString = ReportElementIndex.getString(offenderElement, "j:SubjectSequenceNumberText");
 			if (sequenceNumberString == null) {
 				sequenceNumber.setMissing(true);
 				sequenceNumber.setValue(null);
@@ -685,35 +930,35 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				}
 			}
 			
-			String personRef = XmlUtils.xPathStringSearch(offenderElement, "nc:RoleOfPerson/@s:ref");
-			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id ='" + personRef + "']");
+			String personRef = ReportElementIndex.getString(offenderElement, "nc:RoleOfPerson/@s:ref");
+			Node personNode = reportIndex.getChildById("nc:Person", personRef);
 			
 			newOffender.setAge(parseAgeNode(personNode, newOffender));
-			newOffender.setSex(XmlUtils.xPathStringSearch(personNode, "j:PersonSexCode"));
-			newOffender.setRace(XmlUtils.xPathStringSearch(personNode, "j:PersonRaceNDExCode"));
-			newOffender.setEthnicity(XmlUtils.xPathStringSearch(personNode, "j:PersonEthnicityCode"));
+			newOffender.setSex(ReportElementIndex.getString(personNode, "j:PersonSexCode"));
+			newOffender.setRace(ReportElementIndex.getString(personNode, "j:PersonRaceNDExCode"));
+			newOffender.setEthnicity(ReportElementIndex.getString(personNode, "j:PersonEthnicityCode"));
 			
 			incident.addOffender(newOffender);
 		}
 	}
 
-	private void buildVictimSegments(Element reportElement, GroupAIncidentReport incident,
+	private void buildVictimSegments(ReportElementIndex reportIndex, GroupAIncidentReport incident,
 			List<NIBRSError> errorList) {
 		char segmentType = '4';
-		NodeList victimElements = (NodeList) XmlUtils.xPathNodeListSearch(reportElement, "j:Victim");
+		NodeList victimElements = (NodeList) ReportElementIndex.getNodeList(reportIndex.getReportElement(), "j:Victim");
 		for(int i=0; i < victimElements.getLength(); i++){
 			Element victimElement = (Element) victimElements.item(i);
 			VictimSegment newVictim = new VictimSegment();
 			
 			ReportSource reportSource = new ReportSource(incident.getSource());
-			String victimId = XmlUtils.xPathStringSearch(victimElement, "@s:id");
+			String victimId = ReportElementIndex.getString(victimElement, "@s:id");
 			reportSource.setSourceLocation(victimId);
 
 			Integer sequenceNumberI = null;
-			ParsedObject<Integer> sequenceNumber = newVictim.getVictimSequenceNumber();
+			ParsedInt sequenceNumber = newVictim.getParsedVictimSequenceNumber();
 			sequenceNumber.setMissing(false);
 			sequenceNumber.setInvalid(false);
-			String sequenceNumberString = XmlUtils.xPathStringSearch(victimElement, "j:VictimSequenceNumberText");
+			String sequenceNumberString = ReportElementIndex.getString(victimElement, "j:VictimSequenceNumberText");
 			if (sequenceNumberString == null) {
 				sequenceNumber.setMissing(true);
 				sequenceNumber.setValue(null);
@@ -735,22 +980,25 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				}
 			}
 
-			NodeList offenseUcrCodeNodes = XmlUtils.xPathNodeListSearch(reportElement, "j:Offense[@s:id = ../j:OffenseVictimAssociation[j:Victim/@s:ref = '" 
-						+ victimId + "']/j:Offense/@s:ref]/nibrs:OffenseUCRCode");
-			for (int j = 0; j < offenseUcrCodeNodes.getLength() && j < VictimSegment.UCR_OFFENSE_CODE_CONNECTION_COUNT; j++) {
-				Element offenseUcrCode = (Element) offenseUcrCodeNodes.item(j);
-				newVictim.setUcrOffenseCodeConnection(j, offenseUcrCode.getTextContent());
+			int ucrOffenseCodeConnectionIndex = 0;
+			for (Element offenseElement : reportIndex.getAssociatedChildren("j:Offense", "j:OffenseVictimAssociation", "j:Victim", victimId, "j:Offense")) {
+				NodeList offenseUcrCodeNodes = ReportElementIndex.getNodeList(offenseElement, "nibrs:OffenseUCRCode");
+				for (int j = 0; j < offenseUcrCodeNodes.getLength() && ucrOffenseCodeConnectionIndex < VictimSegment.UCR_OFFENSE_CODE_CONNECTION_COUNT; j++) {
+					Element offenseUcrCode = (Element) offenseUcrCodeNodes.item(j);
+					newVictim.setUcrOffenseCodeConnection(ucrOffenseCodeConnectionIndex++, offenseUcrCode.getTextContent());
+				}
 			}
 			
-			NodeList subjectVictimAssociations = XmlUtils.xPathNodeListSearch(reportElement, "j:SubjectVictimAssociation[j:Victim/@s:ref = '"+ victimId + "']"); 
-			for (int j = 0; j < subjectVictimAssociations.getLength() && j < VictimSegment.OFFENDER_NUMBER_RELATED_COUNT; j++){
-				Element subjectVictimAssociation = ( Element ) subjectVictimAssociations.item(j); 
-				String offenderRef = XmlUtils.xPathStringSearch(subjectVictimAssociation, "j:Subject/@s:ref");
+			List<Element> subjectVictimAssociations = reportIndex.getReferencingChildren("j:SubjectVictimAssociation", "j:Victim", victimId); 
+			for (int j = 0; j < subjectVictimAssociations.size() && j < VictimSegment.OFFENDER_NUMBER_RELATED_COUNT; j++){
+				Element subjectVictimAssociation = subjectVictimAssociations.get(j); 
+				String offenderRef = ReportElementIndex.getString(subjectVictimAssociation, "j:Subject/@s:ref");
 				
 				String offenderNumberRelatedString = 
-						XmlUtils.xPathStringSearch(reportElement, "j:Subject[@s:id='"+ offenderRef + "']/j:SubjectSequenceNumberText");
+						ReportElementIndex.getString(reportIndex.getChildById("j:Subject", offenderRef), "j:SubjectSequenceNumberText");
 				
-				ParsedObject<Integer> offenderNumberRelated = newVictim.getOffenderNumberRelated(j);
+				ParsedInt offenderNumberRelated = newVictim.getParsedOffenderNumberRelated(j);
+				newVictim.setParsedOffenderNumberRelated(j, offenderNumberRelated);
 				offenderNumberRelated.setInvalid(false);
 				offenderNumberRelated.setMissing(false);
 				if (offenderNumberRelatedString == null) {
@@ -775,8 +1023,8 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 					}
 				}
 
-				newVictim.setOffenderNumberRelated(j, offenderNumberRelated);
-				String victimOffenderRelationshipIepdCode = XmlUtils.xPathStringSearch(subjectVictimAssociation, "nibrs:VictimToSubjectRelationshipCode");
+				newVictim.markOffenderNumberRelatedPopulated(j);
+				String victimOffenderRelationshipIepdCode = ReportElementIndex.getString(subjectVictimAssociation, "nibrs:VictimToSubjectRelationshipCode");
 				String victimOffenderRelationshipNibrsCode = Optional
 						.ofNullable(RelationshipOfVictimToOffenderCode.valueOfIepdCode(victimOffenderRelationshipIepdCode))
 						.map(item->item.code).orElse(null);
@@ -785,33 +1033,33 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			}
 			
 
-			newVictim.setTypeOfVictim(XmlUtils.xPathStringSearch(victimElement, "j:VictimCategoryCode"));
+			newVictim.setTypeOfVictim(ReportElementIndex.getString(victimElement, "j:VictimCategoryCode"));
 			
-			String personRef = XmlUtils.xPathStringSearch(victimElement, "nc:RoleOfPerson/@s:ref");
-			Node personNode = XmlUtils.xPathNodeSearch(reportElement, "nc:Person[@s:id ='" + personRef + "']");
+			String personRef = ReportElementIndex.getString(victimElement, "nc:RoleOfPerson/@s:ref");
+			Node personNode = reportIndex.getChildById("nc:Person", personRef);
 			
 			newVictim.setAge(parseAgeNode(personNode, newVictim));
-			newVictim.setSex(XmlUtils.xPathStringSearch(personNode, "j:PersonSexCode"));
-			newVictim.setRace(XmlUtils.xPathStringSearch(personNode, "j:PersonRaceNDExCode"));
-			newVictim.setEthnicity(XmlUtils.xPathStringSearch(personNode, "j:PersonEthnicityCode"));
-			newVictim.setResidentStatus(XmlUtils.xPathStringSearch(personNode, "j:PersonResidentCode"));
-			newVictim.setAggravatedAssaultHomicideCircumstances(0, XmlUtils.xPathStringSearch(victimElement, "j:VictimAggravatedAssaultHomicideFactorCode"));
-			newVictim.setAdditionalJustifiableHomicideCircumstances(XmlUtils.xPathStringSearch(victimElement, "j:VictimJustifiableHomicideFactorCode"));
-
-			NodeList victimInjuries = XmlUtils.xPathNodeListSearch(victimElement, "j:VictimInjury/j:InjuryCategoryCode");
+			newVictim.setSex(ReportElementIndex.getString(personNode, "j:PersonSexCode"));
+			newVictim.setRace(ReportElementIndex.getString(personNode, "j:PersonRaceNDExCode"));
+			newVictim.setEthnicity(ReportElementIndex.getString(personNode, "j:PersonEthnicityCode"));
+			newVictim.setResidentStatus(ReportElementIndex.getString(personNode, "j:PersonResidentCode"));
+			newVictim.setAggravatedAssaultHomicideCircumstances(0, ReportElementIndex.getString(victimElement, "j:VictimAggravatedAssaultHomicideFactorCode"));
+			newVictim.setAdditionalJustifiableHomicideCircumstances(ReportElementIndex.getString(victimElement, "j:VictimJustifiableHomicideFactorCode"));
+
+			NodeList victimInjuries = ReportElementIndex.getNodeList(victimElement, "j:VictimInjury/j:InjuryCategoryCode");
 			for (int j = 0; j < victimInjuries.getLength() && j < VictimSegment.TYPE_OF_INJURY_COUNT; j++) {
 				Node injuryCategoryCode = victimInjuries.item(j);
 				newVictim.setTypeOfInjury(j, injuryCategoryCode.getTextContent());
 			}
 
-			Node enforcementOfficialNode = XmlUtils.xPathNodeSearch(reportElement, "j:EnforcementOfficial[nc:RoleOfPerson/@s:ref = '" + personRef + "']"); 
+			Node enforcementOfficialNode = ReportElementIndex.first(reportIndex.getReferencingChildren("j:EnforcementOfficial", "nc:RoleOfPerson", personRef)); 
 			
 			if (enforcementOfficialNode != null){
-				newVictim.setTypeOfOfficerActivityCircumstance(XmlUtils.xPathStringSearch(enforcementOfficialNode, 
+				newVictim.setTypeOfOfficerActivityCircumstance(ReportElementIndex.getString(enforcementOfficialNode, 
 						"j:EnforcementOfficialActivityCategoryCode"));
-				newVictim.setOfficerAssignmentType(XmlUtils.xPathStringSearch(enforcementOfficialNode, 
+				newVictim.setOfficerAssignmentType(ReportElementIndex.getString(enforcementOfficialNode, 
 						"j:EnforcementOfficialAssignmentCategoryCode"));
-				newVictim.setOfficerOtherJurisdictionORI(XmlUtils.xPathStringSearch(enforcementOfficialNode, 
+				newVictim.setOfficerOtherJurisdictionORI(ReportElementIndex.getString(enforcementOfficialNode, 
 						"j:EnforcementOfficialUnit/j:OrganizationAugmentation/j:OrganizationORIIdentification/nc:IdentificationID"));
 			}
 			
@@ -823,7 +1071,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 	private void buildPropertySegments(Element reportElement, GroupAIncidentReport incident,
 			List<NIBRSError> errorList) {
 
-		NodeList itemElements = (NodeList) XmlUtils.xPathNodeListSearch(reportElement, "nc:Item");
+		NodeList itemElements = (NodeList) ReportElementIndex.getNodeList(reportElement, "nc:Item");
 		
 		Map<String, PropertySegment> typeOfLossPropertySegments = new LinkedHashMap<>();
 		for(int i=0; i < itemElements.getLength(); i++){
@@ -843,7 +1091,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			
 			int index = propertySegment.getPopulatedPropertyDescriptionCount(); 
 			
-			String propertyDescription = XmlUtils.xPathStringSearch(itemElement, "j:ItemCategoryNIBRSPropertyCategoryCode");
+			String propertyDescription = ReportElementIndex.getString(itemElement, "j:ItemCategoryNIBRSPropertyCategoryCode");
 			propertySegment.setPropertyDescription(index, propertyDescription);
 			
 			parsePropertyValue(incident, errorList, reportSource, itemElement, propertySegment, index);
@@ -854,7 +1102,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 
 		}
 		
-		NodeList substanceElements = (NodeList) XmlUtils.xPathNodeListSearch(reportElement, "nc:Substance");
+		NodeList substanceElements = (NodeList) ReportElementIndex.getNodeList(reportElement, "nc:Substance");
 		for(int i=0; i < substanceElements.getLength(); i++){
 			ReportSource reportSource = new ReportSource(incident.getSource());
 			reportSource.setSourceLocation("sbstnc" + StringUtils.leftPad(String.valueOf(i+1), 2, '0'));
@@ -872,7 +1120,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			
 			int drugIndex = propertySegment.getPopulatedSuspectedDrugTypeCount(); 
 			int propertyDescriptionIndex = propertySegment.getPopulatedPropertyDescriptionCount();
-			String propertyDescription = XmlUtils.xPathStringSearch(substanceElement, "j:ItemCategoryNIBRSPropertyCategoryCode");
+			String propertyDescription = ReportElementIndex.getString(substanceElement, "j:ItemCategoryNIBRSPropertyCategoryCode");
 			if (!(PropertyDescriptionCode._10.code.equals(propertyDescription) && propertySegment.containsPropertyDescription(propertyDescription))){
 				propertySegment.setPropertyDescription(propertyDescriptionIndex, propertyDescription);
 			}
@@ -887,10 +1135,10 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 			parsePropertyValue(incident, errorList, reportSource, substanceElement, propertySegment, propertyDescriptionIndex); 
 			parseRecoveredDate(incident, errorList, reportSource, substanceElement, propertySegment, propertyDescriptionIndex);
 			
-			String drugCategoryCode = XmlUtils.xPathStringSearch(substanceElement, "j:DrugCategoryCode");
+			String drugCategoryCode = ReportElementIndex.getString(substanceElement, "j:DrugCategoryCode");
 			propertySegment.setSuspectedDrugType(drugIndex, drugCategoryCode);
 			
-			String drugQuantityFullValueString = XmlUtils.xPathStringSearch(substanceElement, "nc:SubstanceQuantityMeasure/nc:MeasureDecimalValue");
+			String drugQuantityFullValueString = ReportElementIndex.getString(substanceElement, "nc:SubstanceQuantityMeasure/nc:MeasureDecimalValue");
 			if (StringUtils.isNotBlank(drugQuantityFullValueString)){
 				try{
 					Double doubleValue = new Double(drugQuantityFullValueString);
@@ -899,7 +1147,6 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				catch (NumberFormatException ne){
 					log.error(ne);
 					ParsedObject<Double> estimatedDrugQuantity = ParsedObject.getInvalidParsedObject();
-					propertySegment.setEstimatedDrugQuantity(i, estimatedDrugQuantity);
 					NIBRSError e = new NIBRSError();
 					e.setContext(reportSource);
 					e.setReportUniqueIdentifier(incident.getIncidentNumber());
@@ -910,13 +1157,14 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 					e.setDataElementIdentifier("21");
 					errorList.add(e);
 					estimatedDrugQuantity.setValidationError(e);
+					propertySegment.setEstimatedDrugQuantity(i, estimatedDrugQuantity);
 				}
 			}
 			else{
 				propertySegment.setEstimatedDrugQuantity(drugIndex, ParsedObject.getMissingParsedObject());
 			}
 			
-			String drugMeasurementType = XmlUtils.xPathStringSearch(substanceElement, 
+			String drugMeasurementType = ReportElementIndex.getString(substanceElement, 
 					"nc:SubstanceQuantityMeasure/j:SubstanceUnitCode");
 			propertySegment.setTypeDrugMeasurement(drugIndex, drugMeasurementType );
 		}
@@ -926,9 +1174,10 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 
 	private void parseRecoveredDate(GroupAIncidentReport incident, List<NIBRSError> errorList, 
 			ReportSource reportSource, Element itemElement, PropertySegment propertySegment, int index) {
-		String recoveredDateString = XmlUtils.xPathStringSearch(itemElement, "nc:ItemValue/nc:ItemValueDate/nc:Date"); 
+		String recoveredDateString = ReportElementIndex.getString(itemElement, "nc:ItemValue/nc:ItemValueDate/nc:Date"); 
 		
-		ParsedObject<LocalDate> d = propertySegment.getDateRecovered(index);
+		ParsedDate d = propertySegment.getParsedDateRecovered(index);
+		propertySegment.setParsedDateRecovered(index, d);
 		d.setMissing(false);
 		d.setInvalid(false);
 		if (recoveredDateString == null) {
@@ -955,9 +1204,10 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 
 	private void parsePropertyValue(GroupAIncidentReport incident, List<NIBRSError> errorList, 
 			ReportSource reportSource, Element parentElement, PropertySegment propertySegment, int index) {
-		String propertyValueString = XmlUtils.xPathStringSearch(parentElement, "nc:ItemValue/nc:ItemValueAmount/nc:Amount"); 
+		String propertyValueString = ReportElementIndex.getString(parentElement, "nc:ItemValue/nc:ItemValueAmount/nc:Amount"); 
 		
-		ParsedObject<Integer> propertyValue = propertySegment.getValueOfProperty(index);
+		ParsedInt propertyValue = propertySegment.getParsedValueOfProperty(index);
+		propertySegment.setParsedValueOfProperty(index, propertyValue);
 		if (propertyValue.getValue() == null){
 			propertyValue.setInvalid(false);
 			propertyValue.setMissing(false);
@@ -1002,7 +1252,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				&& (TypeOfPropertyLossCode._7.code.equals(typeOfPropertyLossCode) 
 						|| TypeOfPropertyLossCode._5.code.equals(typeOfPropertyLossCode) )){
 			
-			String itemQuantityString = XmlUtils.xPathStringSearch(itemElement, "nc:ItemQuantity");
+			String itemQuantityString = ReportElementIndex.getString(itemElement, "nc:ItemQuantity");
 			ParsedObject<Integer> itemQuantity = null;
 			if (TypeOfPropertyLossCode._7.code.equals(typeOfPropertyLossCode)){
 				itemQuantity = propertySegment.getNumberOfStolenMotorVehicles();
@@ -1037,7 +1287,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 	}
 
 	private String getTypeOfPropertyLossCode(Element itemElement) {
-		String typeOfPropertyLoss = XmlUtils.xPathStringSearch(itemElement, "nc:ItemStatus/cjis:ItemStatusCode");
+		String typeOfPropertyLoss = ReportElementIndex.getString(itemElement, "nc:ItemStatus/cjis:ItemStatusCode");
 		String typeOfPropertyLossCode = Optional.ofNullable(TypeOfPropertyLossCode.valueOfIepdCode(typeOfPropertyLoss))
 				.map(item->item.code).orElse(null); 
 		if (typeOfPropertyLossCode == null){
@@ -1046,22 +1296,22 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 		return typeOfPropertyLossCode;
 	}
 
-	private void buildOffenseSegments(Element reportElement, GroupAIncidentReport incident,
+	private void buildOffenseSegments(ReportElementIndex reportIndex, GroupAIncidentReport incident,
 			List<NIBRSError> errorList) {
 		
 		char segmentType = '2';
 		
-		NodeList offenseElements = (NodeList) XmlUtils.xPathNodeListSearch(reportElement, "j:Offense");
+		NodeList offenseElements = (NodeList) ReportElementIndex.getNodeList(reportIndex.getReportElement(), "j:Offense");
 		for(int i=0; i < offenseElements.getLength(); i++){
 			Element offenseElement = (Element) offenseElements.item(i);
 			OffenseSegment newOffense = new OffenseSegment();
 			
 			ReportSource reportSource = new ReportSource(incident.getSource());
-			String offenseId = XmlUtils.xPathStringSearch(offenseElement, "@s:id");
+			String offenseId = ReportElementIndex.getString(offenseElement, "@s:id");
 			reportSource.setSourceLocation(offenseId);
 			
 			NodeList offenseFactorBiasMotivationCodes = 
-					XmlUtils.xPathNodeListSearch(offenseElement, "j:OffenseFactorBiasMotivationCode");
+					ReportElementIndex.getNodeList(offenseElement, "j:OffenseFactorBiasMotivationCode");
 			
 			if (offenseFactorBiasMotivationCodes.getLength() > 0){
 				
@@ -1083,14 +1333,16 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				break; 
 			}
 			
-			newOffense.setUcrOffenseCode(XmlUtils.xPathStringSearch(offenseElement, "nibrs:OffenseUCRCode")); 
-			String offenseAttemptedIndicatorString = XmlUtils.xPathStringSearch(offenseElement, "j:OffenseAttemptedIndicator"); 
+			newOffense.setUcrOffenseCode(ReportElementIndex.getString(offenseElement, "nibrs:OffenseUCRCode")); 
+			String offenseAttemptedIndicatorString = ReportElementIndex.getString(offenseElement, "j:OffenseAttemptedIndicator"); 
 			Boolean offenseAttemptedIndicator = BooleanUtils.toBooleanObject(offenseAttemptedIndicatorString); 
 			newOffense.setOffenseAttemptedCompleted(BooleanUtils.toString(offenseAttemptedIndicator, "A", "C", null));
-			newOffense.setLocationType(XmlUtils.xPathStringSearch(reportElement, "nc:Location[@s:id = ../j:OffenseLocationAssociation[j:Offense/@s:ref = '" + offenseId + "']/nc:Location/@s:ref]/nibrs:LocationCategoryCode"));
+			Element locationElement = ReportElementIndex.first(
+					reportIndex.getAssociatedChildren("nc:Location", "j:OffenseLocationAssociation", "j:Offense", offenseId, "nc:Location"));
+			newOffense.setLocationType(ReportElementIndex.getString(locationElement, "nibrs:LocationCategoryCode"));
 			
-			String premisesEnteredString = XmlUtils.xPathStringSearch(offenseElement, "j:OffenseStructuresEnteredQuantity");
-			ParsedObject<Integer> premisesEntered = newOffense.getNumberOfPremisesEntered();
+			String premisesEnteredString = ReportElementIndex.getString(offenseElement, "j:OffenseStructuresEnteredQuantity");
+			ParsedInt premisesEntered = newOffense.getParsedNumberOfPremisesEntered();
 			
 			if (premisesEnteredString == null) {
 				premisesEntered.setMissing(true);
@@ -1118,7 +1370,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 				
 			}
 			
-			newOffense.setMethodOfEntry(XmlUtils.xPathStringSearch(offenseElement, "j:OffenseEntryPoint/j:PassagePointMethodCode"));
+			newOffense.setMethodOfEntry(ReportElementIndex.getString(offenseElement, "j:OffenseEntryPoint/j:PassagePointMethodCode"));
 			
 			parseOffendersSuspectedOfUsings(offenseElement, newOffense);
 
@@ -1133,7 +1385,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 	
 	private void parseTypesWeaponForceInvolved(Element offenseElement, OffenseSegment newOffense) {
 		NodeList typesWeaponForceInvolved = 
-				XmlUtils.xPathNodeListSearch(offenseElement, "j:OffenseForce/j:ForceCategoryCode");
+				ReportElementIndex.getNodeList(offenseElement, "j:OffenseForce/j:ForceCategoryCode");
 		
 		for( int j = 0; j < typesWeaponForceInvolved.getLength() && j < OffenseSegment.TYPE_OF_WEAPON_FORCE_INVOLVED_COUNT; j++ ){
 			Element typeWeaponForceInvolved = 
@@ -1153,7 +1405,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 
 	private void parseTypesOfCriminalActivities(Element offenseElement, OffenseSegment newOffense) {
 		NodeList typesOfCriminalActivities = 
-				XmlUtils.xPathNodeListSearch(offenseElement, "nibrs:CriminalActivityCategoryCode");
+				ReportElementIndex.getNodeList(offenseElement, "nibrs:CriminalActivityCategoryCode");
 		
 		for( int j = 0; j < typesOfCriminalActivities.getLength() && j < OffenseSegment.TYPE_OF_CRIMINAL_ACTIVITY_COUNT; j++ ){
 			Element typeOfCriminalActivity = 
@@ -1164,7 +1416,7 @@ public class XmlIncidentBuilder extends AbstractIncidentBuilder{
 
 	private void parseOffendersSuspectedOfUsings(Element offenseElement, OffenseSegment newOffense) {
 		NodeList offendersSuspectedOfUsings = 
-				XmlUtils.xPathNodeListSearch(offenseElement, "j:OffenseFactor/j:OffenseFactorCode");
+				ReportElementIndex.getNodeList(offenseElement, "j:OffenseFactor/j:OffenseFactorCode");
 		
 		for( int j = 0; j < offendersSuspectedOfUsings.getLength() && j < OffenseSegment.OFFENDERS_SUSPECTED_OF_USING_COUNT; j++ ){
 			Element offendersSuspectedOfUsing = 
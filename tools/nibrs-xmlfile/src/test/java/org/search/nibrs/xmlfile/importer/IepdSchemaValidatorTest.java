@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xmlfile.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ReportSource;
+import org.search.nibrs.importer.DefaultReportListener;
+import org.search.nibrs.model.AbstractReport;
+import org.search.nibrs.model.codes.NIBRSErrorCode;
+
+/**
+ * Tests of validating reports against the IEPD schema while building them.
+ *
+ */
+public class IepdSchemaValidatorTest {
+
+	@Test
+	public void testSchemaIsShared() {
+		assertSame(IepdSchemaValidator.getSchema(), IepdSchemaValidator.getSchema());
+	}
+
+	@Test
+	public void testValidReport() throws Exception {
+		DefaultReportListener listener = build(read("nibrs_GroupAReplace_Sample.xml"), null);
+		assertEquals(1, listener.getReportList().size());
+		assertTrue(listener.getErrorList().isEmpty());
+		assertFalse(listener.getReportList().get(0).getHasUpstreamErrors());
+	}
+
+	@Test
+	public void testInvalidReport() throws Exception {
+		String submission = read("nibrs_GroupAReplace_Sample.xml").replace("</nibrs:ReportHeader>", "</nibrs:ReportHeader><nibrs:NoSuchElement/>");
+		DefaultReportListener listener = build(submission, null);
+		assertEquals(1, listener.getReportList().size());
+		AbstractReport report = listener.getReportList().get(0);
+		assertTrue(report.getHasUpstreamErrors());
+		assertEquals(1, listener.getErrorList().size());
+		NIBRSError e = listener.getErrorList().get(0);
+		assertEquals(NIBRSErrorCode._001, e.getNIBRSErrorCode());
+		assertEquals("XSD", e.getDataElementIdentifier());
+		assertSame(report, e.getReport());
+		assertTrue(String.valueOf(e.getValue()).contains("NoSuchElement"));
+	}
+
+	@Test
+	public void testParallel() throws Exception {
+		String submission = read("nibrs_GroupAReplace_Sample.xml");
+		int reportStart = submission.indexOf("<nibrs:Report>");
+		int reportEnd = submission.indexOf("</nibrs:Report>") + "</nibrs:Report>".length();
+		String report = submission.substring(reportStart, reportEnd);
+		StringBuilder reports = new StringBuilder();
+		for (int i = 0; i < 40; i++) {
+			reports.append(i % 2 == 0 ? report : report.replace("</nibrs:ReportHeader>", "</nibrs:ReportHeader><nibrs:NoSuchElement/>"));
+		}
+		String data = submission.substring(0, reportStart) + reports + submission.substring(reportEnd);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			assertEquals(describeErrors(build(data, null)), describeErrors(build(data, pool)));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private DefaultReportListener build(String data, ForkJoinPool forkJoinPool) throws Exception {
+		DefaultReportListener ret = new DefaultReportListener();
+		XmlIncidentBuilder incidentBuilder = new XmlIncidentBuilder();
+		incidentBuilder.setSchemaValidation(true);
+		incidentBuilder.setStreaming(true);
+		incidentBuilder.setForkJoinPool(forkJoinPool);
+		incidentBuilder.addIncidentListener(ret);
+		incidentBuilder.buildIncidents(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)), getClass().getName());
+		return ret;
+	}
+
+	private List<String> describeErrors(DefaultReportListener listener) {
+		List<String> ret = new ArrayList<>();
+		for (NIBRSError e : listener.getErrorList()) {
+			ret.add(((ReportSource) e.getContext()).getSourceLocation() + " " + e.getValue());
+		}
+		assertEquals(20, ret.size());
+		return ret;
+	}
+
+	private String read(String sample) throws IOException {
+		return new String(Files.readAllBytes(Paths.get("src/test/resources/iep-sample", sample)), StandardCharsets.UTF_8);
+	}
+
+}
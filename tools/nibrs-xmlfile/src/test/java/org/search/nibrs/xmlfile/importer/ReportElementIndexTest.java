@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xmlfile.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.search.nibrs.xml.NibrsNamespaceContext;
+import org.search.nibrs.xml.NibrsNamespaceContext.Namespace;
+import org.search.nibrs.xml.XmlUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Tests that the lookups made through ReportElementIndex give the same results as the XPath searches they replace.
+ *
+ */
+public class ReportElementIndexTest {
+
+	private static final String[] SAMPLES = new String[] {"nibrs_AllFields_Sample.xml", "nibrs_GroupAIncident_Sample.xml", "nibrs_GroupAReplace_Sample.xml",
+			"nibrs_GroupBArrest_Sample.xml", "nibrs_GroupBArrest_Sample_multipleArrestees.xml", "nibrs_ZeroReport_Sample.xml"};
+
+	private static final NibrsNamespaceContext NAMESPACE_CONTEXT = new NibrsNamespaceContext();
+
+	@Test
+	public void testPaths() throws Exception {
+		int pathCount = 0;
+		for (Element reportElement : getReportElements()) {
+			Set<String> paths = new LinkedHashSet<>();
+			collectPaths(reportElement, "", paths);
+			for (String path : paths) {
+				assertEquals(path, XmlUtils.xPathStringSearch(reportElement, path), ReportElementIndex.getString(reportElement, path));
+				if (!path.contains("@")) {
+					assertSame(path, XmlUtils.xPathNodeSearch(reportElement, path), ReportElementIndex.getNode(reportElement, path));
+					assertSameNodes(path, XmlUtils.xPathNodeListSearch(reportElement, path), ReportElementIndex.getNodeList(reportElement, path));
+				}
+				pathCount++;
+			}
+			for (Element person : elements(ReportElementIndex.getNodeList(reportElement, "nc:Person"))) {
+				String agePath = "nc:PersonAgeMeasure/nc:MeasureIntegerValue|nc:PersonAgeMeasure/nc:MeasureValueText";
+				assertEquals(XmlUtils.xPathStringSearch(person, agePath), ReportElementIndex.getString(person, agePath));
+			}
+		}
+		assertTrue(pathCount > 100);
+		assertEquals(null, ReportElementIndex.getString(null, "nc:Person"));
+		// predicates are not navigated directly, but still work
+		Element reportElement = getReportElements().get(0);
+		String path = "nc:Person[1]/j:PersonSexCode";
+		assertEquals(XmlUtils.xPathStringSearch(reportElement, path), ReportElementIndex.getString(reportElement, path));
+	}
+
+	@Test
+	public void testReferences() throws Exception {
+		int referenceCount = 0;
+		for (Element reportElement : getReportElements()) {
+			ReportElementIndex index = new ReportElementIndex(reportElement);
+			for (Node child = reportElement.getFirstChild(); child != null; child = child.getNextSibling()) {
+				if (!(child instanceof Element)) {
+					continue;
+				}
+				String name = prefixedName(child);
+				String id = ((Element) child).getAttributeNS(Namespace.S.uri, "id");
+				assertSame(XmlUtils.xPathNodeSearch(reportElement, name + "[@s:id='" + id + "']"), index.getChildById(name, id));
+				for (Node role = child.getFirstChild(); role != null; role = role.getNextSibling()) {
+					if (!(role instanceof Element) || !((Element) role).hasAttributeNS(Namespace.S.uri, "ref")) {
+						continue;
+					}
+					String roleName = prefixedName(role);
+					String ref = ((Element) role).getAttributeNS(Namespace.S.uri, "ref");
+					assertEquals(elements(XmlUtils.xPathNodeListSearch(reportElement, name + "[" + roleName + "/@s:ref='" + ref + "']")),
+							index.getReferencingChildren(name, roleName, ref));
+					referenceCount++;
+					for (Node otherRole = child.getFirstChild(); otherRole != null; otherRole = otherRole.getNextSibling()) {
+						if (otherRole == role || !(otherRole instanceof Element) || !((Element) otherRole).hasAttributeNS(Namespace.S.uri, "ref")) {
+							continue;
+						}
+						String otherRoleName = prefixedName(otherRole);
+						String otherRef = ((Element) otherRole).getAttributeNS(Namespace.S.uri, "ref");
+						Node target = XmlUtils.xPathNodeSearch(reportElement, "*[@s:id='" + otherRef + "']");
+						if (target == null) {
+							continue;
+						}
+						String targetName = prefixedName(target);
+						String xPath = targetName + "[@s:id = ../" + name + "[" + roleName + "/@s:ref='" + ref + "']/" + otherRoleName + "/@s:ref]";
+						assertEquals(xPath, elements(XmlUtils.xPathNodeListSearch(reportElement, xPath)),
+								index.getAssociatedChildren(targetName, name, roleName, ref, otherRoleName));
+					}
+				}
+			}
+			assertTrue(index.getChildren("nc:Person").size() == XmlUtils.xPathNodeListSearch(reportElement, "nc:Person").getLength());
+			assertTrue(index.getChildById("nc:Person", "NoSuchId") == null);
+			assertTrue(index.getReferencingChildren("j:SubjectVictimAssociation", "j:Victim", null).isEmpty());
+		}
+		assertTrue(referenceCount > 10);
+	}
+
+	private List<Element> getReportElements() throws Exception {
+		List<Element> ret = new ArrayList<>();
+		for (String sample : SAMPLES) {
+			Document document = XmlUtils.toDocument(new File("src/test/resources/iep-sample", sample));
+			ret.addAll(elements(XmlUtils.xPathNodeListSearch(document, "nibrs:Submission/nibrs:Report")));
+		}
+		return ret;
+	}
+
+	private void collectPaths(Element element, String prefix, Set<String> paths) {
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child instanceof Element) {
+				String path = prefix + prefixedName(child);
+				paths.add(path);
+				paths.add(path + "/@s:id");
+				paths.add(path + "/@s:ref");
+				collectPaths((Element) child, path + "/", paths);
+			}
+		}
+	}
+
+	private String prefixedName(Node node) {
+		return NAMESPACE_CONTEXT.getPrefix(node.getNamespaceURI()) + ":" + node.getLocalName();
+	}
+
+	private void assertSameNodes(String message, NodeList expected, NodeList actual) {
+		assertEquals(message, expected.getLength(), actual.getLength());
+		for (int i = 0; i < expected.getLength(); i++) {
+			assertSame(message, expected.item(i), actual.item(i));
+		}
+	}
+
+	private static List<Element> elements(NodeList nodeList) {
+		List<Element> ret = new ArrayList<>();
+		for (int i = 0; i < nodeList.getLength(); i++) {
+			ret.add((Element) nodeList.item(i));
+		}
+		return ret;
+	}
+
+}
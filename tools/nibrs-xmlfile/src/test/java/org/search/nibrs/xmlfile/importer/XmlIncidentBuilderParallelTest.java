@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xmlfile.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.search.nibrs.importer.DefaultReportListener;
+import org.search.nibrs.model.AbstractReport;
+
+/**
+ * Tests that building the reports of a submission in parallel gives the same reports as the serial builder.
+ *
+ */
+public class XmlIncidentBuilderParallelTest {
+
+	private static final String[] SAMPLES = new String[] {"nibrs_AllFields_Sample.xml", "nibrs_GroupAIncident_Sample.xml", "nibrs_GroupAReplace_Sample.xml",
+			"nibrs_GroupBArrestDelete_Sample.xml", "nibrs_GroupBArrest_Sample.xml", "nibrs_GroupBArrest_Sample_multipleArrestees.xml",
+			"nibrs_IncidentDelete_Sample.xml", "nibrs_ZeroReport_Sample.xml"};
+
+	private ForkJoinPool pool;
+	private String testData;
+
+	@Before
+	public void setUp() throws IOException {
+		pool = new ForkJoinPool(4);
+		String submission = read(SAMPLES[0]);
+		int reportStart = submission.indexOf("<nibrs:Report>");
+		int reportEnd = submission.indexOf("</nibrs:Report>") + "</nibrs:Report>".length();
+		StringBuilder reports = new StringBuilder();
+		for (int i = 0; i < 20; i++) {
+			for (String sample : SAMPLES) {
+				String s = read(sample);
+				reports.append(s, s.indexOf("<nibrs:Report>"), s.indexOf("</nibrs:Report>") + "</nibrs:Report>".length());
+			}
+			reports.append("<nibrs:Report><!-- empty --></nibrs:Report>");
+		}
+		testData = submission.substring(0, reportStart) + reports + submission.substring(reportEnd);
+	}
+
+	@After
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void testOrderedDelivery() throws Exception {
+		List<String> expected = describe(build(false, null, true));
+		assertTrue(expected.size() > 100);
+		for (boolean streaming : new boolean[] {false, true}) {
+			assertEquals(expected, describe(build(streaming, pool, true)));
+		}
+	}
+
+	@Test
+	public void testUnorderedDelivery() throws Exception {
+		List<String> expected = describe(build(false, null, true));
+		for (boolean streaming : new boolean[] {false, true}) {
+			List<String> actual = describe(build(streaming, pool, false));
+			Collections.sort(expected);
+			Collections.sort(actual);
+			assertEquals(expected, actual);
+		}
+	}
+
+	private List<AbstractReport> build(boolean streaming, ForkJoinPool forkJoinPool, boolean orderedDelivery) throws Exception {
+		DefaultReportListener listener = new DefaultReportListener();
+		XmlIncidentBuilder incidentBuilder = new XmlIncidentBuilder();
+		incidentBuilder.setStreaming(streaming);
+		incidentBuilder.setForkJoinPool(forkJoinPool);
+		incidentBuilder.setOrderedDelivery(orderedDelivery);
+		incidentBuilder.addIncidentListener(listener);
+		incidentBuilder.buildIncidents(new ByteArrayInputStream(testData.getBytes(StandardCharsets.UTF_8)), getClass().getName());
+		return listener.getReportList();
+	}
+
+	private String read(String sample) throws IOException {
+		return new String(Files.readAllBytes(Paths.get("src/test/resources/iep-sample", sample)), StandardCharsets.UTF_8);
+	}
+
+	private List<String> describe(List<AbstractReport> reports) {
+		List<String> ret = new ArrayList<>();
+		for (AbstractReport r : reports) {
+			ret.add(r.getSource().getSourceLocation() + " " + r.getHasUpstreamErrors() + " " + r.toString().replaceAll("@[0-9a-f]+", ""));
+		}
+		return ret;
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016 SEARCH-The National Consortium for Justice Information and Statistics
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.search.nibrs.xmlfile.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.search.nibrs.common.NIBRSError;
+import org.search.nibrs.common.ReportSource;
+import org.search.nibrs.importer.DefaultReportListener;
+import org.search.nibrs.model.AbstractReport;
+
+/**
+ * Tests that building a submission with StAX gives the same reports and errors as building it from a DOM document.
+ *
+ */
+public class XmlIncidentBuilderStreamingTest {
+
+	private static final String[] SAMPLES = new String[] {"nibrs_AllFields_Sample.xml", "nibrs_GroupAIncident_Sample.xml", "nibrs_GroupAReplace_Sample.xml",
+			"nibrs_GroupBArrestDelete_Sample.xml", "nibrs_GroupBArrest_Sample.xml", "nibrs_GroupBArrest_Sample_multipleArrestees.xml",
+			"nibrs_IncidentDelete_Sample.xml", "nibrs_ZeroReport_Sample.xml"};
+
+	@Test
+	public void testSamples() throws Exception {
+		for (String sample : SAMPLES) {
+			assertSameResults(read(sample));
+		}
+	}
+
+	@Test
+	public void testMultipleReports() throws Exception {
+		String submission = read(SAMPLES[0]);
+		int reportStart = submission.indexOf("<nibrs:Report>");
+		int reportEnd = submission.indexOf("</nibrs:Report>") + "</nibrs:Report>".length();
+		StringBuilder reports = new StringBuilder();
+		for (String sample : SAMPLES) {
+			String s = read(sample);
+			reports.append(s, s.indexOf("<nibrs:Report>"), s.indexOf("</nibrs:Report>") + "</nibrs:Report>".length());
+			// a report without a header, which can't be built
+			reports.append("<nibrs:Report><!-- empty --></nibrs:Report>");
+		}
+		String data = submission.substring(0, reportStart) + reports + submission.substring(reportEnd);
+		DefaultReportListener listener = assertSameResults(data);
+		assertTrue(listener.getReportList().size() > 1);
+		for (AbstractReport report : listener.getReportList()) {
+			// the sample reports are at the odd positions
+			assertEquals(1, Integer.parseInt(report.getSource().getSourceLocation()) % 2);
+		}
+	}
+
+	private DefaultReportListener assertSameResults(String data) throws Exception {
+		DefaultReportListener expected = build(data, false);
+		DefaultReportListener actual = build(data, true);
+		assertEquals(describe(expected.getReportList()), describe(actual.getReportList()));
+		assertEquals(describeErrors(expected.getErrorList()), describeErrors(actual.getErrorList()));
+		return actual;
+	}
+
+	private DefaultReportListener build(String data, boolean streaming) throws Exception {
+		DefaultReportListener ret = new DefaultReportListener();
+		XmlIncidentBuilder incidentBuilder = new XmlIncidentBuilder();
+		incidentBuilder.setStreaming(streaming);
+		incidentBuilder.addIncidentListener(ret);
+		incidentBuilder.buildIncidents(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)), getClass().getName());
+		return ret;
+	}
+
+	private String read(String sample) throws IOException {
+		return new String(Files.readAllBytes(Paths.get("src/test/resources/iep-sample", sample)), StandardCharsets.UTF_8);
+	}
+
+	private List<String> describe(List<AbstractReport> reports) {
+		List<String> ret = new ArrayList<>();
+		for (AbstractReport r : reports) {
+			ret.add(r.getSource().getSourceLocation() + " " + r.getHasUpstreamErrors() + " " + r.toString().replaceAll("@[0-9a-f]+", ""));
+		}
+		return ret;
+	}
+
+	private List<String> describeErrors(List<NIBRSError> errors) {
+		List<String> ret = new ArrayList<>();
+		for (NIBRSError e : errors) {
+			ret.add(((ReportSource) e.getContext()).getSourceLocation() + " " + e.getNIBRSErrorCode() + " " + e.getValue() + " "
+					+ (e.getReport() == null ? null : e.getReport().getIdentifier()));
+		}
+		return ret;
+	}
+
+}
@@ -36,6 +36,7 @@ import org.search.nibrs.model.AbstractReport;
 import org.search.nibrs.util.NibrsFileUtils;
 import org.search.nibrs.validate.common.NibrsValidationUtils;
 import org.search.nibrs.validation.SubmissionValidator;
+import org.search.nibrs.validation.submission.SubmissionStructureValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -68,13 +69,6 @@ public class UploadFileController {
 		log.info("processing file: " + multipartFiles.length);
 		
 		final List<NIBRSError> errorList = new ArrayList<>();
-		ReportListener validatorListener = new ReportListener() {
-			@Override
-			public void newReport(AbstractReport report, List<NIBRSError> el) {
-				errorList.addAll(el);
-				errorList.addAll(submissionValidator.validateReport(report));
-			}
-		};
 		
 		for (MultipartFile multipartFile: multipartFiles){
 			if (!acceptedFileTypes.contains(multipartFile.getContentType())){
@@ -82,11 +76,11 @@ public class UploadFileController {
 			}
 			
 			if (multipartFile.getContentType().equals("application/zip")){
-				validateZippedFile( validatorListener, multipartFile.getInputStream());
+				validateZippedFile( errorList, multipartFile.getInputStream());
 			}
 			else {
 				NibrsValidationUtils.validateInputStream(
-						validatorListener, multipartFile.getContentType(), multipartFile.getInputStream(), "console");
+						newValidatorListener(errorList), multipartFile.getContentType(), multipartFile.getInputStream(), "console");
 			}
 			
 		}
@@ -124,12 +118,28 @@ public class UploadFileController {
 	
 
 	/**
-	 * Get only the first entry of the zipped resource. 
-	 * @param multipartFile
-	 * @return
+	 * Create a listener that validates each report of a submission (file) as it is built, followed by the submission-wide structure checks,
+	 * adding the errors to the list.
+	 */
+	private ReportListener newValidatorListener(List<NIBRSError> errorList) {
+		SubmissionStructureValidator structureValidator = new SubmissionStructureValidator(errorList::add);
+		return new ReportListener() {
+			@Override
+			public void newReport(AbstractReport report, List<NIBRSError> el) {
+				errorList.addAll(el);
+				errorList.addAll(submissionValidator.validateReport(report));
+				structureValidator.validate(report);
+			}
+		};
+	}
+
+	/**
+	 * Validate each entry of the zipped resource as a separate submission.
+	 * @param errorList the list to which errors are added
+	 * @param inputStream the zipped resource
 	 * @throws IOException
 	 */
-	private void validateZippedFile(ReportListener validatorlistener, InputStream inputStream) throws IOException {
+	private void validateZippedFile(List<NIBRSError> errorList, InputStream inputStream) throws IOException {
 		ZipInputStream zippedStream = new ZipInputStream(inputStream);
 
 		ZipEntry zipEntry = zippedStream.getNextEntry();
@@ -149,7 +159,7 @@ public class UploadFileController {
 		    String mediaType = NibrsFileUtils.getMediaType(inStream);
 
 		    try {
-		    	NibrsValidationUtils.validateInputStream(validatorlistener, mediaType, inStream, "console");
+		    	NibrsValidationUtils.validateInputStream(newValidatorListener(errorList), mediaType, inStream, "console");
 			} catch (ParserConfigurationException e) {
 				log.error("Got exception while parsing the file " + zipEntry.getName(), e);
 			}